@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
@@ -60,6 +61,13 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     final Map<String, Header> headers;
 
+    // typed values of frequently accessed headers, parsed lazily and reused as long as the header is the same instance
+    @Nullable private ParsedHeader<Optional<JsonSchemaVersion>> parsedSchemaVersion;
+    @Nullable private ParsedHeader<AuthorizationContext> parsedAuthorizationContext;
+    @Nullable private ParsedHeader<Set<AuthorizationSubject>> parsedReadGrantedSubjects;
+    @Nullable private ParsedHeader<Collection<ResponseType>> parsedExpectedResponseTypes;
+    @Nullable private ParsedHeader<Set<AcknowledgementRequest>> parsedAcknowledgementRequests;
+
     /**
      * Constructs a new {@code AbstractDittoHeaders} object.
      *
@@ -71,6 +79,7 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
         if (headers instanceof AbstractDittoHeaders) {
             // Share the map from the other AbstractDittoHeaders -- it is not modifiable. Otherwise case is not preserved.
             this.headers = ((AbstractDittoHeaders) headers).headers;
+            adoptParsedHeadersOf((AbstractDittoHeaders) headers);
         } else {
             this.headers = indexByLowerCase(headers);
         }
@@ -142,15 +151,28 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
         }
     }
 
-    private static JsonObject getAuthorizationContextAsJson(final Map<String, ? extends CharSequence> headers) {
-        final CharSequence jsonObjectString = headers.get(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey());
-        final JsonObject result;
-        if (null != jsonObjectString) {
-            result = JsonObject.of(jsonObjectString.toString());
-        } else {
-            result = JsonObject.empty();
+    /**
+     * Reuses the typed header values already parsed by the given headers. A value is only reused for a header which
+     * is the same instance in both headers, i.e. which was not modified.
+     *
+     * @param other the headers to take the parsed values from.
+     */
+    void adoptParsedHeadersOf(final AbstractDittoHeaders other) {
+        parsedSchemaVersion = other.parsedSchemaVersion;
+        parsedAuthorizationContext = other.parsedAuthorizationContext;
+        parsedReadGrantedSubjects = other.parsedReadGrantedSubjects;
+        parsedExpectedResponseTypes = other.parsedExpectedResponseTypes;
+        parsedAcknowledgementRequests = other.parsedAcknowledgementRequests;
+    }
+
+    private <T> ParsedHeader<T> parse(@Nullable final ParsedHeader<T> parsedHeader, final HeaderDefinition definition,
+            final Function<String, T> parser, final T defaultValue) {
+
+        @Nullable final Header header = headers.get(definition.getKey());
+        if (null != parsedHeader && parsedHeader.header == header) {
+            return parsedHeader;
         }
-        return result;
+        return new ParsedHeader<>(header, null != header ? parser.apply(header.getValue()) : defaultValue);
     }
 
     @Override
@@ -179,14 +201,21 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     @Override
     public Optional<JsonSchemaVersion> getSchemaVersion() {
-        return getStringForDefinition(DittoHeaderDefinition.SCHEMA_VERSION)
-                .map(Integer::valueOf)
-                .flatMap(JsonSchemaVersion::forInt);
+        final ParsedHeader<Optional<JsonSchemaVersion>> result =
+                parse(parsedSchemaVersion, DittoHeaderDefinition.SCHEMA_VERSION,
+                        value -> JsonSchemaVersion.forInt(Integer.parseInt(value)), Optional.empty());
+        parsedSchemaVersion = result;
+        return result.value;
     }
 
     @Override
     public AuthorizationContext getAuthorizationContext() {
-        return AuthorizationModelFactory.newAuthContext(getAuthorizationContextAsJson(headers));
+        final ParsedHeader<AuthorizationContext> result =
+                parse(parsedAuthorizationContext, DittoHeaderDefinition.AUTHORIZATION_CONTEXT,
+                        value -> AuthorizationModelFactory.newAuthContext(JsonObject.of(value)),
+                        AuthorizationModelFactory.newAuthContext(JsonObject.empty()));
+        parsedAuthorizationContext = result;
+        return result.value;
     }
 
     protected JsonArray getJsonArrayForDefinition(final HeaderDefinition definition) {
@@ -202,11 +231,19 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     @Override
     public Set<AuthorizationSubject> getReadGrantedSubjects() {
-        return getAuthorizationSubjectSet(DittoHeaderDefinition.READ_SUBJECTS);
+        final ParsedHeader<Set<AuthorizationSubject>> result =
+                parse(parsedReadGrantedSubjects, DittoHeaderDefinition.READ_SUBJECTS,
+                        value -> Collections.unmodifiableSet(toAuthorizationSubjectSet(JsonArray.of(value))),
+                        Collections.emptySet());
+        parsedReadGrantedSubjects = result;
+        return result.value;
     }
 
     private Set<AuthorizationSubject> getAuthorizationSubjectSet(final HeaderDefinition definition) {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(definition);
+        return toAuthorizationSubjectSet(getJsonArrayForDefinition(definition));
+    }
+
+    private static Set<AuthorizationSubject> toAuthorizationSubjectSet(final JsonArray jsonValueArray) {
         return jsonValueArray.stream()
                 .map(JsonValue::asString)
                 .map(AuthorizationSubject::newInstance)
@@ -324,22 +361,34 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     @Override
     public Collection<ResponseType> getExpectedResponseTypes() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .map(ResponseType::fromName)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList()); // toList() to keep original order
+        final ParsedHeader<Collection<ResponseType>> result =
+                parse(parsedExpectedResponseTypes, DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES,
+                        value -> Collections.unmodifiableList(JsonArray.of(value).stream()
+                                .map(JsonValue::asString)
+                                .map(ResponseType::fromName)
+                                .filter(Optional::isPresent)
+                                .map(Optional::get)
+                                .collect(Collectors.toList())), // toList() to keep original order
+                        Collections.emptyList());
+        parsedExpectedResponseTypes = result;
+        return result.value;
     }
 
     @Override
     public Set<AcknowledgementRequest> getAcknowledgementRequests() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.REQUESTED_ACKS);
-        return jsonValueArray.stream()
+        final ParsedHeader<Set<AcknowledgementRequest>> result =
+                parse(parsedAcknowledgementRequests, DittoHeaderDefinition.REQUESTED_ACKS,
+                        AbstractDittoHeaders::parseAcknowledgementRequests, Collections.emptySet());
+        parsedAcknowledgementRequests = result;
+        return result.value;
+    }
+
+    private static Set<AcknowledgementRequest> parseAcknowledgementRequests(final String jsonArrayString) {
+        final Set<AcknowledgementRequest> result = JsonArray.of(jsonArrayString).stream()
                 .map(JsonValue::asString)
                 .map(AcknowledgementRequest::parseAcknowledgementRequest)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableSet(result);
     }
 
     @Override
@@ -516,4 +565,23 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
         map.forEach((key, value) -> headers.put(key.toLowerCase(), Header.of(key, value)));
         return Collections.unmodifiableMap(headers);
     }
+
+    /**
+     * Typed value of a header together with the header instance it was parsed from.
+     *
+     * @param <T> the type of the value.
+     */
+    @Immutable
+    private static final class ParsedHeader<T> {
+
+        @Nullable private final Header header;
+        private final T value;
+
+        private ParsedHeader(@Nullable final Header header, final T value) {
+            this.header = header;
+            this.value = value;
+        }
+
+    }
+
 }
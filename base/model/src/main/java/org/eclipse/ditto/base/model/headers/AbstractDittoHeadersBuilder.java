@@ -76,6 +76,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     private final Map<String, Header> headers;
     private MetadataHeaders metadataHeaders;
     private final Map<String, HeaderDefinition> definitions;
+    @Nullable private final AbstractDittoHeaders origin;
 
     /**
      * Constructs a new {@code AbstractDittoHeadersBuilder} object.
@@ -96,6 +97,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         validateValueTypes(initialHeaders, definitions); // this constructor does validate the known value types
         myself = (S) selfType.cast(this);
         headers = preserveCaseSensitivity(initialHeaders);
+        origin = initialHeaders instanceof AbstractDittoHeaders ? (AbstractDittoHeaders) initialHeaders : null;
         metadataHeaders = MetadataHeaders.newInstance();
         metadataHeaders.addAll(extractMetadataHeaders(headers));
         this.definitions = getHeaderDefinitionsAsMap(definitions);
@@ -145,6 +147,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(definitions, "definitions");
         myself = (S) selfType.cast(this);
         headers = preserveCaseSensitivity(initialHeaders);
+        origin = initialHeaders instanceof AbstractDittoHeaders ? (AbstractDittoHeaders) initialHeaders : null;
         metadataHeaders = MetadataHeaders.newInstance();
         metadataHeaders.addAll(extractMetadataHeaders(headers));
         this.definitions = getHeaderDefinitionsAsMap(definitions);
@@ -559,6 +562,10 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         // do it here
         putMetadataHeadersToRegularHeaders();
         final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers);
+        if (null != origin) {
+            // typed values of headers which were not modified by this builder stay valid
+            dittoHeaders.adoptParsedHeadersOf(origin);
+        }
         return doBuild(dittoHeaders);
     }
 
@@ -452,7 +452,24 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
             Boolean.class,
             false,
             true,
-            HeaderValueValidators.getBooleanValidator());
+            HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Internal header containing the compiled read permissions of the requester on a retrieved entity as JSON array
+     * of pointers prefixed by {@code +} (readable) or {@code -} (not readable).
+     * Set by the enforcement so that the entity's persistence can remove unreadable fields before responding.
+     *
+     * <p>
+     * Key {@code "ditto-read-view-filter"}, Java type: {@link JsonArray}.
+     * </p>
+     *
+     * @since 3.0.0
+     */
+    READ_VIEW_FILTER("ditto-read-view-filter",
+            JsonArray.class,
+            false,
+            false,
+            HeaderValueValidators.getJsonArrayValidator());
 
     /**
      * Map to speed up lookup of header definition by key.
@@ -15,6 +15,7 @@ package org.eclipse.ditto.base.model.headers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -113,6 +114,7 @@ public final class ImmutableDittoHeadersTest {
     private static final String KNOWN_CONDITION = "eq(attributes/value)";
     private static final String KNOWN_LIVE_CHANNEL_CONDITION = "eq(attributes/value,\"livePolling\")";
     private static final boolean KNOWN_LIVE_CHANNEL_CONDITION_MATCHED = true;
+    private static final JsonArray KNOWN_READ_VIEW_FILTER = JsonArray.of("[\"-/\",\"+/attributes\"]");
     private static final String KNOWN_TRACEPARENT = "00-dfca0d990402884d22e909a87ac677ec-94fc4da95e842f96-01";
     private static final String KNOWN_TRACESTATE = "eclipse=ditto";
     private static final boolean KNOWN_DITTO_RETRIEVE_DELETED = true;
@@ -125,12 +127,18 @@ public final class ImmutableDittoHeadersTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(ImmutableDittoHeaders.class, areImmutable());
+        assertInstancesOf(ImmutableDittoHeaders.class,
+                areImmutable(),
+                assumingFields("parsedSchemaVersion", "parsedAuthorizationContext", "parsedReadGrantedSubjects",
+                "parsedExpectedResponseTypes", "parsedAcknowledgementRequests")
+                        .areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableDittoHeaders.class)
+                .withIgnoredFields("parsedSchemaVersion", "parsedAuthorizationContext", "parsedReadGrantedSubjects",
+                "parsedExpectedResponseTypes", "parsedAcknowledgementRequests")
                 .withNonnullFields("headers")
                 .verify();
     }
@@ -183,6 +191,7 @@ public final class ImmutableDittoHeadersTest {
                 .liveChannelCondition(KNOWN_LIVE_CHANNEL_CONDITION)
                 .putHeader(DittoHeaderDefinition.LIVE_CHANNEL_CONDITION_MATCHED.getKey(),
                         String.valueOf(KNOWN_LIVE_CHANNEL_CONDITION_MATCHED))
+                .putHeader(DittoHeaderDefinition.READ_VIEW_FILTER.getKey(), KNOWN_READ_VIEW_FILTER.toString())
                 .accept(KNOWN_ACCEPT)
                 .build();
 
@@ -487,6 +496,7 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.LIVE_CHANNEL_CONDITION.getKey(), KNOWN_LIVE_CHANNEL_CONDITION)
                 .set(DittoHeaderDefinition.LIVE_CHANNEL_CONDITION_MATCHED.getKey(),
                         KNOWN_LIVE_CHANNEL_CONDITION_MATCHED)
+                .set(DittoHeaderDefinition.READ_VIEW_FILTER.getKey(), KNOWN_READ_VIEW_FILTER)
                 .build();
 
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
@@ -670,6 +680,61 @@ public final class ImmutableDittoHeadersTest {
                 .asCaseSensitiveMap()).isEqualTo(expectedHeaders);
     }
 
+    @Test
+    public void typedValuesOfWellKnownHeadersAreParsedOnlyOnce() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder()
+                .authorizationContext(AUTH_CONTEXT)
+                .schemaVersion(KNOWN_SCHEMA_VERSION)
+                .readGrantedSubjects(KNOWN_READ_GRANTED_SUBJECTS)
+                .expectedResponseTypes(KNOWN_EXPECTED_RESPONSE_TYPES)
+                .acknowledgementRequests(KNOWN_ACK_REQUESTS)
+                .build();
+
+        assertThat(underTest.getAuthorizationContext()).isEqualTo(AUTH_CONTEXT)
+                .isSameAs(underTest.getAuthorizationContext());
+        assertThat(underTest.getSchemaVersion()).contains(KNOWN_SCHEMA_VERSION)
+                .isSameAs(underTest.getSchemaVersion());
+        assertThat(underTest.getReadGrantedSubjects()).containsExactlyInAnyOrderElementsOf(KNOWN_READ_GRANTED_SUBJECTS)
+                .isSameAs(underTest.getReadGrantedSubjects());
+        assertThat(underTest.getExpectedResponseTypes()).containsExactlyElementsOf(KNOWN_EXPECTED_RESPONSE_TYPES)
+                .isSameAs(underTest.getExpectedResponseTypes());
+        assertThat(underTest.getAcknowledgementRequests()).containsExactlyElementsOf(KNOWN_ACK_REQUESTS)
+                .isSameAs(underTest.getAcknowledgementRequests());
+    }
+
+    @Test
+    public void typedValuesOfUnmodifiedHeadersAreCarriedOverByToBuilder() {
+        final DittoHeaders original = DittoHeaders.newBuilder()
+                .authorizationContext(AUTH_CONTEXT)
+                .acknowledgementRequests(KNOWN_ACK_REQUESTS)
+                .build();
+        final AuthorizationContext authorizationContext = original.getAuthorizationContext();
+        final Set<AcknowledgementRequest> acknowledgementRequests = original.getAcknowledgementRequests();
+
+        final DittoHeaders underTest = original.toBuilder()
+                .correlationId(KNOWN_CORRELATION_ID)
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .build();
+
+        assertThat(underTest.getAuthorizationContext()).isSameAs(authorizationContext);
+        assertThat(underTest.getAcknowledgementRequests())
+                .isNotSameAs(acknowledgementRequests)
+                .containsExactly(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED));
+        assertThat(DittoHeaders.of(underTest).getAuthorizationContext()).isSameAs(authorizationContext);
+    }
+
+    @Test
+    public void typedValuesOfRemovedHeadersAreNotCarriedOverByToBuilder() {
+        final DittoHeaders original = DittoHeaders.newBuilder().schemaVersion(KNOWN_SCHEMA_VERSION).build();
+        assertThat(original.getSchemaVersion()).contains(KNOWN_SCHEMA_VERSION);
+
+        final DittoHeaders underTest = original.toBuilder()
+                .removeHeader(DittoHeaderDefinition.SCHEMA_VERSION.getKey())
+                .build();
+
+        assertThat(underTest.getSchemaVersion()).isEmpty();
+    }
+
     private static Map<String, String> createMapContainingAllKnownHeaders() {
         final Map<String, String> result = new HashMap<>();
         result.put(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(), AUTH_CONTEXT.toJsonString());
@@ -721,6 +786,7 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.LIVE_CHANNEL_CONDITION.getKey(), KNOWN_LIVE_CHANNEL_CONDITION);
         result.put(DittoHeaderDefinition.LIVE_CHANNEL_CONDITION_MATCHED.getKey(),
                 String.valueOf(KNOWN_LIVE_CHANNEL_CONDITION_MATCHED));
+        result.put(DittoHeaderDefinition.READ_VIEW_FILTER.getKey(), KNOWN_READ_VIEW_FILTER.toString());
 
         return result;
     }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.headers.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.common.ResponseType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of accessing the typed well-known headers of a signal as it passes through the services:
+ * each stage (enforcement, persistence, acknowledgement handling, publishing) reads authorization context,
+ * schema version, read-granted subjects, expected response types and acknowledgement requests again, and the
+ * headers are usually copied with {@code toBuilder()} in between.
+ */
+@State(Scope.Benchmark)
+public class DittoHeadersAccessBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * Number of processing stages reading the typed headers of one signal.
+     */
+    private static final int STAGES = 4;
+
+    private final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+            .randomCorrelationId()
+            .schemaVersion(JsonSchemaVersion.V_2)
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                    AuthorizationSubject.newInstance("integration:benchmark-user"),
+                    AuthorizationSubject.newInstance("google:1234567890")))
+            .readGrantedSubjects(List.of(AuthorizationSubject.newInstance("integration:benchmark-user"),
+                    AuthorizationSubject.newInstance("google:1234567890")))
+            .expectedResponseTypes(ResponseType.RESPONSE, ResponseType.ERROR)
+            .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED),
+                    AcknowledgementRequest.parseAcknowledgementRequest("custom-ack"))
+            .build();
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void accessTypedHeadersOfOneSignal(final Blackhole blackhole) {
+        DittoHeaders headers = DittoHeaders.of(dittoHeaders);
+        for (int i = 0; i < STAGES; i++) {
+            accessTypedHeaders(headers, blackhole);
+            headers = headers.toBuilder().build();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void accessTypedHeadersOfParsedHeaders(final Blackhole blackhole) {
+        // headers as deserialized from JSON or a protocol message without any previously parsed values
+        accessTypedHeaders(DittoHeaders.of(dittoHeaders.asCaseSensitiveMap()), blackhole);
+    }
+
+    private static void accessTypedHeaders(final DittoHeaders headers, final Blackhole blackhole) {
+        blackhole.consume(headers.getAuthorizationContext());
+        blackhole.consume(headers.getSchemaVersion());
+        blackhole.consume(headers.getReadGrantedSubjects());
+        blackhole.consume(headers.getExpectedResponseTypes());
+        blackhole.consume(headers.getAcknowledgementRequests());
+    }
+
+}
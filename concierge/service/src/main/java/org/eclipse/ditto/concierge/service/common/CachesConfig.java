@@ -44,4 +44,12 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns the config of the cache of compiled JSON view filters.
+     *
+     * @return the config.
+     * @since 3.0.0
+     */
+    CacheConfig getJsonViewFilterCacheConfig();
+
 }
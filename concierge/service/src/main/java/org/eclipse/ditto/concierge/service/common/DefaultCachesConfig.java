@@ -37,11 +37,13 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final AskWithRetryConfig askWithRetryConfig;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final CacheConfig jsonViewFilterCacheConfig;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askWithRetryConfig = DefaultAskWithRetryConfig.of(config, ASK_WITH_RETRY_CONFIG_PATH);
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        jsonViewFilterCacheConfig = DefaultCacheConfig.of(config, "json-view-filter");
     }
 
     /**
@@ -70,6 +72,11 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public CacheConfig getJsonViewFilterCacheConfig() {
+        return jsonViewFilterCacheConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +87,13 @@ public final class DefaultCachesConfig implements CachesConfig {
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askWithRetryConfig.equals(that.askWithRetryConfig) &&
-                idCacheConfig.equals(that.idCacheConfig) && enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                idCacheConfig.equals(that.idCacheConfig) && enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                jsonViewFilterCacheConfig.equals(that.jsonViewFilterCacheConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askWithRetryConfig, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askWithRetryConfig, idCacheConfig, enforcerCacheConfig, jsonViewFilterCacheConfig);
     }
 
     @Override
@@ -94,6 +102,7 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askWithRetryConfig=" + askWithRetryConfig +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", jsonViewFilterCacheConfig=" + jsonViewFilterCacheConfig +
                 "]";
     }
 }
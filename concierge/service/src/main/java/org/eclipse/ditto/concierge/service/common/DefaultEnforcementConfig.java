@@ -39,6 +39,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     private final boolean globalLiveResponseDispatching;
     private final Set<String> specialLoggingInspectedNamespaces;
     private final EntityCreationConfig entityCreation;
+    private final boolean pushDownReadFilter;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askWithRetryConfig = DefaultAskWithRetryConfig.of(configWithFallback, ASK_WITH_RETRY_CONFIG_PATH);
@@ -48,6 +49,8 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         specialLoggingInspectedNamespaces = Collections.unmodifiableSet(new HashSet<>(configWithFallback.getStringList(
                         EnforcementConfigValue.SPECIAL_LOGGING_INSPECTED_NAMESPACES.getConfigPath())));
         entityCreation = DefaultEntityCreationConfig.of(configWithFallback);
+        pushDownReadFilter =
+                configWithFallback.getBoolean(EnforcementConfigValue.PUSH_DOWN_READ_FILTER.getConfigPath());
     }
 
     /**
@@ -87,6 +90,11 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return entityCreation;
     }
 
+    @Override
+    public boolean isPushDownReadFilter() {
+        return pushDownReadFilter;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -98,6 +106,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return bufferSize == that.bufferSize &&
                 globalLiveResponseDispatching == that.globalLiveResponseDispatching &&
+                pushDownReadFilter == that.pushDownReadFilter &&
                 askWithRetryConfig.equals(that.askWithRetryConfig) &&
                 entityCreation.equals(that.entityCreation) &&
                 specialLoggingInspectedNamespaces.equals(that.specialLoggingInspectedNamespaces);
@@ -106,7 +115,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     @Override
     public int hashCode() {
         return Objects.hash(askWithRetryConfig, bufferSize, globalLiveResponseDispatching,
-                entityCreation, specialLoggingInspectedNamespaces);
+                entityCreation, specialLoggingInspectedNamespaces, pushDownReadFilter);
     }
 
     @Override
@@ -117,6 +126,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 ", globalLiveResponseDispatching=" + globalLiveResponseDispatching +
                 ", entityCreation=" + entityCreation +
                 ", specialLoggingInspectedNamespaces=" + specialLoggingInspectedNamespaces +
+                ", pushDownReadFilter=" + pushDownReadFilter +
                 "]";
     }
 }
@@ -64,6 +64,15 @@ public interface EnforcementConfig {
      */
     EntityCreationConfig getEntityCreation();
 
+    /**
+     * Returns whether the read permissions of the requester should be sent along with thing retrievals so that
+     * the things persistence can filter the thing before serializing its response.
+     *
+     * @return whether read permission filtering is pushed down to the things persistence.
+     * @since 3.0.0
+     */
+    boolean isPushDownReadFilter();
+
     /**
      * Check if global dispatch of a signal should be supported.
      *
@@ -95,7 +104,12 @@ public interface EnforcementConfig {
         /**
          * List of namespaces for which a special usage logging should be enabled in enforcement.
          */
-        SPECIAL_LOGGING_INSPECTED_NAMESPACES("special-logging-inspected-namespaces", List.of());
+        SPECIAL_LOGGING_INSPECTED_NAMESPACES("special-logging-inspected-namespaces", List.of()),
+
+        /**
+         * Whether to send the read permissions of the requester along with thing retrievals.
+         */
+        PUSH_DOWN_READ_FILTER("push-down-read-filter", true);
 
         private final String path;
         private final Object defaultValue;
@@ -12,84 +12,111 @@
  */
 package org.eclipse.ditto.concierge.service.enforcement;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
-import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 
-import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
-import akka.actor.Props;
-import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
+import scala.concurrent.ExecutionContext;
 
 /**
- * Actor that schedules enforcement tasks. Relying on the inherent timeout of enforcement tasks to not leak memory.
+ * Schedules enforcement tasks such that tasks of the same entity are dispatched in the order they were scheduled,
+ * while tasks of unrelated entities proceed in parallel.
+ * Scheduling happens on the calling thread: each entity has its own chain of futures in a concurrent map, so that
+ * no single actor has to process the scheduling and completion of all tasks.
+ * Relying on the inherent timeout of enforcement tasks to not leak memory.
  */
-final class EnforcementScheduler extends AbstractActor {
+final class EnforcementScheduler {
 
-    /**
-     * The name of this actor under the parent actor, which should be EnforcerActor.
-     */
-    static final String ACTOR_NAME = "scheduler";
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(EnforcementScheduler.class);
 
     /**
      * Cache of started enforcement tasks for each entity ID.
      */
     private final Map<EntityId, Futures> futuresMap;
-    private final DittoDiagnosticLoggingAdapter log;
+    private final ExecutionContext executor;
     private final Counter scheduledEnforcementTasks;
     private final Counter completedEnforcementTasks;
+    private final Gauge inFlightEnforcementTasks;
+    private final Histogram laneDepth;
+    private final Histogram waitTimeNanos;
 
-    private EnforcementScheduler() {
-        futuresMap = new HashMap<>();
-        log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private EnforcementScheduler(final ExecutionContext executor) {
+        this.executor = executor;
+        futuresMap = new ConcurrentHashMap<>();
         scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks");
         completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks");
+        inFlightEnforcementTasks = DittoMetrics.gauge("in_flight_enforcement_tasks");
+        laneDepth = DittoMetrics.histogram("enforcement_scheduler_lane_depth");
+        waitTimeNanos = DittoMetrics.histogram("enforcement_scheduler_wait_time_nanos");
     }
 
-    static Props props() {
-        return Props.create(EnforcementScheduler.class);
-    }
-
-    @Override
-    public Receive createReceive() {
-        return ReceiveBuilder.create()
-                .match(EnforcementTask.class, this::scheduleEnforcement)
-                .match(FutureComplete.class, this::futureComplete)
-                .matchAny(message -> log.warning("UnknownMessage <{}>", message))
-                .build();
+    /**
+     * Create an enforcement scheduler.
+     *
+     * @param executor the execution context on which to run ask-steps of enforcement results.
+     * @return the scheduler.
+     */
+    static EnforcementScheduler of(final ExecutionContext executor) {
+        return new EnforcementScheduler(executor);
     }
 
-    private void scheduleEnforcement(final EnforcementTask task) {
+    /**
+     * Schedule an enforcement task after all in-flight tasks of the same entity.
+     * The task may start and complete in the calling thread if no task of the same entity is in flight.
+     *
+     * @param task the task to schedule.
+     */
+    void schedule(final EnforcementTask task) {
+        final CompletableFuture<Void> trigger = new CompletableFuture<>();
+        final long scheduledAt = System.nanoTime();
         futuresMap.compute(task.getEntityId(), (entityId, cachedFutures) -> {
-            log.debug("Scheduling <{}> at <{}>", task, cachedFutures);
+            LOGGER.debug("Scheduling <{}> at <{}>", task, cachedFutures);
             final Futures previousFutures = cachedFutures != null ? cachedFutures : Futures.initial();
-            return scheduleTaskAfter(previousFutures, task);
+            laneDepth.record((long) previousFutures.referenceCount);
+            return scheduleTaskAfter(previousFutures, trigger, task, scheduledAt);
         });
         scheduledEnforcementTasks.increment();
+        inFlightEnforcementTasks.increment();
+        // complete the trigger outside of Map.compute: the task chain may run to completion synchronously and
+        // update the map entry of its entity again.
+        trigger.complete(null);
+    }
+
+    /**
+     * @return the number of entities with in-flight enforcement tasks.
+     */
+    int getEntityCount() {
+        return futuresMap.size();
     }
 
-    private void futureComplete(final FutureComplete futureComplete) {
-        log.debug("Got <{}>", futureComplete);
-        futureComplete.getError().ifPresent(error -> log.error(error, "FutureFailed <{}>", futureComplete));
-        futuresMap.computeIfPresent(futureComplete.entityId, (entityId, futures) -> {
-            log.debug("Reducing reference count <{}>", futures);
+    private void futureComplete(final EnforcementTask task, @Nullable final Throwable error) {
+        if (error != null) {
+            LOGGER.error("FutureFailed <{}>", task, error);
+        }
+        futuresMap.computeIfPresent(task.getEntityId(), (entityId, futures) -> {
+            LOGGER.debug("Reducing reference count <{}>", futures);
             return futures.onComplete();
         });
         completedEnforcementTasks.increment();
+        inFlightEnforcementTasks.decrement();
     }
 
     private Void dispatchEnforcedMessage(final Contextual<?> enforcementResult) {
@@ -106,7 +133,7 @@ final class EnforcementScheduler extends AbstractActor {
                 // It does not disrupt command order guarantee to run the ask-future here if the ask-future
                 // is initiated by a call to Patterns.ask(), because Patterns.ask() calls ActorRef.tell()
                 // in the calling thread.
-                Patterns.pipe(askFutureOpt.get().get(), getContext().dispatcher()).to(receiver);
+                Patterns.pipe(askFutureOpt.get().get(), executor).to(receiver);
             } else if (receiverOpt.isPresent()) {
                 final ActorRef receiver = receiverOpt.get();
                 final Object wrappedMsg =
@@ -131,53 +158,30 @@ final class EnforcementScheduler extends AbstractActor {
      * complete.
      *
      * @param previousFutures in-flight enforcement tasks for the same entity.
+     * @param trigger future to complete once the returned futures are stored in the futures map.
      * @param task the task to schedule.
+     * @param scheduledAt nano time when the task was scheduled.
      * @return the next in-flight enforcement tasks, including the scheduled task.
      */
-    private Futures scheduleTaskAfter(final Futures previousFutures, final EnforcementTask task) {
-        final CompletionStage<?> taskFuture =
-                previousFutures.beforeStartFuture.thenCompose(authChangeComplete ->
-                        previousFutures.beforeCompleteFuture.thenCombine(task.start(),
-                                (previousTaskComplete, enforcementResult) -> dispatchEnforcedMessage(enforcementResult)
-                        )
-                ).handle((result, error) -> sendFutureComplete(task, error));
+    private Futures scheduleTaskAfter(final Futures previousFutures, final CompletionStage<Void> trigger,
+            final EnforcementTask task, final long scheduledAt) {
+
+        final CompletionStage<?> taskFuture = trigger.thenCompose(triggered -> previousFutures.beforeStartFuture)
+                .thenCompose(authChangeComplete -> {
+                    waitTimeNanos.record(System.nanoTime() - scheduledAt);
+                    return previousFutures.beforeCompleteFuture.thenCombine(task.start(),
+                            (previousTaskComplete, enforcementResult) -> dispatchEnforcedMessage(enforcementResult)
+                    );
+                })
+                .handle((result, error) -> {
+                    futureComplete(task, error);
+                    return null;
+                });
         return task.changesAuthorization()
                 ? previousFutures.appendBeforeStartFuture(taskFuture)
                 : previousFutures.appendBeforeCompleteFuture(taskFuture);
     }
 
-    private Void sendFutureComplete(final EnforcementTask task, @Nullable final Throwable error) {
-        getSelf().tell(FutureComplete.of(task.getEntityId(), error), ActorRef.noSender());
-        return null;
-    }
-
-    /**
-     * Self-sent event to signal completion of an enforcement task for cache maintenance.
-     */
-    private static final class FutureComplete {
-
-        private final EntityId entityId;
-        @Nullable private final Throwable error;
-
-        private FutureComplete(final EntityId entityId, @Nullable final Throwable error) {
-            this.entityId = entityId;
-            this.error = error;
-        }
-
-        private static FutureComplete of(final EntityId entityId, @Nullable final Throwable error) {
-            return new FutureComplete(entityId, error);
-        }
-
-        private Optional<Throwable> getError() {
-            return Optional.ofNullable(error);
-        }
-
-        @Override
-        public String toString() {
-            return getClass().getSimpleName() + "[entityId=" + entityId + "]";
-        }
-    }
-
     /**
      * Cache entry for 1 entity including: its last scheduled authorization-changing task, its last scheduled
      * non-authorization-changing task, and the amount of in-flight enforcement tasks.
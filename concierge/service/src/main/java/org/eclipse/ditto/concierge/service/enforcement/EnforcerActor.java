@@ -61,8 +61,7 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             @Nullable final Cache<CacheKey, Entry<Enforcer>> policyEnforcerCache) {
 
         super(pubSubMediator, conciergeForwarder, thingIdCache, policyEnforcerCache);
-        final ActorRef enforcementScheduler =
-                getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
+        final EnforcementScheduler enforcementScheduler = EnforcementScheduler.of(getContext().getDispatcher());
         sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler);
     }
 
@@ -119,13 +118,14 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      *
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
      * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
+     * @param enforcementScheduler the scheduler of the created enforcement tasks.
      * @return a handler as {@link Flow} of {@link Contextual} messages.
      */
     @SuppressWarnings("unchecked") // due to GraphDSL usage
     private Sink<Contextual<WithDittoHeaders>, CompletionStage<Done>> assembleSink(
             final Set<EnforcementProvider<?>> enforcementProviders,
             @Nullable final PreEnforcer preEnforcer,
-            final ActorRef enforcementScheduler) {
+            final EnforcementScheduler enforcementScheduler) {
 
         final PreEnforcer preEnforcerStep =
                 preEnforcer != null ? preEnforcer : CompletableFuture::completedStage;
@@ -147,6 +147,6 @@ public final class EnforcerActor extends AbstractEnforcerActor {
 
         return Flow.<Contextual<WithDittoHeaders>>create()
                 .via(enforcerFlow)
-                .toMat(Sink.foreach(task -> enforcementScheduler.tell(task, ActorRef.noSender())), Keep.right());
+                .toMat(Sink.foreach(enforcementScheduler::schedule), Keep.right());
     }
 }
@@ -15,30 +15,25 @@ package org.eclipse.ditto.concierge.service.enforcement;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.time.Duration;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.Immutable;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.base.model.common.ConditionChecker;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
-import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.models.signal.SignalInformationPoint;
-import org.eclipse.ditto.internal.utils.cache.Cache;
-import org.eclipse.ditto.internal.utils.cache.CaffeineCache;
-
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.Expiry;
+import org.eclipse.ditto.internal.utils.akka.timing.TimingWheel;
 
 import akka.actor.AbstractExtensionId;
 import akka.actor.ActorRef;
@@ -57,19 +52,22 @@ import akka.actor.Extension;
  * Optionally they provide the timeout of the command.
  * If the command headers provide a timeout, it is used as expiry for the cache entry, otherwise a fall-back expiry
  * is used.
+ * The expiries are scheduled in a {@link TimingWheel} and cancelled when an entry is invalidated or replaced.
  */
-@NotThreadSafe
+@ThreadSafe
 final class ResponseReceiverCache implements Extension {
 
     private static final ExtensionId EXTENSION_ID = new ExtensionId();
     private static final Duration DEFAULT_ENTRY_EXPIRY = Duration.ofMinutes(2L);
 
     private final Duration fallBackEntryExpiry;
-    private final Cache<CorrelationIdKey, ActorRef> cache;
+    private final TimingWheel timingWheel;
+    private final Map<String, Entry> cache;
 
-    private ResponseReceiverCache(final Duration fallBackEntryExpiry, final Cache<CorrelationIdKey, ActorRef> cache) {
+    private ResponseReceiverCache(final Duration fallBackEntryExpiry, final TimingWheel timingWheel) {
         this.fallBackEntryExpiry = fallBackEntryExpiry;
-        this.cache = cache;
+        this.timingWheel = timingWheel;
+        cache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -86,30 +84,29 @@ final class ResponseReceiverCache implements Extension {
     /**
      * Returns a new instance of {@code ResponseReceiverCache} with a hard-coded fall-back entry expiry.
      *
+     * @param timingWheel the timing wheel to schedule the expiry of entries in. It is not stopped by the cache.
      * @return the instance.
+     * @throws NullPointerException if {@code timingWheel} is {@code null}.
      */
-    static ResponseReceiverCache newInstance() {
-        return newInstance(DEFAULT_ENTRY_EXPIRY);
+    static ResponseReceiverCache newInstance(final TimingWheel timingWheel) {
+        return newInstance(DEFAULT_ENTRY_EXPIRY, timingWheel);
     }
 
     /**
      * Returns a new instance of {@code ResponseReceiverCache} with the specified fall-back entry expiry.
      *
      * @param fallBackEntryExpiry the expiry to be used for cache entries of commands without a timeout.
+     * @param timingWheel the timing wheel to schedule the expiry of entries in. It is not stopped by the cache.
      * @return the instance.
-     * @throws NullPointerException if {@code fallBackEntryExpiry} is {@code null}.
+     * @throws NullPointerException if any argument is {@code null}.
      * @throws IllegalArgumentException if {@code fallBackEntryExpiry} is not positive.
      */
-    static ResponseReceiverCache newInstance(final Duration fallBackEntryExpiry) {
+    static ResponseReceiverCache newInstance(final Duration fallBackEntryExpiry, final TimingWheel timingWheel) {
         ConditionChecker.checkArgument(checkNotNull(fallBackEntryExpiry, "fallBackEntryExpiry"),
                 Predicate.not(Duration::isZero).and(Predicate.not(Duration::isNegative)),
                 () -> "The fallBackEntryExpiry must be positive.");
 
-        return new ResponseReceiverCache(fallBackEntryExpiry, createCache(fallBackEntryExpiry));
-    }
-
-    private static Cache<CorrelationIdKey, ActorRef> createCache(final Duration fallBackEntryExpiry) {
-        return CaffeineCache.of(Caffeine.newBuilder().expireAfter(new CorrelationIdKeyExpiry(fallBackEntryExpiry)));
+        return new ResponseReceiverCache(fallBackEntryExpiry, checkNotNull(timingWheel, "timingWheel"));
     }
 
     /**
@@ -121,15 +118,14 @@ final class ResponseReceiverCache implements Extension {
      * @throws IllegalArgumentException if the headers of {@code signal} do not contain a correlation ID.
      */
     public void cacheSignalResponseReceiver(final Signal<?> signal, final ActorRef responseReceiver) {
-        cache.put(getCorrelationIdKeyForInsertion(checkNotNull(signal, "signal")),
-                checkNotNull(responseReceiver, "responseReceiver"));
-    }
-
-    private CorrelationIdKey getCorrelationIdKeyForInsertion(final WithDittoHeaders command) {
-        final var commandDittoHeaders = command.getDittoHeaders();
-
-        return CorrelationIdKey.forCacheInsertion(getCorrelationIdOrThrow(commandDittoHeaders),
-                getExpiry(commandDittoHeaders));
+        final var commandDittoHeaders = checkNotNull(signal, "signal").getDittoHeaders();
+        final var correlationId = getCorrelationIdOrThrow(commandDittoHeaders);
+        final var entry = new Entry(checkNotNull(responseReceiver, "responseReceiver"));
+        final var previousEntry = cache.put(correlationId, entry);
+        entry.expiry = timingWheel.schedule(getExpiry(commandDittoHeaders), () -> cache.remove(correlationId, entry));
+        if (null != previousEntry) {
+            previousEntry.cancelExpiry();
+        }
     }
 
     private static String getCorrelationIdOrThrow(final DittoHeaders commandDittoHeaders) {
@@ -155,7 +151,8 @@ final class ResponseReceiverCache implements Extension {
                 Predicate.not(String::isBlank),
                 () -> "The correlationId must not be blank.");
 
-        return cache.get(CorrelationIdKey.forCacheRetrieval(correlationIdString));
+        return CompletableFuture.completedFuture(Optional.ofNullable(cache.get(correlationIdString))
+                .map(entry -> entry.responseReceiver));
     }
 
     /**
@@ -171,7 +168,10 @@ final class ResponseReceiverCache implements Extension {
                 Predicate.not(String::isBlank),
                 () -> "The correlationId must not be blank.");
 
-        cache.invalidate(CorrelationIdKey.forCacheRetrieval(correlationIdString));
+        final var entry = cache.remove(correlationIdString);
+        if (null != entry) {
+            entry.cancelExpiry();
+        }
     }
 
     /**
@@ -245,50 +245,21 @@ final class ResponseReceiverCache implements Extension {
                 });
     }
 
-    @Immutable
-    private static final class CorrelationIdKey {
+    private static final class Entry {
 
-        private final String correlationId;
-        @Nullable private final Duration expiry;
+        private final ActorRef responseReceiver;
+        @Nullable private volatile TimingWheel.Timeout expiry;
 
-        private CorrelationIdKey(final String correlationId, @Nullable final Duration expiry) {
-            this.correlationId = correlationId;
-            this.expiry = expiry;
+        private Entry(final ActorRef responseReceiver) {
+            this.responseReceiver = responseReceiver;
+            expiry = null;
         }
 
-        static CorrelationIdKey forCacheInsertion(final String correlationId, final Duration expiry) {
-            return new CorrelationIdKey(correlationId, expiry);
-        }
-
-        static CorrelationIdKey forCacheRetrieval(final String correlationId) {
-            return new CorrelationIdKey(correlationId, null);
-        }
-
-        // Only use correlation ID here because this is the only value that
-        // is used for cache entry retrieval.
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+        private void cancelExpiry() {
+            final var currentExpiry = expiry;
+            if (null != currentExpiry) {
+                currentExpiry.cancel();
             }
-            final var that = (CorrelationIdKey) o;
-            return Objects.equals(correlationId, that.correlationId);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(correlationId);
-        }
-
-        @Override
-        public String toString() {
-            return getClass().getSimpleName() + " [" +
-                    "correlationId=" + correlationId +
-                    ", expiry=" + expiry +
-                    "]";
         }
 
     }
@@ -297,42 +268,7 @@ final class ResponseReceiverCache implements Extension {
 
         @Override
         public ResponseReceiverCache createExtension(final ExtendedActorSystem system) {
-            return newInstance();
-        }
-
-    }
-
-    @Immutable
-    private static final class CorrelationIdKeyExpiry implements Expiry<CorrelationIdKey, ActorRef> {
-
-        private final Duration fallBackEntryExpiry;
-
-        private CorrelationIdKeyExpiry(final Duration fallBackEntryExpiry) {
-            this.fallBackEntryExpiry = fallBackEntryExpiry;
-        }
-
-        @Override
-        public long expireAfterCreate(final CorrelationIdKey key, final ActorRef value, final long currentTime) {
-            final var entryExpiry = Objects.requireNonNullElse(key.expiry, fallBackEntryExpiry);
-            return entryExpiry.toNanos(); // it is crucial to return nanoseconds here
-        }
-
-        @Override
-        public long expireAfterUpdate(final CorrelationIdKey key,
-                final ActorRef value,
-                final long currentTime,
-                final long currentDuration) {
-
-            return currentDuration;
-        }
-
-        @Override
-        public long expireAfterRead(final CorrelationIdKey key,
-                final ActorRef value,
-                final long currentTime,
-                final long currentDuration) {
-
-            return currentDuration;
+            return newInstance(TimingWheel.get(system));
         }
 
     }
@@ -366,8 +366,8 @@ public final class ThingCommandEnforcement
                 } else {
                     final var twinCommand = ensureTwinChannel(thingQueryCommand);
                     result = withMessageToReceiverViaAskFuture(twinCommand, sender(), () ->
-                            askAndBuildJsonView(thingsShardRegion, thingQueryCommand, enforcer,
-                                    context.getScheduler(), context.getExecutor()).thenCompose(response ->
+                            askAndBuildJsonView(thingsShardRegion, withReadViewFilter(thingQueryCommand, enforcer),
+                                    enforcer, context.getScheduler(), context.getExecutor()).thenCompose(response ->
                                     doSmartChannelSelection(thingQueryCommand, response, startTime, enforcer))
                     );
                 }
@@ -529,7 +529,7 @@ public final class ThingCommandEnforcement
                 this.creationRestrictionEnforcer);
 
         if (retrievePolicyOptional.isPresent()) {
-            return retrieveThingBeforePolicy(retrieveThing)
+            return retrieveThingBeforePolicy(retrieveThing, enforcer)
                     .thenCompose(retrieveThingResponse -> {
                         if (retrieveThingResponse instanceof RetrieveThingResponse) {
                             final var retrievePolicy = retrievePolicyOptional.get();
@@ -552,8 +552,8 @@ public final class ThingCommandEnforcement
                     });
         } else {
             // sender is not authorized to view the policy, ignore the request to embed policy.
-            return askAndBuildJsonView(thingsShardRegion, retrieveThing, enforcer, context.getScheduler(),
-                    context.getExecutor());
+            return askAndBuildJsonView(thingsShardRegion, withReadViewFilter(retrieveThing, enforcer), enforcer,
+                    context.getScheduler(), context.getExecutor());
         }
     }
 
@@ -561,11 +561,42 @@ public final class ThingCommandEnforcement
      * Retrieve a thing before retrieving its inlined policy. Report errors to sender.
      *
      * @param command the command.
+     * @param enforcer the enforcer for the command.
      * @return future response from things-shard-region.
      */
-    private CompletionStage<ThingQueryCommandResponse<?>> retrieveThingBeforePolicy(final RetrieveThing command) {
-        return ask(thingsShardRegion, command, "retrieving thing before inlined policy", context.getScheduler(),
-                context.getExecutor());
+    private CompletionStage<ThingQueryCommandResponse<?>> retrieveThingBeforePolicy(final RetrieveThing command,
+            final Enforcer enforcer) {
+        return ask(thingsShardRegion, withReadViewFilter(command, enforcer), "retrieving thing before inlined policy",
+                context.getScheduler(), context.getExecutor());
+    }
+
+    /**
+     * Attach the compiled read permissions of the requester to a {@code RetrieveThing} command so that the things
+     * persistence removes unreadable fields before serializing the thing. The response is filtered by the enforcer
+     * nonetheless, which has no effect on already filtered responses.
+     *
+     * @param command the query command to send to the things-shard-region.
+     * @param enforcer the enforcer for the command.
+     * @return the command with the read view filter header if applicable, the unchanged command otherwise.
+     */
+    private ThingQueryCommand<?> withReadViewFilter(final ThingQueryCommand<?> command, final Enforcer enforcer) {
+        if (command instanceof RetrieveThing && enforcementConfig.isPushDownReadFilter()) {
+            final var retrieveThing = (RetrieveThing) command;
+            final var dittoHeaders = retrieveThing.getDittoHeaders();
+            final var authorizationContext = dittoHeaders.getAuthorizationContext();
+            final var rootResourceKey = ResourceKey.newInstance(ThingConstants.ENTITY_TYPE, JsonPointer.empty());
+            return enforcer.getJsonViewFilter(rootResourceKey, authorizationContext,
+                            Permissions.newInstance(Permission.READ))
+                    .map(filter -> enforcer.hasPartialPermissions(rootResourceKey, authorizationContext,
+                            Permission.READ) ? filter.allow(THING_QUERY_COMMAND_RESPONSE_ALLOWLIST) : filter)
+                    .map(filter -> retrieveThing.getSelectedFields().map(filter::restrictTo).orElse(filter))
+                    .<ThingQueryCommand<?>>map(filter -> retrieveThing.setDittoHeaders(dittoHeaders.toBuilder()
+                            .putHeader(DittoHeaderDefinition.READ_VIEW_FILTER.getKey(), filter.toJson().toString())
+                            .build()))
+                    .orElse(command);
+        } else {
+            return command;
+        }
     }
 
     /**
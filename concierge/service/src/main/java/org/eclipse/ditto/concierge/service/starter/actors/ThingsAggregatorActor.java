@@ -26,6 +26,7 @@ import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.concierge.api.ConciergeWrapper;
 import org.eclipse.ditto.concierge.service.common.DittoConciergeConfig;
 import org.eclipse.ditto.concierge.service.common.ThingsAggregatorConfig;
+import org.eclipse.ditto.internal.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
@@ -36,10 +37,12 @@ import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 import akka.stream.SourceRef;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Source;
@@ -129,7 +132,7 @@ public final class ThingsAggregatorActor extends AbstractActor {
 
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
-        final SourceRef<Jsonifiable> commandResponseSource = Source.from(thingIds)
+        final Source<Object, NotUsed> wrappedCommands = Source.from(thingIds)
                 .filter(Objects::nonNull)
                 .map(thingId -> {
                     final SignalWithEntityId<?> toBeWrapped;
@@ -145,9 +148,21 @@ public final class ThingsAggregatorActor extends AbstractActor {
                                 .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
                     }
                     return ConciergeWrapper.wrapForEnforcerRouter(toBeWrapped);
-                })
-                .ask(calculateParallelism(thingIds), targetActor, Jsonifiable.class,
-                        Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                });
+
+        final int parallelism = calculateParallelism(thingIds);
+        final Source<Jsonifiable, NotUsed> commandResponses;
+        if (ThingsAggregatorProxyActor.isUnorderedStreamingRequested(dittoHeaders)) {
+            // emit each response as soon as it arrives instead of waiting for the slowest one of the prefix
+            commandResponses = wrappedCommands.mapAsyncUnordered(parallelism, wrappedCommand ->
+                    Patterns.ask(targetActor, wrappedCommand, retrieveSingleThingTimeout)
+                            .thenApply(Jsonifiable.class::cast));
+        } else {
+            commandResponses = wrappedCommands.ask(parallelism, targetActor, Jsonifiable.class,
+                    Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        }
+
+        final SourceRef<Jsonifiable> commandResponseSource = commandResponses
                 .log("command-response", log)
                 .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getContext().getSystem()).materializer());
 
@@ -45,6 +45,7 @@ import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cacheloaders.EnforcementCacheKey;
+import org.eclipse.ditto.internal.utils.cacheloaders.JsonViewFilterCache;
 import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcer;
 import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.internal.utils.cacheloaders.ThingEnforcementIdCacheLoader;
@@ -76,6 +77,7 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
     private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_enforcer_cache_";
     private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_id_cache_";
+    private static final String JSON_VIEW_FILTER_CACHE_METRIC_NAME = "ditto_authorization_json_view_filter_cache";
 
     @Override
     public ActorRef startEnforcerActor(final ActorContext context,
@@ -100,8 +102,12 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                 CacheFactory.createCache(thingEnforcerIdCacheLoader, cachesConfig.getIdCacheConfig(),
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE, enforcementCacheDispatcher);
 
+        final JsonViewFilterCache jsonViewFilterCache =
+                JsonViewFilterCache.of(cachesConfig.getJsonViewFilterCacheConfig(), JSON_VIEW_FILTER_CACHE_METRIC_NAME,
+                        enforcementCacheDispatcher);
         final AsyncCacheLoader<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askWithRetryConfig, actorSystem.getScheduler(), policiesShardRegionProxy);
+                new PolicyEnforcerCacheLoader(askWithRetryConfig, actorSystem.getScheduler(), policiesShardRegionProxy,
+                        jsonViewFilterCache);
         final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy", enforcementCacheDispatcher);
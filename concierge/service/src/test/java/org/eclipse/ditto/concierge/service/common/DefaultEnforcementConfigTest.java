@@ -68,6 +68,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.isPushDownReadFilter())
+                .as(EnforcementConfig.EnforcementConfigValue.PUSH_DOWN_READ_FILTER.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.PUSH_DOWN_READ_FILTER.getDefaultValue());
     }
 
     @Test
@@ -80,6 +83,9 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(1337);
+        softly.assertThat(underTest.isPushDownReadFilter())
+                .as(EnforcementConfig.EnforcementConfigValue.PUSH_DOWN_READ_FILTER.getConfigPath())
+                .isFalse();
     }
 
 }
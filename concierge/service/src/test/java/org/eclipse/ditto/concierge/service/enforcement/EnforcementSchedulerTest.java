@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.concierge.service.enforcement;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doAnswer;
@@ -40,7 +41,6 @@ import org.mockito.Mockito;
 
 import com.typesafe.config.ConfigFactory;
 
-import akka.actor.ActorRef;
 import scala.concurrent.duration.FiniteDuration;
 
 public final class EnforcementSchedulerTest {
@@ -49,11 +49,11 @@ public final class EnforcementSchedulerTest {
     public static final ActorSystemResource ACTOR_SYSTEM_RESOURCE =
             ActorSystemResource.newInstance(ConfigFactory.load("test"));
 
-    private ActorRef underTest;
+    private EnforcementScheduler underTest;
 
     @Before
     public void setup() {
-        underTest = ACTOR_SYSTEM_RESOURCE.newActor(EnforcementScheduler.props());
+        underTest = EnforcementScheduler.of(ACTOR_SYSTEM_RESOURCE.getActorSystem().dispatcher());
     }
 
     @Test
@@ -132,10 +132,10 @@ public final class EnforcementSchedulerTest {
         final var inOrder =
                 inOrder(retrieveThing1TaskSpy, modifyPolicyId1TaskSpy, retrieveThing2TaskSpy, modifyPolicyId2TaskSpy);
 
-        underTest.tell(retrieveThing1TaskSpy, testKit.getRef());
-        underTest.tell(modifyPolicyId1TaskSpy, testKit.getRef());
-        underTest.tell(retrieveThing2TaskSpy, testKit.getRef());
-        underTest.tell(modifyPolicyId2TaskSpy, testKit.getRef());
+        underTest.schedule(retrieveThing1TaskSpy);
+        underTest.schedule(modifyPolicyId1TaskSpy);
+        underTest.schedule(retrieveThing2TaskSpy);
+        underTest.schedule(modifyPolicyId2TaskSpy);
 
         inOrder.verify(retrieveThing1TaskSpy, timeout(2000)).start();
         // Ensures that modifyPolicyId1 is scheduled without waiting for retrieveThing1 being finished.
@@ -151,4 +151,54 @@ public final class EnforcementSchedulerTest {
         receiver.expectMsg(modifyPolicyId2);
     }
 
+    @Test
+    public void unrelatedEntitiesAreNotBlocked() {
+        final var receiver = ACTOR_SYSTEM_RESOURCE.newTestKit();
+        final Contextual<WithDittoHeaders> baseContextual = newBaseContextual();
+        final var busyThingId = ThingId.of("busy", "thing");
+        final var idleThingId = ThingId.of("idle", "thing");
+        final var modifyPolicyId = ModifyPolicyId.of(busyThingId, PolicyId.of("some", "policy"), DittoHeaders.empty());
+        final var retrieveBusyThing = RetrieveThing.of(busyThingId, DittoHeaders.empty());
+        final var retrieveIdleThing = RetrieveThing.of(idleThingId, DittoHeaders.empty());
+        final var blocker = new CompletableFuture<Contextual<ModifyPolicyId>>();
+
+        underTest.schedule(EnforcementTask.of(busyThingId, true, () -> blocker));
+        underTest.schedule(EnforcementTask.of(busyThingId, false, () -> CompletableFuture.completedFuture(
+                baseContextual.setMessage(retrieveBusyThing).withReceiver(receiver.getRef()))));
+        underTest.schedule(EnforcementTask.of(idleThingId, false, () -> CompletableFuture.completedFuture(
+                baseContextual.setMessage(retrieveIdleThing).withReceiver(receiver.getRef()))));
+
+        receiver.expectMsg(retrieveIdleThing);
+        receiver.expectNoMessage(FiniteDuration.create(200, TimeUnit.MILLISECONDS));
+        assertThat(underTest.getEntityCount()).isEqualTo(1);
+
+        blocker.complete(baseContextual.setMessage(modifyPolicyId).withReceiver(receiver.getRef()));
+        receiver.expectMsg(modifyPolicyId);
+        receiver.expectMsg(retrieveBusyThing);
+        assertThat(underTest.getEntityCount()).isZero();
+    }
+
+    @Test
+    public void failedTasksAreRemoved() {
+        final var thingId = ThingId.of("failing", "thing");
+
+        underTest.schedule(EnforcementTask.of(thingId, true,
+                () -> CompletableFuture.<Contextual<RetrieveThing>>failedFuture(new IllegalStateException("expected"))));
+        underTest.schedule(EnforcementTask.of(thingId, false,
+                () -> CompletableFuture.<Contextual<RetrieveThing>>failedFuture(new IllegalStateException("expected"))));
+
+        assertThat(underTest.getEntityCount()).isZero();
+    }
+
+    private static Contextual<WithDittoHeaders> newBaseContextual() {
+        final var mockLogger = Mockito.mock(ThreadSafeDittoLoggingAdapter.class);
+        doAnswer(invocation -> mockLogger).when(mockLogger).withCorrelationId(any(WithDittoHeaders.class));
+        return Contextual.forActor(ACTOR_SYSTEM_RESOURCE.newTestProbe().ref(),
+                ACTOR_SYSTEM_RESOURCE.getActorSystem(),
+                ACTOR_SYSTEM_RESOURCE.newTestProbe().ref(),
+                ACTOR_SYSTEM_RESOURCE.newTestProbe().ref(),
+                DefaultAskWithRetryConfig.of(ConfigFactory.empty(), "test"),
+                mockLogger);
+    }
+
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.concierge.service.enforcement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.ThingCommand;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyPolicyId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Drives an {@link EnforcerActor} with a synthetic mix of thing commands to measure the throughput of the
+ * {@link EnforcementScheduler}.
+ * Enforcements complete asynchronously after a short delay to simulate cache lookups; a share of the commands
+ * changes authorization and thus blocks subsequent commands of the same thing.
+ * <p>
+ * Vary {@code entities} to compare contended batches (all commands for few things) with batches of unrelated things.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class EnforcerActorBenchmark {
+
+    // below the enforcement buffer size of the enforcer actor so that no command is dropped
+    private static final int BATCH_SIZE = 64;
+    private static final long ENFORCEMENT_DELAY_MICROS = 50L;
+
+    @Param({"1", "16", "1024"})
+    public int entities;
+
+    @Param({"10"})
+    public int authorizationChangesPercent;
+
+    private ActorSystem system;
+    private ActorRef enforcerActor;
+    private AtomicReference<CountDownLatch> latch;
+    private List<WithDittoHeaders> commands;
+    private ActorRef sender;
+    private int nextCommand;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        system = ActorSystem.create("EnforcerActorBenchmark", ConfigFactory.load("test"));
+        latch = new AtomicReference<>(new CountDownLatch(0));
+        final ActorRef receiver = system.actorOf(Props.create(CountingReceiver.class, latch));
+        final ActorRef pubSubMediator = TestProbe.apply(system).ref();
+        enforcerActor = system.actorOf(EnforcerActor.props(pubSubMediator,
+                Set.of(new SyntheticEnforcementProvider(receiver)), receiver, null, null));
+        sender = TestProbe.apply(system).ref();
+
+        final Random random = new Random(entities);
+        commands = new ArrayList<>(BATCH_SIZE * 16);
+        for (int i = 0; i < BATCH_SIZE * 16; i++) {
+            final ThingId thingId = ThingId.of("benchmark", "thing-" + random.nextInt(entities));
+            if (random.nextInt(100) < authorizationChangesPercent) {
+                commands.add(ModifyPolicyId.of(thingId, PolicyId.of(thingId.getNamespace(), thingId.getName()), DittoHeaders.empty()));
+            } else {
+                commands.add(RetrieveThing.of(thingId, DittoHeaders.empty()));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void enforceBatch() throws InterruptedException {
+        final CountDownLatch batchLatch = new CountDownLatch(BATCH_SIZE);
+        latch.set(batchLatch);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            enforcerActor.tell(commands.get(nextCommand), sender);
+            nextCommand = (nextCommand + 1) % commands.size();
+        }
+        if (!batchLatch.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Enforcement of batch timed out: " + batchLatch.getCount() + " left");
+        }
+    }
+
+    private static final class CountingReceiver extends AbstractActor {
+
+        private final AtomicReference<CountDownLatch> latch;
+
+        @SuppressWarnings("unused")
+        private CountingReceiver(final AtomicReference<CountDownLatch> latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(ThingCommand.class, command -> latch.get().countDown())
+                    .build();
+        }
+    }
+
+    private static final class SyntheticEnforcementProvider implements EnforcementProvider<ThingCommand<?>> {
+
+        private final ActorRef receiver;
+
+        private SyntheticEnforcementProvider(final ActorRef receiver) {
+            this.receiver = receiver;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Class<ThingCommand<?>> getCommandClass() {
+            return (Class) ThingCommand.class;
+        }
+
+        @Override
+        public boolean changesAuthorization(final ThingCommand<?> signal) {
+            return signal instanceof ModifyPolicyId;
+        }
+
+        @Override
+        public AbstractEnforcement<ThingCommand<?>> createEnforcement(final Contextual<ThingCommand<?>> context) {
+            return new AbstractEnforcement<>(context) {
+                @Override
+                public CompletionStage<Contextual<WithDittoHeaders>> enforce() {
+                    return CompletableFuture.supplyAsync(() -> withMessageToReceiver((WithDittoHeaders) signal(),
+                            receiver), CompletableFuture.delayedExecutor(ENFORCEMENT_DELAY_MICROS, TimeUnit.MICROSECONDS));
+                }
+            };
+        }
+    }
+
+}
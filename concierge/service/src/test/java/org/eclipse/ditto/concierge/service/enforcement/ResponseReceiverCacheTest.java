@@ -31,6 +31,9 @@ import org.awaitility.Awaitility;
 import org.eclipse.ditto.base.model.correlationid.TestNameCorrelationId;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.internal.utils.akka.timing.TimingWheel;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -48,18 +51,38 @@ public final class ResponseReceiverCacheTest {
     @Rule
     public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
 
+    private TimingWheel timingWheel;
+
+    @Before
+    public void setUp() {
+        timingWheel = TimingWheel.newInstance(getClass().getSimpleName());
+    }
+
+    @After
+    public void tearDown() {
+        timingWheel.stop();
+    }
+
     @Test
     public void newInstanceWithNullDurationThrowsException() {
         assertThatNullPointerException()
-                .isThrownBy(() -> ResponseReceiverCache.newInstance(null))
+                .isThrownBy(() -> ResponseReceiverCache.newInstance(null, timingWheel))
                 .withMessage("The fallBackEntryExpiry must not be null!")
                 .withNoCause();
     }
 
+    @Test
+    public void newInstanceWithNullTimingWheelThrowsException() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> ResponseReceiverCache.newInstance(null))
+                .withMessage("The timingWheel must not be null!")
+                .withNoCause();
+    }
+
     @Test
     public void newInstanceWithNegativeDurationThrowsException() {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> ResponseReceiverCache.newInstance(Duration.ofSeconds(-1)))
+                .isThrownBy(() -> ResponseReceiverCache.newInstance(Duration.ofSeconds(-1), timingWheel))
                 .withMessage("The fallBackEntryExpiry must be positive.")
                 .withNoCause();
     }
@@ -67,14 +90,14 @@ public final class ResponseReceiverCacheTest {
     @Test
     public void newInstanceWithZeroDurationThrowsException() {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> ResponseReceiverCache.newInstance(Duration.ZERO))
+                .isThrownBy(() -> ResponseReceiverCache.newInstance(Duration.ZERO, timingWheel))
                 .withMessage("The fallBackEntryExpiry must be positive.")
                 .withNoCause();
     }
 
     @Test
     public void cacheNullSignalThrowsException() {
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
 
         assertThatNullPointerException()
                 .isThrownBy(() -> underTest.cacheSignalResponseReceiver(null, null))
@@ -84,7 +107,7 @@ public final class ResponseReceiverCacheTest {
 
     @Test
     public void cacheNullResponseReceiverThrowsException() {
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
         final var command = Mockito.mock(Command.class);
         Mockito.when(command.getDittoHeaders())
                 .thenReturn(DittoHeaders.newBuilder().correlationId(testNameCorrelationId.getCorrelationId()).build());
@@ -97,7 +120,7 @@ public final class ResponseReceiverCacheTest {
 
     @Test
     public void getWithNullCorrelationIdThrowsException() {
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
 
         assertThatNullPointerException()
                 .isThrownBy(() -> underTest.get(null))
@@ -107,7 +130,7 @@ public final class ResponseReceiverCacheTest {
 
     @Test
     public void getWithEmptyCorrelationIdThrowsException() {
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
 
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> underTest.get(""))
@@ -117,7 +140,7 @@ public final class ResponseReceiverCacheTest {
 
     @Test
     public void getWithBlankCorrelationIdThrowsException() {
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
 
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> underTest.get(" "))
@@ -132,7 +155,7 @@ public final class ResponseReceiverCacheTest {
         final var correlationId = testNameCorrelationId.getCorrelationId();
         Mockito.when(command.getDittoHeaders())
                 .thenReturn(getDittoHeadersWithCorrelationIdAndTimeout(correlationId, expiry));
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
 
         final var mockReceiver = Mockito.mock(ActorRef.class);
         underTest.cacheSignalResponseReceiver(command, mockReceiver);
@@ -149,7 +172,7 @@ public final class ResponseReceiverCacheTest {
         final var correlationId = testNameCorrelationId.getCorrelationId();
         Mockito.when(command.getDittoHeaders())
                 .thenReturn(getDittoHeadersWithCorrelationIdAndTimeout(correlationId, expiry));
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
 
         underTest.cacheSignalResponseReceiver(command, Mockito.mock(ActorRef.class));
 
@@ -164,7 +187,7 @@ public final class ResponseReceiverCacheTest {
     public void getEntryFromEmptyCacheReturnsEmptyOptional()
             throws ExecutionException, InterruptedException, TimeoutException {
 
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
 
         final var cacheEntryFuture = underTest.get(testNameCorrelationId.getCorrelationId());
 
@@ -195,7 +218,7 @@ public final class ResponseReceiverCacheTest {
                 .map(_expiry -> Mockito.mock(ActorRef.class))
                 .collect(Collectors.toList());
 
-        final var underTest = ResponseReceiverCache.newInstance();
+        final var underTest = ResponseReceiverCache.newInstance(timingWheel);
         IntStream.range(0, expirySequence.size())
                 .forEach(index -> underTest.cacheSignalResponseReceiver(commands.get(index), responseReceivers.get(index)));
 
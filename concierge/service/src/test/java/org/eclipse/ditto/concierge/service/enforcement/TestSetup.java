@@ -33,6 +33,7 @@ import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CaffeineCache;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cacheloaders.EnforcementCacheKey;
+import org.eclipse.ditto.internal.utils.cacheloaders.JsonViewFilterCache;
 import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcer;
 import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.internal.utils.cacheloaders.ThingEnforcementIdCacheLoader;
@@ -174,7 +175,9 @@ public final class TestSetup {
             final AskWithRetryConfig askWithRetryConfig = CACHES_CONFIG.getAskWithRetryConfig();
 
             final PolicyEnforcerCacheLoader policyCacheLoader =
-                    new PolicyEnforcerCacheLoader(askWithRetryConfig, system.getScheduler(), policiesShardRegion);
+                    new PolicyEnforcerCacheLoader(askWithRetryConfig, system.getScheduler(), policiesShardRegion,
+                            JsonViewFilterCache.of(CACHES_CONFIG.getJsonViewFilterCacheConfig(), null,
+                                    Runnable::run));
             final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache =
                     CaffeineCache.of(Caffeine.newBuilder(), policyCacheLoader);
             final Cache<EnforcementCacheKey, Entry<Enforcer>> projectedEnforcerCache =
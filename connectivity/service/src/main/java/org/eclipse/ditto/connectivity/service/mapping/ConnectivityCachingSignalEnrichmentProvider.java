@@ -47,13 +47,24 @@ public final class ConnectivityCachingSignalEnrichmentProvider extends Connectiv
                 DefaultCachingSignalEnrichmentFacadeConfig.of(signalEnrichmentConfig.getProviderConfig());
         final Executor cacheLoaderExecutor = actorSystem.dispatchers().lookup("signal-enrichment-cache-dispatcher");
         final var signalEnrichmentFacadeProvider = CachingSignalEnrichmentFacadeProvider.get(actorSystem);
-        cachingSignalEnrichmentFacade = signalEnrichmentFacadeProvider.getSignalEnrichmentFacade(
-                actorSystem,
-                cacheLoaderProvider.getByRoundTripSignalEnrichmentFacade(),
-                cachingSignalEnrichmentFacadeConfig.getCacheConfig(),
-                cacheLoaderExecutor,
-                "connectivity"
-        );
+        if (cachingSignalEnrichmentFacadeConfig.isSharedThingCacheEnabled()) {
+            cachingSignalEnrichmentFacade = signalEnrichmentFacadeProvider.getSharedThingSignalEnrichmentFacade(
+                    actorSystem,
+                    cacheLoaderProvider.getByRoundTripSignalEnrichmentFacade(),
+                    cachingSignalEnrichmentFacadeConfig.getAskTimeout(),
+                    cachingSignalEnrichmentFacadeConfig.getCacheConfig(),
+                    cacheLoaderExecutor,
+                    "connectivity"
+            );
+        } else {
+            cachingSignalEnrichmentFacade = signalEnrichmentFacadeProvider.getSignalEnrichmentFacade(
+                    actorSystem,
+                    cacheLoaderProvider.getByRoundTripSignalEnrichmentFacade(),
+                    cachingSignalEnrichmentFacadeConfig.getCacheConfig(),
+                    cacheLoaderExecutor,
+                    "connectivity"
+            );
+        }
     }
 
     @Override
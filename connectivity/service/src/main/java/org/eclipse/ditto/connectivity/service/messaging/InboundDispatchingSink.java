@@ -18,6 +18,7 @@ import java.text.MessageFormat;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -593,8 +594,8 @@ public final class InboundDispatchingSink
                         sender.tell(responseSignal, ActorRef.noSender());
                     }
                 },
-                ackregator -> {
-                    proxyActor.tell(signal, ackregator);
+                (signalToForward, ackregator) -> {
+                    proxyActor.tell(signalToForward, ackregator);
 
                     return null;
                 });
@@ -750,7 +751,8 @@ public final class InboundDispatchingSink
             return RequestedAcksFilter.filterAcknowledgements(signal, message, filter, connection.getId());
         } else {
             // The Source's acknowledgementRequests get appended to the requested-acks DittoHeader of the mapped signal
-            final var combinedRequestedAcks = signalDittoHeaders.getAcknowledgementRequests();
+            final Set<AcknowledgementRequest> combinedRequestedAcks =
+                    new LinkedHashSet<>(signalDittoHeaders.getAcknowledgementRequests());
             combinedRequestedAcks.addAll(additionalAcknowledgementRequests);
 
             final Signal<?> signalWithCombinedAckRequests = signal.setDittoHeaders(signalDittoHeaders
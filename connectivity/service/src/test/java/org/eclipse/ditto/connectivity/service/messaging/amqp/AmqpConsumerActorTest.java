@@ -267,7 +267,9 @@ public final class AmqpConsumerActorTest extends AbstractConsumerActorWithAcknow
             for (int i = 0; i < 3; i++) {
                 final Command<?> command = expectMsgClass(Command.class);
                 assertThat(command.getType()).isEqualTo(ModifyAttribute.TYPE);
-                assertThat(command.getDittoHeaders().getCorrelationId()).contains(correlationId);
+                // commands pending with the same correlation ID get a unique suffix appended to it
+                assertThat(command.getDittoHeaders().getCorrelationId()).hasValueSatisfying(
+                        actualCorrelationId -> assertThat(actualCorrelationId).startsWith(correlationId));
                 assertThat(((ModifyAttribute) command).getAttributePointer()).isEqualTo(JsonPointer.of("/foo"));
                 assertThat(((ModifyAttribute) command).getAttributeValue()).isEqualTo(JsonValue.of(plainPayload));
             }
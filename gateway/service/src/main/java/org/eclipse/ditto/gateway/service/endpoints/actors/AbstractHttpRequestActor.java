@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -57,6 +58,7 @@ import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.internal.models.acks.AcknowledgementAggregatorActorStarter;
 import org.eclipse.ditto.internal.models.acks.config.AcknowledgementConfig;
+import org.eclipse.ditto.internal.models.acks.config.AcknowledgementConfig.AcknowledgementConfigValue;
 import org.eclipse.ditto.internal.models.signal.SignalInformationPoint;
 import org.eclipse.ditto.internal.models.signal.correlation.MatchingValidationResult;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
@@ -64,13 +66,16 @@ import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.cluster.JsonValueSourceRef;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.messages.model.Message;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommandResponse;
 import org.eclipse.ditto.messages.model.signals.commands.acks.MessageCommandAckRequestSetter;
 import org.eclipse.ditto.protocol.HeaderTranslator;
 import org.eclipse.ditto.things.model.signals.commands.acks.ThingLiveCommandAckRequestSetter;
 import org.eclipse.ditto.things.model.signals.commands.acks.ThingModifyCommandAckRequestSetter;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.ReceiveTimeout;
@@ -88,6 +93,7 @@ import akka.http.scaladsl.model.ContentType$;
 import akka.http.scaladsl.model.EntityStreamSizeException;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.AskTimeoutException;
+import akka.stream.javadsl.Source;
 import akka.util.ByteString;
 import scala.Option;
 import scala.util.Either;
@@ -213,7 +219,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 .build();
     }
 
-    private static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
+    static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
         final var statusCode = StatusCodes.lookup(httpStatus.getCode())
                 .orElse(StatusCodes.custom(httpStatus.getCode(), "custom", "custom"));
         return HttpResponse.create().withStatus(statusCode);
@@ -509,7 +515,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         completeWithResult(response);
     }
 
-    private static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
+    static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
             final DittoRuntimeException exception) {
 
         final HttpResponse result;
@@ -537,27 +543,30 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
             result = response;
         } else {
             l.debug("Enhancing response with external headers <{}>.", externalHeaders);
-            final var externalHeadersEntries = externalHeaders.entrySet();
-
-            /*
-             * Content type is set by the entity.
-             * See response.entity().getContentType().
-             * If we set it here this will cause a WARN log.
-             */
-            final Predicate<Map.Entry<String, String>> isContentType = headerEntry -> {
-                final var headerName = headerEntry.getKey();
-                return headerName.equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey());
-            };
-            final List<HttpHeader> externalHttpHeaders = externalHeadersEntries.stream()
-                    .filter(Predicate.not(isContentType))
-                    .map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toList());
-            result = response.withHeaders(externalHttpHeaders);
+            result = response.withHeaders(toHttpHeadersWithoutContentType(externalHeaders));
         }
 
         return result;
     }
 
+    static List<HttpHeader> toHttpHeadersWithoutContentType(final Map<String, String> externalHeaders) {
+
+        /*
+         * Content type is set by the entity.
+         * See response.entity().getContentType().
+         * If we set it here this will cause a WARN log.
+         */
+        final Predicate<Map.Entry<String, String>> isContentType = headerEntry -> {
+            final var headerName = headerEntry.getKey();
+            return headerName.equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey());
+        };
+        return externalHeaders.entrySet()
+                .stream()
+                .filter(Predicate.not(isContentType))
+                .map(entry -> (HttpHeader) RawHeader.create(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
     private void completeWithResult(final HttpResponse response) {
         final HttpResponse completionResponse;
         if (isResponseRequired() || !response.status().isSuccess()) {
@@ -580,7 +589,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         getContext().stop(getSelf());
     }
 
-    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
+    static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
             final ContentType contentType) {
 
         final ByteString byteString;
@@ -594,7 +603,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
     }
 
-    private static ContentType getContentType(final DittoHeaders dittoHeaders) {
+    static ContentType getContentType(final DittoHeaders dittoHeaders) {
         return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
     }
 
@@ -611,7 +620,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         return addBodyIfEntityExists.apply(addHeaders.apply(createHttpResponse(httpStatus)));
     }
 
-    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
+    static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
             final WithOptionalEntity withOptionalEntity) {
 
         return response -> {
@@ -714,13 +723,19 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
 
     private void handleJsonValueSourceRef(final JsonValueSourceRef jsonValueSourceRef) {
         logger.debug("Received <{}> from <{}>.", jsonValueSourceRef.getClass().getSimpleName(), getSender());
-        final var jsonValueSourceToHttpResponse = JsonValueSourceToHttpResponse.getInstance();
+        final Function<Source<JsonValue, NotUsed>, HttpResponse> jsonValueSourceToHttpResponse;
+        if (receivedCommand instanceof RetrieveThings) {
+            // streamed multi-get keeps the JSON array representation of the aggregated response
+            jsonValueSourceToHttpResponse = JsonValueSourceToJsonArrayHttpResponse.getInstance();
+        } else {
+            jsonValueSourceToHttpResponse = JsonValueSourceToHttpResponse.getInstance();
+        }
         final var httpResponse = jsonValueSourceToHttpResponse.apply(jsonValueSourceRef.getSource());
         enhanceResponseWithExternalDittoHeaders(httpResponse, receivedCommand.getDittoHeaders());
         completeWithResult(httpResponse);
     }
 
-    private static Duration getReceiveTimeout(final Signal<?> originatingSignal, final CommandConfig commandConfig) {
+    static Duration getReceiveTimeout(final Signal<?> originatingSignal, final CommandConfig commandConfig) {
 
         final var defaultTimeout = commandConfig.getDefaultTimeout();
         final var maxTimeout = commandConfig.getMaxTimeout();
@@ -769,6 +784,11 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
             return 0;
         }
 
+        @Override
+        public boolean isBypassAggregatorActorForSingleAck() {
+            return (boolean) AcknowledgementConfigValue.BYPASS_AGGREGATOR_ACTOR_FOR_SINGLE_ACK.getDefaultValue();
+        }
+
     }
 
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.gateway.service.util.config.endpoints.AdmissionControlConfig;
+
+/**
+ * A concurrency limit which adapts itself to the observed latency of a downstream service by additive increase and
+ * multiplicative decrease (AIMD).
+ * <p>
+ * The limit is increased by one for each command completed in time while at least half of the limit is in use.
+ * It is multiplied by the configured backoff ratio if a command timed out or was answered with an overload status,
+ * or if the short-term latency exceeds the configured tolerance relative to the baseline latency.
+ * Both latencies are exponentially weighted moving averages of the same samples: the short-term latency smooths out
+ * single outliers and the baseline latency decays towards the latency of the current workload, whether it increased
+ * or decreased. The limit is decreased at most once per round trip, i.e. only by commands which were admitted after
+ * the previous decrease.
+ * </p>
+ */
+@ThreadSafe
+final class AdaptiveConcurrencyLimit {
+
+    /**
+     * Weight of a new latency sample in the short-term latency.
+     */
+    private static final double SHORT_TERM_SMOOTHING = 0.2;
+
+    /**
+     * Weight of a new latency sample in the baseline latency.
+     */
+    private static final double BASELINE_SMOOTHING = 0.02;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final AtomicInteger inFlight;
+
+    private volatile int limit;
+
+    // all guarded by "this"
+    private double estimatedLimit;
+    private double shortTermLatencyNanos;
+    private double baselineLatencyNanos;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    AdaptiveConcurrencyLimit(final AdmissionControlConfig config) {
+        minLimit = config.getMinLimit();
+        maxLimit = config.getMaxLimit();
+        backoffRatio = config.getBackoffRatio();
+        latencyTolerance = config.getLatencyTolerance();
+        inFlight = new AtomicInteger();
+        limit = config.getInitialLimit();
+        estimatedLimit = limit;
+        shortTermLatencyNanos = 0.0;
+        baselineLatencyNanos = 0.0;
+        decreased = false;
+        lastDecreaseNanos = 0L;
+    }
+
+    /**
+     * Tries to acquire a permit for one in-flight command.
+     *
+     * @return {@code true} if the permit was acquired and has to be released via one of {@link #onSuccess(long, long)},
+     * {@link #onOverload(long, long)} or {@link #onIgnore()}, {@code false} if the limit is reached.
+     */
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    /**
+     * Releases a permit of a command which the downstream service answered regularly and adapts the limit to its
+     * latency.
+     *
+     * @param startNanos the {@link System#nanoTime()} when the permit was acquired.
+     * @param endNanos the {@link System#nanoTime()} when the command was answered.
+     */
+    void onSuccess(final long startNanos, final long endNanos) {
+        final int inFlightBeforeRelease = inFlight.getAndDecrement();
+        synchronized (this) {
+            updateLatencies(endNanos - startNanos);
+            if (shortTermLatencyNanos > baselineLatencyNanos * latencyTolerance) {
+                decrease(startNanos, endNanos);
+            } else if (inFlightBeforeRelease * 2 >= estimatedLimit) {
+                estimatedLimit = Math.min(maxLimit, estimatedLimit + 1.0);
+                limit = (int) estimatedLimit;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit of a command for which the downstream service showed signs of overload, e.g. a timeout, and
+     * decreases the limit.
+     *
+     * @param startNanos the {@link System#nanoTime()} when the permit was acquired.
+     * @param endNanos the {@link System#nanoTime()} when the command was answered.
+     */
+    void onOverload(final long startNanos, final long endNanos) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            decrease(startNanos, endNanos);
+        }
+    }
+
+    /**
+     * Releases a permit of a command whose answer says nothing about the load of the downstream service, e.g. an
+     * error response, without adapting the limit.
+     */
+    void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    private void updateLatencies(final long latencyNanos) {
+        if (baselineLatencyNanos <= 0.0) {
+            shortTermLatencyNanos = latencyNanos;
+            baselineLatencyNanos = latencyNanos;
+        } else {
+            shortTermLatencyNanos += (latencyNanos - shortTermLatencyNanos) * SHORT_TERM_SMOOTHING;
+            baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) * BASELINE_SMOOTHING;
+        }
+    }
+
+    private void decrease(final long startNanos, final long endNanos) {
+        // commands admitted before the last decrease reflect the load of the previous limit
+        if (!decreased || startNanos - lastDecreaseNanos >= 0) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+            limit = (int) estimatedLimit;
+            decreased = true;
+            lastDecreaseNanos = endNanos;
+        }
+    }
+
+    /**
+     * @return the current concurrency limit.
+     */
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of currently acquired permits.
+     */
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.commands.exceptions.GatewayServiceUnavailableException;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.AdmissionControlConfig;
+import org.eclipse.ditto.internal.models.signal.SignalInformationPoint;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLogger;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.protocol.HeaderTranslator;
+
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.headers.RawHeader;
+
+/**
+ * Adaptive admission control of HTTP commands in front of the proxy actor.
+ * <p>
+ * Each command type gets its own {@link AdaptiveConcurrencyLimit} on the number of in-flight commands, so that the
+ * latencies of cheap and expensive commands of the same downstream service do not distort each other's limit.
+ * Commands exceeding the limit are rejected immediately with {@code 503 Service Unavailable} and a
+ * {@code Retry-After} header instead of piling up in front of an already overloaded service.
+ * Commands waiting for custom acknowledgements or responses of devices, i.e. live commands and messages, are not
+ * subject to admission control as their latency does not reflect the load of the downstream service.
+ * Likewise, error responses other than timeouts and overload statuses release their permit without adapting the
+ * limit.
+ * The current limit, the number of in-flight commands and the number of rejections are exported as metrics
+ * tagged with the command type.
+ * </p>
+ */
+@ThreadSafe
+public final class AdmissionController {
+
+    private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(AdmissionController.class);
+
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final String COMMAND_TYPE_TAG = "command_type";
+
+    private final AdmissionControlConfig config;
+    private final HeaderTranslator headerTranslator;
+    private final Map<String, CommandTypeAdmission> commandTypeAdmissions;
+
+    private AdmissionController(final AdmissionControlConfig config, final HeaderTranslator headerTranslator) {
+        this.config = config;
+        this.headerTranslator = headerTranslator;
+        commandTypeAdmissions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a new instance of {@code AdmissionController}.
+     *
+     * @param config the config of the admission control.
+     * @param headerTranslator translates the headers of rejections to external HTTP headers.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static AdmissionController of(final AdmissionControlConfig config,
+            final HeaderTranslator headerTranslator) {
+
+        return new AdmissionController(checkNotNull(config, "config"),
+                checkNotNull(headerTranslator, "headerTranslator"));
+    }
+
+    /**
+     * Decides whether the specified command may be dispatched to its downstream service.
+     * If the command is admitted, its permit is released as soon as the specified future completes.
+     * Otherwise the future is completed with a rejection right away.
+     *
+     * @param command the command to be dispatched.
+     * @param httpResponseFuture the promise of the HTTP response of the command.
+     * @return {@code true} if the command was admitted and should be dispatched, {@code false} if it was rejected.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public boolean admit(final Command<?> command, final CompletableFuture<HttpResponse> httpResponseFuture) {
+        checkNotNull(command, "command");
+        checkNotNull(httpResponseFuture, "httpResponseFuture");
+
+        if (!isSubjectToAdmissionControl(command)) {
+            return true;
+        }
+        final var commandTypeAdmission = commandTypeAdmissions.computeIfAbsent(command.getType(),
+                commandType -> new CommandTypeAdmission(commandType, new AdaptiveConcurrencyLimit(config)));
+        final boolean admitted = commandTypeAdmission.limit.tryAcquire();
+        if (admitted) {
+            commandTypeAdmission.updateGauges();
+            final long startNanos = System.nanoTime();
+            httpResponseFuture.whenComplete((response, error) -> {
+                release(commandTypeAdmission.limit, startNanos, response, error);
+                commandTypeAdmission.updateGauges();
+            });
+        } else {
+            commandTypeAdmission.rejected.increment();
+            httpResponseFuture.complete(createRejection(command, commandTypeAdmission));
+        }
+
+        return admitted;
+    }
+
+    private static boolean isSubjectToAdmissionControl(final Command<?> command) {
+        return !SignalInformationPoint.isChannelLive(command) &&
+                !SignalInformationPoint.isChannelSmart(command) &&
+                !SignalInformationPoint.isMessageCommand(command) &&
+                command.getDittoHeaders()
+                        .getAcknowledgementRequests()
+                        .stream()
+                        .allMatch(request -> DittoAcknowledgementLabel.TWIN_PERSISTED.equals(request.getLabel()));
+    }
+
+    private static void release(final AdaptiveConcurrencyLimit limit,
+            final long startNanos,
+            @Nullable final HttpResponse response,
+            @Nullable final Throwable error) {
+
+        final long endNanos = System.nanoTime();
+        if (isOverloaded(response, error)) {
+            limit.onOverload(startNanos, endNanos);
+        } else if (response.status().isSuccess()) {
+            limit.onSuccess(startNanos, endNanos);
+        } else {
+            limit.onIgnore();
+        }
+    }
+
+    private static boolean isOverloaded(@Nullable final HttpResponse response, @Nullable final Throwable error) {
+        final boolean result;
+        if (null != error || null == response) {
+            result = true;
+        } else {
+            final int status = response.status().intValue();
+            result = status == HttpStatus.REQUEST_TIMEOUT.getCode() ||
+                    status == HttpStatus.TOO_MANY_REQUESTS.getCode() ||
+                    status == HttpStatus.SERVICE_UNAVAILABLE.getCode() ||
+                    status == HttpStatus.GATEWAY_TIMEOUT.getCode();
+        }
+
+        return result;
+    }
+
+    private HttpResponse createRejection(final Command<?> command, final CommandTypeAdmission commandTypeAdmission) {
+        final long retryAfterSeconds = Math.max(1L, config.getRetryAfter().toSeconds());
+        final var exception = GatewayServiceUnavailableException.newBuilder()
+                .message("Too many concurrent <" + commandTypeAdmission.commandType + "> requests.")
+                .description("Please retry after " + retryAfterSeconds + " seconds.")
+                .dittoHeaders(command.getDittoHeaders())
+                .build();
+        LOGGER.withCorrelationId(command)
+                .debug("Rejecting <{}> as <{}> commands are in flight with a limit of <{}>.", command.getType(),
+                        commandTypeAdmission.limit.getInFlight(), commandTypeAdmission.limit.getLimit());
+
+        final var externalHeaders = headerTranslator.toExternalAndRetainKnownHeaders(exception.getDittoHeaders());
+        return AbstractHttpRequestActor.buildResponseWithoutHeadersFromDittoRuntimeException(exception)
+                .addHeaders(AbstractHttpRequestActor.toHttpHeadersWithoutContentType(externalHeaders))
+                .addHeader(RawHeader.create(RETRY_AFTER_HEADER, String.valueOf(retryAfterSeconds)));
+    }
+
+    /**
+     * Returns the current concurrency limit of the specified command type.
+     *
+     * @param commandType the type of the commands.
+     * @return the limit or the initial limit if no command of the type was admitted yet.
+     */
+    int getLimit(final String commandType) {
+        final var commandTypeAdmission = commandTypeAdmissions.get(commandType);
+        return null != commandTypeAdmission ? commandTypeAdmission.limit.getLimit() : config.getInitialLimit();
+    }
+
+    private static final class CommandTypeAdmission {
+
+        private final String commandType;
+        private final AdaptiveConcurrencyLimit limit;
+        private final Gauge limitGauge;
+        private final Gauge inFlightGauge;
+        private final Counter rejected;
+
+        private CommandTypeAdmission(final String commandType, final AdaptiveConcurrencyLimit limit) {
+            this.commandType = commandType;
+            this.limit = limit;
+            limitGauge = DittoMetrics.gauge("gateway_admission_limit").tag(COMMAND_TYPE_TAG, commandType);
+            inFlightGauge = DittoMetrics.gauge("gateway_admission_in_flight").tag(COMMAND_TYPE_TAG, commandType);
+            rejected = DittoMetrics.counter("gateway_admission_rejected", Map.of(COMMAND_TYPE_TAG, commandType));
+        }
+
+        private void updateGauges() {
+            limitGauge.set((long) limit.getLimit());
+            inFlightGauge.set((long) limit.getInFlight());
+        }
+
+    }
+
+}
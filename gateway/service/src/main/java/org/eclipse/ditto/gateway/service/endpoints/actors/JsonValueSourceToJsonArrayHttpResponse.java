@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.ConditionChecker;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.json.JsonValue;
+
+import akka.NotUsed;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpResponse;
+import akka.stream.Attributes;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+
+/**
+ * Transforms a {@link Source} of {@link JsonValue}s into a {@link HttpResponse}.
+ * The response's entity is a chunked stream forming a single JSON array, so clients expecting the non-streamed
+ * representation are able to parse it as well.
+ * If the source fails after the response status was sent, the closing bracket of the array is not emitted and the
+ * entity stream fails, which makes the HTTP server abort the connection without terminating the chunked entity.
+ * Thus, clients never receive a complete JSON array missing some of the requested values.
+ */
+@Immutable
+final class JsonValueSourceToJsonArrayHttpResponse implements Function<Source<JsonValue, NotUsed>, HttpResponse> {
+
+    private JsonValueSourceToJsonArrayHttpResponse() {
+        super();
+    }
+
+    /**
+     * Returns an instance of {@code JsonValueSourceToJsonArrayHttpResponse}.
+     *
+     * @return the instance.
+     */
+    static JsonValueSourceToJsonArrayHttpResponse getInstance() {
+        return new JsonValueSourceToJsonArrayHttpResponse();
+    }
+
+    @Override
+    public HttpResponse apply(final Source<JsonValue, NotUsed> source) {
+        ConditionChecker.checkNotNull(source, "source");
+        final Source<ByteString, NotUsed> jsonArraySource = source.map(JsonValue::toString)
+                .intersperse("[", ",", "]")
+                .map(ByteString::fromString)
+                .withAttributes(Attributes.logLevels(Attributes.logLevelDebug(), Attributes.logLevelDebug(),
+                        Attributes.logLevelError()))
+                .log(JsonValueSourceToJsonArrayHttpResponse.class.getSimpleName());
+
+        return HttpResponse.create()
+                .withEntity(HttpEntities.createChunked(ContentTypes.APPLICATION_JSON, jsonArraySource))
+                .withStatus(HttpStatus.OK.getCode());
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.WithOptionalEntity;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.ErrorResponse;
+import org.eclipse.ditto.base.model.signals.commands.WithEntity;
+import org.eclipse.ditto.base.model.signals.commands.exceptions.GatewayCommandTimeoutException;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.internal.models.signal.SignalInformationPoint;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLogger;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.policies.model.signals.commands.query.PolicyQueryCommand;
+import org.eclipse.ditto.protocol.HeaderTranslator;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand;
+
+import akka.actor.ActorRef;
+import akka.actor.Status;
+import akka.http.javadsl.model.HttpResponse;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+
+/**
+ * Handles simple commands of HTTP requests without creating a per-request actor.
+ * A command is simple if it is a twin query of a thing or policy which requires a response but neither requests
+ * acknowledgements nor involves the live channel.
+ * Such commands need neither acknowledgement aggregation nor live response correlation, so asking the proxy actor and
+ * mapping the response to an HTTP response is sufficient.
+ * All other commands must be handled by an {@link AbstractHttpRequestActor}.
+ */
+@Immutable
+public final class SimpleCommandHttpRequestHandler {
+
+    private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(SimpleCommandHttpRequestHandler.class);
+
+    private final ActorRef proxyActor;
+    private final HeaderTranslator headerTranslator;
+    private final CommandConfig commandConfig;
+
+    private SimpleCommandHttpRequestHandler(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final CommandConfig commandConfig) {
+
+        this.proxyActor = proxyActor;
+        this.headerTranslator = headerTranslator;
+        this.commandConfig = commandConfig;
+    }
+
+    /**
+     * Returns a new instance of {@code SimpleCommandHttpRequestHandler}.
+     *
+     * @param proxyActor the actor to ask for the responses of commands.
+     * @param headerTranslator translates the headers of responses to external HTTP headers.
+     * @param commandConfig provides the default and maximum timeouts of commands.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SimpleCommandHttpRequestHandler of(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final CommandConfig commandConfig) {
+
+        return new SimpleCommandHttpRequestHandler(checkNotNull(proxyActor, "proxyActor"),
+                checkNotNull(headerTranslator, "headerTranslator"),
+                checkNotNull(commandConfig, "commandConfig"));
+    }
+
+    /**
+     * Indicates whether the specified command can be handled by this handler.
+     *
+     * @param command the command to check.
+     * @return {@code true} if {@code command} is a simple command, {@code false} if it requires an
+     * {@code AbstractHttpRequestActor}.
+     */
+    public static boolean isSimpleCommand(final Command<?> command) {
+        final boolean result;
+        if (isTwinQueryCommand(command)) {
+            final var dittoHeaders = command.getDittoHeaders();
+            result = dittoHeaders.isResponseRequired() &&
+                    dittoHeaders.getAcknowledgementRequests().isEmpty() &&
+                    !SignalInformationPoint.isChannelLive(command) &&
+                    !SignalInformationPoint.isChannelSmart(command);
+        } else {
+            result = false;
+        }
+
+        return result;
+    }
+
+    private static boolean isTwinQueryCommand(final Command<?> command) {
+
+        // RetrieveThings may be answered by a stream which is rendered by the actor
+        return (command instanceof ThingQueryCommand && !(command instanceof RetrieveThings)) ||
+                command instanceof PolicyQueryCommand;
+    }
+
+    /**
+     * Asks the proxy actor for the response of the specified simple command and maps it to an HTTP response.
+     *
+     * @param command the simple command to handle.
+     * @return a future HTTP response which never completes exceptionally.
+     */
+    public CompletionStage<HttpResponse> handle(final Command<?> command) {
+        final var timeout = AbstractHttpRequestActor.getReceiveTimeout(command, commandConfig);
+
+        return Patterns.ask(proxyActor, command, timeout)
+                .handle((response, error) -> {
+                    if (null != error) {
+                        return handleError(command, timeout, error);
+                    } else {
+                        return handleResponse(response);
+                    }
+                });
+    }
+
+    private HttpResponse handleError(final Command<?> command, final Duration timeout, final Throwable error) {
+        final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof AskTimeoutException) {
+            LOGGER.withCorrelationId(command)
+                    .info("Got no response for <{}> within <{}>.", command.getType(), timeout);
+            return handleDittoRuntimeException(GatewayCommandTimeoutException.newBuilder(timeout)
+                    .dittoHeaders(DittoHeaders.newBuilder(command.getDittoHeaders())
+                            .responseRequired(false)
+                            .build())
+                    .build());
+        } else {
+            return handleResponse(new Status.Failure(cause));
+        }
+    }
+
+    private HttpResponse handleResponse(final Object response) {
+        final HttpResponse result;
+        if (response instanceof HttpResponse httpResponse) {
+            result = httpResponse;
+        } else if (response instanceof CommandResponse<?> commandResponse && response instanceof WithEntity<?>) {
+            result = handleCommandResponseWithEntity(commandResponse);
+        } else if (response instanceof CommandResponse<?> commandResponse &&
+                response instanceof WithOptionalEntity withOptionalEntity) {
+            result = handleCommandResponseWithOptionalEntity(commandResponse, withOptionalEntity);
+        } else if (response instanceof ErrorResponse<?> errorResponse) {
+            result = handleDittoRuntimeException(errorResponse.getDittoRuntimeException());
+        } else if (response instanceof JsonRuntimeException jsonRuntimeException) {
+            result = handleDittoRuntimeException(new DittoJsonException(jsonRuntimeException));
+        } else if (response instanceof DittoRuntimeException dittoRuntimeException) {
+            result = handleDittoRuntimeException(dittoRuntimeException);
+        } else if (response instanceof Status.Failure failure &&
+                failure.cause() instanceof DittoRuntimeException dittoRuntimeException) {
+            result = handleDittoRuntimeException(dittoRuntimeException);
+        } else {
+            LOGGER.error("Got unexpected message when a command response was expected: <{}>!", response);
+            result = AbstractHttpRequestActor.createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        return result;
+    }
+
+    private HttpResponse handleCommandResponseWithEntity(final CommandResponse<?> commandResponse) {
+        final var withEntity = (WithEntity<?>) commandResponse;
+        final var dittoHeaders = commandResponse.getDittoHeaders();
+        final var responseWithoutBody = enhanceResponseWithExternalDittoHeaders(
+                AbstractHttpRequestActor.createHttpResponse(commandResponse.getHttpStatus()), dittoHeaders);
+        final var contentType = AbstractHttpRequestActor.getContentType(dittoHeaders);
+        final var entityPlain = withEntity.getEntityPlainString()
+                .orElseGet(() -> withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString());
+
+        return AbstractHttpRequestActor.addEntityAccordingToContentType(responseWithoutBody, entityPlain,
+                contentType);
+    }
+
+    private HttpResponse handleCommandResponseWithOptionalEntity(final CommandResponse<?> commandResponse,
+            final WithOptionalEntity withOptionalEntity) {
+
+        final var dittoHeaders = commandResponse.getDittoHeaders();
+        final var responseWithoutBody = enhanceResponseWithExternalDittoHeaders(
+                AbstractHttpRequestActor.createHttpResponse(commandResponse.getHttpStatus()), dittoHeaders);
+
+        return AbstractHttpRequestActor.createBodyAddingResponseMapper(dittoHeaders, withOptionalEntity)
+                .apply(responseWithoutBody);
+    }
+
+    private HttpResponse handleDittoRuntimeException(final DittoRuntimeException exception) {
+        LOGGER.withCorrelationId(exception)
+                .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
+
+        return enhanceResponseWithExternalDittoHeaders(
+                AbstractHttpRequestActor.buildResponseWithoutHeadersFromDittoRuntimeException(exception),
+                exception.getDittoHeaders());
+    }
+
+    private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
+            final DittoHeaders allDittoHeaders) {
+
+        final var externalHeaders = headerTranslator.toExternalAndRetainKnownHeaders(allDittoHeaders);
+        if (externalHeaders.isEmpty()) {
+            return response;
+        } else {
+            return response.withHeaders(AbstractHttpRequestActor.toHttpHeadersWithoutContentType(externalHeaders));
+        }
+    }
+
+}
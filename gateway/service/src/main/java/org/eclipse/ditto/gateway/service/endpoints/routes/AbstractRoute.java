@@ -39,6 +39,7 @@ import org.eclipse.ditto.base.model.signals.commands.exceptions.GatewayTimeoutIn
 import org.eclipse.ditto.base.service.config.ThrottlingConfig;
 import org.eclipse.ditto.gateway.service.endpoints.actors.AbstractHttpRequestActor;
 import org.eclipse.ditto.gateway.service.endpoints.actors.HttpRequestActorPropsFactory;
+import org.eclipse.ditto.gateway.service.endpoints.actors.SimpleCommandHttpRequestHandler;
 import org.eclipse.ditto.gateway.service.endpoints.directives.ContentTypeValidationDirective;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.internal.utils.akka.AkkaClassLoader;
@@ -94,6 +95,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final RouteBaseProperties routeBaseProperties;
 
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    @Nullable private final SimpleCommandHttpRequestHandler simpleCommandHttpRequestHandler;
     private final Attributes supervisionStrategy;
     private final Set<String> mediaTypeJsonWithFallbacks;
 
@@ -116,6 +118,13 @@ public abstract class AbstractRoute extends AllDirectives {
         httpRequestActorPropsFactory = AkkaClassLoader.instantiate(routeBaseProperties.getActorSystem(),
                 HttpRequestActorPropsFactory.class,
                 httpConfig.getActorPropsFactoryFullQualifiedClassname());
+        if (httpConfig.isBypassRequestActorForSimpleCommands()) {
+            simpleCommandHttpRequestHandler = SimpleCommandHttpRequestHandler.of(routeBaseProperties.getProxyActor(),
+                    routeBaseProperties.getHeaderTranslator(),
+                    routeBaseProperties.getCommandConfig());
+        } else {
+            simpleCommandHttpRequestHandler = null;
+        }
 
         supervisionStrategy = createSupervisionStrategy();
     }
@@ -211,7 +220,7 @@ public abstract class AbstractRoute extends AllDirectives {
 
         final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
 
-        runWithSupervisionStrategy(payloadSource
+        final var commandSource = payloadSource
                 .fold(ByteString.emptyByteString(), ByteString::concat)
                 .map(ByteString::utf8String)
                 .map(x -> {
@@ -227,10 +236,16 @@ public abstract class AbstractRoute extends AllDirectives {
                     } catch (final Exception e) {
                         return new Status.Failure(e);
                     }
-                })
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
-        );
+                });
+
+        if (null != simpleCommandHttpRequestHandler || routeBaseProperties.getAdmissionController().isPresent()) {
+            runWithSupervisionStrategy(commandSource.toMat(Sink.head(), Keep.right()))
+                    .whenComplete((commandOrFailure, error) -> handleCommandOrFailure(ctx, httpResponseFuture,
+                            null != error ? new Status.Failure(error) : commandOrFailure));
+        } else {
+            runWithSupervisionStrategy(commandSource.to(Sink.actorRef(
+                    createHttpPerRequestActor(ctx, httpResponseFuture), AbstractHttpRequestActor.COMPLETE_MESSAGE)));
+        }
 
         // optional step: transform the response entity:
         if (responseValueTransformFunction != null) {
@@ -273,6 +288,30 @@ public abstract class AbstractRoute extends AllDirectives {
         return responseStage; // default: do nothing
     }
 
+    private void handleCommandOrFailure(final RequestContext ctx,
+            final CompletableFuture<HttpResponse> httpResponseFuture,
+            final Object commandOrFailure) {
+
+        if (commandOrFailure instanceof Command<?> command && !isAdmitted(command, httpResponseFuture)) {
+            // rejected early, the response future is already completed
+            return;
+        }
+        if (null != simpleCommandHttpRequestHandler && commandOrFailure instanceof Command<?> command &&
+                SimpleCommandHttpRequestHandler.isSimpleCommand(command)) {
+            simpleCommandHttpRequestHandler.handle(command).thenAccept(httpResponseFuture::complete);
+        } else {
+            final var httpRequestActor = createHttpPerRequestActor(ctx, httpResponseFuture);
+            httpRequestActor.tell(commandOrFailure, ActorRef.noSender());
+            httpRequestActor.tell(AbstractHttpRequestActor.COMPLETE_MESSAGE, ActorRef.noSender());
+        }
+    }
+
+    private boolean isAdmitted(final Command<?> command, final CompletableFuture<HttpResponse> httpResponseFuture) {
+        return routeBaseProperties.getAdmissionController()
+                .map(admissionController -> admissionController.admit(command, httpResponseFuture))
+                .orElse(true);
+    }
+
     /**
      * Create HTTP request actor by the dynamically loaded props factory.
      *
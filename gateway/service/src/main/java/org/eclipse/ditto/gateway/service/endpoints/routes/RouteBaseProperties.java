@@ -13,11 +13,13 @@
 package org.eclipse.ditto.gateway.service.endpoints.routes;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.base.model.common.ConditionChecker;
+import org.eclipse.ditto.gateway.service.endpoints.actors.AdmissionController;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.protocol.HeaderTranslator;
@@ -37,6 +39,7 @@ public final class RouteBaseProperties {
     private final CommandConfig commandConfig;
     private final HeaderTranslator headerTranslator;
     private final ActorRef connectivityShardRegionProxy;
+    @Nullable private final AdmissionController admissionController;
 
     private RouteBaseProperties(final Builder builder) {
         proxyActor = ConditionChecker.checkNotNull(builder.proxyActor, "builder.proxyActor");
@@ -46,6 +49,7 @@ public final class RouteBaseProperties {
         headerTranslator = ConditionChecker.checkNotNull(builder.headerTranslator, "builder.headerTranslator");
         connectivityShardRegionProxy = ConditionChecker.checkNotNull(builder.connectivityShardRegionProxy,
                 "builder.connectivityShardRegionProxy");
+        admissionController = builder.admissionController;
     }
 
     /**
@@ -66,13 +70,15 @@ public final class RouteBaseProperties {
      */
     public static Builder newBuilder(final RouteBaseProperties routeBaseProperties) {
         ConditionChecker.checkNotNull(routeBaseProperties, "routeBaseProperties");
-        return newBuilder()
+        final var result = newBuilder()
                 .proxyActor(routeBaseProperties.getProxyActor())
                 .actorSystem(routeBaseProperties.getActorSystem())
                 .httpConfig(routeBaseProperties.getHttpConfig())
                 .commandConfig(routeBaseProperties.getCommandConfig())
                 .headerTranslator(routeBaseProperties.getHeaderTranslator())
                 .connectivityShardRegionProxy(routeBaseProperties.getConnectivityShardRegionProxy());
+        routeBaseProperties.getAdmissionController().ifPresent(result::admissionController);
+        return result;
     }
 
     /**
@@ -129,6 +135,15 @@ public final class RouteBaseProperties {
         return connectivityShardRegionProxy;
     }
 
+    /**
+     * Returns the admission controller which is shared by all routes, if admission control is enabled.
+     *
+     * @return the admission controller or an empty Optional.
+     */
+    public Optional<AdmissionController> getAdmissionController() {
+        return Optional.ofNullable(admissionController);
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -143,7 +158,8 @@ public final class RouteBaseProperties {
                 Objects.equals(httpConfig, that.httpConfig) &&
                 Objects.equals(commandConfig, that.commandConfig) &&
                 Objects.equals(headerTranslator, that.headerTranslator) &&
-                Objects.equals(connectivityShardRegionProxy, that.connectivityShardRegionProxy);
+                Objects.equals(connectivityShardRegionProxy, that.connectivityShardRegionProxy) &&
+                Objects.equals(admissionController, that.admissionController);
     }
 
     @Override
@@ -153,7 +169,8 @@ public final class RouteBaseProperties {
                 httpConfig,
                 commandConfig,
                 headerTranslator,
-                connectivityShardRegionProxy);
+                connectivityShardRegionProxy,
+                admissionController);
     }
 
     @NotThreadSafe
@@ -165,6 +182,7 @@ public final class RouteBaseProperties {
         private CommandConfig commandConfig;
         private HeaderTranslator headerTranslator;
         private ActorRef connectivityShardRegionProxy;
+        @Nullable private AdmissionController admissionController;
 
         private Builder() {
             proxyActor = null;
@@ -173,6 +191,7 @@ public final class RouteBaseProperties {
             commandConfig = null;
             headerTranslator = null;
             connectivityShardRegionProxy = null;
+            admissionController = null;
         }
 
         /**
@@ -248,6 +267,19 @@ public final class RouteBaseProperties {
             return this;
         }
 
+        /**
+         * Sets the specified admission controller which limits the in-flight commands of all routes.
+         * If no admission controller is set, commands are dispatched without admission control.
+         *
+         * @param admissionController the admission controller to be set.
+         * @return this builder to allow method chaining.
+         * @throws NullPointerException if {@code admissionController} is {@code null}.
+         */
+        public Builder admissionController(final AdmissionController admissionController) {
+            this.admissionController = ConditionChecker.checkNotNull(admissionController, "admissionController");
+            return this;
+        }
+
         /**
          * Builds a {@code RouteBaseProperties} object with the properties set to this builder.
          *
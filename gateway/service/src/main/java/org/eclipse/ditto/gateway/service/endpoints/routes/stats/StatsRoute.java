@@ -19,6 +19,7 @@ import org.eclipse.ditto.base.model.common.ConditionChecker;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DevOpsOAuth2AuthenticationDirective;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DevopsAuthenticationDirective;
 import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
+import org.eclipse.ditto.gateway.service.proxy.actors.StatisticsActor;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.base.model.common.HttpStatus;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -54,6 +55,7 @@ public final class StatsRoute extends AbstractRoute {
 
     private static final String ENTITY_PARAM = "entity";
     private static final String NAMESPACE_PARAM = "namespace";
+    private static final String REFRESH_PARAM = "refresh";
 
     private final DevopsAuthenticationDirective devOpsAuthenticationDirective;
 
@@ -113,12 +115,24 @@ public final class StatsRoute extends AbstractRoute {
         return devOpsAuthenticationDirective.authenticateDevOps(DevOpsOAuth2AuthenticationDirective.REALM_DEVOPS,
                 parameterList(ENTITY_PARAM, shardRegions ->
                         parameterList(NAMESPACE_PARAM, namespaces ->
-                                handleDevOpsPerRequest(ctx, RetrieveStatisticsDetails.of(shardRegions, namespaces,
-                                        buildDevOpsDittoHeaders(correlationId)))
+                                parameterOptional(REFRESH_PARAM, refresh ->
+                                        handleDevOpsPerRequest(ctx, RetrieveStatisticsDetails.of(shardRegions,
+                                                namespaces,
+                                                buildDetailsDittoHeaders(correlationId, refresh.orElse("false"))))
+                                )
                         )
                 ));
     }
 
+    private static DittoHeaders buildDetailsDittoHeaders(final CharSequence correlationId, final String refresh) {
+        final DittoHeaders dittoHeaders = buildDevOpsDittoHeaders(correlationId);
+        if (Boolean.parseBoolean(refresh)) {
+            return DittoHeaders.newBuilder(dittoHeaders).putHeader(StatisticsActor.REFRESH_HEADER, refresh).build();
+        } else {
+            return dittoHeaders;
+        }
+    }
+
     private Route handleDevOpsPerRequest(final RequestContext ctx, final DevOpsCommand<?> command) {
         return handleDevOpsPerRequest(ctx, Source.empty(), emptyRequestBody -> command);
     }
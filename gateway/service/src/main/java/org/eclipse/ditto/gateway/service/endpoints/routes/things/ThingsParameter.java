@@ -25,7 +25,14 @@ public enum ThingsParameter {
     /**
      * Request parameter for including only the selected fields in the Thing JSON document(s).
      */
-    FIELDS("fields");
+    FIELDS("fields"),
+
+    /**
+     * Request parameter for streaming the Things retrieved via {@link #IDS} as chunked JSON array.
+     * Supported values are {@code ordered} (in the order of the requested IDs) and {@code unordered} (as soon as
+     * each Thing was retrieved).
+     */
+    STREAM("stream");
 
     private final String parameterValue;
 
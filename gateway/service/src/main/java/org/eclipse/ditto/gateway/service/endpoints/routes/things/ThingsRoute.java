@@ -14,6 +14,7 @@ package org.eclipse.ditto.gateway.service.endpoints.routes.things;
 
 import static org.eclipse.ditto.base.model.exceptions.DittoJsonException.wrapJsonRuntimeException;
 
+import java.text.MessageFormat;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +25,7 @@ import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.base.model.exceptions.DittoHeaderInvalidException;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -35,6 +37,7 @@ import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
 import org.eclipse.ditto.gateway.service.endpoints.routes.thingsearch.ThingSearchParameter;
 import org.eclipse.ditto.gateway.service.endpoints.routes.thingsearch.ThingSearchRoute;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.MessageConfig;
+import org.eclipse.ditto.internal.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
@@ -74,6 +77,7 @@ import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpCharsets;
 import akka.http.javadsl.model.HttpResponse;
 import akka.http.javadsl.model.MediaTypes;
+import akka.http.javadsl.model.ResponseEntity;
 import akka.http.javadsl.model.headers.Accept;
 import akka.http.javadsl.model.headers.Link;
 import akka.http.javadsl.model.headers.LinkParams;
@@ -181,13 +185,26 @@ public final class ThingsRoute extends AbstractRoute {
         // GET /things?ids=...
         return parameter(ThingsParameter.IDS.toString(), idsString ->
                 parameterOptional(ThingsParameter.FIELDS.toString(), fieldsString ->
-                        handlePerRequest(ctx, RetrieveThings.getBuilder(splitThingIdString(idsString))
-                                        .selectedFields(calculateSelectedFields(fieldsString))
-                                        .dittoHeaders(dittoHeaders)
-                                        .build(),
-                                (responseValue, response) ->
-                                        response.withEntity(determineResponseContentType(ctx), responseValue.toString())
-                        )
+                        parameterOptional(ThingsParameter.STREAM.toString(), streamString -> {
+                            final RetrieveThings retrieveThings =
+                                    RetrieveThings.getBuilder(splitThingIdString(idsString))
+                                            .selectedFields(calculateSelectedFields(fieldsString))
+                                            .dittoHeaders(applyStreamingMode(dittoHeaders, streamString))
+                                            .build();
+                            final Route retrieveThingsRoute;
+                            if (streamString.isPresent()) {
+                                // only replace the content type, reading the entity would collect the whole stream
+                                retrieveThingsRoute = mapResponse(response -> setResponseContentType(ctx, response),
+                                        () -> handlePerRequest(ctx, retrieveThings));
+                            } else {
+                                retrieveThingsRoute = handlePerRequest(ctx, retrieveThings,
+                                        (responseValue, response) ->
+                                                response.withEntity(determineResponseContentType(ctx),
+                                                        responseValue.toString())
+                                );
+                            }
+                            return retrieveThingsRoute;
+                        })
                 )
         ).orElse( // GET /things
                 thingSearchParameterOptional(params ->
@@ -206,6 +223,34 @@ public final class ThingsRoute extends AbstractRoute {
         );
     }
 
+    private static DittoHeaders applyStreamingMode(final DittoHeaders dittoHeaders,
+            final Optional<String> streamString) {
+
+        return streamString.map(mode -> DittoHeaders.newBuilder(dittoHeaders)
+                        .putHeader(ThingsAggregatorProxyActor.STREAMING_HEADER, parseStreamingMode(mode, dittoHeaders))
+                        .build())
+                .orElse(dittoHeaders);
+    }
+
+    private static String parseStreamingMode(final String streamString, final DittoHeaders dittoHeaders) {
+        final String streamingMode;
+        if (ThingsAggregatorProxyActor.STREAMING_ORDERED.equalsIgnoreCase(streamString)) {
+            streamingMode = ThingsAggregatorProxyActor.STREAMING_ORDERED;
+        } else if (ThingsAggregatorProxyActor.STREAMING_UNORDERED.equalsIgnoreCase(streamString)) {
+            streamingMode = ThingsAggregatorProxyActor.STREAMING_UNORDERED;
+        } else {
+            throw DittoHeaderInvalidException.newBuilder()
+                    .message(MessageFormat.format("The value <{0}> of the query parameter <{1}> is invalid.",
+                            streamString, ThingsParameter.STREAM))
+                    .description(MessageFormat.format("Use either <{0}> or <{1}>.",
+                            ThingsAggregatorProxyActor.STREAMING_ORDERED,
+                            ThingsAggregatorProxyActor.STREAMING_UNORDERED))
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        return streamingMode;
+    }
+
     private Route thingSearchParameterOptional(
             final Function<EnumMap<ThingSearchParameter, Optional<String>>, Route> inner) {
         return thingSearchParameterOptionalImpl(ThingSearchParameter.values(),
@@ -259,6 +304,18 @@ public final class ThingsRoute extends AbstractRoute {
         return theResponse.withEntity(determineResponseContentType(ctx), resultArray.toString());
     }
 
+    private static HttpResponse setResponseContentType(final RequestContext ctx, final HttpResponse response) {
+        final HttpResponse result;
+        if (response.status().isSuccess()) {
+            // a response entity with another content type stays a response entity
+            result = response.withEntity(
+                    (ResponseEntity) response.entity().withContentType(determineResponseContentType(ctx)));
+        } else {
+            result = response;
+        }
+        return result;
+    }
+
     private static akka.http.javadsl.model.ContentType.NonBinary determineResponseContentType(
             final RequestContext ctx) {
         final akka.http.javadsl.model.ContentType.NonBinary contentType;
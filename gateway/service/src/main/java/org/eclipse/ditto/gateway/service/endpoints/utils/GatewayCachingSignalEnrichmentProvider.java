@@ -45,13 +45,24 @@ public final class GatewayCachingSignalEnrichmentProvider implements GatewaySign
                 new GatewayByRoundTripSignalEnrichmentProvider(actorSystem, signalEnrichmentConfig);
         final Executor cacheLoaderExecutor = actorSystem.dispatchers().lookup(CACHE_LOADER_DISPATCHER);
         final var cachingSignalEnrichmentFacadeProvider = CachingSignalEnrichmentFacadeProvider.get(actorSystem);
-        cachingSignalEnrichmentFacade = cachingSignalEnrichmentFacadeProvider.getSignalEnrichmentFacade(
-                actorSystem,
-                cacheLoaderProvider.getByRoundTripSignalEnrichmentFacade(),
-                signalEnrichmentConfig.getCacheConfig(),
-                cacheLoaderExecutor,
-                "gateway"
-        );
+        if (signalEnrichmentConfig.isSharedThingCacheEnabled()) {
+            cachingSignalEnrichmentFacade = cachingSignalEnrichmentFacadeProvider.getSharedThingSignalEnrichmentFacade(
+                    actorSystem,
+                    cacheLoaderProvider.getByRoundTripSignalEnrichmentFacade(),
+                    signalEnrichmentConfig.getAskTimeout(),
+                    signalEnrichmentConfig.getCacheConfig(),
+                    cacheLoaderExecutor,
+                    "gateway"
+            );
+        } else {
+            cachingSignalEnrichmentFacade = cachingSignalEnrichmentFacadeProvider.getSignalEnrichmentFacade(
+                    actorSystem,
+                    cacheLoaderProvider.getByRoundTripSignalEnrichmentFacade(),
+                    signalEnrichmentConfig.getCacheConfig(),
+                    cacheLoaderExecutor,
+                    "gateway"
+            );
+        }
     }
 
     @Override
@@ -12,6 +12,11 @@
  */
 package org.eclipse.ditto.gateway.service.proxy.actors;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.gateway.service.util.config.security.CachesConfig;
+import org.eclipse.ditto.internal.utils.pubsub.DittoProtocolSub;
+import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.internal.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.base.model.signals.Signal;
@@ -33,11 +38,20 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
     private final ActorSelection devOpsCommandsActor;
     private final ActorRef conciergeForwarder;
     private final ActorRef aggregatorProxyActor;
+    @Nullable private final ActorRef conditionalRequestCacheActor;
 
     protected AbstractThingProxyActor(final ActorRef pubSubMediator,
             final ActorSelection devOpsCommandsActor,
             final ActorRef conciergeForwarder) {
 
+        this(pubSubMediator, devOpsCommandsActor, conciergeForwarder, null);
+    }
+
+    protected AbstractThingProxyActor(final ActorRef pubSubMediator,
+            final ActorSelection devOpsCommandsActor,
+            final ActorRef conciergeForwarder,
+            @Nullable final CachesConfig cachesConfig) {
+
         super(pubSubMediator);
 
         this.devOpsCommandsActor = devOpsCommandsActor;
@@ -45,6 +59,16 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
 
         aggregatorProxyActor = getContext().actorOf(ThingsAggregatorProxyActor.props(conciergeForwarder),
                 ThingsAggregatorProxyActor.ACTOR_NAME);
+
+        if (null != cachesConfig && cachesConfig.isEntityTagsCacheEnabled()) {
+            conditionalRequestCacheActor = getContext().actorOf(
+                    ConditionalRequestCacheActor.props(conciergeForwarder,
+                            DittoProtocolSub.get(getContext().getSystem()),
+                            cachesConfig.getEntityTagsConfig()),
+                    ConditionalRequestCacheActor.ACTOR_NAME);
+        } else {
+            conditionalRequestCacheActor = null;
+        }
     }
 
     @Override
@@ -61,6 +85,10 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
                 .match(RetrieveThings.class, rt -> aggregatorProxyActor.forward(rt, getContext()))
                 .match(SudoRetrieveThings.class, srt -> aggregatorProxyActor.forward(srt, getContext()))
 
+                /* answer conditional queries from the entity tags cache if enabled */
+                .match(ThingQueryCommand.class, this::isConditionalRequestCacheable,
+                        query -> conditionalRequestCacheActor.forward(query, getContext()))
+
                 .match(QueryThings.class, qt -> {
                     final ActorRef responseActor = getContext().actorOf(
                             QueryThingsPerRequestActor.props(qt, aggregatorProxyActor, getSender(),
@@ -85,6 +113,10 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
         // do nothing
     }
 
+    private boolean isConditionalRequestCacheable(final ThingQueryCommand<?> query) {
+        return null != conditionalRequestCacheActor && ConditionalRequestCacheActor.isCacheable(query);
+    }
+
     private void forwardToConciergeService(final Signal<?> signal) {
         conciergeForwarder.forward(signal, getContext());
     }
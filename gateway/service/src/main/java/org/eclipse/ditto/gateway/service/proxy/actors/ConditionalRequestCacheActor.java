@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.proxy.actors;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.internal.models.signal.SignalInformationPoint;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.pubsub.DittoProtocolSub;
+import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingPreconditionNotModifiedException;
+import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+
+/**
+ * Actor answering conditional {@link ThingQueryCommand}s with an {@code If-None-Match} header locally with
+ * {@code 304 Not Modified} if the entity tag of the requested resource is known and still matches.
+ * <p>
+ * Entity tags are cached per thing, resource path and authorization context from the responses of the commands passed
+ * on to the concierge. Cache entries are invalidated by thing events, for which this actor subscribes via
+ * {@link DittoProtocolSub} with the authorization subjects of the cached entries. An entry is only cached once the
+ * subscription for all its subjects is acknowledged, so no invalidating event can be missed.
+ * Changes not causing thing events (e.g. policy updates) are bounded by the {@code expire-after-write} of the cache.
+ * </p>
+ */
+final class ConditionalRequestCacheActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor.
+     */
+    static final String ACTOR_NAME = "conditionalRequestCache";
+
+    private static final String CACHE_NAME = "gateway_entity_tags";
+    private static final Duration DEFAULT_ASK_TIMEOUT = Duration.ofSeconds(60L);
+    private static final JsonPointer POLICY_FIELD = JsonPointer.of("_policy");
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ActorRef conciergeForwarder;
+    private final DittoProtocolSub dittoProtocolSub;
+    private final Duration maxEntryAge;
+    private final Cache<ThingId, CachedEntityTags> cache;
+    private final Set<String> subscribedTopics;
+    private final Set<String> pendingTopics;
+    private final Map<ThingId, Integer> inFlightRequests;
+    private final Map<ThingId, Long> invalidatedWhileInFlight;
+
+    @SuppressWarnings("unused")
+    private ConditionalRequestCacheActor(final ActorRef conciergeForwarder,
+            final DittoProtocolSub dittoProtocolSub,
+            final CacheConfig cacheConfig) {
+
+        this.conciergeForwarder = conciergeForwarder;
+        this.dittoProtocolSub = dittoProtocolSub;
+        maxEntryAge = cacheConfig.getExpireAfterWrite();
+        cache = CacheFactory.createCache(cacheConfig, CACHE_NAME, getContext().getDispatcher());
+        subscribedTopics = new HashSet<>();
+        pendingTopics = new HashSet<>();
+        inFlightRequests = new HashMap<>();
+        invalidatedWhileInFlight = new HashMap<>();
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @param conciergeForwarder the actor to pass on commands which could not be answered from the cache.
+     * @param dittoProtocolSub the subscriptions for thing events.
+     * @param cacheConfig the configuration of the entity tags cache.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ActorRef conciergeForwarder, final DittoProtocolSub dittoProtocolSub,
+            final CacheConfig cacheConfig) {
+
+        return Props.create(ConditionalRequestCacheActor.class, conciergeForwarder, dittoProtocolSub, cacheConfig);
+    }
+
+    /**
+     * Determines whether the passed command may be answered by this actor.
+     *
+     * @param command the command.
+     * @return {@code true} if the command is a conditional twin query whose entity tag can be cached.
+     */
+    static boolean isCacheable(final ThingQueryCommand<?> command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        return dittoHeaders.getIfNoneMatch().isPresent() &&
+                dittoHeaders.getCondition().isEmpty() &&
+                !SignalInformationPoint.isChannelLive(command) &&
+                !SignalInformationPoint.isChannelSmart(command) &&
+                !selectsPolicy(command.getSelectedFields().orElse(null));
+    }
+
+    private static boolean selectsPolicy(@Nullable final JsonFieldSelector selectedFields) {
+        // the revision of a thing does not change if its policy is updated
+        return null != selectedFields && selectedFields.getPointers().contains(POLICY_FIELD);
+    }
+
+    @Override
+    public void preStart() {
+        getTimers().startTimerWithFixedDelay(Control.CLEANUP_SUBSCRIPTIONS, Control.CLEANUP_SUBSCRIPTIONS,
+                maxEntryAge);
+    }
+
+    @Override
+    public void postStop() {
+        dittoProtocolSub.removeSubscriber(getSelf());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ThingQueryCommand.class, this::handleQuery)
+                .match(QueryResult.class, this::handleQueryResult)
+                .match(ThingEvent.class, this::invalidate)
+                .match(TopicsSubscribed.class, this::topicsSubscribed)
+                .matchEquals(Control.CLEANUP_SUBSCRIPTIONS, trigger -> cleanupSubscriptions())
+                .matchAny(m -> log.warning("Got unknown message: {}", m))
+                .build();
+    }
+
+    private void handleQuery(final ThingQueryCommand<?> command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final CacheKey cacheKey = CacheKey.of(command);
+        final Optional<EntityTag> cachedEntityTag = cache.getBlocking(command.getEntityId())
+                .flatMap(cachedEntityTags -> cachedEntityTags.get(cacheKey, maxEntryAge));
+        final Optional<EntityTagMatchers> ifNoneMatch = dittoHeaders.getIfNoneMatch();
+
+        if (cachedEntityTag.isPresent() && ifNoneMatch.isPresent() &&
+                ifNoneMatch.get().stream().anyMatch(matcher -> matcher.weakMatch(cachedEntityTag.get()))) {
+            log.withCorrelationId(command)
+                    .debug("Answering <{}> with cached entity tag <{}>.", command.getType(), cachedEntityTag.get());
+            getSender().tell(ThingPreconditionNotModifiedException.newBuilder(ifNoneMatch.get().toString(),
+                            cachedEntityTag.get().toString())
+                    .dittoHeaders(dittoHeaders.toBuilder().eTag(cachedEntityTag.get()).build())
+                    .build(), getSelf());
+        } else {
+            passOn(command, cacheKey);
+        }
+    }
+
+    private void passOn(final ThingQueryCommand<?> command, final CacheKey cacheKey) {
+        final ActorRef sender = getSender();
+        final ThingId thingId = command.getEntityId();
+        final long startedAt = System.nanoTime();
+        inFlightRequests.merge(thingId, 1, Integer::sum);
+
+        final Duration askTimeout = command.getDittoHeaders().getTimeout().orElse(DEFAULT_ASK_TIMEOUT);
+        final ActorRef self = getSelf();
+        Patterns.ask(conciergeForwarder, command, askTimeout)
+                .whenComplete((response, error) -> {
+                    // remember the entity tag before answering so that the next request may already hit the cache
+                    self.tell(new QueryResult(thingId, cacheKey, startedAt, null != error ? error : response),
+                            ActorRef.noSender());
+                    if (null == error) {
+                        sender.tell(response, self);
+                    } else if (!(error instanceof AskTimeoutException)) {
+                        // on ask timeout the sender answers with its own command timeout
+                        sender.tell(new Status.Failure(error), self);
+                    }
+                });
+    }
+
+    private void handleQueryResult(final QueryResult queryResult) {
+        final ThingId thingId = queryResult.thingId;
+        final Long invalidatedAt = invalidatedWhileInFlight.get(thingId);
+        inFlightRequests.computeIfPresent(thingId, (id, count) -> count > 1 ? count - 1 : null);
+        if (!inFlightRequests.containsKey(thingId)) {
+            invalidatedWhileInFlight.remove(thingId);
+        }
+
+        final Optional<EntityTag> entityTag = getEntityTag(queryResult.result);
+        if (entityTag.isEmpty()) {
+            return;
+        }
+        if (null != invalidatedAt && invalidatedAt - queryResult.startedAt >= 0) {
+            // the thing changed while the query was in flight, the entity tag might already be outdated
+            return;
+        }
+
+        final List<String> topics = queryResult.cacheKey.authorizationContext.getAuthorizationSubjectIds();
+        if (subscribedTopics.containsAll(topics)) {
+            final CachedEntityTags cachedEntityTags = cache.getBlocking(thingId).orElseGet(CachedEntityTags::empty);
+            cache.put(thingId, cachedEntityTags.with(queryResult.cacheKey, entityTag.get(), System.nanoTime()));
+        } else {
+            subscribe(topics);
+        }
+    }
+
+    private static Optional<EntityTag> getEntityTag(final Object result) {
+        if (result instanceof ThingPreconditionNotModifiedException notModified) {
+            return notModified.getDittoHeaders().getETag();
+        } else if (result instanceof CommandResponse<?> response && response.getHttpStatus().isSuccess()) {
+            return response.getDittoHeaders().getETag();
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private void subscribe(final Collection<String> topics) {
+        final Set<String> topicsToSubscribe = topics.stream()
+                .filter(topic -> !subscribedTopics.contains(topic) && !pendingTopics.contains(topic))
+                .collect(Collectors.toSet());
+        if (!topicsToSubscribe.isEmpty()) {
+            pendingTopics.addAll(topicsToSubscribe);
+            final ActorRef self = getSelf();
+            dittoProtocolSub.subscribe(List.of(StreamingType.EVENTS), topicsToSubscribe, self)
+                    .whenComplete((done, error) -> self.tell(new TopicsSubscribed(topicsToSubscribe, error),
+                            ActorRef.noSender()));
+        }
+    }
+
+    private void topicsSubscribed(final TopicsSubscribed topicsSubscribed) {
+        pendingTopics.removeAll(topicsSubscribed.topics);
+        if (null == topicsSubscribed.error) {
+            subscribedTopics.addAll(topicsSubscribed.topics);
+        } else {
+            log.warning("Failed to subscribe for thing events of <{}>: {}", topicsSubscribed.topics,
+                    topicsSubscribed.error.getMessage());
+        }
+    }
+
+    private void invalidate(final ThingEvent<?> thingEvent) {
+        final ThingId thingId = thingEvent.getEntityId();
+        cache.invalidate(thingId);
+        if (inFlightRequests.containsKey(thingId)) {
+            invalidatedWhileInFlight.put(thingId, System.nanoTime());
+        }
+    }
+
+    private void cleanupSubscriptions() {
+        final Set<String> referencedTopics = cache.asMap()
+                .values()
+                .stream()
+                .flatMap(CachedEntityTags::getTopics)
+                .collect(Collectors.toSet());
+        final Set<String> unreferencedTopics = subscribedTopics.stream()
+                .filter(topic -> !referencedTopics.contains(topic))
+                .collect(Collectors.toSet());
+        if (!unreferencedTopics.isEmpty()) {
+            log.debug("Removing <{}> subscriptions not referenced by cached entity tags anymore.",
+                    unreferencedTopics.size());
+            subscribedTopics.removeAll(unreferencedTopics);
+            dittoProtocolSub.removeTwinSubscriber(getSelf(), unreferencedTopics);
+        }
+    }
+
+    private enum Control {
+        CLEANUP_SUBSCRIPTIONS
+    }
+
+    private static final class CacheKey {
+
+        private final JsonPointer resourcePath;
+        private final AuthorizationContext authorizationContext;
+
+        private CacheKey(final JsonPointer resourcePath, final AuthorizationContext authorizationContext) {
+            this.resourcePath = resourcePath;
+            this.authorizationContext = authorizationContext;
+        }
+
+        static CacheKey of(final ThingQueryCommand<?> command) {
+            return new CacheKey(command.getResourcePath(), command.getDittoHeaders().getAuthorizationContext());
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return Objects.equals(resourcePath, that.resourcePath) &&
+                    Objects.equals(authorizationContext, that.authorizationContext);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourcePath, authorizationContext);
+        }
+
+    }
+
+    /**
+     * The entity tags of one thing, each remembered with the time it was cached at.
+     */
+    private static final class CachedEntityTags {
+
+        private final Map<CacheKey, EntityTag> entityTags;
+        private final Map<CacheKey, Long> cachedAt;
+
+        private CachedEntityTags(final Map<CacheKey, EntityTag> entityTags, final Map<CacheKey, Long> cachedAt) {
+            this.entityTags = entityTags;
+            this.cachedAt = cachedAt;
+        }
+
+        static CachedEntityTags empty() {
+            return new CachedEntityTags(Map.of(), Map.of());
+        }
+
+        Optional<EntityTag> get(final CacheKey cacheKey, final Duration maxAge) {
+            final Long timestamp = cachedAt.get(cacheKey);
+            if (null != timestamp && System.nanoTime() - timestamp < maxAge.toNanos()) {
+                return Optional.ofNullable(entityTags.get(cacheKey));
+            }
+            return Optional.empty();
+        }
+
+        CachedEntityTags with(final CacheKey cacheKey, final EntityTag entityTag, final long timestamp) {
+            final Map<CacheKey, EntityTag> newEntityTags = new HashMap<>(entityTags);
+            final Map<CacheKey, Long> newCachedAt = new HashMap<>(cachedAt);
+            newEntityTags.put(cacheKey, entityTag);
+            newCachedAt.put(cacheKey, timestamp);
+            return new CachedEntityTags(newEntityTags, newCachedAt);
+        }
+
+        Stream<String> getTopics() {
+            return entityTags.keySet()
+                    .stream()
+                    .flatMap(key -> key.authorizationContext.getAuthorizationSubjectIds().stream());
+        }
+
+    }
+
+    private static final class QueryResult {
+
+        private final ThingId thingId;
+        private final CacheKey cacheKey;
+        private final long startedAt;
+        private final Object result;
+
+        private QueryResult(final ThingId thingId, final CacheKey cacheKey, final long startedAt,
+                final Object result) {
+            this.thingId = thingId;
+            this.cacheKey = cacheKey;
+            this.startedAt = startedAt;
+            this.result = result;
+        }
+
+    }
+
+    private static final class TopicsSubscribed {
+
+        private final Set<String> topics;
+        @Nullable private final Throwable error;
+
+        private TopicsSubscribed(final Set<String> topics, @Nullable final Throwable error) {
+            this.topics = topics;
+            this.error = error;
+        }
+
+    }
+
+}
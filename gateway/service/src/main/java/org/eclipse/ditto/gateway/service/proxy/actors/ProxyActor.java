@@ -13,6 +13,7 @@
 package org.eclipse.ditto.gateway.service.proxy.actors;
 
 import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.gateway.service.util.config.security.CachesConfig;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
@@ -26,9 +27,10 @@ public final class ProxyActor extends AbstractThingProxyActor {
     @SuppressWarnings("unused")
     private ProxyActor(final ActorRef pubSubMediator,
             final ActorSelection devOpsCommandsActor,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final CachesConfig cachesConfig) {
 
-        super(pubSubMediator, devOpsCommandsActor, conciergeForwarder);
+        super(pubSubMediator, devOpsCommandsActor, conciergeForwarder, cachesConfig);
     }
 
     /**
@@ -36,13 +38,17 @@ public final class ProxyActor extends AbstractThingProxyActor {
      *
      * @param pubSubMediator the Pub/Sub mediator to use for subscribing for events.
      * @param devOpsCommandsActor the Actor ref to the local DevOpsCommandsActor.
+     * @param conciergeForwarder the Actor ref to forward commands to the concierge.
+     * @param cachesConfig the configuration of the gateway's caches.
      * @return the Akka configuration Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorSelection devOpsCommandsActor,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            final CachesConfig cachesConfig) {
 
-        return Props.create(ProxyActor.class, pubSubMediator, devOpsCommandsActor, conciergeForwarder);
+        return Props.create(ProxyActor.class, pubSubMediator, devOpsCommandsActor, conciergeForwarder,
+                cachesConfig);
     }
 
 }
@@ -14,6 +14,8 @@ package org.eclipse.ditto.gateway.service.proxy.actors;
 
 import static io.jsonwebtoken.lang.Strings.capitalize;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -73,6 +75,8 @@ import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Actor collecting statistics in the cluster.
+ * The public statistics and the statistics details are kept as snapshots which are refreshed on background schedules
+ * and served directly as long as they are not older than the configured staleness bounds.
  */
 public final class StatisticsActor extends AbstractActorWithStashWithTimers {
 
@@ -81,6 +85,12 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
      */
     static final String ACTOR_NAME = "statistics";
 
+    /**
+     * Header of {@code RetrieveStatisticsDetails} commands requesting statistics details which were retrieved from
+     * the cluster within the configured {@code details-expire-after} instead of the configured maximum staleness.
+     */
+    public static final String REFRESH_HEADER = "ditto-statistics-refresh";
+
     private static final String EMPTY_STRING_TAG = "<empty>";
 
     private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
@@ -92,8 +102,11 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
     private final ClusterStatusSupplier clusterStatusSupplier;
     private final List<NamedShardGauge> gauges;
 
+    private final Map<String, ShardHotness> shardHotnessSnapshot;
+
     @Nullable private Statistics currentStatistics;
     @Nullable private StatisticsDetails currentStatisticsDetails;
+    @Nullable private Instant currentStatisticsDetailsTimestamp;
 
     @SuppressWarnings("unused")
     private StatisticsActor(final ActorRef pubSubMediator) {
@@ -101,12 +114,14 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
 
         this.pubSubMediator = pubSubMediator;
         this.gauges = initializeGaugesForHotEntities(statisticsConfig);
+        shardHotnessSnapshot = new HashMap<>();
 
         final ActorSystem actorSystem = getContext().getSystem();
         final int numberOfShards = getNumberOfShards(actorSystem);
         clusterSharding = initClusterSharding(actorSystem, statisticsConfig, numberOfShards);
         clusterStatusSupplier = new ClusterStatusSupplier(Cluster.get(getContext().getSystem()));
         scheduleInternalRetrieveHotEntities();
+        scheduleInternalRefreshStatisticsDetails();
         subscribeForStatisticsCommands();
     }
 
@@ -127,6 +142,14 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
                 statisticsConfig.getUpdateInterval());
     }
 
+    private void scheduleInternalRefreshStatisticsDetails() {
+        final Duration detailsUpdateInterval = statisticsConfig.getDetailsUpdateInterval();
+        if (!detailsUpdateInterval.isZero()) {
+            getTimers().startTimerAtFixedRate(InternalRefreshStatisticsDetails.INSTANCE,
+                    InternalRefreshStatisticsDetails.INSTANCE, detailsUpdateInterval);
+        }
+    }
+
     private void updateGauges(final Map<String, ShardStatisticsWrapper> shardStatisticsWrapperMap) {
         gauges.forEach(namedShardGauge ->
                 shardStatisticsWrapperMap.computeIfPresent(namedShardGauge.shard, (k, wrapper) -> {
@@ -139,25 +162,19 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(RetrieveStatistics.class, this::respondWithCachedStatistics)
-                .match(RetrieveStatisticsDetails.class, this::hasCachedStatisticsDetails,
+                .match(RetrieveStatisticsDetails.class, this::isServableFromSnapshot,
                         this::respondWithCachedStatisticsDetails)
                 .match(RetrieveStatisticsDetails.class, retrieveStatistics -> {
-                    // no cached statistics details; retrieve them from cluster members.
+                    // statistics details snapshot too old; retrieve them from cluster members.
                     final ActorRef sender = getSender();
-                    final List<ClusterRoleStatus> relevantRoles = clusterStatusSupplier.get()
-                            .getRoles()
-                            .stream()
-                            .filter(this::hasRelevantRole)
-                            .collect(Collectors.toList());
-                    tellRelevantRootActorsToRetrieveStatistics(relevantRoles, retrieveStatistics);
-                    becomeStatisticsDetailsAwaiting(relevantRoles, details ->
+                    retrieveStatisticsDetails(retrieveStatistics, details ->
                             respondWithStatisticsDetails(retrieveStatistics, details, sender));
                 })
                 .matchEquals(InternalRetrieveStatistics.INSTANCE, unit -> {
                     tellShardRegionsToSendClusterShardingStats();
                     becomeStatisticsAwaiting();
                 })
-                .matchEquals(InternalResetStatisticsDetails.INSTANCE, this::resetStatisticsDetails)
+                .matchEquals(InternalRefreshStatisticsDetails.INSTANCE, this::refreshStatisticsDetails)
                 .match(ShardRegion.CurrentShardRegionState.class, this::unhandled) // ignore, the message is too late
                 .match(ShardRegion.ClusterShardingStats.class, this::unhandled) // ignore, the message is too late
                 .match(RetrieveStatisticsDetailsResponse.class, this::unhandled) // ignore, the message is too late
@@ -166,13 +183,47 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
                 .build();
     }
 
-    private boolean hasCachedStatisticsDetails() {
-        return currentStatisticsDetails != null;
+    private boolean isServableFromSnapshot(final RetrieveStatisticsDetails retrieveStatisticsDetails) {
+        final Duration detailsExpireAfter = statisticsConfig.getDetailsExpireAfter();
+        final Duration maxAge;
+        if (isRefreshRequested(retrieveStatisticsDetails)) {
+            // explicit refresh; still do not retrieve details more often than once per details-expire-after
+            maxAge = detailsExpireAfter;
+        } else {
+            maxAge = max(detailsExpireAfter, statisticsConfig.getDetailsMaxStaleness());
+        }
+        return isStatisticsDetailsSnapshotYoungerThan(maxAge);
+    }
+
+    private static boolean isRefreshRequested(final RetrieveStatisticsDetails retrieveStatisticsDetails) {
+        return Boolean.parseBoolean(retrieveStatisticsDetails.getDittoHeaders().get(REFRESH_HEADER));
+    }
+
+    private boolean isStatisticsDetailsSnapshotYoungerThan(final Duration maxAge) {
+        return currentStatisticsDetails != null && currentStatisticsDetailsTimestamp != null &&
+                Duration.between(currentStatisticsDetailsTimestamp, Instant.now()).compareTo(maxAge) < 0;
+    }
+
+    private void refreshStatisticsDetails(final Object unit) {
+        if (isStatisticsDetailsSnapshotYoungerThan(statisticsConfig.getDetailsExpireAfter())) {
+            log.debug("Skipping background refresh of statistics details as the snapshot is recent.");
+        } else {
+            retrieveStatisticsDetails(RetrieveStatisticsDetails.of(DittoHeaders.newBuilder()
+                    .randomCorrelationId()
+                    .build()), details -> {});
+        }
     }
 
-    private void resetStatisticsDetails(final Object unit) {
-        // cached statistics details expired; retrieve them again at next query.
-        currentStatisticsDetails = null;
+    private void retrieveStatisticsDetails(final RetrieveStatisticsDetails retrieveStatisticsDetails,
+            final Consumer<StatisticsDetails> statisticsDetailsConsumer) {
+
+        final List<ClusterRoleStatus> relevantRoles = clusterStatusSupplier.get()
+                .getRoles()
+                .stream()
+                .filter(this::hasRelevantRole)
+                .collect(Collectors.toList());
+        tellRelevantRootActorsToRetrieveStatistics(relevantRoles, retrieveStatisticsDetails);
+        becomeStatisticsDetailsAwaiting(relevantRoles, statisticsDetailsConsumer);
     }
 
     private void respondWithStatisticsDetails(final RetrieveStatisticsDetails command,
@@ -280,7 +331,8 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
                             currentStatistics = Statistics.fromGauges(gauges);
                             unbecome();
                         })
-                        .matchEquals(InternalResetStatisticsDetails.INSTANCE, this::resetStatisticsDetails)
+                        .match(RetrieveStatisticsDetails.class, this::isServableFromSnapshot,
+                                this::respondWithCachedStatisticsDetails)
                         .match(DistributedPubSubMediator.SubscribeAck.class, this::logSubscribeAck)
                         .matchAny(m -> {
                             log.info("Stashing message during 'statisticsAwaiting': {}", m);
@@ -315,6 +367,8 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
 
         getContext().become(ReceiveBuilder.create()
                         .match(RetrieveStatistics.class, this::respondWithCachedStatistics)
+                        .match(RetrieveStatisticsDetails.class, this::isServableFromSnapshot,
+                                this::respondWithCachedStatisticsDetails)
                         .match(RetrieveStatisticsDetailsResponse.class, retrieveStatisticsDetailsResponse -> {
                             final String shardRegion = retrieveStatisticsDetailsResponse.getStatisticsDetails()
                                     .stream()
@@ -342,12 +396,10 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
                             }
                         })
                         .match(AskTimeoutException.class, askTimeout -> {
-                            currentStatisticsDetails = StatisticsDetails.fromShardStatisticsWrappers(shardStatisticsMap);
+                            updateStatisticsDetailsSnapshot(shardStatisticsMap);
                             statisticsDetailsConsumer.accept(currentStatisticsDetails);
-                            scheduleResetStatisticsDetails();
                             unbecome();
                         })
-                        .matchEquals(InternalResetStatisticsDetails.INSTANCE, this::resetStatisticsDetails)
                         .match(DistributedPubSubMediator.SubscribeAck.class, this::logSubscribeAck)
                         .matchAny(m -> {
                             log.info("Stashing message during 'statisticsDetailsAwaiting': {}", m);
@@ -357,9 +409,23 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
                 false);
     }
 
-    private void scheduleResetStatisticsDetails() {
-        getTimers().startSingleTimer(InternalResetStatisticsDetails.INSTANCE, InternalResetStatisticsDetails.INSTANCE,
-                statisticsConfig.getDetailsExpireAfter());
+    private void updateStatisticsDetailsSnapshot(final Map<String, ShardStatisticsWrapper> shardStatisticsMap) {
+        final Instant now = Instant.now();
+
+        // only replace the shard regions which answered; drop those which did not answer for too long
+        shardStatisticsMap.forEach((shardRegion, shardStatistics) ->
+                shardHotnessSnapshot.put(shardRegion, new ShardHotness(Map.copyOf(shardStatistics.hotnessMap), now)));
+        final Duration maxAge =
+                max(statisticsConfig.getDetailsExpireAfter(), statisticsConfig.getDetailsMaxStaleness());
+        shardHotnessSnapshot.values()
+                .removeIf(shardHotness -> Duration.between(shardHotness.timestamp, now).compareTo(maxAge) > 0);
+
+        currentStatisticsDetails = StatisticsDetails.fromShardHotnessSnapshot(shardHotnessSnapshot);
+        currentStatisticsDetailsTimestamp = now;
+    }
+
+    private static Duration max(final Duration d1, final Duration d2) {
+        return d1.compareTo(d2) >= 0 ? d1 : d2;
     }
 
     private boolean hasRelevantRole(final ClusterRoleStatus clusterRoleStatus) {
@@ -410,6 +476,18 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
         private long count = -1L;
     }
 
+    @Immutable
+    private static final class ShardHotness {
+
+        private final Map<String, Long> hotnessMap;
+        private final Instant timestamp;
+
+        private ShardHotness(final Map<String, Long> hotnessMap, final Instant timestamp) {
+            this.hotnessMap = hotnessMap;
+            this.timestamp = timestamp;
+        }
+    }
+
     private static String simpleCamelCasePluralForm(final String singular, final boolean capitalize) {
         final String[] words = singular.split("\\W");
         if (words.length > 0) {
@@ -489,9 +567,9 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
         private static final Object INSTANCE = new InternalRetrieveStatistics();
     }
 
-    private static final class InternalResetStatisticsDetails {
+    private static final class InternalRefreshStatisticsDetails {
 
-        private static final Object INSTANCE = new InternalResetStatisticsDetails();
+        private static final Object INSTANCE = new InternalRefreshStatisticsDetails();
     }
 
     @Immutable
@@ -586,11 +664,9 @@ public final class StatisticsActor extends AbstractActorWithStashWithTimers {
             this.namespacesHotness = namespacesHotness;
         }
 
-        private static StatisticsDetails fromShardStatisticsWrappers(
-                final Map<String, ShardStatisticsWrapper> shardStatisticsWrapperMap) {
-
+        private static StatisticsDetails fromShardHotnessSnapshot(final Map<String, ShardHotness> shardHotnessMap) {
             return new StatisticsDetails(
-                    shardStatisticsWrapperMap.entrySet()
+                    shardHotnessMap.entrySet()
                             .stream()
                             .map(entry -> JsonFactory.newField(JsonKey.of(toNamespacesHotness(entry.getKey())),
                                     buildHotnessMapJson(entry.getValue().hotnessMap)))
@@ -36,12 +36,16 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
     private final Duration askTimeout;
     private final Duration updateInterval;
     private final Duration detailsExpireAfter;
+    private final Duration detailsUpdateInterval;
+    private final Duration detailsMaxStaleness;
     private final List<StatisticsShardConfig> shards;
 
     private DefaultStatisticsConfig(final ScopedConfig scopedConfig) {
         askTimeout = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(ConfigValues.ASK_TIMEOUT);
         updateInterval = scopedConfig.getNonNegativeDurationOrThrow(ConfigValues.UPDATE_INTERVAL);
         detailsExpireAfter = scopedConfig.getNonNegativeDurationOrThrow(ConfigValues.DETAILS_EXPIRE_AFTER);
+        detailsUpdateInterval = scopedConfig.getNonNegativeDurationOrThrow(ConfigValues.DETAILS_UPDATE_INTERVAL);
+        detailsMaxStaleness = scopedConfig.getNonNegativeDurationOrThrow(ConfigValues.DETAILS_MAX_STALENESS);
         shards = scopedConfig.getConfigList(ConfigValues.SHARDS.getConfigPath())
                 .stream()
                 .map(DefaultStatisticsShardConfig::of)
@@ -74,6 +78,16 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
         return detailsExpireAfter;
     }
 
+    @Override
+    public Duration getDetailsUpdateInterval() {
+        return detailsUpdateInterval;
+    }
+
+    @Override
+    public Duration getDetailsMaxStaleness() {
+        return detailsMaxStaleness;
+    }
+
     @Override
     public List<StatisticsShardConfig> getShards() {
         return shards;
@@ -99,12 +113,15 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
         return askTimeout.equals(that.askTimeout) &&
                 updateInterval.equals(that.updateInterval) &&
                 detailsExpireAfter.equals(that.detailsExpireAfter) &&
+                detailsUpdateInterval.equals(that.detailsUpdateInterval) &&
+                detailsMaxStaleness.equals(that.detailsMaxStaleness) &&
                 shards.equals(that.shards);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, updateInterval, detailsExpireAfter, shards);
+        return Objects.hash(askTimeout, updateInterval, detailsExpireAfter, detailsUpdateInterval, detailsMaxStaleness,
+                shards);
     }
 
     @Override
@@ -112,7 +129,9 @@ final class DefaultStatisticsConfig implements StatisticsConfig, WithConfigPath
         return getClass().getSimpleName() + " [" +
                 "askTimeout=" + askTimeout +
                 ", updateInterval=" + updateInterval +
-                ", detailsExpireAfter=" + updateInterval +
+                ", detailsExpireAfter=" + detailsExpireAfter +
+                ", detailsUpdateInterval=" + detailsUpdateInterval +
+                ", detailsMaxStaleness=" + detailsMaxStaleness +
                 ", shards=" + shards +
                 "]";
     }
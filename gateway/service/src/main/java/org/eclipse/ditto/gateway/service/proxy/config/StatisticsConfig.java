@@ -52,6 +52,22 @@ public interface StatisticsConfig {
      */
     Duration getDetailsExpireAfter();
 
+    /**
+     * Returns the interval in which the statistics details snapshot is refreshed in the background.
+     * A zero duration disables background refreshing; statistics details are then only retrieved on demand.
+     *
+     * @return the details update interval.
+     */
+    Duration getDetailsUpdateInterval();
+
+    /**
+     * Returns the maximum age of the statistics details snapshot up to which it is served without retrieving
+     * statistics details from the cluster.
+     *
+     * @return the maximum staleness of statistics details.
+     */
+    Duration getDetailsMaxStaleness();
+
     /**
      * Returns the configuration settings of shards for which statistics are reported..
      *
@@ -92,6 +108,16 @@ public interface StatisticsConfig {
          */
         DETAILS_EXPIRE_AFTER("details-expire-after", Duration.ofSeconds(1L)),
 
+        /**
+         * Configuration for the background refresh interval of statistics details.
+         */
+        DETAILS_UPDATE_INTERVAL("details-update-interval", Duration.ZERO),
+
+        /**
+         * Configuration for the maximum staleness of served statistics details.
+         */
+        DETAILS_MAX_STALENESS("details-max-staleness", Duration.ofSeconds(1L)),
+
         /**
          * Configuration for individual shards.
          */
@@ -21,6 +21,7 @@ import org.eclipse.ditto.base.service.config.limits.LimitsConfig;
 import org.eclipse.ditto.concierge.api.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.concierge.api.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.connectivity.api.ConnectivityMessagingConstants;
+import org.eclipse.ditto.gateway.service.endpoints.actors.AdmissionController;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DevopsAuthenticationDirective;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DevopsAuthenticationDirectiveFactory;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DittoGatewayAuthenticationDirectiveFactory;
@@ -124,7 +125,8 @@ final class GatewayRootActor extends DittoRootActor {
                 ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter));
 
         final ActorRef proxyActor = startChildActor(AbstractProxyActor.ACTOR_NAME,
-                ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder));
+                ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder,
+                        gatewayConfig.getCachesConfig()));
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
@@ -260,14 +262,19 @@ final class GatewayRootActor extends DittoRootActor {
         final var connectivityShardRegionProxyActor =
                 getConnectivityShardRegionProxyActor(actorSystem, gatewayConfig.getClusterConfig());
 
-        final var routeBaseProperties = RouteBaseProperties.newBuilder()
+        final var routeBasePropertiesBuilder = RouteBaseProperties.newBuilder()
                 .actorSystem(actorSystem)
                 .proxyActor(proxyActor)
                 .httpConfig(httpConfig)
                 .commandConfig(commandConfig)
                 .headerTranslator(headerTranslator)
-                .connectivityShardRegionProxy(connectivityShardRegionProxyActor)
-                .build();
+                .connectivityShardRegionProxy(connectivityShardRegionProxyActor);
+        final var admissionControlConfig = commandConfig.getAdmissionControlConfig();
+        if (admissionControlConfig.isEnabled()) {
+            routeBasePropertiesBuilder.admissionController(
+                    AdmissionController.of(admissionControlConfig, headerTranslator));
+        }
+        final var routeBaseProperties = routeBasePropertiesBuilder.build();
 
         return RootRoute.getBuilder(httpConfig)
                 .statsRoute(new StatsRoute(routeBaseProperties, devopsAuthenticationDirective))
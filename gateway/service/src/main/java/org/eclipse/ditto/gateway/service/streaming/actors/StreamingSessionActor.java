@@ -440,7 +440,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         return headerInvalid.map(this::publishResponseOrError)
                                 .orElseGet(() -> ackregatorStarter.doStart(entityIdOptional.get(),
                                         s, null, this::publishResponseOrError,
-                                        ackregator -> forwardToCommandRouterAndReturnDone(s, ackregator)));
+                                        this::forwardToCommandRouterAndReturnDone));
                     } else {
                         return doNothing(s);
                     }
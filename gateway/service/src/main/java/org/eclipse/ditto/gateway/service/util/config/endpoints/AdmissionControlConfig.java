@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.endpoints;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the adaptive admission control of HTTP commands in the gateway.
+ * The admission control limits the number of in-flight commands per command type and rejects commands early
+ * when the limit is reached.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public interface AdmissionControlConfig {
+
+    /**
+     * Indicates whether admission control is enabled.
+     *
+     * @return {@code true} if commands should be subject to admission control.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the concurrency limit per command type to start with.
+     *
+     * @return the initial limit.
+     */
+    int getInitialLimit();
+
+    /**
+     * Returns the lower bound of the concurrency limit per command type.
+     *
+     * @return the minimum limit.
+     */
+    int getMinLimit();
+
+    /**
+     * Returns the upper bound of the concurrency limit per command type.
+     *
+     * @return the maximum limit.
+     */
+    int getMaxLimit();
+
+    /**
+     * Returns the factor by which the concurrency limit is multiplied when a downstream service shows signs of
+     * overload for a command type.
+     *
+     * @return the backoff ratio, between 0 and 1.
+     */
+    double getBackoffRatio();
+
+    /**
+     * Returns how many times the observed baseline latency the short-term latency of a command type may reach before
+     * it is regarded as a sign of overload.
+     *
+     * @return the latency tolerance.
+     */
+    double getLatencyTolerance();
+
+    /**
+     * Returns the duration after which rejected clients are advised to retry via the {@code Retry-After} header.
+     *
+     * @return the retry after duration.
+     */
+    Duration getRetryAfter();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code AdmissionControlConfig}.
+     */
+    enum AdmissionControlConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether admission control is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The concurrency limit per command type to start with.
+         */
+        INITIAL_LIMIT("initial-limit", 200),
+
+        /**
+         * The lower bound of the concurrency limit per command type.
+         */
+        MIN_LIMIT("min-limit", 20),
+
+        /**
+         * The upper bound of the concurrency limit per command type.
+         */
+        MAX_LIMIT("max-limit", 2000),
+
+        /**
+         * The factor by which the concurrency limit is multiplied on signs of overload.
+         */
+        BACKOFF_RATIO("backoff-ratio", 0.9),
+
+        /**
+         * How many times the baseline latency a command may take before it is regarded as a sign of overload.
+         */
+        LATENCY_TOLERANCE("latency-tolerance", 2.0),
+
+        /**
+         * The duration after which rejected clients are advised to retry.
+         */
+        RETRY_AFTER("retry-after", "1s");
+
+        private final String path;
+        private final Object defaultValue;
+
+        AdmissionControlConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
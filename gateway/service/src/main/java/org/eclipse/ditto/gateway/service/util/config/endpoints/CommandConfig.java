@@ -46,6 +46,14 @@ public interface CommandConfig {
      */
     Duration getSmartChannelBuffer();
 
+    /**
+     * Returns the config of the adaptive admission control of commands.
+     *
+     * @return the admission control config.
+     * @since 3.0.0
+     */
+    AdmissionControlConfig getAdmissionControlConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CommandConfig}.
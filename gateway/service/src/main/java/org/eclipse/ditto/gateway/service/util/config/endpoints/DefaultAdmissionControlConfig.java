@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.endpoints;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * Default implementation of {@link AdmissionControlConfig}.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class DefaultAdmissionControlConfig implements AdmissionControlConfig {
+
+    private static final String CONFIG_PATH = "admission-control";
+
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final Duration retryAfter;
+
+    private DefaultAdmissionControlConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(AdmissionControlConfigValue.ENABLED.getConfigPath());
+        initialLimit = scopedConfig.getPositiveIntOrThrow(AdmissionControlConfigValue.INITIAL_LIMIT);
+        minLimit = scopedConfig.getPositiveIntOrThrow(AdmissionControlConfigValue.MIN_LIMIT);
+        maxLimit = scopedConfig.getPositiveIntOrThrow(AdmissionControlConfigValue.MAX_LIMIT);
+        backoffRatio = scopedConfig.getPositiveDoubleOrThrow(AdmissionControlConfigValue.BACKOFF_RATIO);
+        latencyTolerance = scopedConfig.getPositiveDoubleOrThrow(AdmissionControlConfigValue.LATENCY_TOLERANCE);
+        retryAfter = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(AdmissionControlConfigValue.RETRY_AFTER);
+        if (minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new DittoConfigError("Admission control limits must satisfy min-limit <= initial-limit <= " +
+                    "max-limit, but were <" + minLimit + ">, <" + initialLimit + "> and <" + maxLimit + ">!");
+        }
+        if (backoffRatio >= 1.0) {
+            throw new DittoConfigError("Admission control backoff-ratio must be less than 1, but was <" +
+                    backoffRatio + ">!");
+        }
+    }
+
+    /**
+     * Returns an instance of {@code DefaultAdmissionControlConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the admission control config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultAdmissionControlConfig of(final Config config) {
+        return new DefaultAdmissionControlConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, AdmissionControlConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    @Override
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    @Override
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    @Override
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    @Override
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    @Override
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultAdmissionControlConfig that = (DefaultAdmissionControlConfig) o;
+        return enabled == that.enabled &&
+                initialLimit == that.initialLimit &&
+                minLimit == that.minLimit &&
+                maxLimit == that.maxLimit &&
+                Double.compare(backoffRatio, that.backoffRatio) == 0 &&
+                Double.compare(latencyTolerance, that.latencyTolerance) == 0 &&
+                Objects.equals(retryAfter, that.retryAfter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance, retryAfter);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", initialLimit=" + initialLimit +
+                ", minLimit=" + minLimit +
+                ", maxLimit=" + maxLimit +
+                ", backoffRatio=" + backoffRatio +
+                ", latencyTolerance=" + latencyTolerance +
+                ", retryAfter=" + retryAfter +
+                "]";
+    }
+
+}
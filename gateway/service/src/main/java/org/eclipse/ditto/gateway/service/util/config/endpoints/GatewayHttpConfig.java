@@ -52,6 +52,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final boolean enableCors;
     private final Duration requestTimeout;
     private final String actorPropsFactoryFullQualifiedClassname;
+    private final boolean bypassRequestActorForSimpleCommands;
     private final Set<HeaderDefinition> queryParamsAsHeaders;
     private final Set<String> additionalAcceptedMediaTypes;
     private final Duration coordinatedShutdownTimeout;
@@ -69,6 +70,8 @@ public final class GatewayHttpConfig implements HttpConfig {
         requestTimeout = scopedConfig.getDuration(GatewayHttpConfigValue.REQUEST_TIMEOUT.getConfigPath());
         actorPropsFactoryFullQualifiedClassname = scopedConfig.getString(
                 GatewayHttpConfigValue.ACTOR_PROPS_FACTORY.getConfigPath());
+        bypassRequestActorForSimpleCommands = scopedConfig.getBoolean(
+                GatewayHttpConfigValue.BYPASS_REQUEST_ACTOR_FOR_SIMPLE_COMMANDS.getConfigPath());
         queryParamsAsHeaders = Collections.unmodifiableSet(getQueryParameterNamesAsHeaderDefinitions(scopedConfig));
         additionalAcceptedMediaTypes =
                 Set.of(scopedConfig.getString(GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
@@ -210,6 +213,11 @@ public final class GatewayHttpConfig implements HttpConfig {
         return actorPropsFactoryFullQualifiedClassname;
     }
 
+    @Override
+    public boolean isBypassRequestActorForSimpleCommands() {
+        return bypassRequestActorForSimpleCommands;
+    }
+
     @Override
     public Set<HeaderDefinition> getQueryParametersAsHeaders() {
         return queryParamsAsHeaders;
@@ -236,6 +244,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 forceHttps == that.forceHttps &&
                 redirectToHttps == that.redirectToHttps &&
                 enableCors == that.enableCors &&
+                bypassRequestActorForSimpleCommands == that.bypassRequestActorForSimpleCommands &&
                 hostname.equals(that.hostname) &&
                 schemaVersions.equals(that.schemaVersions) &&
                 redirectToHttpsBlocklistPattern.equals(that.redirectToHttpsBlocklistPattern) &&
@@ -249,7 +258,8 @@ public final class GatewayHttpConfig implements HttpConfig {
     public int hashCode() {
         return Objects.hash(hostname, port, coordinatedShutdownTimeout, schemaVersions, protocolHeaders, forceHttps,
                 redirectToHttps, redirectToHttpsBlocklistPattern, enableCors, requestTimeout,
-                actorPropsFactoryFullQualifiedClassname, queryParamsAsHeaders, additionalAcceptedMediaTypes);
+                actorPropsFactoryFullQualifiedClassname, bypassRequestActorForSimpleCommands, queryParamsAsHeaders,
+                additionalAcceptedMediaTypes);
     }
 
     @Override
@@ -266,6 +276,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", enableCors=" + enableCors +
                 ", requestTimeout=" + requestTimeout +
                 ", actorPropsFactoryFullQualifiedClassname=" + actorPropsFactoryFullQualifiedClassname +
+                ", bypassRequestActorForSimpleCommands=" + bypassRequestActorForSimpleCommands +
                 ", queryParamsAsHeaders=" + queryParamsAsHeaders +
                 ", additionalAcceptedMediaTypes=" + additionalAcceptedMediaTypes +
                 "]";
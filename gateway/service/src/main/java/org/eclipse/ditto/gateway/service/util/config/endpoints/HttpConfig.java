@@ -92,6 +92,14 @@ public interface HttpConfig extends org.eclipse.ditto.base.service.config.http.H
      */
     String getActorPropsFactoryFullQualifiedClassname();
 
+    /**
+     * Indicates whether simple commands, i.e. twin queries which require a response but neither request
+     * acknowledgements nor address the live channel, should be handled without creating a per-request actor.
+     *
+     * @return {@code true} if simple commands should bypass the HTTP request actor, {@code false} else.
+     */
+    boolean isBypassRequestActorForSimpleCommands();
+
     /**
      * Returns definitions of headers which should be derived from query parameters.
      * I. e. if query parameters are supplied with the same name as the configured header keys then the query parameters
@@ -160,6 +168,11 @@ public interface HttpConfig extends org.eclipse.ditto.base.service.config.http.H
         ACTOR_PROPS_FACTORY("actor-props-factory",
                 "org.eclipse.ditto.gateway.service.endpoints.actors.DefaultHttpRequestActorPropsFactory"),
 
+        /**
+         * Determines whether simple commands should be handled without creating a per-request actor.
+         */
+        BYPASS_REQUEST_ACTOR_FOR_SIMPLE_COMMANDS("bypass-request-actor-for-simple-commands", false),
+
         /**
          * Denotes the name of query parameters that equal the names of well-known headers; the here defined query
          * parameters will be converted to key-value pairs of request headers for further processing.
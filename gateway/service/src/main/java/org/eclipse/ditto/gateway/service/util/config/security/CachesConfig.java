@@ -29,4 +29,20 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Indicates whether the cache of entity tags used to answer conditional requests with {@code If-None-Match}
+     * without asking the things service is enabled.
+     *
+     * @return {@code true} if the entity tags cache is enabled.
+     */
+    boolean isEntityTagsCacheEnabled();
+
+    /**
+     * Returns the configuration settings of the entity tags cache.
+     * The configured {@code expire-after-write} is the maximum duration of inconsistency, e.g. after a policy update.
+     *
+     * @return the config.
+     */
+    CacheConfig getEntityTagsConfig();
+
 }
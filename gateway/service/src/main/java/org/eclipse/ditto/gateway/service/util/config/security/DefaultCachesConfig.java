@@ -29,11 +29,18 @@ import com.typesafe.config.Config;
 public final class DefaultCachesConfig implements CachesConfig {
 
     private static final String CONFIG_PATH = "cache";
+    private static final String ENTITY_TAGS_CONFIG_PATH = "entity-tags";
+    private static final String ENABLED_CONFIG_PATH = ENTITY_TAGS_CONFIG_PATH + ".enabled";
 
     private final CacheConfig publicKeysConfig;
+    private final boolean entityTagsCacheEnabled;
+    private final CacheConfig entityTagsConfig;
 
-    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig) {
+    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig, final boolean theEntityTagsCacheEnabled,
+            final CacheConfig theEntityTagsConfig) {
         publicKeysConfig = thePublicKeysConfig;
+        entityTagsCacheEnabled = theEntityTagsCacheEnabled;
+        entityTagsConfig = theEntityTagsConfig;
     }
 
     /**
@@ -46,7 +53,12 @@ public final class DefaultCachesConfig implements CachesConfig {
     public static DefaultCachesConfig of(final Config config) {
         final var cacheScopedConfig = DefaultScopedConfig.newInstance(config, CONFIG_PATH);
 
-        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"));
+        final boolean entityTagsCacheEnabled = cacheScopedConfig.hasPath(ENABLED_CONFIG_PATH) &&
+                cacheScopedConfig.getBoolean(ENABLED_CONFIG_PATH);
+
+        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"),
+                entityTagsCacheEnabled,
+                DefaultCacheConfig.of(cacheScopedConfig, ENTITY_TAGS_CONFIG_PATH));
     }
 
     @Override
@@ -54,6 +66,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         return publicKeysConfig;
     }
 
+    @Override
+    public boolean isEntityTagsCacheEnabled() {
+        return entityTagsCacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getEntityTagsConfig() {
+        return entityTagsConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -63,18 +85,22 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return Objects.equals(publicKeysConfig, that.publicKeysConfig);
+        return entityTagsCacheEnabled == that.entityTagsCacheEnabled &&
+                Objects.equals(publicKeysConfig, that.publicKeysConfig) &&
+                Objects.equals(entityTagsConfig, that.entityTagsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(publicKeysConfig);
+        return Objects.hash(publicKeysConfig, entityTagsCacheEnabled, entityTagsConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "publicKeysConfig=" + publicKeysConfig +
+                ", entityTagsCacheEnabled=" + entityTagsCacheEnabled +
+                ", entityTagsConfig=" + entityTagsConfig +
                 "]";
     }
 
@@ -53,6 +53,16 @@ public interface GatewaySignalEnrichmentConfig {
      */
     CacheConfig getCacheConfig();
 
+    /**
+     * Indicates whether the cache should hold one thing per thing ID shared by all requesters instead of one partial
+     * thing per requester and field selector.
+     * This config will have no effect if {@link #isCachingEnabled()} returns false.
+     *
+     * @return true if the cached things should be shared by all requesters.
+     * @since 3.0.0
+     */
+    boolean isSharedThingCacheEnabled();
+
 
     /**
      * Render this object as a {@code Config}.
@@ -72,6 +82,13 @@ public interface GatewaySignalEnrichmentConfig {
          */
         CACHING_ENABLED("caching-enabled", true),
 
+        /**
+         * Indicates whether the cached things should be shared by all requesters.
+         *
+         * @since 3.0.0
+         */
+        SHARED_THING_CACHE_ENABLED("shared-thing-cache-enabled", false),
+
         /**
          * The ask timeout duration: the duration to wait for cache retrievals.
          */
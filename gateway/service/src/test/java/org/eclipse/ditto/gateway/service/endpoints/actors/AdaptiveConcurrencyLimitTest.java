@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultAdmissionControlConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link AdaptiveConcurrencyLimit}.
+ */
+public final class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10L);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    private static AdaptiveConcurrencyLimit createLimit(final int initialLimit) {
+        return new AdaptiveConcurrencyLimit(DefaultAdmissionControlConfig.of(ConfigFactory.parseString(
+                "admission-control {initial-limit = " + initialLimit + ", min-limit = 2, max-limit = 20, " +
+                        "backoff-ratio = 0.5, latency-tolerance = 2.0}")));
+    }
+
+    @Test
+    public void rejectsAcquisitionBeyondLimit() {
+        final var underTest = createLimit(3);
+
+        assertThat(underTest.tryAcquire()).isTrue();
+        assertThat(underTest.tryAcquire()).isTrue();
+        assertThat(underTest.tryAcquire()).isTrue();
+        assertThat(underTest.tryAcquire()).isFalse();
+        assertThat(underTest.getInFlight()).isEqualTo(3);
+
+        underTest.onSuccess(0L, FAST);
+
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+        assertThat(underTest.tryAcquire()).isTrue();
+    }
+
+    @Test
+    public void increasesLimitAdditivelyWhileUtilized() {
+        final var underTest = createLimit(4);
+        acquire(underTest, 4);
+
+        underTest.onSuccess(0L, FAST);
+        underTest.onSuccess(0L, FAST);
+
+        assertThat(underTest.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    public void doesNotIncreaseLimitWhileUnderutilized() {
+        final var underTest = createLimit(10);
+        acquire(underTest, 1);
+
+        underTest.onSuccess(0L, FAST);
+
+        assertThat(underTest.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void decreasesLimitMultiplicativelyOnOverload() {
+        final var underTest = createLimit(8);
+        acquire(underTest, 1);
+
+        underTest.onOverload(0L, FAST);
+
+        assertThat(underTest.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void decreasesLimitOnLatencyBeyondTolerance() {
+        final var underTest = createLimit(8);
+        acquire(underTest, 2);
+
+        underTest.onSuccess(0L, FAST);
+        underTest.onSuccess(0L, SLOW);
+
+        assertThat(underTest.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void decreasesLimitOncePerRoundTrip() {
+        final var underTest = createLimit(16);
+        acquire(underTest, 4);
+
+        // all commands were admitted before the first decrease
+        underTest.onOverload(0L, FAST);
+        underTest.onOverload(0L, FAST);
+        underTest.onOverload(FAST / 2, FAST);
+        assertThat(underTest.getLimit()).isEqualTo(8);
+
+        // a command admitted after the decrease may decrease the limit again
+        underTest.onOverload(FAST, SLOW);
+        assertThat(underTest.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    public void ignoredCommandsDoNotAdaptLimit() {
+        final var underTest = createLimit(4);
+        acquire(underTest, 4);
+
+        underTest.onIgnore();
+        underTest.onIgnore();
+
+        assertThat(underTest.getLimit()).isEqualTo(4);
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void baselineFollowsPermanentlyIncreasedLatency() {
+        final var underTest = createLimit(10);
+        long now = 0L;
+        for (int i = 0; i < 20; i++) {
+            acquire(underTest, 1);
+            underTest.onSuccess(now, now + FAST);
+            now += FAST;
+        }
+
+        // the workload becomes permanently slower: the limit decreases at first, but does not ratchet down to the
+        // minimum and grows again once the slower latency became the baseline
+        for (int i = 0; i < 500; i++) {
+            acquire(underTest, underTest.getLimit() - underTest.getInFlight());
+            underTest.onSuccess(now, now + SLOW);
+            now += SLOW;
+        }
+
+        assertThat(underTest.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    public void keepsLimitWithinBounds() {
+        final var underTest = createLimit(19);
+        long now = 0L;
+        for (int i = 0; i < 5; i++) {
+            acquire(underTest, 1);
+            underTest.onOverload(now, now + FAST);
+            now += FAST;
+        }
+        assertThat(underTest.getLimit()).isEqualTo(2);
+
+        for (int i = 0; i < 50; i++) {
+            acquire(underTest, underTest.getLimit() - underTest.getInFlight());
+            underTest.onSuccess(now, now + FAST);
+            now += FAST;
+        }
+        assertThat(underTest.getLimit()).isEqualTo(20);
+    }
+
+    private static void acquire(final AdaptiveConcurrencyLimit underTest, final int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertThat(underTest.tryAcquire()).isTrue();
+        }
+    }
+
+}
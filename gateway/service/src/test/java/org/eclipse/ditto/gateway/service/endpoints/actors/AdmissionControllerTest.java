@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.commands.exceptions.GatewayServiceUnavailableException;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultAdmissionControlConfig;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.signals.commands.query.RetrievePolicy;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+
+/**
+ * Unit test for {@link AdmissionController}.
+ */
+public final class AdmissionControllerTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId(AdmissionControllerTest.class.getSimpleName())
+            .build();
+    private static final RetrieveThing RETRIEVE_THING =
+            RetrieveThing.of(ThingId.of("org.eclipse.ditto:admission"), DITTO_HEADERS);
+    private static final DeleteThing DELETE_THING =
+            DeleteThing.of(ThingId.of("org.eclipse.ditto:admission"), DITTO_HEADERS);
+    private static final RetrievePolicy RETRIEVE_POLICY =
+            RetrievePolicy.of(PolicyId.of("org.eclipse.ditto:admission"), DITTO_HEADERS);
+
+    private final AdmissionController underTest = AdmissionController.of(
+            DefaultAdmissionControlConfig.of(ConfigFactory.parseString(
+                    "admission-control {enabled = true, initial-limit = 1, min-limit = 1, retry-after = 3s}")),
+            AbstractHttpRequestActorTest.HEADER_TRANSLATOR);
+
+    @Test
+    public void rejectsCommandsBeyondLimitWithRetryAfter() {
+        final var admittedFuture = new CompletableFuture<HttpResponse>();
+        final var rejectedFuture = new CompletableFuture<HttpResponse>();
+
+        assertThat(underTest.admit(RETRIEVE_THING, admittedFuture)).isTrue();
+        assertThat(underTest.admit(RETRIEVE_THING, rejectedFuture)).isFalse();
+
+        assertThat(admittedFuture).isNotDone();
+        final var rejection = rejectedFuture.join();
+        assertThat(rejection.status()).isEqualTo(StatusCodes.SERVICE_UNAVAILABLE);
+        assertThat(rejection.getHeader("Retry-After")).hasValueSatisfying(
+                header -> assertThat(header.value()).isEqualTo("3"));
+        assertThat(rejection.getHeader("correlation-id")).hasValueSatisfying(
+                header -> assertThat(header.value()).isEqualTo(AdmissionControllerTest.class.getSimpleName()));
+        assertThat(((HttpEntity.Strict) rejection.entity()).getData().utf8String()).contains(GatewayServiceUnavailableException.ERROR_CODE);
+    }
+
+    @Test
+    public void releasesPermitWhenResponseIsCompleted() {
+        final var firstFuture = new CompletableFuture<HttpResponse>();
+        assertThat(underTest.admit(RETRIEVE_THING, firstFuture)).isTrue();
+
+        firstFuture.complete(HttpResponse.create().withStatus(StatusCodes.OK));
+
+        assertThat(underTest.admit(RETRIEVE_THING, new CompletableFuture<>())).isTrue();
+    }
+
+    @Test
+    public void releasesPermitWhenErrorResponseIsCompleted() {
+        final var firstFuture = new CompletableFuture<HttpResponse>();
+        assertThat(underTest.admit(RETRIEVE_THING, firstFuture)).isTrue();
+
+        firstFuture.complete(HttpResponse.create().withStatus(StatusCodes.NOT_FOUND));
+
+        assertThat(underTest.admit(RETRIEVE_THING, new CompletableFuture<>())).isTrue();
+        assertThat(underTest.getLimit(RetrieveThing.TYPE)).isEqualTo(1);
+    }
+
+    @Test
+    public void limitsEachCommandTypeSeparately() {
+        assertThat(underTest.admit(RETRIEVE_THING, new CompletableFuture<>())).isTrue();
+        assertThat(underTest.admit(DELETE_THING, new CompletableFuture<>())).isTrue();
+        assertThat(underTest.admit(RETRIEVE_POLICY, new CompletableFuture<>())).isTrue();
+        assertThat(underTest.admit(RETRIEVE_THING, new CompletableFuture<>())).isFalse();
+    }
+
+    @Test
+    public void admitsLiveCommandsWithoutPermit() {
+        final var liveRetrieveThing = RETRIEVE_THING.setDittoHeaders(DITTO_HEADERS.toBuilder()
+                .channel("live")
+                .build());
+
+        assertThat(underTest.admit(liveRetrieveThing, new CompletableFuture<>())).isTrue();
+        assertThat(underTest.admit(liveRetrieveThing, new CompletableFuture<>())).isTrue();
+        assertThat(underTest.admit(RETRIEVE_THING, new CompletableFuture<>())).isTrue();
+    }
+
+    @Test
+    public void admitsCommandsRequestingCustomAcknowledgementsWithoutPermit() {
+        final var deleteThingWithCustomAck = DELETE_THING.setDittoHeaders(DITTO_HEADERS.toBuilder()
+                .acknowledgementRequest(AcknowledgementRequest.of(AcknowledgementLabel.of("custom-ack")))
+                .build());
+
+        assertThat(underTest.admit(deleteThingWithCustomAck, new CompletableFuture<>())).isTrue();
+        assertThat(underTest.admit(deleteThingWithCustomAck, new CompletableFuture<>())).isTrue();
+        assertThat(underTest.admit(DELETE_THING, new CompletableFuture<>())).isTrue();
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.StatusCodes;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+import akka.util.ByteString;
+
+/**
+ * Unit test for {@link JsonValueSourceToJsonArrayHttpResponse}.
+ */
+public final class JsonValueSourceToJsonArrayHttpResponseTest {
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUpClass() {
+        actorSystem = ActorSystem.create(JsonValueSourceToJsonArrayHttpResponseTest.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(JsonValueSourceToJsonArrayHttpResponse.class, areImmutable());
+    }
+
+    @Test
+    public void emptySourceIsRenderedAsEmptyArray() throws Exception {
+        final var httpResponse = JsonValueSourceToJsonArrayHttpResponse.getInstance().apply(Source.empty());
+
+        assertThat(httpResponse.status()).isEqualTo(StatusCodes.OK);
+        assertThat(httpResponse.entity().getContentType()).isEqualTo(ContentTypes.APPLICATION_JSON);
+        assertThat(httpResponse.entity().isChunked()).isTrue();
+        assertThat(JsonArray.of(readEntity(httpResponse.entity().getDataBytes()))).isEmpty();
+    }
+
+    @Test
+    public void sourceIsRenderedAsJsonArray() throws Exception {
+        final List<JsonValue> jsonValues = List.of(JsonObject.newBuilder().set("thingId", "ns:a").build(),
+                JsonObject.newBuilder().set("thingId", "ns:b").build());
+
+        final var httpResponse =
+                JsonValueSourceToJsonArrayHttpResponse.getInstance().apply(Source.from(jsonValues));
+
+        assertThat(JsonArray.of(readEntity(httpResponse.entity().getDataBytes())))
+                .containsExactlyElementsOf(jsonValues);
+    }
+
+    @Test
+    public void failingSourceFailsEntityWithoutClosingTheArray() {
+        final IllegalStateException error = new IllegalStateException("ask timeout");
+        final Source<JsonValue, NotUsed> failingSource = Source.<JsonValue>single(JsonObject.empty())
+                .concat(Source.failed(error));
+        final StringBuilder received = new StringBuilder();
+
+        final var httpResponse = JsonValueSourceToJsonArrayHttpResponse.getInstance()
+                .apply(failingSource);
+        final CompletionStage<?> done = httpResponse.entity()
+                .getDataBytes()
+                .runWith(Sink.foreach(bytes -> received.append(bytes.utf8String())), actorSystem);
+
+        assertThat(done).failsWithin(10, TimeUnit.SECONDS);
+        assertThat(received.toString()).doesNotContain("]");
+    }
+
+    private static String readEntity(final Source<ByteString, ?> dataBytes) throws Exception {
+        return dataBytes.runFold(ByteString.emptyByteString(), ByteString::concat, actorSystem)
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS)
+                .utf8String();
+    }
+
+}
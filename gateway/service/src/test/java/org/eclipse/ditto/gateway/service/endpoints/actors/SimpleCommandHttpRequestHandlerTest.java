@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.AttributeNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttribute;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttributeResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+
+/**
+ * Unit test for {@link SimpleCommandHttpRequestHandler}.
+ */
+public final class SimpleCommandHttpRequestHandlerTest extends AbstractHttpRequestActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:simple");
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("/foo");
+
+    @Test
+    public void twinQueryRequiringResponseIsSimple() {
+        final var retrieveAttribute = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, getDittoHeaders());
+
+        assertThat(SimpleCommandHttpRequestHandler.isSimpleCommand(retrieveAttribute)).isTrue();
+    }
+
+    @Test
+    public void commandsRequiringAnHttpRequestActorAreNotSimple() {
+        final var dittoHeaders = getDittoHeaders();
+        final var withAcks = dittoHeaders.toBuilder()
+                .acknowledgementRequest(AcknowledgementRequest.of(AcknowledgementLabel.of("custom-ack")))
+                .build();
+        final var live = dittoHeaders.toBuilder().channel("live").build();
+
+        assertThat(SimpleCommandHttpRequestHandler.isSimpleCommand(
+                RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, withAcks))).isFalse();
+        assertThat(SimpleCommandHttpRequestHandler.isSimpleCommand(
+                RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, live))).isFalse();
+        assertThat(SimpleCommandHttpRequestHandler.isSimpleCommand(
+                ModifyAttribute.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of(1), dittoHeaders))).isFalse();
+        assertThat(SimpleCommandHttpRequestHandler.isSimpleCommand(
+                RetrieveThings.getBuilder(THING_ID).dittoHeaders(dittoHeaders).build())).isFalse();
+    }
+
+    @Test
+    public void responseEqualsResponseOfHttpRequestActor() throws Exception {
+        final var retrieveAttribute = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, getDittoHeaders());
+        final var response = RetrieveAttributeResponse.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("bar"),
+                DittoHeaders.newBuilder(retrieveAttribute.getDittoHeaders()).eTag(EntityTag.fromString("\"rev:1\"")).build());
+
+        final var expected = answerByHttpRequestActor(retrieveAttribute, response);
+        final var actual = answerBySimpleCommandHandler(retrieveAttribute, response);
+
+        assertThat(actual.status()).isEqualTo(StatusCodes.OK);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void errorEqualsErrorOfHttpRequestActor() throws Exception {
+        final var retrieveAttribute = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, getDittoHeaders());
+        final var exception = AttributeNotAccessibleException.newBuilder(THING_ID, ATTRIBUTE_POINTER)
+                .dittoHeaders(retrieveAttribute.getDittoHeaders())
+                .build();
+
+        final var expected = answerByHttpRequestActor(retrieveAttribute, exception);
+        final var actual = answerBySimpleCommandHandler(retrieveAttribute, exception);
+
+        assertThat(actual.status()).isEqualTo(StatusCodes.NOT_FOUND);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void missingResponseResultsInCommandTimeout() throws Exception {
+        final var dittoHeaders = getDittoHeaders().toBuilder().timeout(Duration.ofMillis(200)).build();
+        final var retrieveAttribute = RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, dittoHeaders);
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = SimpleCommandHttpRequestHandler.of(proxyActorProbe.ref(), HEADER_TRANSLATOR,
+                gatewayConfig.getCommandConfig());
+
+        final var httpResponse = underTest.handle(retrieveAttribute).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        proxyActorProbe.expectMsg(retrieveAttribute);
+        assertThat(httpResponse.status()).isEqualTo(StatusCodes.REQUEST_TIMEOUT);
+    }
+
+    private HttpResponse answerByHttpRequestActor(final RetrieveAttribute retrieveAttribute, final Object answer)
+            throws Exception {
+
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var responseFuture = new CompletableFuture<HttpResponse>();
+        final var httpRequest = HttpRequest.GET("/api/2/things/" + THING_ID + "/attributes/foo");
+        final var underTest = createHttpRequestActor(proxyActorProbe.ref(), httpRequest, responseFuture);
+
+        underTest.tell(retrieveAttribute, ActorRef.noSender());
+        proxyActorProbe.expectMsg(retrieveAttribute);
+        proxyActorProbe.reply(answer);
+
+        return responseFuture.get(5, TimeUnit.SECONDS);
+    }
+
+    private HttpResponse answerBySimpleCommandHandler(final RetrieveAttribute retrieveAttribute, final Object answer)
+            throws Exception {
+
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = SimpleCommandHttpRequestHandler.of(proxyActorProbe.ref(), HEADER_TRANSLATOR,
+                gatewayConfig.getCommandConfig());
+
+        final var responseFuture = underTest.handle(retrieveAttribute);
+        proxyActorProbe.expectMsg(retrieveAttribute);
+        proxyActorProbe.reply(answer);
+
+        return responseFuture.toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    private DittoHeaders getDittoHeaders() {
+        return DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .responseRequired(true)
+                .build();
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.benchmark;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
+import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultCommandConfig;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.GatewayHttpConfig;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.protocol.HeaderTranslator;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.http.javadsl.Http;
+import akka.http.javadsl.ServerBinding;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.server.Route;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Load test of the HTTP request path of the gateway comparing the per-request actor with the future based handling of
+ * simple commands.
+ * A local Akka HTTP server answers {@code GET /things/<id>} with a proxy actor stub which replies to each
+ * {@code RetrieveThing} immediately; concurrent clients measure throughput and the latency distribution (see the
+ * {@code p0.99} percentile of the sample time mode).
+ */
+@State(Scope.Benchmark)
+public class HttpRequestPipelineBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int CLIENT_THREADS = 32;
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:benchmark");
+    private static final JsonObject THING_JSON = JsonObject.newBuilder()
+            .set("thingId", THING_ID.toString())
+            .set("attributes", JsonObject.newBuilder().set("location", "kitchen").build())
+            .build();
+
+    @Param({"false", "true"})
+    public boolean bypassRequestActor;
+
+    private ActorSystem actorSystem;
+    private ServerBinding serverBinding;
+    private HttpRequest httpRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName(), ConfigFactory.parseString(
+                "akka.loglevel = WARNING\n" +
+                        "akka.http.host-connection-pool.max-connections = " + CLIENT_THREADS + "\n" +
+                        "akka.http.host-connection-pool.max-open-requests = " + 4 * CLIENT_THREADS + "\n"
+        ).withFallback(ConfigFactory.load()));
+
+        final var proxyActorStub = actorSystem.actorOf(ProxyActorStub.props());
+        final var routeBaseProperties = RouteBaseProperties.newBuilder()
+                .proxyActor(proxyActorStub)
+                .actorSystem(actorSystem)
+                .httpConfig(GatewayHttpConfig.of(ConfigFactory.parseString(
+                        "http.bypass-request-actor-for-simple-commands = " + bypassRequestActor)))
+                .commandConfig(DefaultCommandConfig.of(ConfigFactory.empty()))
+                .headerTranslator(HeaderTranslator.of(DittoHeaderDefinition.values()))
+                .connectivityShardRegionProxy(proxyActorStub)
+                .build();
+
+        serverBinding = Http.get(actorSystem)
+                .newServerAt("localhost", 0)
+                .bind(new RetrieveThingRoute(routeBaseProperties).buildRoute())
+                .toCompletableFuture()
+                .join();
+        httpRequest = HttpRequest.GET("http://localhost:" + serverBinding.localAddress().getPort() + "/things/" +
+                THING_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serverBinding.unbind().toCompletableFuture().join();
+        actorSystem.terminate();
+        actorSystem.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(CLIENT_THREADS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public HttpResponse retrieveThing() {
+        return requestStrict().toCompletableFuture().join();
+    }
+
+    private CompletionStage<HttpResponse> requestStrict() {
+        return Http.get(actorSystem)
+                .singleRequest(httpRequest)
+                .thenCompose(response -> response.entity()
+                        .toStrict(MEASUREMENT_TIME, actorSystem)
+                        .thenApply(response::withEntity));
+    }
+
+    private static final class RetrieveThingRoute extends AbstractRoute {
+
+        private RetrieveThingRoute(final RouteBaseProperties routeBaseProperties) {
+            super(routeBaseProperties);
+        }
+
+        private Route buildRoute() {
+            return pathPrefix("things", () -> extractRequestContext(ctx ->
+                    handlePerRequest(ctx, RetrieveThing.of(THING_ID, DittoHeaders.newBuilder()
+                            .randomCorrelationId()
+                            .responseRequired(true)
+                            .build()))));
+        }
+
+    }
+
+    private static final class ProxyActorStub extends AbstractActor {
+
+        private static Props props() {
+            return Props.create(ProxyActorStub.class);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .match(RetrieveThing.class, retrieveThing -> getSender().tell(
+                            RetrieveThingResponse.of(retrieveThing.getEntityId(), THING_JSON,
+                                    retrieveThing.getDittoHeaders()), ActorRef.noSender()))
+                    .build();
+        }
+
+    }
+
+}
@@ -17,14 +17,19 @@ import static org.eclipse.ditto.gateway.service.endpoints.EndpointTestConstants.
 
 import java.util.Optional;
 
+import org.eclipse.ditto.base.api.devops.signals.commands.RetrieveStatisticsDetails;
+import org.eclipse.ditto.base.api.devops.signals.commands.RetrieveStatisticsResponse;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.gateway.service.endpoints.EndpointTestBase;
 import org.eclipse.ditto.gateway.service.endpoints.EndpointTestConstants;
+import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DevOpsInsecureAuthenticationDirective;
 import org.eclipse.ditto.gateway.service.endpoints.directives.auth.DevOpsOAuth2AuthenticationDirective;
 import org.eclipse.ditto.gateway.service.endpoints.routes.RouteBaseProperties;
 import org.eclipse.ditto.gateway.service.security.authentication.jwt.JwtAuthenticationFactory;
 import org.eclipse.ditto.gateway.service.security.authentication.jwt.JwtAuthenticationProvider;
+import org.eclipse.ditto.gateway.service.proxy.actors.StatisticsActor;
 import org.eclipse.ditto.gateway.service.util.config.security.DevOpsConfig;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsResponse;
 import org.junit.Before;
 import org.junit.Test;
@@ -95,6 +100,24 @@ public final class StatsRouteTest extends EndpointTestBase {
         result.assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
     }
 
+    @Test
+    public void getStatsThingsDetailsUrlWithRefresh() {
+        final var proxyActor = createDummyResponseActor(m -> Optional.of(RetrieveStatisticsResponse.of(
+                JsonObject.newBuilder()
+                        .set("refresh", ((RetrieveStatisticsDetails) m).getDittoHeaders()
+                                .getOrDefault(StatisticsActor.REFRESH_HEADER, "false"))
+                        .build(),
+                DittoHeaders.empty())));
+        final var statsRoute = new StatsRoute(RouteBaseProperties.newBuilder(routeBaseProperties)
+                .proxyActor(proxyActor)
+                .build(), DevOpsInsecureAuthenticationDirective.getInstance());
+
+        final var result = testRoute(statsRoute.buildStatsRoute(KNOWN_CORRELATION_ID))
+                .run(HttpRequest.GET(STATS_PATH + "/" + StatsRoute.THINGS_PATH + "/details?refresh=true"));
+        result.assertStatusCode(StatusCodes.OK);
+        result.assertEntity("{\"refresh\":\"true\"}");
+    }
+
     @Test
     public void getNonExistingToplevelUrl() {
         final var result = statsTestRoute.run(HttpRequest.GET(UNKNOWN_PATH));
@@ -14,6 +14,7 @@ package org.eclipse.ditto.gateway.service.endpoints.routes.things;
 
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 
+import org.eclipse.ditto.base.model.exceptions.DittoHeaderInvalidException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.gateway.service.endpoints.EndpointTestBase;
 import org.eclipse.ditto.gateway.service.endpoints.EndpointTestConstants;
@@ -164,6 +165,20 @@ public final class ThingsRouteTest extends EndpointTestBase {
         result.assertEntity(expectedEx.toJsonString());
     }
 
+    @Test
+    public void getThingsWithInvalidStreamParameter() {
+        final var result = underTest.run(HttpRequest.GET("/things?ids=org.eclipse.ditto:a&stream=sometimes"));
+        result.assertStatusCode(StatusCodes.BAD_REQUEST);
+        assertThat(JsonObject.of(result.entityString())).contains(JsonKey.of("error"),
+                DittoHeaderInvalidException.ERROR_CODE);
+    }
+
+    @Test
+    public void getThingsWithFalseStreamParameter() {
+        final var result = underTest.run(HttpRequest.GET("/things?ids=org.eclipse.ditto:a&stream=false"));
+        result.assertStatusCode(StatusCodes.BAD_REQUEST);
+    }
+
     @Test
     public void getAttributesWithTrailingSlash() {
         final var request = HttpRequest.GET("/things/org.eclipse.ditto%3Adummy/attributes/");
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.proxy.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.pubsub.DittoProtocolSub;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingPreconditionNotModifiedException;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttribute;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ConditionalRequestCacheActor}.
+ */
+public final class ConditionalRequestCacheActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "thing");
+    private static final EntityTag ETAG = EntityTag.fromString("\"rev:1\"");
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("ditto:ditto"));
+
+    // creating the cache with metrics may take a while for the first time
+    private static final Duration FIRST_MESSAGE_TIMEOUT = Duration.ofSeconds(10L);
+
+    private ActorSystem actorSystem;
+    private DittoProtocolSub dittoProtocolSub;
+    private TestKit conciergeProbe;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create();
+        conciergeProbe = new TestKit(actorSystem);
+        dittoProtocolSub = mock(DittoProtocolSub.class);
+        when(dittoProtocolSub.subscribe(anyCollection(), anyCollection(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void answerFromCacheAfterSubscriptionAndInvalidateOnEvent() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createCacheActor();
+            final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, conditionalHeaders());
+            final ThingPreconditionNotModifiedException notModified = notModified(retrieveThing.getDittoHeaders());
+
+            // first request passes through and triggers the subscription for thing events
+            underTest.tell(retrieveThing, getRef());
+            conciergeProbe.expectMsg(FIRST_MESSAGE_TIMEOUT, retrieveThing);
+            conciergeProbe.reply(notModified);
+            expectMsg(notModified);
+            verify(dittoProtocolSub, timeout(3000))
+                    .subscribe(anyCollection(), eq(Set.copyOf(AUTHORIZATION_CONTEXT.getAuthorizationSubjectIds())),
+                            eq(underTest));
+
+            // second request passes through as well and is cached as the subscription is now acknowledged
+            underTest.tell(retrieveThing, getRef());
+            conciergeProbe.expectMsg(retrieveThing);
+            conciergeProbe.reply(notModified);
+            expectMsg(notModified);
+
+            // third request is answered from the cache
+            underTest.tell(retrieveThing, getRef());
+            final ThingPreconditionNotModifiedException cached =
+                    expectMsgClass(ThingPreconditionNotModifiedException.class);
+            assertThat(cached.getDittoHeaders().getETag()).contains(ETAG);
+            conciergeProbe.expectNoMessage();
+
+            // a thing event invalidates the cached entity tag
+            underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("foo"), JsonValue.of(42), 2L, null,
+                    DittoHeaders.empty(), null), ActorRef.noSender());
+            underTest.tell(retrieveThing, getRef());
+            conciergeProbe.expectMsg(retrieveThing);
+        }};
+    }
+
+    @Test
+    public void cacheEntityTagsPerResourcePath() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createCacheActor();
+            final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, conditionalHeaders());
+            final ThingPreconditionNotModifiedException notModified = notModified(retrieveThing.getDittoHeaders());
+
+            for (int i = 0; i < 2; i++) {
+                underTest.tell(retrieveThing, getRef());
+                conciergeProbe.expectMsg(FIRST_MESSAGE_TIMEOUT, retrieveThing);
+                conciergeProbe.reply(notModified);
+                expectMsg(notModified);
+            }
+
+            final RetrieveAttribute retrieveAttribute =
+                    RetrieveAttribute.of(THING_ID, JsonPointer.of("foo"), conditionalHeaders());
+            underTest.tell(retrieveAttribute, getRef());
+            conciergeProbe.expectMsg(retrieveAttribute);
+        }};
+    }
+
+    @Test
+    public void unconditionalOrLiveQueriesAreNotCacheable() {
+        assertThat(ConditionalRequestCacheActor.isCacheable(RetrieveThing.of(THING_ID, DittoHeaders.empty())))
+                .isFalse();
+        assertThat(ConditionalRequestCacheActor.isCacheable(RetrieveThing.of(THING_ID,
+                conditionalHeaders().toBuilder().channel("live").build()))).isFalse();
+        assertThat(ConditionalRequestCacheActor.isCacheable(RetrieveThing.of(THING_ID, conditionalHeaders())))
+                .isTrue();
+    }
+
+    private ActorRef createCacheActor() {
+        final var cacheConfig = DefaultCacheConfig.of(ConfigFactory.parseString(
+                "entity-tags { maximum-size = 10, expire-after-write = 1m }"), "entity-tags");
+        return actorSystem.actorOf(
+                ConditionalRequestCacheActor.props(conciergeProbe.getRef(), dittoProtocolSub, cacheConfig));
+    }
+
+    private static DittoHeaders conditionalHeaders() {
+        return DittoHeaders.newBuilder()
+                .randomCorrelationId()
+                .authorizationContext(AUTHORIZATION_CONTEXT)
+                .ifNoneMatch(EntityTagMatchers.fromStrings(ETAG.toString()))
+                .build();
+    }
+
+    private static ThingPreconditionNotModifiedException notModified(final DittoHeaders dittoHeaders) {
+        return ThingPreconditionNotModifiedException.newBuilder(ETAG.toString(), ETAG.toString())
+                .dittoHeaders(dittoHeaders.toBuilder().eTag(ETAG).build())
+                .build();
+    }
+
+}
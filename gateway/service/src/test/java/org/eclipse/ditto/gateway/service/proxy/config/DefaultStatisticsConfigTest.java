@@ -63,6 +63,14 @@ public final class DefaultStatisticsConfigTest {
                 .as(StatisticsConfig.ConfigValues.DETAILS_EXPIRE_AFTER.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(1L));
 
+        softly.assertThat(underTest.getDetailsUpdateInterval())
+                .as(StatisticsConfig.ConfigValues.DETAILS_UPDATE_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ZERO);
+
+        softly.assertThat(underTest.getDetailsMaxStaleness())
+                .as(StatisticsConfig.ConfigValues.DETAILS_MAX_STALENESS.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(1L));
+
         softly.assertThat(underTest.getShards())
                 .as(StatisticsConfig.ConfigValues.SHARDS.getConfigPath())
                 .isEmpty();
@@ -84,6 +92,14 @@ public final class DefaultStatisticsConfigTest {
                 .as(StatisticsConfig.ConfigValues.DETAILS_EXPIRE_AFTER.getConfigPath())
                 .isEqualTo(Duration.ofDays(9L));
 
+        softly.assertThat(underTest.getDetailsUpdateInterval())
+                .as(StatisticsConfig.ConfigValues.DETAILS_UPDATE_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofHours(11L));
+
+        softly.assertThat(underTest.getDetailsMaxStaleness())
+                .as(StatisticsConfig.ConfigValues.DETAILS_MAX_STALENESS.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(13L));
+
         softly.assertThat(underTest.getShards())
                 .as(StatisticsConfig.ConfigValues.SHARDS.getConfigPath())
                 .containsExactly(
@@ -68,6 +68,15 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.getSmartChannelBuffer())
                 .as(CommandConfig.CommandConfigValue.SMART_CHANNEL_BUFFER.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(10L));
+        softly.assertThat(underTest.getAdmissionControlConfig().isEnabled())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getAdmissionControlConfig().getInitialLimit())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.INITIAL_LIMIT.getConfigPath())
+                .isEqualTo(200);
+        softly.assertThat(underTest.getAdmissionControlConfig().getRetryAfter())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.RETRY_AFTER.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(1L));
     }
 
     @Test
@@ -85,4 +94,32 @@ public final class DefaultCommandConfigTest {
                 .isEqualTo(Duration.ofSeconds(66L));
     }
 
+    @Test
+    public void admissionControlConfigReturnsValuesOfBaseConfig() {
+        final AdmissionControlConfig underTest =
+                DefaultCommandConfig.of(commandTestConfig).getAdmissionControlConfig();
+
+        softly.assertThat(underTest.isEnabled())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getInitialLimit())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.INITIAL_LIMIT.getConfigPath())
+                .isEqualTo(50);
+        softly.assertThat(underTest.getMinLimit())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.MIN_LIMIT.getConfigPath())
+                .isEqualTo(5);
+        softly.assertThat(underTest.getMaxLimit())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.MAX_LIMIT.getConfigPath())
+                .isEqualTo(500);
+        softly.assertThat(underTest.getBackoffRatio())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.BACKOFF_RATIO.getConfigPath())
+                .isEqualTo(0.5);
+        softly.assertThat(underTest.getLatencyTolerance())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.LATENCY_TOLERANCE.getConfigPath())
+                .isEqualTo(3.0);
+        softly.assertThat(underTest.getRetryAfter())
+                .as(AdmissionControlConfig.AdmissionControlConfigValue.RETRY_AFTER.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(7L));
+    }
+
 }
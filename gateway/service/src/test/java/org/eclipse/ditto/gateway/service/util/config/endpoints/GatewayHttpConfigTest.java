@@ -176,6 +176,18 @@ public final class GatewayHttpConfigTest {
         softly.assertThat(underTest.getAdditionalAcceptedMediaTypes())
                 .as(HttpConfig.GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
                 .contains(MediaTypes.APPLICATION_OCTET_STREAM.toString());
+        softly.assertThat(underTest.isBypassRequestActorForSimpleCommands())
+                .as(HttpConfig.GatewayHttpConfigValue.BYPASS_REQUEST_ACTOR_FOR_SIMPLE_COMMANDS.getConfigPath())
+                .isEqualTo(HttpConfig.GatewayHttpConfigValue.BYPASS_REQUEST_ACTOR_FOR_SIMPLE_COMMANDS.getDefaultValue());
+    }
+
+    @Test
+    public void getConfiguredBypassRequestActorForSimpleCommands() {
+        final GatewayHttpConfig underTest = GatewayHttpConfig.of(gatewayHttpTestConfig);
+
+        softly.assertThat(underTest.isBypassRequestActorForSimpleCommands())
+                .as(HttpConfig.GatewayHttpConfigValue.BYPASS_REQUEST_ACTOR_FOR_SIMPLE_COMMANDS.getConfigPath())
+                .isTrue();
     }
 
     @Test
@@ -45,6 +45,7 @@ import org.eclipse.ditto.internal.models.signal.correlation.CommandAndCommandRes
 import org.eclipse.ditto.internal.models.signal.correlation.MatchingValidationResult;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.timing.TimingWheel;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommandResponse;
 import org.eclipse.ditto.protocol.HeaderTranslator;
@@ -53,7 +54,8 @@ import org.eclipse.ditto.things.model.signals.acks.ThingAcknowledgementFactory;
 import org.eclipse.ditto.things.model.signals.commands.ThingCommandResponse;
 import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
 
-import akka.actor.AbstractActorWithTimers;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
 import akka.actor.Props;
 
 /**
@@ -63,7 +65,7 @@ import akka.actor.Props;
  *
  * @since 1.1.0
  */
-public final class AcknowledgementAggregatorActor extends AbstractActorWithTimers {
+public final class AcknowledgementAggregatorActor extends AbstractActor {
 
     private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(60);
     private static final Duration SMART_CHANNEL_BUFFER = Duration.ofSeconds(10);
@@ -76,6 +78,7 @@ public final class AcknowledgementAggregatorActor extends AbstractActorWithTimer
     private final Consumer<Object> responseSignalConsumer;
     private final Duration timeout;
     private final Consumer<MatchingValidationResult.Failure> matchingValidationFailureConsumer;
+    private final TimingWheel.Timeout waitingForAcksTimeout;
     private Function<Acknowledgements, ThingErrorResponse> getAsTimeoutErrorResponse;
 
     @SuppressWarnings("java:S1144")
@@ -101,7 +104,9 @@ public final class AcknowledgementAggregatorActor extends AbstractActorWithTimer
                 matchingValidationFailureConsumer,
                 this::getDefaultMatchingValidationFailureConsumer
         );
-        timers().startSingleTimer(Control.WAITING_FOR_ACKS_TIMED_OUT, Control.WAITING_FOR_ACKS_TIMED_OUT, timeout);
+        final var self = getSelf();
+        waitingForAcksTimeout = TimingWheel.get(getContext().getSystem())
+                .schedule(timeout, () -> self.tell(Control.WAITING_FOR_ACKS_TIMED_OUT, ActorRef.noSender()));
         getAsTimeoutErrorResponse = getDefaultGetAsTimeoutErrorResponse();
 
         final var acknowledgementRequests = signalDittoHeaders.getAcknowledgementRequests();
@@ -113,14 +118,18 @@ public final class AcknowledgementAggregatorActor extends AbstractActorWithTimer
     }
 
     private Function<Acknowledgements, ThingErrorResponse> getDefaultGetAsTimeoutErrorResponse() {
-        return aggregatedAcknowledgements -> {
-            final var thingId = ThingId.of(aggregatedAcknowledgements.getEntityId());
-            final var gatewayCommandTimeoutException = GatewayCommandTimeoutException.newBuilder(timeout)
-                    .dittoHeaders(aggregatedAcknowledgements.getDittoHeaders())
-                    .build();
+        return aggregatedAcknowledgements -> getTimeoutErrorResponse(aggregatedAcknowledgements, timeout);
+    }
 
-            return ThingErrorResponse.of(thingId, gatewayCommandTimeoutException);
-        };
+    static ThingErrorResponse getTimeoutErrorResponse(final Acknowledgements aggregatedAcknowledgements,
+            final Duration timeout) {
+
+        final var thingId = ThingId.of(aggregatedAcknowledgements.getEntityId());
+        final var gatewayCommandTimeoutException = GatewayCommandTimeoutException.newBuilder(timeout)
+                .dittoHeaders(aggregatedAcknowledgements.getDittoHeaders())
+                .build();
+
+        return ThingErrorResponse.of(thingId, gatewayCommandTimeoutException);
     }
 
     private Consumer<MatchingValidationResult.Failure> getDefaultMatchingValidationFailureConsumer() {
@@ -194,6 +203,12 @@ public final class AcknowledgementAggregatorActor extends AbstractActorWithTimer
                 matchingValidationFailureConsumer);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        waitingForAcksTimeout.cancel();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return receiveBuilder()
@@ -427,7 +442,7 @@ public final class AcknowledgementAggregatorActor extends AbstractActorWithTimer
         return isChannelLive || isChannelSmart ? LIVE_RESPONSE : TWIN_PERSISTED;
     }
 
-    private static Duration getTimeout(final Signal<?> originatingSignal, final Duration maxTimeout,
+    static Duration getTimeout(final Signal<?> originatingSignal, final Duration maxTimeout,
             @Nullable final Duration specifiedTimeout) {
         if (specifiedTimeout != null) {
             return specifiedTimeout;
@@ -39,8 +39,10 @@ import org.eclipse.ditto.internal.models.signal.correlation.MatchingValidationRe
 import org.eclipse.ditto.protocol.HeaderTranslator;
 import org.eclipse.ditto.things.model.signals.commands.modify.ThingModifyCommand;
 
+import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import akka.actor.ActorRefFactory;
+import akka.actor.ActorSystem;
 import akka.japi.pf.PFBuilder;
 import scala.PartialFunction;
 
@@ -57,19 +59,24 @@ public final class AcknowledgementAggregatorActorStarter {
     private final HeaderTranslator headerTranslator;
     private final PartialFunction<Signal<?>, Signal<?>> ackRequestSetter;
     @Nullable private final Consumer<MatchingValidationResult.Failure> matchingValidationFailureConsumer;
+    @Nullable private final SingleAcknowledgementAggregator singleAcknowledgementAggregator;
     private int childCounter;
 
     private AcknowledgementAggregatorActorStarter(final ActorRefFactory actorRefFactory,
             final Duration maxTimeout,
             final HeaderTranslator headerTranslator,
             @Nullable final Consumer<MatchingValidationResult.Failure> matchingValidationFailureConsumer,
-            final PartialFunction<Signal<?>, Signal<?>> ackRequestSetter) {
+            final PartialFunction<Signal<?>, Signal<?>> ackRequestSetter,
+            final boolean bypassAggregatorActorForSingleAck) {
 
         this.actorRefFactory = checkNotNull(actorRefFactory, "actorRefFactory");
         this.maxTimeout = checkNotNull(maxTimeout, "maxTimeout");
         this.headerTranslator = checkNotNull(headerTranslator, "headerTranslator");
         this.matchingValidationFailureConsumer = matchingValidationFailureConsumer;
         this.ackRequestSetter = ackRequestSetter;
+        singleAcknowledgementAggregator = bypassAggregatorActorForSingleAck
+                ? getActorSystem(actorRefFactory).map(SingleAcknowledgementAggregator::lookup).orElse(null)
+                : null;
         childCounter = 0;
     }
 
@@ -90,11 +97,12 @@ public final class AcknowledgementAggregatorActorStarter {
             @Nullable final Consumer<MatchingValidationResult.Failure> matchingValidationFailureConsumer,
             final AbstractCommandAckRequestSetter<?>... ackRequestSetters) {
 
-        return of(actorRefFactory,
+        return new AcknowledgementAggregatorActorStarter(actorRefFactory,
                 acknowledgementConfig.getForwarderFallbackTimeout(),
                 headerTranslator,
                 matchingValidationFailureConsumer,
-                ackRequestSetters);
+                buildAckRequestSetter(ackRequestSetters),
+                acknowledgementConfig.isBypassAggregatorActorForSingleAck());
     }
 
     /**
@@ -118,7 +126,8 @@ public final class AcknowledgementAggregatorActorStarter {
                 maxTimeout,
                 headerTranslator,
                 matchingValidationFailureConsumer,
-                buildAckRequestSetter(ackRequestSetters));
+                buildAckRequestSetter(ackRequestSetters),
+                false);
     }
 
     /**
@@ -129,7 +138,7 @@ public final class AcknowledgementAggregatorActorStarter {
      * @param timeoutOverride duration to override the timeout of the command.
      * @param responseSignalConsumer consumer of the aggregated response or error.
      * @param ackregatorStartedFunction what to do if the aggregator actor started. The first argument is
-     * the command after setting requested-acks and response-required.
+     * the command to forward after setting requested-acks and response-required.
      * @param ackregatorNotStartedFunction what to do if the aggregator actor did not start.
      * @return the result.
      */
@@ -147,7 +156,7 @@ public final class AcknowledgementAggregatorActorStarter {
                                 originatingSignal,
                                 timeoutOverride,
                                 responseSignalConsumer::apply,
-                                ackregator -> ackregatorStartedFunction.apply(originatingSignal, ackregator));
+                                ackregatorStartedFunction);
                     } else {
                         return ackregatorNotStartedFunction.apply(originatingSignal);
                     }
@@ -179,23 +188,39 @@ public final class AcknowledgementAggregatorActorStarter {
 
     /**
      * Start an acknowledgement aggregator actor for a signal with acknowledgement requests.
+     * Twin commands which only request the {@code twin-persisted} acknowledgement are aggregated without an actor if
+     * configured so; the passed receiver of their responses is then shared by all of them and the passed signal to
+     * forward gets a unique correlation ID if its correlation ID is already pending.
      *
      * @param <T> type of results.
      * @param entityId the entity ID of the originating signal.
      * @param signal the originating signal. Must have nonempty acknowledgement requests.
      * @param timeoutOverride override timeout of the signal by another duration.
      * @param responseSignalConsumer consumer of the aggregated response or error.
-     * @param forwarderStartedFunction what to do after the aggregator actor started.
+     * @param forwarderStartedFunction what to do after the aggregator actor started. The first argument is the
+     * signal to forward, the second one the aggregator to forward it with as sender.
      * @return the result.
      */
     public <T> T doStart(final EntityId entityId,
             final Signal<?> signal,
             @Nullable final Duration timeoutOverride,
             final Consumer<Object> responseSignalConsumer,
-            final Function<ActorRef, T> forwarderStartedFunction) {
+            final BiFunction<Signal<?>, ActorRef, T> forwarderStartedFunction) {
+
+        final T result;
+        if (null != singleAcknowledgementAggregator && SingleAcknowledgementAggregator.isApplicable(signal)) {
+            final var signalToForward = singleAcknowledgementAggregator.register(signal,
+                    AcknowledgementAggregatorActor.getTimeout(signal, maxTimeout, timeoutOverride),
+                    headerTranslator,
+                    matchingValidationFailureConsumer,
+                    responseSignalConsumer);
+            result = forwarderStartedFunction.apply(signalToForward, singleAcknowledgementAggregator.getReceiver());
+        } else {
+            result = forwarderStartedFunction.apply(signal,
+                    startAckAggregatorActor(entityId, signal, timeoutOverride, responseSignalConsumer));
+        }
 
-        return forwarderStartedFunction.apply(
-                startAckAggregatorActor(entityId, signal, timeoutOverride, responseSignalConsumer));
+        return result;
     }
 
     private ActorRef startAckAggregatorActor(final EntityId entityId,
@@ -222,6 +247,19 @@ public final class AcknowledgementAggregatorActorStarter {
         return String.format("ackr%x-%s", childCounter++, correlationId);
     }
 
+    private static Optional<ActorSystem> getActorSystem(final ActorRefFactory actorRefFactory) {
+        final Optional<ActorSystem> result;
+        if (actorRefFactory instanceof ActorContext) {
+            result = Optional.of(((ActorContext) actorRefFactory).system());
+        } else if (actorRefFactory instanceof ActorSystem) {
+            result = Optional.of((ActorSystem) actorRefFactory);
+        } else {
+            result = Optional.empty();
+        }
+
+        return result;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes", "java:S3740"})
     private static PartialFunction<Signal<?>, Signal<?>> buildAckRequestSetter(
             final AbstractCommandAckRequestSetter<?>... ackRequestSetters) {
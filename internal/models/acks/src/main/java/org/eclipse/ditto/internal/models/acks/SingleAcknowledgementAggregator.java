@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.acks;
+
+import static org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel.TWIN_PERSISTED;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.DittoHeadersSettable;
+import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgements;
+import org.eclipse.ditto.internal.models.signal.CommandHeaderRestoration;
+import org.eclipse.ditto.internal.models.signal.SignalInformationPoint;
+import org.eclipse.ditto.internal.models.signal.correlation.CommandAndCommandResponseMatchingValidator;
+import org.eclipse.ditto.internal.models.signal.correlation.MatchingValidationResult;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.timing.TimingWheel;
+import org.eclipse.ditto.protocol.HeaderTranslator;
+import org.eclipse.ditto.things.model.signals.acks.ThingAcknowledgementFactory;
+import org.eclipse.ditto.things.model.signals.commands.ThingCommandResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ThingModifyCommand;
+
+import akka.actor.AbstractActor;
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.actor.Props;
+
+/**
+ * Aggregates the response of twin commands which only request the built-in {@code twin-persisted} acknowledgement
+ * without starting an {@link AcknowledgementAggregatorActor} per command.
+ * <p>
+ * Each command is registered as a future keyed by an internal correlation ID, which is the correlation ID of the
+ * command unless another command with that correlation ID is pending; then a random UUID is appended to it like the
+ * {@code ResponseReceiverCache} of concierge does. The command has to be sent with the internal correlation ID.
+ * Responses and acknowledgements are sent to one receiver actor per actor system which validates them against the
+ * sent command and completes the future of their internal correlation ID with the correlation ID of the command
+ * restored. The timeouts of all pending commands share the {@link TimingWheel} of the actor system.
+ *
+ * @since 3.0.0
+ */
+final class SingleAcknowledgementAggregator implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+    private static final String RECEIVER_ACTOR_NAME = "singleAcknowledgementReceiver";
+
+    private final TimingWheel timingWheel;
+    private final Map<String, PendingAcknowledgement> pendingAcknowledgements;
+    private final ActorRef receiver;
+
+    private SingleAcknowledgementAggregator(final ExtendedActorSystem actorSystem) {
+        timingWheel = TimingWheel.get(actorSystem);
+        pendingAcknowledgements = new ConcurrentHashMap<>();
+        receiver = actorSystem.systemActorOf(Receiver.props(pendingAcknowledgements), RECEIVER_ACTOR_NAME);
+    }
+
+    /**
+     * Returns the {@code SingleAcknowledgementAggregator} of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the instance.
+     */
+    static SingleAcknowledgementAggregator lookup(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Indicates whether a signal only requests the {@code twin-persisted} acknowledgement of a twin thing command, so
+     * that it can be aggregated without an actor.
+     *
+     * @param signal the signal with requested acknowledgements set.
+     * @return whether the signal can be aggregated by this extension.
+     */
+    static boolean isApplicable(final Signal<?> signal) {
+        final var acknowledgementRequests = signal.getDittoHeaders().getAcknowledgementRequests();
+        return signal instanceof ThingModifyCommand &&
+                !SignalInformationPoint.isChannelLive(signal) &&
+                !SignalInformationPoint.isChannelSmart(signal) &&
+                signal.getDittoHeaders().getCorrelationId().isPresent() &&
+                acknowledgementRequests.size() == 1 &&
+                acknowledgementRequests.contains(AcknowledgementRequest.of(TWIN_PERSISTED));
+    }
+
+    /**
+     * Registers an applicable signal for aggregation of its response.
+     *
+     * @param signal the signal as checked by {@link #isApplicable(Signal)}.
+     * @param timeout how long to wait for the response.
+     * @param headerTranslator translates headers of received acknowledgements to external headers.
+     * @param matchingValidationFailureConsumer handler of responses which do not match the signal, or null.
+     * @param responseSignalConsumer consumer of the response or error.
+     * @return the signal with its internal correlation ID, which has to be sent with the {@link #getReceiver()
+     * receiver} as sender.
+     */
+    Signal<?> register(final Signal<?> signal,
+            final Duration timeout,
+            final HeaderTranslator headerTranslator,
+            @Nullable final Consumer<MatchingValidationResult.Failure> matchingValidationFailureConsumer,
+            final Consumer<Object> responseSignalConsumer) {
+
+        final var dittoHeaders = signal.getDittoHeaders();
+        final var correlationId = dittoHeaders.getCorrelationId().orElseThrow();
+        final var ackregator = AcknowledgementAggregator.getInstance(((ThingModifyCommand<?>) signal).getEntityId(),
+                correlationId, timeout, headerTranslator);
+        ackregator.addAcknowledgementRequests(dittoHeaders.getAcknowledgementRequests());
+        final var pendingAcknowledgement =
+                putWithUniqueCorrelationId(signal, ackregator, timeout, matchingValidationFailureConsumer);
+        final var timedOut = new TimedOut(pendingAcknowledgement);
+        pendingAcknowledgement.timer =
+                timingWheel.schedule(timeout, () -> receiver.tell(timedOut, ActorRef.noSender()));
+        pendingAcknowledgement.result.thenAccept(responseSignalConsumer)
+                .whenComplete((result, error) -> pendingAcknowledgements.remove(
+                        pendingAcknowledgement.getInternalCorrelationId(), pendingAcknowledgement));
+
+        return pendingAcknowledgement.sentCommand;
+    }
+
+    private PendingAcknowledgement putWithUniqueCorrelationId(final Signal<?> signal,
+            final AcknowledgementAggregator ackregator,
+            final Duration timeout,
+            @Nullable final Consumer<MatchingValidationResult.Failure> matchingValidationFailureConsumer) {
+
+        final var dittoHeaders = signal.getDittoHeaders();
+        final var correlationId = dittoHeaders.getCorrelationId().orElseThrow();
+        var pendingAcknowledgement = new PendingAcknowledgement(signal, (ThingModifyCommand<?>) signal, ackregator,
+                timeout, matchingValidationFailureConsumer);
+        while (null != pendingAcknowledgements.putIfAbsent(pendingAcknowledgement.getInternalCorrelationId(),
+                pendingAcknowledgement)) {
+            final var signalWithUniqueCorrelationId = signal.setDittoHeaders(dittoHeaders.toBuilder()
+                    .correlationId(correlationId + "_" + UUID.randomUUID())
+                    .build());
+            pendingAcknowledgement = new PendingAcknowledgement(signal,
+                    (ThingModifyCommand<?>) signalWithUniqueCorrelationId, ackregator, timeout,
+                    matchingValidationFailureConsumer);
+        }
+
+        return pendingAcknowledgement;
+    }
+
+    /**
+     * Returns the receiver actor which registered signals have to be sent with.
+     *
+     * @return the receiver of the responses of all registered signals.
+     */
+    ActorRef getReceiver() {
+        return receiver;
+    }
+
+    /**
+     * Returns the number of registered signals whose response is pending.
+     *
+     * @return the number of pending signals.
+     */
+    int getPendingCount() {
+        return pendingAcknowledgements.size();
+    }
+
+    private static final class PendingAcknowledgement {
+
+        private final Signal<?> originatingSignal;
+        private final ThingModifyCommand<?> sentCommand;
+        private final AcknowledgementAggregator ackregator;
+        private final Duration timeout;
+        @Nullable private final Consumer<MatchingValidationResult.Failure> matchingValidationFailureConsumer;
+        private final CompletableFuture<Object> result;
+        @Nullable private volatile TimingWheel.Timeout timer;
+
+        private PendingAcknowledgement(final Signal<?> originatingSignal,
+                final ThingModifyCommand<?> sentCommand,
+                final AcknowledgementAggregator ackregator,
+                final Duration timeout,
+                @Nullable final Consumer<MatchingValidationResult.Failure> matchingValidationFailureConsumer) {
+
+            this.originatingSignal = originatingSignal;
+            this.sentCommand = sentCommand;
+            this.ackregator = ackregator;
+            this.timeout = timeout;
+            this.matchingValidationFailureConsumer = matchingValidationFailureConsumer;
+            result = new CompletableFuture<>();
+            timer = null;
+        }
+
+        private String getInternalCorrelationId() {
+            return sentCommand.getDittoHeaders().getCorrelationId().orElseThrow();
+        }
+
+        /**
+         * Validates a response with the internal correlation ID against the sent command.
+         */
+        private MatchingValidationResult validate(final ThingCommandResponse<?> thingCommandResponse) {
+            final var validationResult =
+                    CommandAndCommandResponseMatchingValidator.getInstance().apply(sentCommand, thingCommandResponse);
+            if (!validationResult.isSuccess() && null != matchingValidationFailureConsumer) {
+                matchingValidationFailureConsumer.accept(validationResult.asFailureOrThrow());
+            }
+
+            return validationResult;
+        }
+
+        /**
+         * Replaces the internal correlation ID of a received signal by the correlation ID of the originating signal.
+         */
+        @SuppressWarnings("unchecked")
+        private <T extends DittoHeadersSettable<?>> T restoreCorrelationId(final T signal) {
+            final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+            final var correlationId = originatingSignal.getDittoHeaders().getCorrelationId();
+            final T result;
+            if (dittoHeaders.getCorrelationId().equals(correlationId)) {
+                result = signal;
+            } else {
+                result = (T) signal.setDittoHeaders(dittoHeaders.toBuilder()
+                        .correlationId(correlationId.orElseThrow())
+                        .build());
+            }
+
+            return result;
+        }
+
+        private void onResponse(final ThingCommandResponse<?> response) {
+            final var thingCommandResponse = restoreCorrelationId(response);
+            ackregator.addReceivedAcknowledgment(ThingAcknowledgementFactory.newAcknowledgement(TWIN_PERSISTED,
+                    thingCommandResponse.getEntityId(),
+                    thingCommandResponse.getHttpStatus(),
+                    thingCommandResponse.getDittoHeaders()));
+            if (ackregator.receivedAllRequestedAcknowledgements()) {
+                // only the implicit "twin-persisted" acknowledgement was asked for, respond with the signal:
+                complete(thingCommandResponse);
+            }
+        }
+
+        private void onAcknowledgement(final Acknowledgement acknowledgement) {
+            ackregator.addReceivedAcknowledgment(restoreCorrelationId(acknowledgement));
+            if (ackregator.receivedAllRequestedAcknowledgements()) {
+                complete(ackregator.getAggregatedAcknowledgements(originatingSignal.getDittoHeaders()));
+            }
+        }
+
+        private void onTimeout() {
+            if (!result.isDone()) {
+                final var aggregatedAcknowledgements =
+                        ackregator.getAggregatedAcknowledgements(originatingSignal.getDittoHeaders());
+                complete(AcknowledgementAggregatorActor.getTimeoutErrorResponse(aggregatedAcknowledgements, timeout));
+            }
+        }
+
+        private void complete(final DittoHeadersSettable<?> signal) {
+            final var currentTimer = timer;
+            if (null != currentTimer) {
+                currentTimer.cancel();
+            }
+            result.complete(CommandHeaderRestoration.restoreCommandConnectivityHeaders(signal,
+                    originatingSignal.getDittoHeaders()));
+        }
+
+    }
+
+    private static final class TimedOut {
+
+        private final PendingAcknowledgement pendingAcknowledgement;
+
+        private TimedOut(final PendingAcknowledgement pendingAcknowledgement) {
+            this.pendingAcknowledgement = pendingAcknowledgement;
+        }
+
+    }
+
+    /**
+     * Receiver of the responses of all registered signals of an actor system.
+     */
+    private static final class Receiver extends AbstractActor {
+
+        private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+        private final Map<String, PendingAcknowledgement> pendingAcknowledgements;
+
+        @SuppressWarnings("unused")
+        private Receiver(final Map<String, PendingAcknowledgement> pendingAcknowledgements) {
+            this.pendingAcknowledgements = pendingAcknowledgements;
+        }
+
+        private static Props props(final Map<String, PendingAcknowledgement> pendingAcknowledgements) {
+            return Props.create(Receiver.class, pendingAcknowledgements);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(ThingCommandResponse.class, response -> withPending(response)
+                            .filter(pending -> isValid(pending, response))
+                            .ifPresent(pending -> pending.onResponse(response)))
+                    .match(Acknowledgement.class, ack -> withPending(ack)
+                            .ifPresent(pending -> pending.onAcknowledgement(ack)))
+                    .match(Acknowledgements.class, acks -> withPending(acks)
+                            .ifPresent(pending -> acks.stream().forEach(pending::onAcknowledgement)))
+                    .match(DittoRuntimeException.class, error -> withPending(error)
+                            .ifPresent(pending -> pending.complete(pending.restoreCorrelationId(error))))
+                    .match(TimedOut.class, timedOut -> timedOut.pendingAcknowledgement.onTimeout())
+                    .matchAny(message -> log.warning("Received unexpected message: <{}>", message))
+                    .build();
+        }
+
+        private Optional<PendingAcknowledgement> withPending(final WithDittoHeaders message) {
+            final var pendingAcknowledgement = message.getDittoHeaders()
+                    .getCorrelationId()
+                    .map(pendingAcknowledgements::get)
+                    .filter(pending -> !pending.result.isDone());
+            if (pendingAcknowledgement.isEmpty()) {
+                log.withCorrelationId(message)
+                        .debug("Discarding <{}> without pending acknowledgement.", message.getClass().getSimpleName());
+            }
+
+            return pendingAcknowledgement;
+        }
+
+        private boolean isValid(final PendingAcknowledgement pendingAcknowledgement,
+                final ThingCommandResponse<?> response) {
+
+            final var validationResult = pendingAcknowledgement.validate(response);
+            if (!validationResult.isSuccess()) {
+                log.withCorrelationId(response)
+                        .warning("Received invalid response. Reason: {} Response: {}.",
+                                validationResult.asFailureOrThrow().getDetailMessage(), response);
+            }
+
+            return validationResult.isSuccess();
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<SingleAcknowledgementAggregator> {
+
+        @Override
+        public SingleAcknowledgementAggregator createExtension(final ExtendedActorSystem system) {
+            return new SingleAcknowledgementAggregator(system);
+        }
+
+    }
+
+}
@@ -59,6 +59,15 @@ public interface AcknowledgementConfig {
      */
     int getIssuedMaxBytes();
 
+    /**
+     * Returns whether commands which only request the built-in {@code twin-persisted} acknowledgement are aggregated
+     * without starting an {@code AcknowledgementAggregatorActor} per command.
+     *
+     * @return whether single acknowledgements are aggregated without an actor per command.
+     * @since 3.0.0
+     */
+    boolean isBypassAggregatorActorForSingleAck();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code AcknowledgementConfig}.
@@ -83,7 +92,12 @@ public interface AcknowledgementConfig {
         /**
          * The maximum number of bytes for the payload of an automatically issued acknowledgement.
          */
-        ISSUED_MAX_BYTES("issued-max-bytes", 100_000);
+        ISSUED_MAX_BYTES("issued-max-bytes", 100_000),
+
+        /**
+         * Whether single built-in acknowledgements are aggregated without an actor per command.
+         */
+        BYPASS_AGGREGATOR_ACTOR_FOR_SINGLE_ACK("bypass-aggregator-actor-for-single-ack", true);
 
         private final String path;
         private final Object defaultValue;
@@ -37,6 +37,7 @@ public final class DefaultAcknowledgementConfig implements AcknowledgementConfig
     private final Duration collectorFallbackLifetime;
     private final Duration collectorFallbackAskTimeout;
     private final int issuedMaxBytes;
+    private final boolean bypassAggregatorActorForSingleAck;
 
     private DefaultAcknowledgementConfig(final ScopedConfig config) {
         forwarderFallbackTimeout =
@@ -47,6 +48,8 @@ public final class DefaultAcknowledgementConfig implements AcknowledgementConfig
                 config.getNonNegativeAndNonZeroDurationOrThrow(AcknowledgementConfigValue.COLLECTOR_FALLBACK_ASK_TIMEOUT);
         issuedMaxBytes =
                 config.getNonNegativeIntOrThrow(AcknowledgementConfigValue.ISSUED_MAX_BYTES);
+        bypassAggregatorActorForSingleAck =
+                config.getBoolean(AcknowledgementConfigValue.BYPASS_AGGREGATOR_ACTOR_FOR_SINGLE_ACK.getConfigPath());
     }
 
     /**
@@ -81,6 +84,11 @@ public final class DefaultAcknowledgementConfig implements AcknowledgementConfig
         return issuedMaxBytes;
     }
 
+    @Override
+    public boolean isBypassAggregatorActorForSingleAck() {
+        return bypassAggregatorActorForSingleAck;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -93,13 +101,14 @@ public final class DefaultAcknowledgementConfig implements AcknowledgementConfig
         return Objects.equals(forwarderFallbackTimeout, that.forwarderFallbackTimeout) &&
                 Objects.equals(collectorFallbackLifetime, that.collectorFallbackLifetime) &&
                 Objects.equals(collectorFallbackAskTimeout, that.collectorFallbackAskTimeout) &&
-                issuedMaxBytes == that.issuedMaxBytes;
+                issuedMaxBytes == that.issuedMaxBytes &&
+                bypassAggregatorActorForSingleAck == that.bypassAggregatorActorForSingleAck;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(forwarderFallbackTimeout, collectorFallbackLifetime, collectorFallbackAskTimeout,
-                issuedMaxBytes);
+                issuedMaxBytes, bypassAggregatorActorForSingleAck);
     }
 
     @Override
@@ -109,6 +118,7 @@ public final class DefaultAcknowledgementConfig implements AcknowledgementConfig
                 ", collectorFallbackLifetime=" + collectorFallbackLifetime +
                 ", collectorFallbackAskTimeout=" + collectorFallbackAskTimeout +
                 ", issuedMaxBytes=" + issuedMaxBytes +
+                ", bypassAggregatorActorForSingleAck=" + bypassAggregatorActorForSingleAck +
                 "]";
     }
 
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.acks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.correlationid.TestNameCorrelationId;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgements;
+import org.eclipse.ditto.base.model.signals.commands.exceptions.GatewayCommandTimeoutException;
+import org.eclipse.ditto.internal.models.acks.config.DefaultAcknowledgementConfig;
+import org.eclipse.ditto.internal.models.signal.correlation.MatchingValidationResult;
+import org.eclipse.ditto.internal.utils.akka.ActorSystemResource;
+import org.eclipse.ditto.protocol.HeaderTranslator;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThingResponse;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.japi.Pair;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link SingleAcknowledgementAggregator} via {@link AcknowledgementAggregatorActorStarter}.
+ */
+public final class SingleAcknowledgementAggregatorTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+    private static final AcknowledgementRequest TWIN_PERSISTED =
+            AcknowledgementRequest.of(AcknowledgementLabel.of("twin-persisted"));
+
+    @Rule
+    public final ActorSystemResource actorSystemResource = ActorSystemResource.newInstance();
+
+    @Rule
+    public final TestNameCorrelationId testNameCorrelationId = TestNameCorrelationId.newInstance();
+
+    @Test
+    public void returnSingleResponseForTwinWithoutAggregatorActor() {
+        final var testKit = actorSystemResource.newTestKit();
+        final var command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .acknowledgementRequest(TWIN_PERSISTED)
+                .build());
+
+        final var forwarded = start(command, testKit);
+        final var ackregator = forwarded.second();
+
+        assertThat(isSingleAckReceiver(ackregator)).isTrue();
+        assertThat(forwarded.first()).isEqualTo(command);
+        ackregator.tell(DeleteThingResponse.of(command.getEntityId(), forwarded.first().getDittoHeaders()),
+                ActorRef.noSender());
+        testKit.expectMsg(DeleteThingResponse.of(command.getEntityId(), command.getDittoHeaders()));
+        assertPendingCountEventually(0);
+    }
+
+    @Test
+    public void returnAcknowledgementsForTwinWithoutAggregatorActor() {
+        final var testKit = actorSystemResource.newTestKit();
+        final var command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .acknowledgementRequest(TWIN_PERSISTED)
+                .build());
+
+        final var forwarded = start(command, testKit);
+        forwarded.second().tell(Acknowledgement.of(TWIN_PERSISTED.getLabel(), THING_ID, HttpStatus.NO_CONTENT,
+                forwarded.first().getDittoHeaders()), ActorRef.noSender());
+
+        final var acknowledgements = testKit.expectMsgClass(Acknowledgements.class);
+        assertThat(acknowledgements.getHttpStatus()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(acknowledgements.stream().map(Acknowledgement::getDittoHeaders))
+                .allSatisfy(dittoHeaders -> assertThat(dittoHeaders.getCorrelationId())
+                        .isEqualTo(command.getDittoHeaders().getCorrelationId()));
+    }
+
+    @Test
+    public void returnErrorForTwinWithoutAggregatorActor() {
+        final var testKit = actorSystemResource.newTestKit();
+        final var command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .acknowledgementRequest(TWIN_PERSISTED)
+                .build());
+
+        final var forwarded = start(command, testKit);
+        forwarded.second().tell(ThingNotAccessibleException.newBuilder(THING_ID)
+                .dittoHeaders(forwarded.first().getDittoHeaders())
+                .build(), ActorRef.noSender());
+
+        testKit.expectMsg(ThingNotAccessibleException.newBuilder(THING_ID)
+                .dittoHeaders(command.getDittoHeaders())
+                .build());
+    }
+
+    @Test
+    public void returnTimeoutErrorResponseForTwinWithoutAggregatorActor() {
+        final var testKit = actorSystemResource.newTestKit();
+        final var command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .acknowledgementRequest(TWIN_PERSISTED)
+                .timeout(Duration.ofMillis(1L))
+                .build());
+
+        start(command, testKit);
+
+        final var thingErrorResponse = testKit.expectMsgClass(ThingErrorResponse.class);
+        assertThat(thingErrorResponse.getDittoRuntimeException()).isInstanceOf(GatewayCommandTimeoutException.class);
+        assertPendingCountEventually(0);
+    }
+
+    @Test
+    public void aggregateCommandsWithSameCorrelationIdSeparately() {
+        final var testKit = actorSystemResource.newTestKit();
+        final var command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .acknowledgementRequest(TWIN_PERSISTED)
+                .build());
+
+        final var first = start(command, testKit);
+        final var second = start(command, testKit);
+
+        assertThat(isSingleAckReceiver(first.second())).isTrue();
+        assertThat(isSingleAckReceiver(second.second())).isTrue();
+        assertThat(first.first().getDittoHeaders().getCorrelationId())
+                .isNotEqualTo(second.first().getDittoHeaders().getCorrelationId());
+
+        second.second().tell(DeleteThingResponse.of(THING_ID, second.first().getDittoHeaders()), ActorRef.noSender());
+        testKit.expectMsg(DeleteThingResponse.of(THING_ID, command.getDittoHeaders()));
+        assertPendingCountEventually(1);
+    }
+
+    @Test
+    public void discardResponseNotMatchingTheCommand() {
+        final var testKit = actorSystemResource.newTestKit();
+        final var command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .acknowledgementRequest(TWIN_PERSISTED)
+                .timeout(Duration.ofSeconds(1L))
+                .build());
+
+        final var forwarded = start(command, testKit);
+        forwarded.second().tell(DeleteThingResponse.of(ThingId.of("thing:other"), forwarded.first().getDittoHeaders()),
+                ActorRef.noSender());
+
+        testKit.expectMsgClass(MatchingValidationResult.Failure.class);
+        final var thingErrorResponse = testKit.expectMsgClass(ThingErrorResponse.class);
+        assertThat(thingErrorResponse.getDittoRuntimeException()).isInstanceOf(GatewayCommandTimeoutException.class);
+    }
+
+    @Test
+    public void startAggregatorActorForMultipleAcknowledgementRequests() {
+        final var testKit = actorSystemResource.newTestKit();
+        final var command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .acknowledgementRequest(TWIN_PERSISTED,
+                        AcknowledgementRequest.of(AcknowledgementLabel.of("custom-ack")))
+                .build());
+
+        final var ackregator = start(command, testKit).second();
+
+        assertThat(isSingleAckReceiver(ackregator)).isFalse();
+    }
+
+    @Test
+    public void startAggregatorActorForLiveChannel() {
+        final var testKit = actorSystemResource.newTestKit();
+        final var command = DeleteThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .acknowledgementRequest(AcknowledgementRequest.of(AcknowledgementLabel.of("live-response")))
+                .channel("live")
+                .build());
+
+        final var ackregator = start(command, testKit).second();
+
+        assertThat(isSingleAckReceiver(ackregator)).isFalse();
+    }
+
+    private Pair<Signal<?>, ActorRef> start(final DeleteThing command, final TestKit testKit) {
+        final var underTest = AcknowledgementAggregatorActorStarter.of(actorSystemResource.getActorSystem(),
+                DefaultAcknowledgementConfig.of(ConfigFactory.empty()),
+                HeaderTranslator.empty(),
+                failure -> testKit.getRef().tell(failure, ActorRef.noSender()));
+
+        return underTest.doStart(THING_ID, command, null, response -> testKit.getRef().tell(response,
+                ActorRef.noSender()), Pair::create);
+    }
+
+    private static boolean isSingleAckReceiver(final ActorRef ackregator) {
+        return "singleAcknowledgementReceiver".equals(ackregator.path().name());
+    }
+
+    private void assertPendingCountEventually(final int expectedPendingCount) {
+        final var singleAcknowledgementAggregator =
+                SingleAcknowledgementAggregator.lookup(actorSystemResource.getActorSystem());
+        actorSystemResource.newTestKit()
+                .awaitAssert(Duration.ofSeconds(3L), () -> {
+                    assertThat(singleAcknowledgementAggregator.getPendingCount()).isEqualTo(expectedPendingCount);
+                    return null;
+                });
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.acks.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.models.acks.AcknowledgementAggregatorActorStarter;
+import org.eclipse.ditto.internal.models.acks.config.DefaultAcknowledgementConfig;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.HeaderTranslator;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Compares aggregating the implicit {@code twin-persisted} acknowledgement of twin commands with an
+ * {@code AcknowledgementAggregatorActor} per command against the actor-less aggregation.
+ * A stub of the things persistence replies to each {@code ModifyAttribute} immediately; concurrent clients measure
+ * throughput and the latency distribution of the round trip from starting the aggregation until the response arrives.
+ */
+public class SingleAcknowledgementAggregationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int CLIENT_THREADS = 16;
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:benchmark");
+
+    @State(Scope.Benchmark)
+    public static class ActorSystemState {
+
+        @Param({"false", "true"})
+        public boolean bypassAggregatorActorForSingleAck;
+
+        private ActorSystem actorSystem;
+        private ActorRef persistenceStub;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            actorSystem = ActorSystem.create(SingleAcknowledgementAggregationBenchmark.class.getSimpleName(),
+                    ConfigFactory.parseString("akka.loglevel = WARNING").withFallback(ConfigFactory.load()));
+            persistenceStub = actorSystem.actorOf(PersistenceStub.props());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            actorSystem.terminate();
+            actorSystem.getWhenTerminated().toCompletableFuture().join();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class ClientState {
+
+        private AcknowledgementAggregatorActorStarter ackregatorStarter;
+        private ActorRef persistenceStub;
+
+        @Setup(Level.Trial)
+        public void setUp(final ActorSystemState actorSystemState) {
+            ackregatorStarter = AcknowledgementAggregatorActorStarter.of(actorSystemState.actorSystem,
+                    DefaultAcknowledgementConfig.of(ConfigFactory.parseString(
+                            "acknowledgement.bypass-aggregator-actor-for-single-ack = " +
+                                    actorSystemState.bypassAggregatorActorForSingleAck)),
+                    HeaderTranslator.empty(),
+                    null);
+            persistenceStub = actorSystemState.persistenceStub;
+        }
+
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(CLIENT_THREADS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object modifyAttribute(final ClientState clientState) {
+        final var command = ModifyAttribute.of(THING_ID, JsonPointer.of("counter"), JsonValue.of(1),
+                DittoHeaders.newBuilder()
+                        .randomCorrelationId()
+                        .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                        .build());
+        final var response = new CompletableFuture<>();
+
+        return clientState.ackregatorStarter.doStart(THING_ID, command, null, response::complete,
+                (signalToForward, ackregator) -> {
+                    clientState.persistenceStub.tell(signalToForward, ackregator);
+                    return response;
+                }).join();
+    }
+
+    private static final class PersistenceStub extends AbstractActor {
+
+        private static Props props() {
+            return Props.create(PersistenceStub.class);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .match(ModifyAttribute.class, modifyAttribute -> getSender().tell(
+                            ModifyAttributeResponse.modified(modifyAttribute.getEntityId(),
+                                    modifyAttribute.getAttributePointer(), modifyAttribute.getDittoHeaders()),
+                            ActorRef.noSender()))
+                    .build();
+        }
+
+    }
+
+}
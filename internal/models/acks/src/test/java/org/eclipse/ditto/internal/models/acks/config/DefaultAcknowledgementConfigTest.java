@@ -75,6 +75,11 @@ public final class DefaultAcknowledgementConfigTest {
         softly.assertThat(underTest.getIssuedMaxBytes())
                 .as(AcknowledgementConfig.AcknowledgementConfigValue.ISSUED_MAX_BYTES.getConfigPath())
                 .isEqualTo(AcknowledgementConfig.AcknowledgementConfigValue.ISSUED_MAX_BYTES.getDefaultValue());
+
+        softly.assertThat(underTest.isBypassAggregatorActorForSingleAck())
+                .as(AcknowledgementConfig.AcknowledgementConfigValue.BYPASS_AGGREGATOR_ACTOR_FOR_SINGLE_ACK.getConfigPath())
+                .isEqualTo(AcknowledgementConfig.AcknowledgementConfigValue.BYPASS_AGGREGATOR_ACTOR_FOR_SINGLE_ACK
+                        .getDefaultValue());
     }
 
     @Test
@@ -96,6 +101,10 @@ public final class DefaultAcknowledgementConfigTest {
         softly.assertThat(underTest.getIssuedMaxBytes())
                 .as(AcknowledgementConfig.AcknowledgementConfigValue.ISSUED_MAX_BYTES.getConfigPath())
                 .isEqualTo(89);
+
+        softly.assertThat(underTest.isBypassAggregatorActorForSingleAck())
+                .as(AcknowledgementConfig.AcknowledgementConfigValue.BYPASS_AGGREGATOR_ACTOR_FOR_SINGLE_ACK.getConfigPath())
+                .isFalse();
     }
 
 }
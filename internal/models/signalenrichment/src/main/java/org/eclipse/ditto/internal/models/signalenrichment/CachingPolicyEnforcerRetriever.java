@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.cacheloaders.EnforcementCacheKey;
+import org.eclipse.ditto.internal.utils.cacheloaders.JsonViewFilterCache;
+import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.AskWithRetryConfig;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+import akka.actor.ActorRef;
+import akka.actor.Scheduler;
+
+/**
+ * Retrieves policy enforcers by asking the policies shard region and caches them.
+ * Like the cached things of signal enrichment, cached enforcers are not invalidated on policy changes but expire
+ * according to the cache config.
+ *
+ * @since 3.0.0
+ */
+public final class CachingPolicyEnforcerRetriever implements PolicyEnforcerRetriever {
+
+    private static final String CACHE_NAME_SUFFIX = "_signal_enrichment_policy_enforcer_cache";
+    private static final String JSON_VIEW_FILTER_CACHE_NAME_SUFFIX = "_signal_enrichment_json_view_filter_cache";
+
+    private final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache;
+
+    private CachingPolicyEnforcerRetriever(final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache) {
+        this.policyEnforcerCache = policyEnforcerCache;
+    }
+
+    /**
+     * Returns a new {@code CachingPolicyEnforcerRetriever}.
+     *
+     * @param policiesShardRegion the shard region or shard region proxy to sudo-retrieve policies from.
+     * @param askWithRetryConfig the configuration of the "ask with retry" pattern for retrieving policies.
+     * @param scheduler the scheduler to use for retrying to retrieve policies.
+     * @param cacheConfig the configuration of the enforcer cache.
+     * @param cacheLoaderExecutor the executor to use in order to asynchronously load cache entries.
+     * @param cacheNamePrefix the prefix to use as cacheName of the caches.
+     * @return the retriever.
+     * @throws NullPointerException if any argument is null.
+     */
+    public static CachingPolicyEnforcerRetriever of(final ActorRef policiesShardRegion,
+            final AskWithRetryConfig askWithRetryConfig,
+            final Scheduler scheduler,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix) {
+
+        checkNotNull(policiesShardRegion, "policiesShardRegion");
+        checkNotNull(askWithRetryConfig, "askWithRetryConfig");
+        checkNotNull(scheduler, "scheduler");
+        checkNotNull(cacheConfig, "cacheConfig");
+        checkNotNull(cacheLoaderExecutor, "cacheLoaderExecutor");
+        checkNotNull(cacheNamePrefix, "cacheNamePrefix");
+
+        final var jsonViewFilterCache = JsonViewFilterCache.of(cacheConfig,
+                cacheNamePrefix + JSON_VIEW_FILTER_CACHE_NAME_SUFFIX, cacheLoaderExecutor);
+        final var cacheLoader = new PolicyEnforcerCacheLoader(askWithRetryConfig, scheduler, policiesShardRegion,
+                jsonViewFilterCache);
+
+        return new CachingPolicyEnforcerRetriever(CacheFactory.createCache(cacheLoader, cacheConfig,
+                cacheNamePrefix + CACHE_NAME_SUFFIX, cacheLoaderExecutor));
+    }
+
+    @Override
+    public CompletionStage<Optional<Enforcer>> retrieveEnforcer(final PolicyId policyId) {
+        return policyEnforcerCache.get(EnforcementCacheKey.of(policyId))
+                .thenApply(entry -> entry.filter(Entry::exists)
+                        .map(Entry::getValueOrThrow)
+                        .map(PolicyEnforcer::getEnforcer));
+    }
+
+}
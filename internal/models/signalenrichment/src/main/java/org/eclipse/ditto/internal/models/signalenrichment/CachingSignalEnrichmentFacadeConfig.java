@@ -43,6 +43,15 @@ public interface CachingSignalEnrichmentFacadeConfig {
      */
     CacheConfig getCacheConfig();
 
+    /**
+     * Indicates whether the cache should hold one thing per thing ID shared by all requesters instead of one partial
+     * thing per requester and field selector.
+     *
+     * @return true if the cached things should be shared by all requesters.
+     * @since 3.0.0
+     */
+    boolean isSharedThingCacheEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachingSignalEnrichmentFacadeConfig}.
@@ -52,7 +61,14 @@ public interface CachingSignalEnrichmentFacadeConfig {
         /**
          * The ask timeout duration: the duration to wait for cache retrievals.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10)),
+
+        /**
+         * Indicates whether the cached things should be shared by all requesters.
+         *
+         * @since 3.0.0
+         */
+        SHARED_THING_CACHE_ENABLED("shared-thing-cache-enabled", false);
 
         private final String path;
         private final Object defaultValue;
@@ -12,12 +12,22 @@
  */
 package org.eclipse.ditto.internal.models.signalenrichment;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
 import org.eclipse.ditto.internal.utils.akka.AkkaClassLoader;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.AskWithRetryConfig;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.DefaultAskWithRetryConfig;
+import org.eclipse.ditto.internal.utils.cluster.ShardRegionProxyActorFactory;
+import org.eclipse.ditto.internal.utils.cluster.config.DefaultClusterConfig;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.policies.api.PoliciesMessagingConstants;
+import org.eclipse.ditto.things.api.ThingsMessagingConstants;
+
+import com.typesafe.config.ConfigFactory;
 
 import akka.actor.AbstractExtensionId;
 import akka.actor.ActorSystem;
@@ -32,6 +42,7 @@ import akka.actor.Extension;
 public abstract class CachingSignalEnrichmentFacadeProvider implements Extension{
 
     private static final ExtensionId EXTENSION_ID = new ExtensionId();
+    private static final String ASK_WITH_RETRY_CONFIG_PATH = "ask-with-retry";
 
     protected final ActorSystem actorSystem;
 
@@ -57,6 +68,87 @@ public abstract class CachingSignalEnrichmentFacadeProvider implements Extension
             final Executor cacheLoaderExecutor,
             final String cacheNamePrefix);
 
+    /**
+     * Returns a {@link SignalEnrichmentFacade} which shares one cached thing per thing ID among all requesters.
+     * The shared things are retrieved by the {@code sudoCacheLoaderFacade} and restricted for each requester by the
+     * enforcers of the {@code policyEnforcerRetriever}.
+     *
+     * @param actorSystem the actorSystem the signal enrichment facade provider belongs to.
+     * @param cacheLoaderFacade the facade to retrieve partial things with which cannot be projected from the shared
+     * things.
+     * @param sudoCacheLoaderFacade the facade to retrieve the shared things with.
+     * @param policyEnforcerRetriever the retriever of the enforcers to restrict the shared things with.
+     * @param cacheConfig the cache configuration to use for the cache.
+     * @param cacheLoaderExecutor the executor to use in order to asynchronously load cache entries.
+     * @param cacheNamePrefix the prefix to use as cacheName of the cache.
+     * @return the facade.
+     * @throws NullPointerException if any argument is null.
+     * @since 3.0.0
+     */
+    public abstract CachingSignalEnrichmentFacade getSignalEnrichmentFacade(
+            final ActorSystem actorSystem,
+            final SignalEnrichmentFacade cacheLoaderFacade,
+            final SignalEnrichmentFacade sudoCacheLoaderFacade,
+            final PolicyEnforcerRetriever policyEnforcerRetriever,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix);
+
+    /**
+     * Returns a {@link SignalEnrichmentFacade} which shares one cached thing per thing ID among all requesters.
+     * The shared things are sudo-retrieved from the things shard region and restricted for each requester by the
+     * enforcer of their policy, which is retrieved from the policies shard region.
+     *
+     * @param actorSystem the actorSystem the signal enrichment facade provider belongs to.
+     * @param cacheLoaderFacade the facade to retrieve partial things with which cannot be projected from the shared
+     * things.
+     * @param askTimeout the duration to wait for the retrieval of things and policies.
+     * @param cacheConfig the cache configuration to use for the caches of things and policy enforcers.
+     * @param cacheLoaderExecutor the executor to use in order to asynchronously load cache entries.
+     * @param cacheNamePrefix the prefix to use as cacheName of the caches.
+     * @return the facade.
+     * @throws NullPointerException if any argument is null.
+     * @since 3.0.0
+     */
+    public CachingSignalEnrichmentFacade getSharedThingSignalEnrichmentFacade(
+            final ActorSystem actorSystem,
+            final SignalEnrichmentFacade cacheLoaderFacade,
+            final Duration askTimeout,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix) {
+
+        final var clusterConfig =
+                DefaultClusterConfig.of(actorSystem.settings().config().getConfig("ditto.cluster"));
+        final var shardRegionProxyActorFactory = ShardRegionProxyActorFactory.newInstance(actorSystem, clusterConfig);
+        final var thingsShardRegion = shardRegionProxyActorFactory.getShardRegionProxyActor(
+                ThingsMessagingConstants.CLUSTER_ROLE, ThingsMessagingConstants.SHARD_REGION);
+        final var policiesShardRegion = shardRegionProxyActorFactory.getShardRegionProxyActor(
+                PoliciesMessagingConstants.CLUSTER_ROLE, PoliciesMessagingConstants.SHARD_REGION);
+
+        final var policyEnforcerRetriever = CachingPolicyEnforcerRetriever.of(policiesShardRegion,
+                getAskWithRetryConfig(askTimeout),
+                actorSystem.getScheduler(),
+                cacheConfig,
+                cacheLoaderExecutor,
+                cacheNamePrefix);
+
+        return getSignalEnrichmentFacade(actorSystem,
+                cacheLoaderFacade,
+                SudoSignalEnrichmentFacade.of(thingsShardRegion, askTimeout),
+                policyEnforcerRetriever,
+                cacheConfig,
+                cacheLoaderExecutor,
+                cacheNamePrefix);
+    }
+
+    private static AskWithRetryConfig getAskWithRetryConfig(final Duration askTimeout) {
+        final var askTimeoutPath = ASK_WITH_RETRY_CONFIG_PATH + "." +
+                AskWithRetryConfig.AskWithRetryConfigValue.ASK_TIMEOUT.getConfigPath();
+        return DefaultAskWithRetryConfig.of(ConfigFactory.parseMap(Map.of(askTimeoutPath, askTimeout)),
+                ASK_WITH_RETRY_CONFIG_PATH);
+    }
+
     /**
      * Load a {@code CachingSignalEnrichmentFacadeProvider} dynamically according to the signal enrichment
      * configuration.
@@ -33,11 +33,14 @@ public final class DefaultCachingSignalEnrichmentFacadeConfig implements Caching
 
     private final Duration askTimeout;
     private final CacheConfig cacheConfig;
+    private final boolean sharedThingCacheEnabled;
 
     private DefaultCachingSignalEnrichmentFacadeConfig(final ConfigWithFallback configWithFallback) {
         this.askTimeout = configWithFallback.getDuration(
                 CachingSignalEnrichmentFacadeConfigValue.ASK_TIMEOUT.getConfigPath());
         cacheConfig = DefaultCacheConfig.of(configWithFallback, CACHE_CONFIG_PATH);
+        sharedThingCacheEnabled = configWithFallback.getBoolean(
+                CachingSignalEnrichmentFacadeConfigValue.SHARED_THING_CACHE_ENABLED.getConfigPath());
     }
 
     /**
@@ -62,6 +65,11 @@ public final class DefaultCachingSignalEnrichmentFacadeConfig implements Caching
         return cacheConfig;
     }
 
+    @Override
+    public boolean isSharedThingCacheEnabled() {
+        return sharedThingCacheEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -72,12 +80,13 @@ public final class DefaultCachingSignalEnrichmentFacadeConfig implements Caching
         }
         final DefaultCachingSignalEnrichmentFacadeConfig that = (DefaultCachingSignalEnrichmentFacadeConfig) o;
         return Objects.equals(askTimeout, that.askTimeout) &&
-                Objects.equals(cacheConfig, that.cacheConfig);
+                Objects.equals(cacheConfig, that.cacheConfig) &&
+                sharedThingCacheEnabled == that.sharedThingCacheEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, cacheConfig);
+        return Objects.hash(askTimeout, cacheConfig, sharedThingCacheEnabled);
     }
 
     @Override
@@ -85,6 +94,7 @@ public final class DefaultCachingSignalEnrichmentFacadeConfig implements Caching
         return getClass().getSimpleName() + " [" +
                 "askTimeout=" + askTimeout +
                 ", cacheConfig=" + cacheConfig +
+                ", sharedThingCacheEnabled=" + sharedThingCacheEnabled +
                 "]";
     }
 }
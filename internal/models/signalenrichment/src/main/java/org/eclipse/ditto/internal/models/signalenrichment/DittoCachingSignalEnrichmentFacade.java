@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.base.model.signals.WithResource;
@@ -39,9 +40,17 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
 import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingConstants;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.things.model.signals.events.ThingCreated;
 import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
@@ -51,6 +60,12 @@ import org.eclipse.ditto.things.model.signals.events.ThingMerged;
  * Retrieve additional parts of things by asking an asynchronous cache.
  * Instantiated once per cluster node so that it builds up a cache across all signal enrichments on a local cluster
  * node.
+ * <p>
+ * If created with a {@link PolicyEnforcerRetriever}, the facade caches one sudo-retrieved thing per thing ID which is
+ * shared by all requesters and kept up to date by the thing events to enrich. The part of the thing a requester may
+ * read is projected from this thing by the enforcer of its policy on each retrieval. Only field selectors including
+ * the inlined policy are retrieved and cached per requester and selector.
+ * </p>
  */
 public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichmentFacade {
 
@@ -58,17 +73,31 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
             .getThreadSafeLogger(DittoCachingSignalEnrichmentFacade.class);
     private static final String CACHE_NAME_SUFFIX = "_signal_enrichment_cache";
 
+    private static final SignalEnrichmentContext SHARED_THING_CONTEXT = SignalEnrichmentContext.of(
+            DittoHeaders.newBuilder()
+                    .putHeader(DittoHeaderDefinition.DITTO_SUDO.getKey(), Boolean.TRUE.toString())
+                    .putHeader(DittoHeaderDefinition.DITTO_RETRIEVE_DELETED.getKey(), Boolean.TRUE.toString())
+                    .build(),
+            null);
+    private static final ResourceKey THING_ROOT_RESOURCE_KEY =
+            ResourceKey.newInstance(ThingConstants.ENTITY_TYPE, JsonPointer.empty());
+    private static final JsonFieldSelector SHARED_THING_VIEW_ALLOWLIST =
+            JsonFactory.newFieldSelector(Thing.JsonFields.ID);
+    private static final Permissions READ_PERMISSIONS = Permissions.newInstance(Permission.READ);
+
     private final Cache<SignalEnrichmentCacheKey, JsonObject> extraFieldsCache;
+    @Nullable private final PolicyEnforcerRetriever policyEnforcerRetriever;
 
-    private DittoCachingSignalEnrichmentFacade(final SignalEnrichmentFacade cacheLoaderFacade,
+    private DittoCachingSignalEnrichmentFacade(final SignalEnrichmentCacheLoader cacheLoader,
+            @Nullable final PolicyEnforcerRetriever policyEnforcerRetriever,
             final CacheConfig cacheConfig,
             final Executor cacheLoaderExecutor,
             final String cacheNamePrefix) {
 
-        final var cacheLoader = SignalEnrichmentCacheLoader.of(cacheLoaderFacade);
         final var cacheName = cacheNamePrefix + CACHE_NAME_SUFFIX;
 
         extraFieldsCache = CacheFactory.createCache(cacheLoader, cacheConfig, cacheName, cacheLoaderExecutor);
+        this.policyEnforcerRetriever = policyEnforcerRetriever;
     }
 
     /**
@@ -85,7 +114,40 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
             final Executor cacheLoaderExecutor,
             final String cacheNamePrefix) {
 
-        return new DittoCachingSignalEnrichmentFacade(checkNotNull(cacheLoaderFacade, "cacheLoaderFacade"),
+        return new DittoCachingSignalEnrichmentFacade(
+                SignalEnrichmentCacheLoader.of(checkNotNull(cacheLoaderFacade, "cacheLoaderFacade")),
+                null,
+                checkNotNull(cacheConfig, "cacheConfig"),
+                checkNotNull(cacheLoaderExecutor, "cacheLoaderExecutor"),
+                checkNotNull(cacheNamePrefix, "cacheNamePrefix"));
+    }
+
+    /**
+     * Returns a new {@code DittoCachingSignalEnrichmentFacade} instance which shares one cached thing per thing ID
+     * among all requesters.
+     *
+     * @param cacheLoaderFacade the facade to retrieve partial things for selectors including the inlined policy.
+     * @param sudoCacheLoaderFacade the facade to retrieve the shared things with, e.g. a
+     * {@link SudoSignalEnrichmentFacade}.
+     * @param policyEnforcerRetriever the retriever of the enforcers to restrict the shared things for each requester.
+     * @param cacheConfig the cache configuration to use for the cache.
+     * @param cacheLoaderExecutor the executor to use in order to asynchronously load cache entries.
+     * @param cacheNamePrefix the prefix to use as cacheName of the cache.
+     * @return the facade.
+     * @throws NullPointerException if any argument is null.
+     * @since 3.0.0
+     */
+    public static DittoCachingSignalEnrichmentFacade newInstance(final SignalEnrichmentFacade cacheLoaderFacade,
+            final SignalEnrichmentFacade sudoCacheLoaderFacade,
+            final PolicyEnforcerRetriever policyEnforcerRetriever,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix) {
+
+        return new DittoCachingSignalEnrichmentFacade(
+                SignalEnrichmentCacheLoader.of(checkNotNull(cacheLoaderFacade, "cacheLoaderFacade"),
+                        checkNotNull(sudoCacheLoaderFacade, "sudoCacheLoaderFacade")),
+                checkNotNull(policyEnforcerRetriever, "policyEnforcerRetriever"),
                 checkNotNull(cacheConfig, "cacheConfig"),
                 checkNotNull(cacheLoaderExecutor, "cacheLoaderExecutor"),
                 checkNotNull(cacheNamePrefix, "cacheNamePrefix"));
@@ -118,12 +180,7 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
                 (concernedSignal instanceof ThingEvent) && !(ProtocolAdapter.isLiveSignal(concernedSignal)) ?
                         List.of((ThingEvent<?>) concernedSignal) : List.of();
 
-        // as second step only return what was originally requested as fields:
-        final var cachingParameters =
-                new CachingParameters(jsonFieldSelector, thingEvents, true, 0);
-
-        return doRetrievePartialThing(thingId, dittoHeaders, cachingParameters)
-                .thenApply(jsonObject -> applyJsonFieldSelector(jsonObject, jsonFieldSelector));
+        return retrievePartialThing(thingId, jsonFieldSelector, dittoHeaders, thingEvents, 0);
     }
 
     /**
@@ -149,12 +206,61 @@ public final class DittoCachingSignalEnrichmentFacade implements CachingSignalEn
                 .map(signal -> (ThingEvent<?>) signal)
                 .collect(Collectors.toList());
 
-        // as second step only return what was originally requested as fields:
-        final var cachingParameters =
-                new CachingParameters(jsonFieldSelector, thingEvents, true, minAcceptableSeqNr);
+        return retrievePartialThing(ThingId.of(thingId), jsonFieldSelector, dittoHeaders, thingEvents,
+                minAcceptableSeqNr);
+    }
+
+    private CompletionStage<JsonObject> retrievePartialThing(final ThingId thingId,
+            @Nullable final JsonFieldSelector jsonFieldSelector,
+            final DittoHeaders dittoHeaders,
+            final List<ThingEvent<?>> thingEvents,
+            final long minAcceptableSeqNr) {
+
+        final CompletionStage<JsonObject> result;
+        if (null != policyEnforcerRetriever && !selectsInlinedPolicy(jsonFieldSelector)) {
+            final var sharedThingKey = SignalEnrichmentCacheKey.of(thingId, SHARED_THING_CONTEXT);
+            final var cachingParameters = new CachingParameters(null, thingEvents, false, minAcceptableSeqNr);
+            result = smartUpdateCachedObject(sharedThingKey, cachingParameters)
+                    .thenCompose(sharedThing -> restrictToRequester(policyEnforcerRetriever, thingId, sharedThing,
+                            jsonFieldSelector, dittoHeaders));
+        } else {
+            // as second step only return what was originally requested as fields:
+            final var cachingParameters =
+                    new CachingParameters(jsonFieldSelector, thingEvents, true, minAcceptableSeqNr);
+            result = doRetrievePartialThing(thingId, dittoHeaders, cachingParameters)
+                    .thenApply(jsonObject -> applyJsonFieldSelector(jsonObject, jsonFieldSelector));
+        }
+
+        return result;
+    }
+
+    private static boolean selectsInlinedPolicy(@Nullable final JsonFieldSelector jsonFieldSelector) {
+        return null != jsonFieldSelector && jsonFieldSelector.getPointers().stream()
+                .anyMatch(pointer -> pointer.getRoot()
+                        .filter(key -> Policy.INLINED_FIELD_NAME.equals(key.toString()))
+                        .isPresent());
+    }
+
+    private CompletionStage<JsonObject> restrictToRequester(final PolicyEnforcerRetriever enforcerRetriever,
+            final ThingId thingId,
+            final JsonObject sharedThing,
+            @Nullable final JsonFieldSelector jsonFieldSelector,
+            final DittoHeaders dittoHeaders) {
 
-        return doRetrievePartialThing(thingId, dittoHeaders, cachingParameters)
-                .thenApply(jsonObject -> applyJsonFieldSelector(jsonObject, jsonFieldSelector));
+        final var authorizationContext = dittoHeaders.getAuthorizationContext();
+        final CompletionStage<Optional<Enforcer>> enforcerFuture = sharedThing.getValue(Thing.JsonFields.POLICY_ID)
+                .map(PolicyId::of)
+                .map(enforcerRetriever::retrieveEnforcer)
+                .orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()));
+
+        return enforcerFuture.thenApply(enforcer -> enforcer
+                .filter(e -> e.hasPartialPermissions(THING_ROOT_RESOURCE_KEY, authorizationContext, READ_PERMISSIONS))
+                .map(e -> e.buildJsonView(THING_ROOT_RESOURCE_KEY, sharedThing, authorizationContext,
+                        SHARED_THING_VIEW_ALLOWLIST, READ_PERMISSIONS))
+                .map(view -> applyJsonFieldSelector(view, jsonFieldSelector))
+                .orElseThrow(() -> ThingNotAccessibleException.newBuilder(thingId)
+                        .dittoHeaders(dittoHeaders)
+                        .build()));
     }
 
     private CompletionStage<JsonObject> doRetrievePartialThing(final EntityId thingId,
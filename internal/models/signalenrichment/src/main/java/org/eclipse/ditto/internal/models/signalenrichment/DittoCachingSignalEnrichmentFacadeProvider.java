@@ -42,4 +42,18 @@ public final class DittoCachingSignalEnrichmentFacadeProvider extends CachingSig
                 cacheNamePrefix);
     }
 
+    @Override
+    public CachingSignalEnrichmentFacade getSignalEnrichmentFacade(
+            final ActorSystem actorSystem,
+            final SignalEnrichmentFacade cacheLoaderFacade,
+            final SignalEnrichmentFacade sudoCacheLoaderFacade,
+            final PolicyEnforcerRetriever policyEnforcerRetriever,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix) {
+
+        return DittoCachingSignalEnrichmentFacade.newInstance(cacheLoaderFacade, sudoCacheLoaderFacade,
+                policyEnforcerRetriever, cacheConfig, cacheLoaderExecutor, cacheNamePrefix);
+    }
+
 }
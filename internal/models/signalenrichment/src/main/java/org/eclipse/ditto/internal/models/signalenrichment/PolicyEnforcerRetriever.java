@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+/**
+ * Asynchronous interface for retrieving the enforcer of a policy in order to restrict the view of a signal enrichment
+ * facade on a thing to what the requester may read.
+ *
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface PolicyEnforcerRetriever {
+
+    /**
+     * Retrieve the enforcer of a policy.
+     *
+     * @param policyId ID of the policy.
+     * @return future that completes with the enforcer, with an empty optional if the policy does not exist, or fails
+     * with an error.
+     */
+    CompletionStage<Optional<Enforcer>> retrieveEnforcer(PolicyId policyId);
+
+}
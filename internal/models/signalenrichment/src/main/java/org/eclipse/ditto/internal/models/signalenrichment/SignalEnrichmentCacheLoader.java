@@ -31,9 +31,12 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 final class SignalEnrichmentCacheLoader implements AsyncCacheLoader<SignalEnrichmentCacheKey, JsonObject> {
 
     private final SignalEnrichmentFacade facade;
+    private final SignalEnrichmentFacade sudoFacade;
 
-    private SignalEnrichmentCacheLoader(final SignalEnrichmentFacade facade) {
+    private SignalEnrichmentCacheLoader(final SignalEnrichmentFacade facade,
+            final SignalEnrichmentFacade sudoFacade) {
         this.facade = facade;
+        this.sudoFacade = sudoFacade;
     }
 
     /**
@@ -43,7 +46,21 @@ final class SignalEnrichmentCacheLoader implements AsyncCacheLoader<SignalEnrich
      * @return the instantiated cache loader.
      */
     static SignalEnrichmentCacheLoader of(final SignalEnrichmentFacade facade) {
-        return new SignalEnrichmentCacheLoader(facade);
+        return new SignalEnrichmentCacheLoader(facade, facade);
+    }
+
+    /**
+     * Creates a new cache loader which uses the passed {@code sudoFacade} in order to retrieve things for keys with
+     * sudo headers and the passed {@code facade} for all other keys.
+     *
+     * @param facade the SignalEnrichmentFacade to delegate loading of partial things to.
+     * @param sudoFacade the SignalEnrichmentFacade to delegate loading of things with sudo headers to.
+     * @return the instantiated cache loader.
+     */
+    static SignalEnrichmentCacheLoader of(final SignalEnrichmentFacade facade,
+            final SignalEnrichmentFacade sudoFacade) {
+
+        return new SignalEnrichmentCacheLoader(facade, sudoFacade);
     }
 
     @Override
@@ -56,7 +73,8 @@ final class SignalEnrichmentCacheLoader implements AsyncCacheLoader<SignalEnrich
             final ThingId thingId = ThingId.of(key.getId());
             final JsonFieldSelector jsonFieldSelector = selectorOptional.orElse(null);
             final DittoHeaders dittoHeaders = context.getDittoHeaders();
-            return facade.retrievePartialThing(thingId, jsonFieldSelector, dittoHeaders, null)
+            final SignalEnrichmentFacade loadingFacade = dittoHeaders.isSudo() ? sudoFacade : facade;
+            return loadingFacade.retrievePartialThing(thingId, jsonFieldSelector, dittoHeaders, null)
                     .toCompletableFuture();
         } else {
             // no context; nothing to load.
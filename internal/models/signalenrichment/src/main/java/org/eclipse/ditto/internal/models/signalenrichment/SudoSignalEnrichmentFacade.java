@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+package org.eclipse.ditto.internal.models.signalenrichment;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
@@ -23,7 +23,6 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.Signal;
-import org.eclipse.ditto.internal.models.signalenrichment.SignalEnrichmentFacade;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
@@ -36,8 +35,9 @@ import akka.pattern.Patterns;
 
 /**
  * Sudo-retrieve things by asking an actor.
+ * Things which do not exist or are not accessible are retrieved as empty JSON objects.
  */
-final class SudoSignalEnrichmentFacade implements SignalEnrichmentFacade {
+public final class SudoSignalEnrichmentFacade implements SignalEnrichmentFacade {
 
     private final ActorRef commandHandler;
     private final Duration askTimeout;
@@ -47,7 +47,15 @@ final class SudoSignalEnrichmentFacade implements SignalEnrichmentFacade {
         this.askTimeout = checkNotNull(askTimeout, "askTimeout");
     }
 
-    static SudoSignalEnrichmentFacade of(final ActorRef commandHandler, final Duration askTimeout) {
+    /**
+     * Create a signal-enriching facade that sudo-retrieves things by round-trip.
+     *
+     * @param commandHandler the recipient of sudo-retrieve-thing commands, e.g. the things shard region.
+     * @param askTimeout how long to wait for each response.
+     * @return the facade.
+     * @throws NullPointerException if any argument is null.
+     */
+    public static SudoSignalEnrichmentFacade of(final ActorRef commandHandler, final Duration askTimeout) {
         return new SudoSignalEnrichmentFacade(commandHandler, askTimeout);
     }
 
@@ -13,6 +13,8 @@
 package org.eclipse.ditto.internal.models.signalenrichment;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.assertj.core.api.JUnitSoftAssertions;
@@ -29,9 +31,17 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
 import org.eclipse.ditto.things.model.signals.events.ThingMerged;
@@ -68,6 +78,16 @@ public final class DittoCachingSignalEnrichmentFacadeTest extends AbstractSignal
             "  \"features\": {\"y\": {\"properties\": {\"z\":  true}}}\n" +
             "}");
 
+    private static final SubjectIssuer ISSUER = SubjectIssuer.newInstance("test");
+    private static final Policy POLICY = Policy.newBuilder(PolicyId.of("policy:id"))
+            .forLabel("owner")
+            .setSubject(ISSUER, "owner")
+            .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+            .forLabel("observer")
+            .setSubject(ISSUER, "observer")
+            .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), "READ")
+            .build();
+
     @Rule
     public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
 
@@ -335,5 +355,119 @@ public final class DittoCachingSignalEnrichmentFacadeTest extends AbstractSignal
         });
     }
 
+    @Test
+    public void sharedThingIsRetrievedOnceAndRestrictedForEachRequester() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: a facade sharing the cached thing among requesters
+            final SignalEnrichmentFacade underTest = createSharedThingSignalEnrichmentFacadeUnderTest(kit);
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders ownerHeaders = getHeadersOfSubject("owner");
+            final CompletionStage<JsonObject> askResult =
+                    underTest.retrievePartialThing(thingId, SELECTOR, ownerHeaders, THING_EVENT);
+
+            // WHEN: the whole thing is sudo-retrieved
+            final SudoRetrieveThing sudoRetrieveThing = kit.expectMsgClass(SudoRetrieveThing.class);
+            softly.assertThat(sudoRetrieveThing.getSelectedFields()).isEmpty();
+            softly.assertThat(sudoRetrieveThing.getDittoHeaders().shouldRetrieveDeleted()).isTrue();
+            kit.reply(SudoRetrieveThingResponse.of(getThingResponseThingJson(), DittoHeaders.empty()));
+
+            // THEN: the requester gets its selected fields
+            askResult.toCompletableFuture().join();
+            softly.assertThat(askResult).isCompletedWithValue(getExpectedThingJson());
+
+            // WHEN: another requester asks for the same thing with another selector
+            final CompletionStage<JsonObject> observerAskResult = underTest.retrievePartialThing(thingId,
+                    JsonFieldSelector.newInstance("attributes", "features"), getHeadersOfSubject("observer"),
+                    THING_EVENT);
+
+            // THEN: no retrieval is done and only the readable fields are returned
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            observerAskResult.toCompletableFuture().join();
+            softly.assertThat(observerAskResult).isCompletedWithValue(JsonObject.of("{\"attributes\":{\"x\":5}}"));
+
+            // WHEN: a requester without any permission asks for the same thing
+            final CompletionStage<JsonObject> strangerAskResult = underTest.retrievePartialThing(thingId, SELECTOR,
+                    getHeadersOfSubject("stranger"), THING_EVENT);
+
+            // THEN: the thing is not accessible
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            strangerAskResult.toCompletableFuture().exceptionally(e -> null).join();
+            softly.assertThat(strangerAskResult).hasFailedWithThrowableThat()
+                    .isInstanceOf(ThingNotAccessibleException.class);
+        });
+    }
+
+    @Test
+    public void sharedThingIsUpdatedFromEvents() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: a facade sharing the cached thing among requesters and a loaded thing
+            final SignalEnrichmentFacade underTest = createSharedThingSignalEnrichmentFacadeUnderTest(kit);
+            final ThingId thingId = ThingId.generateRandom();
+            final CompletionStage<JsonObject> askResult =
+                    underTest.retrievePartialThing(thingId, SELECTOR, getHeadersOfSubject("owner"), THING_EVENT);
+            kit.expectMsgClass(SudoRetrieveThing.class);
+            kit.reply(SudoRetrieveThingResponse.of(getThingResponseThingJson(), DittoHeaders.empty()));
+            askResult.toCompletableFuture().join();
+
+            // WHEN: the thing is asked for an event with the next revision by another requester
+            final ThingMerged mergeAttributes = ThingMerged.of(thingId, JsonPointer.of("/attributes/x"),
+                    JsonValue.of(42),
+                    THING_EVENT.getRevision() + 1,
+                    null,
+                    DittoHeaders.empty(),
+                    null
+            );
+            final CompletionStage<JsonObject> askResultCached = underTest.retrievePartialThing(thingId,
+                    JsonFieldSelector.newInstance("attributes/x"), getHeadersOfSubject("observer"), mergeAttributes);
+
+            // THEN: the shared thing is updated from the event without another retrieval
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            askResultCached.toCompletableFuture().join();
+            softly.assertThat(askResultCached).isCompletedWithValue(JsonObject.of("{\"attributes\":{\"x\":42}}"));
+        });
+    }
+
+    @Test
+    public void selectorOfInlinedPolicyIsRetrievedForTheRequester() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: a facade sharing the cached thing among requesters
+            final SignalEnrichmentFacade underTest = createSharedThingSignalEnrichmentFacadeUnderTest(kit);
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders ownerHeaders = getHeadersOfSubject("owner");
+            final JsonFieldSelector selector = JsonFieldSelector.newInstance("_policy", "attributes");
+
+            // WHEN: the inlined policy is selected
+            underTest.retrievePartialThing(thingId, selector, ownerHeaders, THING_EVENT);
+
+            // THEN: the partial thing is retrieved with the headers of the requester
+            final RetrieveThing retrieveThing = kit.expectMsgClass(RetrieveThing.class);
+            softly.assertThat(retrieveThing.getDittoHeaders().getAuthorizationContext())
+                    .isEqualTo(ownerHeaders.getAuthorizationContext());
+            softly.assertThat(retrieveThing.getSelectedFields()).contains(actualSelectedFields(selector));
+        });
+    }
+
+    private static SignalEnrichmentFacade createSharedThingSignalEnrichmentFacadeUnderTest(final TestKit kit) {
+        final CacheConfig cacheConfig =
+                DefaultCacheConfig.of(ConfigFactory.parseString(CACHE_CONFIG), CACHE_CONFIG_KEY);
+        final ByRoundTripSignalEnrichmentFacade cacheLoaderFacade =
+                ByRoundTripSignalEnrichmentFacade.of(ActorSelection.apply(kit.getRef(), ""), Duration.ofSeconds(10L));
+        final SudoSignalEnrichmentFacade sudoCacheLoaderFacade =
+                SudoSignalEnrichmentFacade.of(kit.getRef(), Duration.ofSeconds(10L));
+        final PolicyEnforcerRetriever policyEnforcerRetriever = policyId -> CompletableFuture.completedFuture(
+                Optional.of(POLICY).filter(policy -> policy.getEntityId().orElseThrow().equals(policyId))
+                        .map(PolicyEnforcers::defaultEvaluator));
+
+        return DittoCachingSignalEnrichmentFacade.newInstance(cacheLoaderFacade, sudoCacheLoaderFacade,
+                policyEnforcerRetriever, cacheConfig, kit.getSystem().getDispatcher(), "test");
+    }
+
+    private static DittoHeaders getHeadersOfSubject(final String subject) {
+        return DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance(ISSUER_PREFIX + subject)))
+                .randomCorrelationId()
+                .build();
+    }
 
 }
@@ -36,9 +36,12 @@ import org.eclipse.ditto.base.model.signals.commands.WithEntity;
 import org.eclipse.ditto.base.model.signals.commands.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.cluster.JsonValueSourceRef;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingsResponse;
@@ -61,12 +64,16 @@ import akka.stream.Materializer;
 import akka.stream.SourceRef;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
 
 /**
  * Acts as a client for {@code org.eclipse.ditto.concierge.service.starter.actors.ThingsAggregatorActor} which responds
  * to a {@link RetrieveThings} command via a {@link SourceRef} which is a pointer in the cluster emitting the retrieved
  * {@link Thing}s one after one in a stream. That ensures that the cluster messages size must not be increased when
  * streaming a larger amount of Things in the cluster.
+ * <p>
+ * If the {@link #STREAMING_HEADER} is set, the retrieved Things are not collected into a single response but passed
+ * on to the sender as {@link JsonValueSourceRef} as soon as they arrive.
  */
 public final class ThingsAggregatorProxyActor extends AbstractActor {
 
@@ -75,6 +82,23 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
      */
     public static final String ACTOR_NAME = "aggregatorProxy";
 
+    /**
+     * Header which, if present in the headers of a {@link RetrieveThings} or {@link SudoRetrieveThings} command,
+     * causes the retrieved things to be streamed back as {@link JsonValueSourceRef} instead of being collected into
+     * one command response. Its value is one of {@link #STREAMING_ORDERED} or {@link #STREAMING_UNORDERED}.
+     */
+    public static final String STREAMING_HEADER = "ditto-retrieve-things-streaming";
+
+    /**
+     * Value of {@link #STREAMING_HEADER} to stream the things in the order of the requested thing IDs.
+     */
+    public static final String STREAMING_ORDERED = "ordered";
+
+    /**
+     * Value of {@link #STREAMING_HEADER} to stream the things in the order in which they were retrieved.
+     */
+    public static final String STREAMING_UNORDERED = "unordered";
+
     private static final String TRACE_AGGREGATOR_RETRIEVE_THINGS = "aggregatorproxy_retrievethings";
 
     private static final int ASK_TIMEOUT = 60;
@@ -171,6 +195,66 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
 
     private void handleSourceRef(final SourceRef<?> sourceRef, final List<ThingId> thingIds,
             final Command<?> originatingCommand, final ActorRef originatingSender) {
+        if (isStreamingRequested(originatingCommand.getDittoHeaders())) {
+            handleSourceRefStreaming(sourceRef, thingIds, originatingCommand, originatingSender);
+        } else {
+            handleSourceRefAggregating(sourceRef, thingIds, originatingCommand, originatingSender);
+        }
+    }
+
+    /**
+     * Determines whether the passed headers request the retrieved things to be streamed.
+     *
+     * @param dittoHeaders the headers to check.
+     * @return {@code true} if streaming was requested.
+     */
+    public static boolean isStreamingRequested(final DittoHeaders dittoHeaders) {
+        return dittoHeaders.containsKey(STREAMING_HEADER);
+    }
+
+    /**
+     * Determines whether the passed headers request the retrieved things to be streamed without preserving the order
+     * of the requested thing IDs.
+     *
+     * @param dittoHeaders the headers to check.
+     * @return {@code true} if unordered streaming was requested.
+     */
+    public static boolean isUnorderedStreamingRequested(final DittoHeaders dittoHeaders) {
+        return STREAMING_UNORDERED.equals(dittoHeaders.get(STREAMING_HEADER));
+    }
+
+    private void handleSourceRefStreaming(final SourceRef<?> sourceRef, final List<ThingId> thingIds,
+            final Command<?> originatingCommand, final ActorRef originatingSender) {
+
+        final Function<Jsonifiable<?>, PlainJson> thingPlainJsonSupplier;
+        if (originatingCommand instanceof SudoRetrieveThings) {
+            thingPlainJsonSupplier = supplyPlainJsonFromSudoRetrieveThingResponse();
+        } else {
+            thingPlainJsonSupplier = supplyPlainJsonFromRetrieveThingResponse();
+        }
+
+        final StartedTimer timer = DittoMetrics.timer(TRACE_AGGREGATOR_RETRIEVE_THINGS)
+                .tag("size", Integer.toString(thingIds.size()))
+                .tag("streaming", Boolean.TRUE.toString())
+                .start();
+        DittoTracing.wrapTimer(DittoTracing.extractTraceContext(originatingCommand), timer);
+
+        // things are emitted as soon as they arrive; the order is already determined by the ThingsAggregatorActor
+        final SourceRef<JsonValue> thingsSourceRef = sourceRef.getSource()
+                .<Jsonifiable<?>>map(Jsonifiable.class::cast)
+                .filterNot(DittoRuntimeException.class::isInstance)
+                .map(thingPlainJsonSupplier::apply)
+                .filter(plainJson -> null != plainJson && !plainJson.isEmpty())
+                .<JsonValue>map(plainJson -> JsonFactory.readFrom(plainJson.getJson()))
+                .log("retrieve-thing-response", log)
+                .watchTermination((notUsed, done) -> done.whenComplete((d, error) -> stopTimer(timer)))
+                .runWith(StreamRefs.sourceRef(), materializer);
+
+        originatingSender.tell(JsonValueSourceRef.of(thingsSourceRef), getSelf());
+    }
+
+    private void handleSourceRefAggregating(final SourceRef<?> sourceRef, final List<ThingId> thingIds,
+            final Command<?> originatingCommand, final ActorRef originatingSender) {
         final Function<Jsonifiable<?>, PlainJson> thingPlainJsonSupplier;
         final Function<List<PlainJson>, CommandResponse<?>> overallResponseSupplier;
         final Function<List<PlainJson>, List<PlainJson>> plainJsonSorter = supplyPlainJsonSorter(thingIds);
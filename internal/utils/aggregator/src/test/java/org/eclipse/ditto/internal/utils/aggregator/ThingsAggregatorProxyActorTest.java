@@ -12,13 +12,20 @@
  */
 package org.eclipse.ditto.internal.utils.aggregator;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
 import java.util.UUID;
 
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cluster.JsonValueSourceRef;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingIdInvalidException;
 import org.eclipse.ditto.base.model.signals.commands.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -27,6 +34,11 @@ import org.junit.Test;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.stream.SourceRef;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
 import akka.testkit.TestActor.AutoPilot;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -79,6 +91,42 @@ public final class ThingsAggregatorProxyActorTest {
         }};
     }
 
+    @Test
+    public void testStreamRetrievedThings() {
+        new TestKit(actorSystem) {{
+            final ThingId thingId = ThingId.of("ditto", "thing");
+            final Thing thing = Thing.newBuilder().setId(thingId).build();
+            final RetrieveThingResponse retrieveThingResponse =
+                    RetrieveThingResponse.of(thingId, thing, null, null, DITTO_HEADERS);
+            final TestProbe targetActor = new TestProbe(actorSystem);
+            targetActor.setAutoPilot(new AutoPilot() {
+                @Override
+                public AutoPilot run(final ActorRef sender, final Object msg) {
+                    final SourceRef<Object> sourceRef = Source.<Object>from(List.of(retrieveThingResponse,
+                                    DITTO_RUNTIME_EXCEPTION))
+                            .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(actorSystem).materializer());
+                    sender.tell(sourceRef, ActorRef.noSender());
+                    return keepRunning();
+                }
+            });
+
+            final Props props = ThingsAggregatorProxyActor.props(targetActor.ref());
+            final ActorRef proxyActor = actorSystem.actorOf(props);
+
+            proxyActor.tell(RETRIEVE_THINGS_COMMAND.setDittoHeaders(DITTO_HEADERS.toBuilder()
+                    .putHeader(ThingsAggregatorProxyActor.STREAMING_HEADER,
+                            ThingsAggregatorProxyActor.STREAMING_ORDERED)
+                    .build()), getRef());
+
+            final JsonValueSourceRef jsonValueSourceRef = expectMsgClass(JsonValueSourceRef.class);
+            final List<JsonValue> things = jsonValueSourceRef.getSource()
+                    .runWith(Sink.seq(), SystemMaterializer.get(actorSystem).materializer())
+                    .toCompletableFuture()
+                    .join();
+            assertThat(things).containsExactly(thing.toJson());
+        }};
+    }
+
     private static final class AutoPilotAnsweringWithException extends AutoPilot {
 
         private final Exception exceptionToRespond;
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.akka.timing;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * A hashed timing wheel for large numbers of mostly cancelled timeouts, e.g. of correlation IDs.
+ * <p>
+ * Scheduling and cancelling a timeout is O(1) and does not create a task in a scheduler: new and cancelled timeouts
+ * are queued and moved into or out of the buckets of the wheel by a single worker thread which advances the wheel by
+ * one bucket per tick. Timeouts expire at the latest one tick after their delay.
+ * The tasks of expired timeouts run on the worker thread and must therefore be short and non-blocking, e.g. telling
+ * an actor or completing a future.
+ * </p>
+ * The number of outstanding timeouts is reported as gauge {@value #OUTSTANDING_TIMEOUTS_METRIC_NAME}.
+ *
+ * @since 3.0.0
+ */
+@ThreadSafe
+public final class TimingWheel implements Extension {
+
+    /**
+     * Name of the gauge of outstanding timeouts.
+     */
+    static final String OUTSTANDING_TIMEOUTS_METRIC_NAME = "timing_wheel_outstanding_timeouts";
+
+    private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(TimingWheel.class);
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+    private static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100L);
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int WORKER_STARTED = 0;
+    private static final int WORKER_STOPPED = 1;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<DefaultTimeout> newTimeouts;
+    private final Queue<DefaultTimeout> cancelledTimeouts;
+    private final AtomicLong outstandingTimeouts;
+    private final Gauge outstandingTimeoutsGauge;
+    private final AtomicInteger workerState;
+    private final CountDownLatch startTimeInitialized;
+    private final Thread workerThread;
+    private volatile long startTime;
+
+    private TimingWheel(final String name, final Duration tickDuration, final int ticksPerWheel) {
+        tickNanos = tickDuration.toNanos();
+        wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = ticksPerWheel - 1;
+        newTimeouts = new ConcurrentLinkedQueue<>();
+        cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        outstandingTimeouts = new AtomicLong();
+        outstandingTimeoutsGauge = DittoMetrics.gauge(OUTSTANDING_TIMEOUTS_METRIC_NAME).tag("timing_wheel", name);
+        workerState = new AtomicInteger(WORKER_STARTED);
+        startTimeInitialized = new CountDownLatch(1);
+        workerThread = new Thread(new Worker(), "timing-wheel-" + name);
+        workerThread.setDaemon(true);
+        startTime = 0L;
+    }
+
+    /**
+     * Returns the timing wheel shared by all users of an actor system.
+     * It is stopped when the actor system terminates.
+     *
+     * @param actorSystem the actor system.
+     * @return the shared timing wheel.
+     */
+    public static TimingWheel get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Creates and starts a new timing wheel with a tick duration of 100ms and 512 ticks per revolution.
+     * The caller owns the worker thread of the wheel and has to {@link #stop()} it; prefer {@link #get(ActorSystem)}.
+     *
+     * @param name the name of the timing wheel used for its thread and metrics.
+     * @return the started timing wheel.
+     * @throws NullPointerException if {@code name} is {@code null}.
+     */
+    public static TimingWheel newInstance(final CharSequence name) {
+        return newInstance(name, DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Creates and starts a new timing wheel.
+     * The caller owns the worker thread of the wheel and has to {@link #stop()} it; prefer {@link #get(ActorSystem)}.
+     *
+     * @param name the name of the timing wheel used for its thread and metrics.
+     * @param tickDuration the duration of one tick, i.e. the precision of timeouts.
+     * @param ticksPerWheel the number of buckets of the wheel; must be a power of two.
+     * @return the started timing wheel.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code tickDuration} is not positive or {@code ticksPerWheel} is not a
+     * positive power of two.
+     */
+    public static TimingWheel newInstance(final CharSequence name, final Duration tickDuration,
+            final int ticksPerWheel) {
+
+        checkNotNull(name, "name");
+        checkArgument(checkNotNull(tickDuration, "tickDuration"),
+                duration -> !duration.isNegative() && !duration.isZero(),
+                () -> "The tickDuration must be positive.");
+        checkArgument(ticksPerWheel, ticks -> ticks > 0 && Integer.bitCount(ticks) == 1,
+                () -> "The ticksPerWheel must be a positive power of two.");
+
+        final var timingWheel = new TimingWheel(name.toString(), tickDuration, ticksPerWheel);
+        timingWheel.start();
+
+        return timingWheel;
+    }
+
+    private void start() {
+        workerThread.start();
+        try {
+            startTimeInitialized.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Schedules a task to run once after a delay.
+     *
+     * @param delay the delay after which the task runs.
+     * @param task the short and non-blocking task to run.
+     * @return the timeout which may be cancelled before it expires.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalStateException if this timing wheel was stopped.
+     */
+    public Timeout schedule(final Duration delay, final Runnable task) {
+        checkNotNull(delay, "delay");
+        checkNotNull(task, "task");
+        if (WORKER_STOPPED == workerState.get()) {
+            throw new IllegalStateException("The timing wheel was stopped.");
+        }
+        final long delayNanos = Math.max(0L, delay.toNanos());
+        long deadline = System.nanoTime() + delayNanos - startTime;
+        if (delayNanos > 0L && deadline < 0L) {
+            // guard against overflow
+            deadline = Long.MAX_VALUE;
+        }
+        final var timeout = new DefaultTimeout(task, deadline);
+        outstandingTimeouts.incrementAndGet();
+        newTimeouts.add(timeout);
+
+        return timeout;
+    }
+
+    /**
+     * Returns the number of scheduled timeouts which neither expired nor were cancelled.
+     *
+     * @return the number of outstanding timeouts.
+     */
+    public long getOutstandingTimeouts() {
+        return outstandingTimeouts.get();
+    }
+
+    /**
+     * Stops the worker thread of this timing wheel.
+     * Outstanding timeouts do not expire anymore.
+     */
+    public void stop() {
+        if (workerState.compareAndSet(WORKER_STARTED, WORKER_STOPPED)) {
+            workerThread.interrupt();
+        }
+    }
+
+    private void cancelled(final DefaultTimeout timeout) {
+        outstandingTimeouts.decrementAndGet();
+        cancelledTimeouts.add(timeout);
+    }
+
+    /**
+     * A scheduled task of a {@code TimingWheel}.
+     */
+    public interface Timeout {
+
+        /**
+         * Cancels this timeout if it did not expire yet.
+         *
+         * @return {@code true} if this call cancelled the timeout, {@code false} if it was already cancelled or
+         * expired.
+         */
+        boolean cancel();
+
+        /**
+         * Indicates whether this timeout was cancelled.
+         *
+         * @return whether this timeout was cancelled.
+         */
+        boolean isCancelled();
+
+        /**
+         * Indicates whether this timeout expired, i.e. whether its task ran.
+         *
+         * @return whether this timeout expired.
+         */
+        boolean isExpired();
+
+    }
+
+    private final class DefaultTimeout implements Timeout {
+
+        private static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state;
+
+        // only accessed by the worker thread:
+        private long remainingRounds;
+        @Nullable private Bucket bucket;
+        @Nullable private DefaultTimeout next;
+        @Nullable private DefaultTimeout prev;
+
+        private DefaultTimeout(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+            state = new AtomicInteger(STATE_INIT);
+        }
+
+        @Override
+        public boolean cancel() {
+            final boolean result = state.compareAndSet(STATE_INIT, STATE_CANCELLED);
+            if (result) {
+                cancelled(this);
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return STATE_CANCELLED == state.get();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return STATE_EXPIRED == state.get();
+        }
+
+        private void expire() {
+            if (state.compareAndSet(STATE_INIT, STATE_EXPIRED)) {
+                outstandingTimeouts.decrementAndGet();
+                try {
+                    task.run();
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Task of expired timeout failed: {}", e.getMessage(), e);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Doubly linked list of the timeouts of one tick of the wheel which is only accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        @Nullable private DefaultTimeout head;
+        @Nullable private DefaultTimeout tail;
+
+        private void add(final DefaultTimeout timeout) {
+            timeout.bucket = this;
+            if (null == tail) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+            }
+            tail = timeout;
+        }
+
+        private void expireTimeouts(final long deadline) {
+            var timeout = head;
+            while (null != timeout) {
+                final var next = timeout.next;
+                if (timeout.remainingRounds <= 0L && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(final DefaultTimeout timeout) {
+            final var next = timeout.next;
+            final var prev = timeout.prev;
+            if (null != prev) {
+                prev.next = next;
+            }
+            if (null != next) {
+                next.prev = prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+    }
+
+    private final class Worker implements Runnable {
+
+        private long tick = 0L;
+
+        @Override
+        public void run() {
+            final long now = System.nanoTime();
+            // 0 is reserved for an uninitialized start time
+            startTime = now == 0L ? 1L : now;
+            startTimeInitialized.countDown();
+
+            while (WORKER_STARTED == workerState.get()) {
+                final long deadline = waitForNextTick();
+                if (deadline > 0L) {
+                    removeCancelledTimeouts();
+                    transferNewTimeouts();
+                    wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                    tick++;
+                    outstandingTimeoutsGauge.set(outstandingTimeouts.get());
+                }
+            }
+        }
+
+        private long waitForNextTick() {
+            final long deadline = tickNanos * (tick + 1);
+            long result = 0L;
+            while (0L == result && WORKER_STARTED == workerState.get()) {
+                final long currentTime = System.nanoTime() - startTime;
+                final long sleepTimeMillis = (deadline - currentTime + 999_999L) / 1_000_000L;
+                if (sleepTimeMillis <= 0L) {
+                    result = currentTime <= 0L ? 1L : currentTime;
+                } else {
+                    sleep(sleepTimeMillis);
+                }
+            }
+
+            return result;
+        }
+
+        private void sleep(final long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (final InterruptedException e) {
+                // stopped
+            }
+        }
+
+        private void removeCancelledTimeouts() {
+            DefaultTimeout timeout;
+            while (null != (timeout = cancelledTimeouts.poll())) {
+                final var bucket = timeout.bucket;
+                if (null != bucket) {
+                    bucket.remove(timeout);
+                }
+            }
+        }
+
+        private void transferNewTimeouts() {
+            for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+                final var timeout = newTimeouts.poll();
+                if (null == timeout) {
+                    break;
+                }
+                if (!timeout.isCancelled()) {
+                    final long calculatedTick = timeout.deadline / tickNanos;
+                    timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+                    // timeouts whose deadline already passed expire with this tick
+                    final long ticks = Math.max(calculatedTick, tick);
+                    wheel[(int) (ticks & mask)].add(timeout);
+                }
+            }
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<TimingWheel> {
+
+        @Override
+        public TimingWheel createExtension(final ExtendedActorSystem system) {
+            final var timingWheel = newInstance(system.name());
+            system.registerOnTermination(timingWheel::stop);
+
+            return timingWheel;
+        }
+
+    }
+
+}
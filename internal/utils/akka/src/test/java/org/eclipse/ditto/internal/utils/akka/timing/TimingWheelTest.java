@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.akka.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimingWheel}.
+ */
+public final class TimingWheelTest {
+
+    private static final Duration TICK_DURATION = Duration.ofMillis(10L);
+    private static final int TICKS_PER_WHEEL = 8;
+
+    private TimingWheel underTest;
+
+    @Before
+    public void setUp() {
+        underTest = TimingWheel.newInstance(TimingWheelTest.class.getSimpleName(), TICK_DURATION, TICKS_PER_WHEEL);
+    }
+
+    @After
+    public void tearDown() {
+        underTest.stop();
+    }
+
+    @Test
+    public void ticksPerWheelMustBePowerOfTwo() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> TimingWheel.newInstance("invalid", TICK_DURATION, 6));
+    }
+
+    @Test
+    public void tickDurationMustBePositive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> TimingWheel.newInstance("invalid", Duration.ZERO, TICKS_PER_WHEEL));
+    }
+
+    @Test
+    public void timeoutExpiresNotBeforeItsDelay() throws InterruptedException {
+        final var delay = Duration.ofMillis(50L);
+        final var expired = new CountDownLatch(1);
+        final long startNanos = System.nanoTime();
+
+        final var timeout = underTest.schedule(delay, expired::countDown);
+
+        assertThat(expired.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(delay.toNanos());
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timeout.isCancelled()).isFalse();
+    }
+
+    @Test
+    public void timeoutLongerThanOneRevolutionExpiresAfterItsDelay() throws InterruptedException {
+        final var delay = TICK_DURATION.multipliedBy(3L * TICKS_PER_WHEEL);
+        final var expired = new CountDownLatch(1);
+        final long startNanos = System.nanoTime();
+
+        underTest.schedule(delay, expired::countDown);
+
+        assertThat(expired.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(delay.toNanos());
+    }
+
+    @Test
+    public void cancelledTimeoutDoesNotExpire() throws InterruptedException {
+        final var expirations = new AtomicInteger();
+        final var timeout = underTest.schedule(Duration.ofMillis(50L), expirations::incrementAndGet);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        TimeUnit.MILLISECONDS.sleep(200L);
+
+        assertThat(expirations).hasValue(0);
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(timeout.isExpired()).isFalse();
+        assertThat(underTest.getOutstandingTimeouts()).isZero();
+    }
+
+    @Test
+    public void expiredTimeoutCannotBeCancelled() throws InterruptedException {
+        final var expired = new CountDownLatch(1);
+        final var timeout = underTest.schedule(Duration.ZERO, expired::countDown);
+
+        assertThat(expired.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void countsOutstandingTimeouts() throws InterruptedException {
+        final int numberOfTimeouts = 100;
+        final var expired = new CountDownLatch(numberOfTimeouts / 2);
+        final var timeouts = IntStream.range(0, numberOfTimeouts)
+                .mapToObj(i -> underTest.schedule(Duration.ofMillis(i % 2 == 0 ? 20L : 10_000L),
+                        expired::countDown))
+                .toList();
+        assertThat(underTest.getOutstandingTimeouts()).isEqualTo(numberOfTimeouts);
+
+        assertThat(expired.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(underTest.getOutstandingTimeouts()).isEqualTo(numberOfTimeouts / 2);
+
+        timeouts.forEach(TimingWheel.Timeout::cancel);
+        assertThat(underTest.getOutstandingTimeouts()).isZero();
+    }
+
+    @Test
+    public void failingTaskDoesNotStopTheWheel() throws InterruptedException {
+        final var expired = new CountDownLatch(1);
+        underTest.schedule(Duration.ZERO, () -> {
+            throw new IllegalStateException("expected");
+        });
+
+        underTest.schedule(Duration.ofMillis(30L), expired::countDown);
+
+        assertThat(expired.await(5L, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void scheduleAfterStopThrowsException() {
+        underTest.stop();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.schedule(Duration.ofMillis(10L), () -> {}));
+    }
+
+}
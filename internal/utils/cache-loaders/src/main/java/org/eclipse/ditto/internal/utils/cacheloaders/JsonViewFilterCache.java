@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cacheloaders;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyRevision;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.JsonViewFilter;
+
+/**
+ * A cache of compiled {@link JsonViewFilter}s per policy revision, resource, subject set and permissions.
+ * Enforcers obtained by {@link #cachingEnforcer(Policy, Enforcer)} build JSON views by applying the cached filter
+ * instead of evaluating the policy for each JSON value again.
+ *
+ * @since 3.0.0
+ */
+@ThreadSafe
+public final class JsonViewFilterCache {
+
+    private static final JsonFieldSelector NO_ALLOWLIST = JsonFactory.newFieldSelector(Collections.emptyList());
+
+    private final Cache<Key, JsonViewFilter> filters;
+
+    private JsonViewFilterCache(final Cache<Key, JsonViewFilter> filters) {
+        this.filters = filters;
+    }
+
+    /**
+     * Returns a new cache of compiled JSON view filters.
+     *
+     * @param cacheConfig the configuration of the cache.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @return the cache.
+     * @throws NullPointerException if {@code cacheConfig} or {@code executor} is {@code null}.
+     */
+    public static JsonViewFilterCache of(final CacheConfig cacheConfig, @Nullable final String cacheName,
+            final Executor executor) {
+
+        return new JsonViewFilterCache(CacheFactory.createCache(cacheConfig, cacheName, executor));
+    }
+
+    /**
+     * Wraps an enforcer of a policy so that its JSON views are built from filters cached for the policy's revision.
+     * Policies without ID or revision cannot be told apart from other revisions; their enforcer is returned as is.
+     *
+     * @param policy the policy the enforcer was created from.
+     * @param enforcer the enforcer of exactly this revision of the policy.
+     * @return the caching enforcer.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public Enforcer cachingEnforcer(final Policy policy, final Enforcer enforcer) {
+        checkNotNull(policy, "policy");
+        checkNotNull(enforcer, "enforcer");
+        final Optional<PolicyId> policyId = policy.getEntityId();
+        final Optional<PolicyRevision> policyRevision = policy.getRevision();
+        if (policyId.isPresent() && policyRevision.isPresent()) {
+            return new CachingEnforcer(this, enforcer, policyId.get(), policyRevision.get().toLong());
+        } else {
+            return enforcer;
+        }
+    }
+
+    /**
+     * Returns the estimated number of cached filters.
+     *
+     * @return the size of the cache.
+     */
+    long size() {
+        return filters.asMap().size();
+    }
+
+    private Optional<JsonViewFilter> getJsonViewFilter(final CachingEnforcer cachingEnforcer,
+            final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final JsonFieldSelector allowlist,
+            final Permissions permissions) {
+
+        final Key key = new Key(cachingEnforcer.policyId, cachingEnforcer.policyRevision, resourceKey,
+                new HashSet<>(authorizationContext.getAuthorizationSubjectIds()), allowlist, permissions);
+        // present filters are stored as completed futures, so this never waits
+        final Optional<JsonViewFilter> cachedFilter = filters.getIfPresent(key).getNow(Optional.empty());
+        if (cachedFilter.isPresent()) {
+            return cachedFilter;
+        }
+        // concurrent misses of the same key compile equal filters
+        final Optional<JsonViewFilter> compiledFilter =
+                compile(cachingEnforcer.delegate, resourceKey, authorizationContext, allowlist, permissions);
+        compiledFilter.ifPresent(filter -> filters.put(key, filter));
+        return compiledFilter;
+    }
+
+    private static Optional<JsonViewFilter> compile(final Enforcer enforcer,
+            final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final JsonFieldSelector allowlist,
+            final Permissions permissions) {
+
+        final Optional<JsonViewFilter> filter =
+                enforcer.getJsonViewFilter(resourceKey, authorizationContext, permissions);
+        if (filter.isPresent() && !allowlist.isEmpty()) {
+            final ResourceKey rootResourceKey =
+                    ResourceKey.newInstance(resourceKey.getResourceType(), JsonFactory.emptyPointer());
+            if (enforcer.hasPartialPermissions(rootResourceKey, authorizationContext, permissions)) {
+                return Optional.of(filter.get().allow(allowlist));
+            }
+        }
+        return filter;
+    }
+
+    private static final class Key {
+
+        private final PolicyId policyId;
+        private final long policyRevision;
+        private final ResourceKey resourceKey;
+        private final Set<String> subjectIds;
+        private final JsonFieldSelector allowlist;
+        private final Permissions permissions;
+
+        private Key(final PolicyId policyId, final long policyRevision, final ResourceKey resourceKey,
+                final Set<String> subjectIds, final JsonFieldSelector allowlist, final Permissions permissions) {
+            this.policyId = policyId;
+            this.policyRevision = policyRevision;
+            this.resourceKey = resourceKey;
+            this.subjectIds = subjectIds;
+            this.allowlist = allowlist;
+            this.permissions = permissions;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return policyRevision == that.policyRevision &&
+                    policyId.equals(that.policyId) &&
+                    resourceKey.equals(that.resourceKey) &&
+                    subjectIds.equals(that.subjectIds) &&
+                    allowlist.equals(that.allowlist) &&
+                    permissions.equals(that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(policyId, policyRevision, resourceKey, subjectIds, allowlist, permissions);
+        }
+
+    }
+
+    /**
+     * Enforcer of one policy revision which builds JSON views from the filters of the cache.
+     */
+    private static final class CachingEnforcer implements Enforcer {
+
+        private final JsonViewFilterCache cache;
+        private final Enforcer delegate;
+        private final PolicyId policyId;
+        private final long policyRevision;
+
+        private CachingEnforcer(final JsonViewFilterCache cache, final Enforcer delegate, final PolicyId policyId,
+                final long policyRevision) {
+            this.cache = cache;
+            this.delegate = delegate;
+            this.policyId = policyId;
+            this.policyRevision = policyRevision;
+        }
+
+        @Override
+        public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+            return delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+        }
+
+        @Override
+        public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey,
+                final Permissions permissions) {
+            return delegate.getSubjectsWithPermission(resourceKey, permissions);
+        }
+
+        @Override
+        public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+                final Permissions permissions) {
+            return delegate.getSubjectsWithPartialPermission(resourceKey, permissions);
+        }
+
+        @Override
+        public boolean hasPartialPermissions(final ResourceKey resourceKey,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+            return delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+        }
+
+        @Override
+        public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+                final Permissions permissions) {
+            return delegate.getSubjectsWithUnrestrictedPermission(resourceKey, permissions);
+        }
+
+        @Override
+        public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+            checkNotNull(jsonFields, "JSON fields");
+            return cache.getJsonViewFilter(this, resourceKey, authorizationContext, NO_ALLOWLIST, permissions)
+                    .map(filter -> filter.apply(jsonFields))
+                    .orElseGet(() -> delegate.buildJsonView(resourceKey, jsonFields, authorizationContext,
+                            permissions));
+        }
+
+        @Override
+        public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+                final AuthorizationContext authorizationContext, final JsonFieldSelector allowlist,
+                final Permissions permissions) {
+            checkNotNull(jsonFields, "JSON fields");
+            return cache.getJsonViewFilter(this, resourceKey, authorizationContext, allowlist, permissions)
+                    .map(filter -> filter.apply(jsonFields))
+                    .orElseGet(() -> delegate.buildJsonView(resourceKey, jsonFields, authorizationContext,
+                            allowlist, permissions));
+        }
+
+        @Override
+        public Optional<JsonViewFilter> getJsonViewFilter(final ResourceKey resourceKey,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+            return cache.getJsonViewFilter(this, resourceKey, authorizationContext, NO_ALLOWLIST, permissions);
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.internal.utils.cacheloaders;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
@@ -34,6 +35,7 @@ import akka.actor.Scheduler;
 public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EnforcementCacheKey, Entry<PolicyEnforcer>> {
 
     private final PolicyCacheLoader delegate;
+    @Nullable private final JsonViewFilterCache jsonViewFilterCache;
 
     /**
      * Constructor.
@@ -46,20 +48,41 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<Enforce
             final Scheduler scheduler,
             final ActorRef policiesShardRegionProxy) {
 
+        this(askWithRetryConfig, scheduler, policiesShardRegionProxy, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askWithRetryConfig the configuration for the "ask with retry" pattern applied for the cache loader.
+     * @param scheduler the scheduler to use for the "ask with retry" for retries.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param jsonViewFilterCache cache of compiled JSON view filters shared by the loaded enforcers, or {@code null}
+     * to let the enforcers evaluate the policy for each JSON view.
+     * @since 3.0.0
+     */
+    public PolicyEnforcerCacheLoader(final AskWithRetryConfig askWithRetryConfig,
+            final Scheduler scheduler,
+            final ActorRef policiesShardRegionProxy,
+            @Nullable final JsonViewFilterCache jsonViewFilterCache) {
+
         delegate = new PolicyCacheLoader(askWithRetryConfig, scheduler, policiesShardRegionProxy);
+        this.jsonViewFilterCache = jsonViewFilterCache;
     }
 
     @Override
     public CompletableFuture<Entry<PolicyEnforcer>> asyncLoad(final EnforcementCacheKey key,
             final Executor executor) {
-        return delegate.asyncLoad(key, executor).thenApply(PolicyEnforcerCacheLoader::evaluatePolicy);
+        return delegate.asyncLoad(key, executor).thenApply(this::evaluatePolicy);
     }
 
-    private static Entry<PolicyEnforcer> evaluatePolicy(final Entry<Policy> entry) {
+    private Entry<PolicyEnforcer> evaluatePolicy(final Entry<Policy> entry) {
         if (entry.exists()) {
             final var revision = entry.getRevision();
             final var policy = entry.getValueOrThrow();
-            final var enforcer = PolicyEnforcers.defaultEvaluator(policy);
+            final var enforcer = null != jsonViewFilterCache
+                    ? jsonViewFilterCache.cachingEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy))
+                    : PolicyEnforcers.defaultEvaluator(policy);
             return Entry.of(revision, PolicyEnforcer.of(policy, enforcer));
         } else {
             return Entry.nonexistent();
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link JsonViewFilterCache}.
+ */
+public final class JsonViewFilterCacheTest {
+
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final AuthorizationSubject RESTRICTED_SUBJECT =
+            AuthorizationSubject.newInstance("test:restricted");
+    private static final AuthorizationSubject UNKNOWN_SUBJECT = AuthorizationSubject.newInstance("test:unknown");
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", JsonPointer.empty());
+    private static final JsonFieldSelector ALLOWLIST = JsonFactory.newFieldSelector("thingId");
+
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", "namespace:thing")
+            .set("policyId", "namespace:policy")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("location", "kitchen")
+                    .set("secret", JsonObject.newBuilder().set("pin", 1234).build())
+                    .build())
+            .build();
+
+    @Test
+    public void cacheConfigMustNotBeNull() {
+        assertThatNullPointerException().isThrownBy(() -> JsonViewFilterCache.of(null, null, Runnable::run));
+    }
+
+    @Test
+    public void cachingEnforcerBuildsSameViewsAsEnforcer() {
+        final Policy policy = restrictedPolicy(1L);
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(policy);
+        final Enforcer underTest = newCache(10).cachingEnforcer(policy, enforcer);
+
+        for (final AuthorizationContext context : new AuthorizationContext[]{
+                context(RESTRICTED_SUBJECT), context(UNKNOWN_SUBJECT), context(RESTRICTED_SUBJECT, UNKNOWN_SUBJECT)
+        }) {
+            assertThat(underTest.buildJsonView(THING_ROOT, THING, context, READ))
+                    .isEqualTo(enforcer.buildJsonView(THING_ROOT, THING, context, READ));
+            assertThat(underTest.buildJsonView(THING_ROOT, THING, context, ALLOWLIST, READ))
+                    .isEqualTo(enforcer.buildJsonView(THING_ROOT, THING, context, ALLOWLIST, READ));
+        }
+    }
+
+    @Test
+    public void filtersAreSharedPerPolicyRevisionAndSubjectSet() {
+        final JsonViewFilterCache cache = newCache(10);
+        final Policy policy = restrictedPolicy(1L);
+        final Enforcer first = cache.cachingEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy));
+        final Enforcer second = cache.cachingEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy));
+
+        first.buildJsonView(THING_ROOT, THING, context(RESTRICTED_SUBJECT, UNKNOWN_SUBJECT), READ);
+        second.buildJsonView(THING_ROOT, THING, context(UNKNOWN_SUBJECT, RESTRICTED_SUBJECT), READ);
+
+        assertThat(cache.size()).isEqualTo(1L);
+    }
+
+    @Test
+    public void filtersAreNotSharedAcrossPolicyRevisions() {
+        final JsonViewFilterCache cache = newCache(10);
+        final Policy revision1 = restrictedPolicy(1L);
+        final Policy revision2 = restrictedPolicy(2L);
+        final AuthorizationContext context = context(RESTRICTED_SUBJECT);
+
+        cache.cachingEnforcer(revision1, PolicyEnforcers.defaultEvaluator(revision1))
+                .buildJsonView(THING_ROOT, THING, context, READ);
+        cache.cachingEnforcer(revision2, PolicyEnforcers.defaultEvaluator(revision2))
+                .buildJsonView(THING_ROOT, THING, context, READ);
+
+        assertThat(cache.size()).isEqualTo(2L);
+    }
+
+    @Test
+    public void filtersAreEvictedBeyondMaximumSize() {
+        final JsonViewFilterCache cache = newCache(2);
+        final Policy policy = restrictedPolicy(1L);
+        final Enforcer underTest = cache.cachingEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy));
+
+        underTest.buildJsonView(THING_ROOT, THING, context(RESTRICTED_SUBJECT), READ);
+        underTest.buildJsonView(THING_ROOT, THING, context(UNKNOWN_SUBJECT), READ);
+        underTest.buildJsonView(THING_ROOT, THING, context(RESTRICTED_SUBJECT), READ);
+        underTest.buildJsonView(THING_ROOT, THING, context(RESTRICTED_SUBJECT, UNKNOWN_SUBJECT), READ);
+        underTest.buildJsonView(THING_ROOT, THING, context(RESTRICTED_SUBJECT), READ);
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2L);
+    }
+
+    @Test
+    public void enforcerOfPolicyWithoutRevisionIsNotWrapped() {
+        final Policy policy = restrictedPolicy(1L).toBuilder().setRevision(null).build();
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(policy);
+
+        assertThat(newCache(10).cachingEnforcer(policy, enforcer)).isSameAs(enforcer);
+    }
+
+    private static JsonViewFilterCache newCache(final int maximumSize) {
+        final CacheConfig cacheConfig = DefaultCacheConfig.of(
+                ConfigFactory.parseString("json-view-filter.maximum-size = " + maximumSize), "json-view-filter");
+        return JsonViewFilterCache.of(cacheConfig, null, Runnable::run);
+    }
+
+    private static AuthorizationContext context(final AuthorizationSubject subject,
+            final AuthorizationSubject... furtherSubjects) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subject, furtherSubjects);
+    }
+
+    private static Policy restrictedPolicy(final long revision) {
+        return Policy.newBuilder(PolicyId.of("namespace", "policy"))
+                .forLabel("restricted")
+                .setSubject(RESTRICTED_SUBJECT.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), READ)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), READ)
+                .forLabel("other")
+                .setSubject("test:other", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ)
+                .setRevision(revision)
+                .build();
+    }
+
+}
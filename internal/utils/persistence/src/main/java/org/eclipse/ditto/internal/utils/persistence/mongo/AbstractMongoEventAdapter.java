@@ -75,7 +75,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
             final JsonObject jsonObject = performToJournalMigration(
                     theEvent.toJson(schemaVersion, IS_REVISION.negate())
             );
-            final BsonDocument bson = DittoBsonJson.getInstance().parse(jsonObject);
+            final BsonDocument bson = DittoBsonJsonCodec.getInstance().toRawBsonDocument(jsonObject);
             final Set<String> tags = theEvent.getDittoHeaders().getJournalTags();
             return new Tagged(bson, tags);
         } else {
@@ -86,7 +86,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            final JsonValue jsonValue = DittoBsonJson.getInstance().serialize((BsonValue) event);
+            final JsonValue jsonValue = toJson((BsonValue) event);
             try {
                 final JsonObject jsonObject = jsonValue.asObject()
                         .setValue(EventsourcedEvent.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
@@ -107,6 +107,13 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
         }
     }
 
+    private static JsonValue toJson(final BsonValue bsonValue) {
+        if (bsonValue instanceof BsonDocument) {
+            return DittoBsonJsonCodec.getInstance().toJsonObject((BsonDocument) bsonValue);
+        }
+        return DittoBsonJson.getInstance().serialize(bsonValue);
+    }
+
     /**
      * Performs an optional migration of the passed in {@code jsonObject} (which is the JSON representation of the
      * {@link Event} to persist) just before it is transformed to Mongo BSON and inserted into the "journal" collection.
@@ -15,17 +15,25 @@ package org.eclipse.ditto.internal.utils.persistence.mongo;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig.SnapshotFormat;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
@@ -43,10 +51,41 @@ import akka.persistence.SnapshotOffer;
 public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>
         implements SnapshotAdapter<T> {
 
+    private static final String FORMAT_TAG = "format";
+    private static final Counter BSON_BYTES_WRITTEN = bytesCounter("snapshot_bytes_written", SnapshotFormat.BSON);
+    private static final Counter COMPRESSED_BYTES_WRITTEN =
+            bytesCounter("snapshot_bytes_written", SnapshotFormat.COMPRESSED);
+    private static final Counter BSON_BYTES_READ = bytesCounter("snapshot_bytes_read", SnapshotFormat.BSON);
+    private static final Counter COMPRESSED_BYTES_READ = bytesCounter("snapshot_bytes_read", SnapshotFormat.COMPRESSED);
+
     private final Logger logger;
+    private final SnapshotFormat format;
+    private final long compressionThreshold;
 
+    /**
+     * Constructs an adapter which writes snapshots as plain BSON.
+     *
+     * @param logger the logger to use.
+     */
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
         this.logger = logger;
+        format = SnapshotFormat.BSON;
+        compressionThreshold = 0L;
+    }
+
+    /**
+     * Constructs an adapter which writes snapshots in the format configured by the given snapshot config.
+     *
+     * @param logger the logger to use.
+     * @param snapshotConfig the snapshot config providing the format to write.
+     * @throws NullPointerException if {@code snapshotConfig} is {@code null}.
+     * @since 3.0.0
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final SnapshotConfig snapshotConfig) {
+        this.logger = logger;
+        checkNotNull(snapshotConfig, "snapshot config");
+        format = snapshotConfig.getFormat();
+        compressionThreshold = snapshotConfig.getCompressionThreshold();
     }
 
     /**
@@ -77,8 +116,14 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        if (format == SnapshotFormat.COMPRESSED && json.getUpperBoundForStringSize() >= compressionThreshold) {
+            final BsonDocument compressedSnapshot = CompressedSnapshot.compress(json);
+            COMPRESSED_BYTES_WRITTEN.increment(CompressedSnapshot.getCompressedSize(compressedSnapshot));
+            return compressedSnapshot;
+        }
+        final RawBsonDocument rawBsonDocument = DittoBsonJsonCodec.getInstance().toRawBsonDocument(json);
+        BSON_BYTES_WRITTEN.increment(rawBsonDocument.getByteBuffer().remaining());
+        return rawBsonDocument;
     }
 
     /**
@@ -153,11 +198,27 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
+        if (bsonValue instanceof BsonDocument && CompressedSnapshot.isCompressed((BsonDocument) bsonValue)) {
+            final BsonDocument compressedSnapshot = (BsonDocument) bsonValue;
+            COMPRESSED_BYTES_READ.increment(CompressedSnapshot.getCompressedSize(compressedSnapshot));
+            return DittoJsonException.wrapJsonRuntimeException(() -> CompressedSnapshot.decompress(compressedSnapshot));
+        }
+        if (bsonValue instanceof RawBsonDocument) {
+            BSON_BYTES_READ.increment(((RawBsonDocument) bsonValue).getByteBuffer().remaining());
+        }
+        if (bsonValue instanceof BsonDocument) {
+            return DittoJsonException.wrapJsonRuntimeException(
+                    () -> DittoBsonJsonCodec.getInstance().toJsonObject((BsonDocument) bsonValue));
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
     }
 
+    private static Counter bytesCounter(final String name, final SnapshotFormat snapshotFormat) {
+        return DittoMetrics.counter(name, Map.of(FORMAT_TAG, snapshotFormat.name().toLowerCase(Locale.ENGLISH)));
+    }
+
     @Nullable
     private T tryToCreateJsonifiableFrom(final JsonObject jsonObject) {
         try {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.cluster.CborFactoryLoader;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+
+/**
+ * Converts snapshot JSON to and from the compressed snapshot format: the whole JSON is stored as deflate-compressed
+ * CBOR in a binary field while the top-level scalar fields (e.g. revision, lifecycle or policy ID) are kept as plain
+ * BSON, so that they remain accessible for queries on the snapshot store.
+ */
+@Immutable
+final class CompressedSnapshot {
+
+    /**
+     * Name of the binary field holding the compressed snapshot.
+     */
+    static final String COMPRESSED_PAYLOAD_FIELD = "__compressed";
+
+    private CompressedSnapshot() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the given BSON document is a compressed snapshot.
+     *
+     * @param bsonDocument the BSON document of a snapshot.
+     * @return {@code true} if {@code bsonDocument} contains a compressed payload.
+     */
+    static boolean isCompressed(final BsonDocument bsonDocument) {
+        final BsonValue payload = bsonDocument.get(COMPRESSED_PAYLOAD_FIELD);
+        return null != payload && payload.isBinary();
+    }
+
+    /**
+     * Returns the size in bytes of the compressed payload of the given compressed snapshot.
+     *
+     * @param bsonDocument the BSON document of a compressed snapshot.
+     * @return the size of the compressed payload.
+     */
+    static int getCompressedSize(final BsonDocument bsonDocument) {
+        return bsonDocument.getBinary(COMPRESSED_PAYLOAD_FIELD).getData().length;
+    }
+
+    /**
+     * Compresses the given snapshot JSON.
+     *
+     * @param snapshotJson the JSON of the snapshot.
+     * @return the compressed snapshot.
+     * @throws UncheckedIOException if the JSON could not be serialized to CBOR.
+     */
+    static BsonDocument compress(final JsonObject snapshotJson) {
+        final JsonObjectBuilder scalarFields = JsonFactory.newObjectBuilder();
+        for (final JsonField field : snapshotJson) {
+            if (!field.getValue().isObject() && !field.getValue().isArray()) {
+                scalarFields.set(field);
+            }
+        }
+        final BsonDocument result = DittoBsonJson.getInstance().parse(scalarFields.build());
+        result.put(COMPRESSED_PAYLOAD_FIELD, new BsonBinary(deflate(toCbor(snapshotJson))));
+        return result;
+    }
+
+    /**
+     * Restores the snapshot JSON of the given compressed snapshot.
+     *
+     * @param bsonDocument the BSON document of a compressed snapshot.
+     * @return the snapshot JSON.
+     */
+    static JsonObject decompress(final BsonDocument bsonDocument) {
+        final byte[] cbor = inflate(bsonDocument.getBinary(COMPRESSED_PAYLOAD_FIELD).getData());
+        return getCborFactory().readFrom(cbor).asObject();
+    }
+
+    private static byte[] toCbor(final JsonObject jsonObject) {
+        try {
+            return getCborFactory().toByteArray(jsonObject);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] deflate(final byte[] bytes) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(bytes.length / 2);
+        try (final OutputStream deflaterOutputStream = new DeflaterOutputStream(byteArrayOutputStream)) {
+            deflaterOutputStream.write(bytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static byte[] inflate(final byte[] bytes) {
+        try (final InputStream inflaterInputStream = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return inflaterInputStream.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CborFactory getCborFactory() {
+        return CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A BSON {@link Codec} which writes a {@link JsonObject} directly to a {@link BsonWriter} and reads it back from a
+ * {@link BsonReader} without building an intermediate {@link BsonDocument} tree.
+ * <p>
+ * The value mapping is the same as the one of {@link DittoBsonJson}: dots "." and dollar signs "$" in JSON keys are
+ * replaced by their unicode representations while encoding and vice versa while decoding. Each key is scanned only
+ * once and is not copied at all if it does not contain any of those characters.
+ * </p>
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class DittoBsonJsonCodec implements Codec<JsonObject> {
+
+    private static final DittoBsonJsonCodec INSTANCE = new DittoBsonJsonCodec();
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private DittoBsonJsonCodec() {
+        super();
+    }
+
+    /**
+     * Returns an instance of {@code DittoBsonJsonCodec}.
+     *
+     * @return the instance.
+     */
+    public static DittoBsonJsonCodec getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Encodes the specified JSON object to a {@link RawBsonDocument} which holds the encoded bytes and can be written
+     * to MongoDB without further conversion.
+     *
+     * @param jsonObject the JSON object to encode.
+     * @return the encoded document.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public RawBsonDocument toRawBsonDocument(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object to be encoded");
+        return new RawBsonDocument(jsonObject, this);
+    }
+
+    /**
+     * Decodes the specified BSON document to a JSON object.
+     * A {@link RawBsonDocument} is read directly from its bytes.
+     *
+     * @param bsonDocument the BSON document to decode.
+     * @return the decoded JSON object.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObject toJsonObject(final BsonDocument bsonDocument) {
+        checkNotNull(bsonDocument, "BSON document to be decoded");
+        if (bsonDocument instanceof RawBsonDocument) {
+            return ((RawBsonDocument) bsonDocument).decode(this);
+        }
+        try (final BsonDocumentReader reader = new BsonDocumentReader(bsonDocument)) {
+            return decode(reader, DECODER_CONTEXT);
+        }
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final JsonObject jsonObject, final EncoderContext encoderContext) {
+        writeObject(writer, jsonObject);
+    }
+
+    @Override
+    public JsonObject decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return readObject(reader);
+    }
+
+    @Override
+    public Class<JsonObject> getEncoderClass() {
+        return JsonObject.class;
+    }
+
+    private static void writeObject(final BsonWriter writer, final JsonObject jsonObject) {
+        writer.writeStartDocument();
+        for (final JsonField jsonField : jsonObject) {
+            writer.writeName(escapeKey(jsonField.getKeyName()));
+            writeValue(writer, jsonField.getValue());
+        }
+        writer.writeEndDocument();
+    }
+
+    private static void writeArray(final BsonWriter writer, final JsonArray jsonArray) {
+        writer.writeStartArray();
+        for (final JsonValue jsonValue : jsonArray) {
+            writeValue(writer, jsonValue);
+        }
+        writer.writeEndArray();
+    }
+
+    private static void writeValue(final BsonWriter writer, final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            writer.writeNull();
+        } else if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            writeNumber(writer, jsonValue);
+        } else if (jsonValue.isObject()) {
+            writeObject(writer, jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(writer, jsonValue.asArray());
+        } else if (jsonValue.isBoolean()) {
+            writer.writeBoolean(jsonValue.asBoolean());
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private static void writeNumber(final BsonWriter writer, final JsonValue jsonNumberValue) {
+        if (jsonNumberValue.isInt()) {
+            writer.writeInt32(jsonNumberValue.asInt());
+        } else if (jsonNumberValue.isLong()) {
+            writer.writeInt64(jsonNumberValue.asLong());
+        } else {
+            writer.writeDouble(jsonNumberValue.asDouble());
+        }
+    }
+
+    private static JsonObject readObject(final BsonReader reader) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String keyName = unescapeKey(reader.readName());
+            builder.set(JsonFactory.newField(JsonFactory.newKey(keyName), readValue(reader)));
+        }
+        reader.readEndDocument();
+        return builder.build();
+    }
+
+    private static JsonArray readArray(final BsonReader reader) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            builder.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return builder.build();
+    }
+
+    private static JsonValue readValue(final BsonReader reader) {
+        final JsonValue result;
+        switch (reader.getCurrentBsonType()) {
+            case STRING:
+                result = JsonFactory.newValue(reader.readString());
+                break;
+            case INT32:
+                result = JsonFactory.newValue(reader.readInt32());
+                break;
+            case INT64:
+                result = JsonFactory.newValue(reader.readInt64());
+                break;
+            case DOUBLE:
+                result = JsonFactory.newValue(reader.readDouble());
+                break;
+            case DOCUMENT:
+                result = readObject(reader);
+                break;
+            case ARRAY:
+                result = readArray(reader);
+                break;
+            case BOOLEAN:
+                result = JsonFactory.newValue(reader.readBoolean());
+                break;
+            case TIMESTAMP:
+                result = JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+                break;
+            case NULL:
+                reader.readNull();
+                result = JsonFactory.nullLiteral();
+                break;
+            default:
+                reader.skipValue();
+                result = JsonFactory.nullLiteral();
+        }
+        return result;
+    }
+
+    /**
+     * Replaces dots and dollar signs of the given key name with their unicode counterparts in a single pass.
+     *
+     * @param keyName the key name to escape.
+     * @return the escaped key name or {@code keyName} itself if nothing had to be replaced.
+     */
+    static String escapeKey(final String keyName) {
+        return replaceChars(keyName, KeyNameReviser.DOT_CHAR, KeyNameReviser.DOT_UNICODE_CHAR,
+                KeyNameReviser.DOLLAR_CHAR, KeyNameReviser.DOLLAR_UNICODE_CHAR);
+    }
+
+    /**
+     * Replaces unicode dots and dollar signs of the given key name with their plain counterparts in a single pass.
+     *
+     * @param keyName the key name to unescape.
+     * @return the unescaped key name or {@code keyName} itself if nothing had to be replaced.
+     */
+    static String unescapeKey(final String keyName) {
+        return replaceChars(keyName, KeyNameReviser.DOT_UNICODE_CHAR, KeyNameReviser.DOT_CHAR,
+                KeyNameReviser.DOLLAR_UNICODE_CHAR, KeyNameReviser.DOLLAR_CHAR);
+    }
+
+    private static String replaceChars(final String s, final char old1, final char new1, final char old2,
+            final char new2) {
+
+        final int length = s.length();
+        int i = 0;
+        while (i < length && s.charAt(i) != old1 && s.charAt(i) != old2) {
+            i++;
+        }
+        if (i == length) {
+            return s;
+        }
+        final char[] chars = s.toCharArray();
+        for (; i < length; i++) {
+            final char c = chars[i];
+            if (c == old1) {
+                chars[i] = new1;
+            } else if (c == old2) {
+                chars[i] = new2;
+            }
+        }
+        return new String(chars);
+    }
+
+}
@@ -13,11 +13,13 @@
 package org.eclipse.ditto.internal.utils.persistence.mongo.config;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -32,10 +34,21 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final SnapshotFormat format;
+    private final long compressionThreshold;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getNonNegativeAndNonZeroDurationOrThrow(SnapshotConfigValue.INTERVAL);
         threshold = config.getPositiveLongOrThrow((SnapshotConfigValue.THRESHOLD));
+        final String formatName = config.getString(SnapshotConfigValue.FORMAT.getConfigPath());
+        format = SnapshotFormat.forName(formatName)
+                .orElseThrow(() -> new DittoConfigError("Unknown snapshot format <" + formatName + ">. Supported " +
+                        "formats are: " + Arrays.toString(SnapshotFormat.values())));
+        compressionThreshold = config.getBytes(SnapshotConfigValue.COMPRESSION_THRESHOLD.getConfigPath());
+        if (compressionThreshold < 0) {
+            throw new DittoConfigError("The snapshot compression-threshold must not be negative, but was <" +
+                    compressionThreshold + ">.");
+        }
     }
 
     /**
@@ -60,6 +73,16 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public SnapshotFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public long getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -69,12 +92,15 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                compressionThreshold == that.compressionThreshold &&
+                Objects.equals(interval, that.interval) &&
+                format == that.format;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, format, compressionThreshold);
     }
 
     @Override
@@ -82,6 +108,8 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", format=" + format +
+                ", compressionThreshold=" + compressionThreshold +
                 "]";
     }
 
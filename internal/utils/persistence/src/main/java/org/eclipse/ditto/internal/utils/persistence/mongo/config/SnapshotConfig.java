@@ -13,6 +13,8 @@
 package org.eclipse.ditto.internal.utils.persistence.mongo.config;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -38,6 +40,56 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Returns the format in which snapshots are written to the snapshot store.
+     * Snapshots of all formats can be read regardless of this setting.
+     *
+     * @return the snapshot format.
+     * @since 3.0.0
+     */
+    SnapshotFormat getFormat();
+
+    /**
+     * Returns the estimated size in bytes from which on snapshots are stored compressed if the format is
+     * {@link SnapshotFormat#COMPRESSED}. Smaller snapshots are stored as plain BSON.
+     *
+     * @return the compression threshold in bytes.
+     * @since 3.0.0
+     */
+    long getCompressionThreshold();
+
+    /**
+     * The formats in which snapshots can be stored.
+     *
+     * @since 3.0.0
+     */
+    enum SnapshotFormat {
+
+        /**
+         * The snapshot is stored as a plain BSON document.
+         */
+        BSON,
+
+        /**
+         * The snapshot is stored as deflate-compressed CBOR in a binary field; only its top-level scalar fields are
+         * kept as plain BSON so that they can still be queried.
+         */
+        COMPRESSED;
+
+        /**
+         * Returns the snapshot format with the given name, ignoring case.
+         *
+         * @param name the name of the format.
+         * @return the format or an empty Optional.
+         */
+        public static Optional<SnapshotFormat> forName(final CharSequence name) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(name.toString()))
+                    .findAny();
+        }
+
+    }
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +104,17 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * The format in which snapshots are written.
+         */
+        FORMAT("format", "bson"),
+
+        /**
+         * The estimated size in bytes from which on snapshots are stored compressed.
+         */
+        COMPRESSION_THRESHOLD("compression-threshold", 16_384L);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Decides which journaled events supersede each other and may therefore be compacted by
+ * {@link MongoEventCompaction}.
+ *
+ * @since 3.0.0
+ */
+public interface JournalCompactionStrategy {
+
+    /**
+     * Returns the compaction key of a journaled event. Consecutive events with the same key are merged into the last
+     * of them; events without key are never compacted and separate runs of compactable events.
+     *
+     * @param event the JSON representation of the journaled event.
+     * @return the compaction key, or an empty optional if the event must be kept as it is.
+     */
+    Optional<String> getCompactionKey(JsonObject event);
+
+    /**
+     * Merges 2 consecutive events with the same compaction key into 1 event replacing the later one.
+     *
+     * @param earlier the earlier event.
+     * @param later the later event.
+     * @return the merged event, or an empty optional if the events cannot be merged.
+     */
+    Optional<JsonObject> merge(JsonObject earlier, JsonObject later);
+
+}
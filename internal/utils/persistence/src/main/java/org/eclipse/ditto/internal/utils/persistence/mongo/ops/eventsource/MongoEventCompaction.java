@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJsonCodec;
+import org.eclipse.ditto.json.JsonObject;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.NotUsed;
+import akka.contrib.persistence.mongodb.JournallingFieldNames$;
+import akka.stream.javadsl.Source;
+
+/**
+ * Compacts the event journal of a PID by merging runs of consecutive events which supersede each other according to a
+ * {@link JournalCompactionStrategy}.
+ * <p>
+ * Each run is merged into its last event, which keeps its sequence number and tags; the other events of the run are
+ * deleted. Only journal entries holding exactly 1 event are compacted. The merged event is written before the
+ * superseded events are deleted, so that an interrupted compaction leaves a journal which recovers to the same state.
+ * <p>
+ * The journal is read in batches in the order of sequence numbers. A run which is still open at the end of a batch is
+ * written and continued by the next batch starting from its merged event, so that runs are merged across batches.
+ * The compaction stops at the first journal entry which is not old enough and reports the sequence number from which
+ * the next compaction has to resume.
+ *
+ * @since 3.0.0
+ */
+public final class MongoEventCompaction {
+
+    private static final String J_ID = JournallingFieldNames$.MODULE$.ID();
+    private static final String J_PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String J_TO = JournallingFieldNames$.MODULE$.TO();
+    private static final String J_EVENT = JournallingFieldNames$.MODULE$.EVENTS();
+    private static final String J_EVENT_PAYLOAD = JournallingFieldNames$.MODULE$.PayloadKey();
+    private static final String J_FIRST_EVENT_PAYLOAD = J_EVENT + ".0." + J_EVENT_PAYLOAD;
+
+    private final JournalCompactionStrategy strategy;
+
+    private MongoEventCompaction(final JournalCompactionStrategy strategy) {
+        this.strategy = checkNotNull(strategy, "strategy");
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param strategy the strategy deciding which events to merge.
+     * @return the instance.
+     * @throws NullPointerException if {@code strategy} is {@code null}.
+     */
+    public static MongoEventCompaction of(final JournalCompactionStrategy strategy) {
+        return new MongoEventCompaction(strategy);
+    }
+
+    /**
+     * Compact the events of a PID within a range of sequence numbers up to the first event which was journaled after
+     * a point in time.
+     *
+     * @param journal the journal collection.
+     * @param pid the PID.
+     * @param minSeqNr minimum sequence number to compact (inclusive).
+     * @param maxSeqNr maximum sequence number to compact (inclusive).
+     * @param olderThan only events journaled before this instant are compacted.
+     * @param batchSize how many journal entries to read per batch.
+     * @return source of the result of each batch.
+     */
+    public Source<BatchResult, NotUsed> compactEvents(final MongoCollection<Document> journal,
+            final String pid,
+            final long minSeqNr,
+            final long maxSeqNr,
+            final Instant olderThan,
+            final int batchSize) {
+
+        // a batch of 1 entry could not make progress if it continues the open run of the previous batch
+        return compactBatches(journal.withDocumentClass(BsonDocument.class), pid, minSeqNr, maxSeqNr,
+                new ObjectId(Date.from(olderThan)), Math.max(2, batchSize));
+    }
+
+    private Source<BatchResult, NotUsed> compactBatches(final MongoCollection<BsonDocument> journal,
+            final String pid,
+            final long minSeqNr,
+            final long maxSeqNr,
+            final ObjectId olderThan,
+            final int batchSize) {
+
+        final Bson filter = Filters.and(Filters.eq(J_PROCESSOR_ID, pid),
+                Filters.gte(J_TO, minSeqNr),
+                Filters.lte(J_TO, maxSeqNr));
+
+        return Source.fromPublisher(journal.find(filter).sort(Sorts.ascending(J_TO)).limit(batchSize))
+                .fold(new ArrayList<BsonDocument>(), (entries, entry) -> {
+                    entries.add(entry);
+                    return entries;
+                })
+                .map(entries -> planBatch(entries, minSeqNr, olderThan, entries.size() < batchSize))
+                .flatMapConcat(plan -> {
+                    final Source<BatchResult, NotUsed> batchResult = write(journal, plan.writes)
+                            .map(deleteResult -> new BatchResult(deleteResult, plan.resumeSeqNr));
+                    if (plan.isComplete) {
+                        return batchResult;
+                    } else {
+                        return batchResult.concat(Source.lazySource(() ->
+                                compactBatches(journal, pid, plan.resumeSeqNr, maxSeqNr, olderThan, batchSize)
+                        ).mapMaterializedValue(ignored -> NotUsed.getInstance()));
+                    }
+                });
+    }
+
+    private static Source<DeleteResult, NotUsed> write(final MongoCollection<BsonDocument> journal,
+            final List<WriteModel<BsonDocument>> writes) {
+
+        if (writes.isEmpty()) {
+            return Source.single(DeleteResult.acknowledged(0L));
+        } else {
+            return Source.fromPublisher(journal.bulkWrite(writes, new BulkWriteOptions().ordered(true)))
+                    .map(result -> DeleteResult.acknowledged(result.getDeletedCount()));
+        }
+    }
+
+    /**
+     * Compute the writes compacting a batch of journal entries of 1 PID sorted by sequence number.
+     *
+     * @param journalEntries the journal entries.
+     * @param minSeqNr the minimum sequence number of the batch.
+     * @param olderThan the ObjectId of the first point in time whose journal entries must not be compacted.
+     * @param isLastBatch whether no journal entries to compact follow the batch.
+     * @return the planned batch.
+     */
+    Plan planBatch(final List<BsonDocument> journalEntries,
+            final long minSeqNr,
+            final ObjectId olderThan,
+            final boolean isLastBatch) {
+
+        final List<WriteModel<BsonDocument>> writes = new ArrayList<>();
+        boolean isComplete = isLastBatch;
+        long resumeSeqNr = minSeqNr;
+        @Nullable Run run = null;
+        for (final BsonDocument entry : journalEntries) {
+            if (!isOlderThan(entry, olderThan)) {
+                // compacting newer entries would skip this one
+                isComplete = true;
+                resumeSeqNr = getSeqNr(entry);
+                break;
+            }
+            resumeSeqNr = getSeqNr(entry) + 1;
+            final Optional<JsonObject> event = getSingleEvent(entry);
+            final Optional<String> key = event.flatMap(strategy::getCompactionKey);
+            if (run != null && key.filter(run.key::equals).isPresent()) {
+                final Optional<JsonObject> merged = strategy.merge(run.merged, event.orElseThrow());
+                if (merged.isPresent()) {
+                    run.append(entry, event.orElseThrow(), merged.orElseThrow());
+                    continue;
+                }
+            }
+            if (run != null) {
+                run.appendWrites(writes);
+            }
+            run = key.map(k -> new Run(k, entry, event.orElseThrow())).orElse(null);
+        }
+        if (run != null) {
+            // resume from the merged event so that the next batch or compaction continues the run
+            run.appendWrites(writes);
+            resumeSeqNr = getSeqNr(run.lastEntry);
+        }
+
+        return new Plan(writes, resumeSeqNr, isComplete);
+    }
+
+    private static boolean isOlderThan(final BsonDocument journalEntry, final ObjectId olderThan) {
+        final BsonValue id = journalEntry.get(J_ID);
+        return id instanceof BsonObjectId && ((BsonObjectId) id).getValue().compareTo(olderThan) < 0;
+    }
+
+    private static long getSeqNr(final BsonDocument journalEntry) {
+        return journalEntry.getNumber(J_TO).longValue();
+    }
+
+    private static Optional<JsonObject> getSingleEvent(final BsonDocument journalEntry) {
+        final BsonValue events = journalEntry.get(J_EVENT);
+        if (events instanceof BsonArray && ((BsonArray) events).size() == 1) {
+            final BsonValue event = ((BsonArray) events).get(0);
+            if (event.isDocument() && event.asDocument().get(J_EVENT_PAYLOAD) instanceof BsonDocument) {
+                return Optional.of(DittoBsonJsonCodec.getInstance()
+                        .toJsonObject(event.asDocument().getDocument(J_EVENT_PAYLOAD)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The result of compacting 1 batch of journal entries.
+     */
+    public static final class BatchResult {
+
+        private final DeleteResult deleteResult;
+        private final long resumeSeqNr;
+
+        private BatchResult(final DeleteResult deleteResult, final long resumeSeqNr) {
+            this.deleteResult = deleteResult;
+            this.resumeSeqNr = resumeSeqNr;
+        }
+
+        /**
+         * @return the result containing the number of deleted journal entries.
+         */
+        public DeleteResult getDeleteResult() {
+            return deleteResult;
+        }
+
+        /**
+         * @return the sequence number from which to resume compaction of the PID; all journal entries before it are
+         * compacted.
+         */
+        public long getResumeSeqNr() {
+            return resumeSeqNr;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "[" +
+                    "deleteResult=" + deleteResult +
+                    ", resumeSeqNr=" + resumeSeqNr +
+                    "]";
+        }
+    }
+
+    static final class Plan {
+
+        final List<WriteModel<BsonDocument>> writes;
+        final long resumeSeqNr;
+        final boolean isComplete;
+
+        private Plan(final List<WriteModel<BsonDocument>> writes, final long resumeSeqNr, final boolean isComplete) {
+            this.writes = writes;
+            this.resumeSeqNr = resumeSeqNr;
+            this.isComplete = isComplete;
+        }
+    }
+
+    private static final class Run {
+
+        private final String key;
+        private final List<BsonValue> supersededIds;
+        private BsonDocument lastEntry;
+        private JsonObject lastEvent;
+        private JsonObject merged;
+
+        private Run(final String key, final BsonDocument entry, final JsonObject event) {
+            this.key = key;
+            supersededIds = new ArrayList<>();
+            lastEntry = entry;
+            lastEvent = event;
+            merged = event;
+        }
+
+        private void append(final BsonDocument entry, final JsonObject event, final JsonObject mergedEvent) {
+            supersededIds.add(lastEntry.get(J_ID));
+            lastEntry = entry;
+            lastEvent = event;
+            merged = mergedEvent;
+        }
+
+        private void appendWrites(final List<WriteModel<BsonDocument>> writes) {
+            if (!supersededIds.isEmpty()) {
+                if (!merged.equals(lastEvent)) {
+                    final BsonDocument mergedPayload = DittoBsonJsonCodec.getInstance().toRawBsonDocument(merged);
+                    writes.add(new UpdateOneModel<>(Filters.eq(J_ID, lastEntry.get(J_ID)),
+                            Updates.set(J_FIRST_EVENT_PAYLOAD, mergedPayload)));
+                }
+                writes.add(new DeleteManyModel<>(Filters.in(J_ID, supersededIds)));
+            }
+        }
+    }
+
+}
@@ -13,10 +13,13 @@
 package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -27,7 +30,9 @@ import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
@@ -37,6 +42,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexFactory;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexInitializer;
+import org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource.MongoEventCompaction;
 import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
 
 import com.mongodb.client.model.Accumulators;
@@ -46,16 +52,24 @@ import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.typesafe.config.Config;
 
 import akka.Done;
 import akka.NotUsed;
+import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.contrib.persistence.mongodb.JournallingFieldNames$;
 import akka.contrib.persistence.mongodb.SnapshottingFieldNames$;
 import akka.japi.Pair;
+import akka.persistence.PersistentRepr;
+import akka.persistence.PersistentRepr$;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotMetadata;
 import akka.stream.Attributes;
 import akka.stream.Materializer;
 import akka.stream.RestartSettings;
@@ -124,6 +138,11 @@ public final class MongoReadJournal {
      */
     public static final String S_SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
 
+    /**
+     * Document field of the timestamp of snapshots.
+     */
+    private static final String S_TIMESTAMP = SnapshottingFieldNames$.MODULE$.TIMESTAMP();
+
     private static final String S_SERIALIZED_SNAPSHOT = "s2";
 
     /**
@@ -135,6 +154,25 @@ public final class MongoReadJournal {
     public static final String J_EVENT_PID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
     public static final String J_EVENT_MANIFEST = JournallingFieldNames$.MODULE$.MANIFEST();
     private static final String J_EVENT_SN = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String J_EVENT_HINT = JournallingFieldNames$.MODULE$.HINT();
+    private static final String J_EVENT_PAYLOAD = JournallingFieldNames$.MODULE$.PayloadKey();
+    private static final String J_EVENT_WRITER_UUID = JournallingFieldNames$.MODULE$.WRITER_UUID();
+
+    /**
+     * Type hint of event payloads which are stored as BSON documents.
+     */
+    private static final String BSON_HINT = "bson";
+
+    /**
+     * Suffix of the collection next to the journal which stores per PID the sequence number from which the next event
+     * compaction resumes.
+     */
+    private static final String COMPACTION_WATERMARKS_COLLECTION_SUFFIX = "_compaction";
+
+    /**
+     * Document field of the sequence number in the compaction watermarks.
+     */
+    private static final String W_SN = "sn";
 
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
@@ -425,6 +463,86 @@ public final class MongoReadJournal {
                 .orElse(Source.single(Optional.empty()));
     }
 
+    /**
+     * Find the largest snapshot sequence number of a PID.
+     *
+     * @param pid the PID to search for.
+     * @return source of the largest snapshot sequence number, or an empty optional.
+     * @since 3.0.0
+     */
+    public Source<Optional<Long>, NotUsed> getLargestSnapshotSeqNo(final String pid) {
+        return getSnapshotStore()
+                .flatMapConcat(snaps -> Source.fromPublisher(
+                        snaps.find(Filters.eq(S_PROCESSOR_ID, pid))
+                                .projection(Projections.include(S_SN))
+                                .sort(Sorts.descending(S_SN))
+                                .limit(1)
+                ))
+                .map(document -> Optional.of(document.getLong(S_SN)))
+                .orElse(Source.single(Optional.empty()));
+    }
+
+    /**
+     * Retrieve the newest snapshot of each of the given PIDs in one query.
+     *
+     * @param pids the PIDs whose newest snapshots to retrieve.
+     * @return source of pairs of PID and newest snapshot, or an empty optional if the newest snapshot is not stored as
+     * BSON document. PIDs without snapshots are omitted.
+     * @since 3.0.0
+     */
+    public Source<Pair<String, Optional<SelectedSnapshot>>, NotUsed> getNewestSnapshotsOfPids(
+            final Collection<String> pids) {
+
+        final String newest = "newest";
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.in(S_PROCESSOR_ID, pids)),
+                Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID), Sorts.descending(S_SN))),
+                Aggregates.group("$" + S_PROCESSOR_ID, Accumulators.first(newest, "$$ROOT")),
+                Aggregates.replaceRoot("$" + newest)
+        );
+        return getSnapshotStore()
+                .flatMapConcat(snaps -> Source.fromPublisher(snaps.aggregate(pipeline, RawBsonDocument.class)))
+                .map(snapshot -> Pair.create(snapshot.getString(S_PROCESSOR_ID).getValue(),
+                        Optional.of(snapshot)
+                                .filter(s -> s.isDocument(S_SERIALIZED_SNAPSHOT))
+                                .map(s -> new SelectedSnapshot(
+                                        new SnapshotMetadata(s.getString(S_PROCESSOR_ID).getValue(),
+                                                s.getNumber(S_SN).longValue(),
+                                                s.getNumber(S_TIMESTAMP).longValue()),
+                                        s.getDocument(S_SERIALIZED_SNAPSHOT)))));
+    }
+
+    /**
+     * Retrieve the events of each of the given PIDs after a sequence number in one query, ordered by PID and sequence
+     * number.
+     *
+     * @param seqNosByPid the PIDs and the sequence numbers after which to retrieve their events, e.g. the sequence
+     * numbers of their newest snapshots.
+     * @return source of pairs of PID and event, or an empty optional if the event is not stored as BSON document.
+     * @since 3.0.0
+     */
+    public Source<Pair<String, Optional<PersistentRepr>>, NotUsed> getEventsOfPidsAfter(
+            final Map<String, Long> seqNosByPid) {
+
+        if (seqNosByPid.isEmpty()) {
+            return Source.empty();
+        }
+        final Bson filter = Filters.or(seqNosByPid.entrySet()
+                .stream()
+                .map(entry -> Filters.and(Filters.eq(J_PROCESSOR_ID, entry.getKey()),
+                        Filters.gt(J_TO, entry.getValue())))
+                .toList());
+        return getJournal()
+                .flatMapConcat(journal -> Source.fromPublisher(journal.find(filter, RawBsonDocument.class)
+                        .sort(Sorts.ascending(J_PROCESSOR_ID, J_TO))))
+                .mapConcat(document -> document.getArray(J_EVENT).stream()
+                        .map(BsonValue::asDocument)
+                        .filter(event -> event.getNumber(J_EVENT_SN).longValue() >
+                                seqNosByPid.get(event.getString(J_EVENT_PID).getValue()))
+                        .map(MongoReadJournal::toPersistentRepr)
+                        .toList());
+    }
+
     /**
      * Delete events of a PID.
      *
@@ -442,6 +560,55 @@ public final class MongoReadJournal {
                 ));
     }
 
+    /**
+     * Compact events of a PID up to the first event which was journaled after a point in time.
+     *
+     * @param pid the PID.
+     * @param minSeqNr minimum sequence number to compact (inclusive).
+     * @param maxSeqNr maximum sequence number to compact (inclusive).
+     * @param olderThan only events journaled before this instant are compacted.
+     * @param compaction the compaction to perform.
+     * @param batchSize how many journal entries to read per batch.
+     * @return source of the result of each batch.
+     * @since 3.0.0
+     */
+    public Source<MongoEventCompaction.BatchResult, NotUsed> compactEvents(final String pid, final long minSeqNr,
+            final long maxSeqNr, final Instant olderThan, final MongoEventCompaction compaction, final int batchSize) {
+        return getJournal()
+                .flatMapConcat(journal ->
+                        compaction.compactEvents(journal, pid, minSeqNr, maxSeqNr, olderThan, batchSize));
+    }
+
+    /**
+     * Find the sequence number from which the next event compaction of a PID resumes.
+     *
+     * @param pid the PID to search for.
+     * @return source of the sequence number, or an empty optional if the events of the PID were never compacted.
+     * @since 3.0.0
+     */
+    public Source<Optional<Long>, NotUsed> getEventCompactionWatermark(final String pid) {
+        return getCompactionWatermarks()
+                .flatMapConcat(watermarks -> Source.fromPublisher(watermarks.find(Filters.eq(J_ID, pid)).limit(1)))
+                .map(document -> Optional.of(document.getLong(W_SN)))
+                .orElse(Source.single(Optional.empty()));
+    }
+
+    /**
+     * Store the sequence number from which the next event compaction of a PID resumes.
+     *
+     * @param pid the PID.
+     * @param seqNr the sequence number.
+     * @return source of the update result.
+     * @since 3.0.0
+     */
+    public Source<UpdateResult, NotUsed> setEventCompactionWatermark(final String pid, final long seqNr) {
+        return getCompactionWatermarks()
+                .flatMapConcat(watermarks -> Source.fromPublisher(
+                        watermarks.updateOne(Filters.eq(J_ID, pid), Updates.set(W_SN, seqNr),
+                                new UpdateOptions().upsert(true))
+                ));
+    }
+
     /**
      * Delete snapshots of a PID.
      *
@@ -725,10 +892,33 @@ public final class MongoReadJournal {
         return Stream.concat(snFieldStream, snapshotFieldStream).collect(Collectors.toList());
     }
 
+    private static Pair<String, Optional<PersistentRepr>> toPersistentRepr(final BsonDocument event) {
+        final String pid = event.getString(J_EVENT_PID).getValue();
+        final Optional<PersistentRepr> persistentRepr = Optional.of(event)
+                .filter(e -> e.isString(J_EVENT_HINT) && BSON_HINT.equals(e.getString(J_EVENT_HINT).getValue()))
+                .map(e -> PersistentRepr$.MODULE$.apply(e.get(J_EVENT_PAYLOAD),
+                        e.getNumber(J_EVENT_SN).longValue(),
+                        pid,
+                        getStringOrUndefined(e, J_EVENT_MANIFEST),
+                        false,
+                        ActorRef.noSender(),
+                        getStringOrUndefined(e, J_EVENT_WRITER_UUID)));
+        return Pair.create(pid, persistentRepr);
+    }
+
+    private static String getStringOrUndefined(final BsonDocument document, final String key) {
+        return document.isString(key) ? document.getString(key).getValue() : PersistentRepr$.MODULE$.Undefined();
+    }
+
     private Source<MongoCollection<Document>, NotUsed> getJournal() {
         return Source.single(mongoClient.getDefaultDatabase().getCollection(journalCollection));
     }
 
+    private Source<MongoCollection<Document>, NotUsed> getCompactionWatermarks() {
+        return Source.single(mongoClient.getDefaultDatabase()
+                .getCollection(journalCollection + COMPACTION_WATERMARKS_COLLECTION_SUFFIX));
+    }
+
     private Source<MongoCollection<Document>, NotUsed> getSnapshotStore() {
         return Source.single(mongoClient.getDefaultDatabase().getCollection(snapsCollection));
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompressedSnapshot}.
+ */
+public final class CompressedSnapshotTest {
+
+    private static final JsonObject SNAPSHOT_JSON = JsonFactory.newObject("{" +
+            "\"thingId\": \"org.eclipse.ditto:thing\"," +
+            "\"_revision\": 1234567890123," +
+            "\"__lifecycle\": \"ACTIVE\"," +
+            "\"attributes\": {\"a.b\": [1, 2, 3], \"$c\": {\"d\": null}}," +
+            "\"features\": {\"f\": {\"properties\": {\"x\": \"" + "y".repeat(2048) + "\"}}}" +
+            "}");
+
+    @Test
+    public void compressAndDecompressRestoresJson() {
+        final BsonDocument compressed = CompressedSnapshot.compress(SNAPSHOT_JSON);
+
+        assertThat(CompressedSnapshot.isCompressed(compressed)).isTrue();
+        assertThat(CompressedSnapshot.decompress(compressed)).isEqualTo(SNAPSHOT_JSON);
+    }
+
+    @Test
+    public void topLevelScalarsAreKeptAsPlainBson() {
+        final BsonDocument compressed = CompressedSnapshot.compress(SNAPSHOT_JSON);
+
+        assertThat(compressed.get("thingId")).isEqualTo(new BsonString("org.eclipse.ditto:thing"));
+        assertThat(compressed.get("_revision")).isEqualTo(new BsonInt64(1234567890123L));
+        assertThat(compressed.get("__lifecycle")).isEqualTo(new BsonString("ACTIVE"));
+        assertThat(compressed.containsKey("attributes")).isFalse();
+        assertThat(compressed.containsKey("features")).isFalse();
+    }
+
+    @Test
+    public void compressedPayloadIsSmallerThanPlainBson() {
+        final BsonDocument compressed = CompressedSnapshot.compress(SNAPSHOT_JSON);
+        final int plainSize = DittoBsonJsonCodec.getInstance().toRawBsonDocument(SNAPSHOT_JSON).getByteBuffer()
+                .remaining();
+
+        assertThat(CompressedSnapshot.getCompressedSize(compressed)).isLessThan(plainSize / 4);
+    }
+
+    @Test
+    public void plainBsonIsNotCompressed() {
+        final BsonDocument plain = DittoBsonJson.getInstance().parse(SNAPSHOT_JSON);
+
+        assertThat(CompressedSnapshot.isCompressed(plain)).isFalse();
+    }
+
+}
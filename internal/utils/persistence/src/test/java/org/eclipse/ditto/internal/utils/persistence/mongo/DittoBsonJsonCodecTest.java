@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoBsonJsonCodec}.
+ */
+public final class DittoBsonJsonCodecTest {
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObject("{" +
+            "\"org.eclipse.ditto\": 42," +
+            "\"$something\": \"value\"," +
+            "\"long\": 1234567890123," +
+            "\"double\": 1.5," +
+            "\"bool\": true," +
+            "\"nothing\": null," +
+            "\"nested\": {\"a.b$c\": [1, \"two\", {\"x.y\": false}, [], null]}" +
+            "}");
+
+    private final DittoBsonJsonCodec underTest = DittoBsonJsonCodec.getInstance();
+
+    @Test
+    public void encodingIsEqualToDittoBsonJson() {
+        final BsonDocument expected = DittoBsonJson.getInstance().parse(KNOWN_JSON);
+
+        final RawBsonDocument encoded = underTest.toRawBsonDocument(KNOWN_JSON);
+
+        assertThat(encoded).isEqualTo(expected);
+        assertThat(encoded.containsKey("org．eclipse．ditto")).isTrue();
+        assertThat(encoded.containsKey("＄something")).isTrue();
+    }
+
+    @Test
+    public void decodingRawBsonDocumentRestoresJson() {
+        final JsonObject decoded = underTest.toJsonObject(underTest.toRawBsonDocument(KNOWN_JSON));
+
+        assertThat(decoded).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void decodingBsonDocumentIsEqualToDittoBsonJson() {
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(KNOWN_JSON);
+        bsonDocument.put("timestamp", new BsonTimestamp(1_600_000_000, 1));
+
+        final JsonObject decoded = underTest.toJsonObject(bsonDocument);
+
+        assertThat(decoded).isEqualTo(DittoBsonJson.getInstance().serialize(bsonDocument));
+        assertThat(decoded.getValue("timestamp")).contains(JsonFactory.newValue("2020-09-13T12:26:40Z"));
+    }
+
+    @Test
+    public void keysWithoutSpecialCharsAreNotCopied() {
+        final String key = "attributes";
+
+        assertThat(DittoBsonJsonCodec.escapeKey(key)).isSameAs(key);
+        assertThat(DittoBsonJsonCodec.unescapeKey(key)).isSameAs(key);
+    }
+
+    @Test
+    public void escapeAndUnescapeAreSymmetric() {
+        final String key = "$a.b.$c";
+        final String escaped = DittoBsonJsonCodec.escapeKey(key);
+
+        assertThat(escaped).isEqualTo("＄a．b．＄c");
+        assertThat(DittoBsonJsonCodec.unescapeKey(escaped)).isEqualTo(key);
+    }
+
+}
@@ -66,6 +66,12 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getFormat())
+                .as(SnapshotConfig.SnapshotConfigValue.FORMAT.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotFormat.BSON);
+        softly.assertThat(underTest.getCompressionThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.COMPRESSION_THRESHOLD.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.COMPRESSION_THRESHOLD.getDefaultValue());
     }
 
     @Test
@@ -78,5 +84,11 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.getFormat())
+                .as(SnapshotConfig.SnapshotConfigValue.FORMAT.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotFormat.COMPRESSED);
+        softly.assertThat(underTest.getCompressionThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.COMPRESSION_THRESHOLD.getConfigPath())
+                .isEqualTo(1024L);
     }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJsonCodec;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Unit test for {@link MongoEventCompaction}.
+ */
+public final class MongoEventCompactionTest {
+
+    private static final JournalCompactionStrategy LAST_WINS = new JournalCompactionStrategy() {
+        @Override
+        public Optional<String> getCompactionKey(final JsonObject event) {
+            return event.getValue("path").map(path -> path.asString());
+        }
+
+        @Override
+        public Optional<JsonObject> merge(final JsonObject earlier, final JsonObject later) {
+            return Optional.of(later);
+        }
+    };
+
+    private static final JournalCompactionStrategy SUM = new JournalCompactionStrategy() {
+        @Override
+        public Optional<String> getCompactionKey(final JsonObject event) {
+            return LAST_WINS.getCompactionKey(event);
+        }
+
+        @Override
+        public Optional<JsonObject> merge(final JsonObject earlier, final JsonObject later) {
+            final int sum = earlier.getValue("value").orElseThrow().asInt() +
+                    later.getValue("value").orElseThrow().asInt();
+            return Optional.of(later.setValue("value", sum));
+        }
+    };
+
+    private static final ObjectId OLDER_THAN = new ObjectId(1000, 0);
+
+    @Test
+    public void deleteSupersededEventsOfConsecutiveRuns() {
+        final MongoEventCompaction underTest = MongoEventCompaction.of(LAST_WINS);
+
+        final var plan = underTest.planBatch(List.of(
+                entry(1, event("a", 1)),
+                entry(2, event("a", 2)),
+                entry(3, event("a", 3)),
+                entry(4, event("b", 1)),
+                entry(5, JsonObject.empty()),
+                entry(6, event("b", 2)),
+                entry(7, event("b", 3))
+        ), 1L, OLDER_THAN, true);
+
+        assertThat(plan.writes).hasSize(2);
+        assertDeleted(plan.writes.get(0), 1, 2);
+        assertDeleted(plan.writes.get(1), 6);
+        assertThat(plan.isComplete).isTrue();
+        // the next compaction continues the last run
+        assertThat(plan.resumeSeqNr).isEqualTo(7L);
+    }
+
+    @Test
+    public void writeMergedEventBeforeDeletingSupersededEvents() {
+        final MongoEventCompaction underTest = MongoEventCompaction.of(SUM);
+
+        final var plan = underTest.planBatch(List.of(
+                entry(1, event("a", 1)),
+                entry(2, event("a", 2)),
+                entry(3, event("a", 3))
+        ), 1L, OLDER_THAN, true);
+
+        final List<WriteModel<BsonDocument>> writes = plan.writes;
+        assertThat(writes).hasSize(2);
+        assertThat(writes.get(0)).isInstanceOf(UpdateOneModel.class);
+        final UpdateOneModel<BsonDocument> update = (UpdateOneModel<BsonDocument>) writes.get(0);
+        assertThat(toBson(update.getFilter())).isEqualTo(toBson(Filters.eq("_id", id(3))));
+        final BsonDocument mergedPayload = toBson(update.getUpdate()).getDocument("$set").getDocument("events.0.p");
+        assertThat(DittoBsonJsonCodec.getInstance().toJsonObject(mergedPayload)).isEqualTo(event("a", 6));
+        assertDeleted(writes.get(1), 1, 2);
+    }
+
+    @Test
+    public void entriesWithMultipleEventsSeparateRuns() {
+        final MongoEventCompaction underTest = MongoEventCompaction.of(LAST_WINS);
+        final BsonDocument multiEventEntry = entry(2, event("a", 2));
+        multiEventEntry.getArray("events").add(multiEventEntry.getArray("events").get(0));
+
+        final var plan = underTest.planBatch(List.of(
+                entry(1, event("a", 1)),
+                multiEventEntry,
+                entry(3, event("a", 3))
+        ), 1L, OLDER_THAN, true);
+
+        assertThat(plan.writes).isEmpty();
+    }
+
+    @Test
+    public void stopAtFirstEntryNotOlderThanRetention() {
+        final MongoEventCompaction underTest = MongoEventCompaction.of(LAST_WINS);
+        final BsonDocument newEntry = entry(3, event("a", 3));
+        newEntry.put("_id", new BsonObjectId(new ObjectId(OLDER_THAN.getTimestamp() + 1, 3)));
+
+        final var plan = underTest.planBatch(List.of(
+                entry(1, event("b", 1)),
+                entry(2, event("b", 2)),
+                newEntry,
+                entry(4, event("a", 4)),
+                entry(5, JsonObject.empty())
+        ), 1L, OLDER_THAN, false);
+
+        // entry 4 must not be merged over entry 3
+        assertThat(plan.writes).hasSize(1);
+        assertDeleted(plan.writes.get(0), 1);
+        assertThat(plan.isComplete).isTrue();
+        assertThat(plan.resumeSeqNr).isEqualTo(2L);
+    }
+
+    @Test
+    public void continueRunInNextBatch() {
+        final MongoEventCompaction underTest = MongoEventCompaction.of(SUM);
+
+        final var firstPlan = underTest.planBatch(List.of(
+                entry(1, JsonObject.empty()),
+                entry(2, event("a", 2)),
+                entry(3, event("a", 3))
+        ), 1L, OLDER_THAN, false);
+
+        assertThat(firstPlan.isComplete).isFalse();
+        assertThat(firstPlan.resumeSeqNr).isEqualTo(3L);
+        assertDeleted(firstPlan.writes.get(1), 2);
+
+        // the next batch starts with the merged event of the first batch
+        final var secondPlan = underTest.planBatch(List.of(
+                entry(3, event("a", 5)),
+                entry(4, event("a", 4)),
+                entry(5, JsonObject.empty())
+        ), firstPlan.resumeSeqNr, OLDER_THAN, true);
+
+        assertThat(secondPlan.isComplete).isTrue();
+        assertThat(secondPlan.resumeSeqNr).isEqualTo(6L);
+        final UpdateOneModel<BsonDocument> update = (UpdateOneModel<BsonDocument>) secondPlan.writes.get(0);
+        assertThat(toBson(update.getFilter())).isEqualTo(toBson(Filters.eq("_id", id(4))));
+        final BsonDocument mergedPayload = toBson(update.getUpdate()).getDocument("$set").getDocument("events.0.p");
+        assertThat(DittoBsonJsonCodec.getInstance().toJsonObject(mergedPayload)).isEqualTo(event("a", 9));
+        assertDeleted(secondPlan.writes.get(1), 3);
+    }
+
+    private static void assertDeleted(final WriteModel<BsonDocument> write, final long... seqNrs) {
+        assertThat(write).isInstanceOf(DeleteManyModel.class);
+        final List<BsonObjectId> expectedIds = Arrays.stream(seqNrs).mapToObj(MongoEventCompactionTest::id).toList();
+        assertThat(toBson(((DeleteManyModel<BsonDocument>) write).getFilter()))
+                .isEqualTo(toBson(Filters.in("_id", expectedIds)));
+    }
+
+    private static BsonObjectId id(final long sn) {
+        return new BsonObjectId(new ObjectId(OLDER_THAN.getTimestamp() - 1, (int) sn));
+    }
+
+    private static JsonObject event(final String path, final int value) {
+        return JsonFactory.newObjectBuilder().set("path", path).set("value", value).build();
+    }
+
+    private static BsonDocument entry(final long sn, final JsonObject event) {
+        final BsonDocument eventDocument = new BsonDocument()
+                .append("sn", new BsonInt64(sn))
+                .append("p", DittoBsonJsonCodec.getInstance().toRawBsonDocument(event));
+        return new BsonDocument()
+                .append("_id", id(sn))
+                .append("pid", new BsonString("thing:x:y"))
+                .append("to", new BsonInt64(sn))
+                .append("events", new BsonArray(List.of(eventDocument)));
+    }
+
+    private static BsonDocument toBson(final Bson bson) {
+        return bson.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+}
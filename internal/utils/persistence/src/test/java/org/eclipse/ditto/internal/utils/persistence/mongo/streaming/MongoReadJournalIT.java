@@ -18,8 +18,10 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.bson.BsonArray;
@@ -43,6 +45,8 @@ import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.persistence.PersistentRepr;
 import akka.stream.Materializer;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Sink;
@@ -499,6 +503,67 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4", "pid6");
     }
 
+    @Test
+    public void getNewestSnapshotsOfPids() {
+        insert("test_snaps", new Document()
+                .append("pid", "pid1")
+                .append("sn", 1L)
+                .append("ts", 1L)
+                .append("s2", new Document().append("revision", 1L))
+        );
+        insert("test_snaps", new Document()
+                .append("pid", "pid1")
+                .append("sn", 3L)
+                .append("ts", 3L)
+                .append("s2", new Document().append("revision", 3L))
+        );
+        insert("test_snaps", new Document()
+                .append("pid", "pid2")
+                .append("sn", 2L)
+                .append("ts", 2L)
+                .append("s", "legacy")
+        );
+        insert("test_snaps", new Document()
+                .append("pid", "pid3")
+                .append("sn", 4L)
+                .append("ts", 4L)
+                .append("s2", new Document().append("revision", 4L))
+        );
+
+        final Map<String, Optional<Long>> snapshotSeqNos =
+                readJournal.getNewestSnapshotsOfPids(List.of("pid1", "pid2", "pid4"))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join()
+                        .stream()
+                        .collect(Collectors.toMap(Pair::first,
+                                pair -> pair.second().map(snapshot -> snapshot.metadata().sequenceNr())));
+
+        assertThat(snapshotSeqNos).containsOnly(Map.entry("pid1", Optional.of(3L)),
+                Map.entry("pid2", Optional.empty()));
+    }
+
+    @Test
+    public void getEventsOfPidsAfter() {
+        insert("test_journal", new JournalEntry("pid1").withSn(1L).withBsonPayload().getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(2L).withBsonPayload().getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(3L).withBsonPayload().getDocument());
+        insert("test_journal", new JournalEntry("pid2").withSn(1L).getDocument());
+        insert("test_journal", new JournalEntry("pid3").withSn(1L).withBsonPayload().getDocument());
+
+        final List<Pair<String, Optional<Long>>> events =
+                readJournal.getEventsOfPidsAfter(Map.of("pid1", 1L, "pid2", 0L, "pid3", 1L))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join()
+                        .stream()
+                        .map(pair -> Pair.create(pair.first(), pair.second().map(PersistentRepr::sequenceNr)))
+                        .toList();
+
+        assertThat(events).containsExactly(Pair.create("pid1", Optional.of(2L)), Pair.create("pid1", Optional.of(3L)),
+                Pair.create("pid2", Optional.empty()));
+    }
+
     private void insert(final CharSequence collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
@@ -525,6 +590,13 @@ public final class MongoReadJournalIT {
             return this;
         }
 
+        private JournalEntry withBsonPayload() {
+            final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
+            event.append("_h", new BsonString("bson"));
+            event.append("p", new BsonDocument().append("type", new BsonString("thing-modified")));
+            return this;
+        }
+
         private JournalEntry withManifest(final String manifest) {
             final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
             event.append("manifest", new BsonString(manifest));
@@ -34,7 +34,12 @@ import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultPassivationConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.PassivationConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.internal.utils.persistentactors.passivation.PassivationCoordinator;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultVisitor;
@@ -43,6 +48,8 @@ import org.eclipse.ditto.internal.utils.tracing.TracingTags;
 import org.eclipse.ditto.internal.utils.tracing.instruments.trace.StartedTrace;
 import org.eclipse.ditto.json.JsonValue;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
 import akka.persistence.RecoveryCompleted;
@@ -75,6 +82,9 @@ public abstract class AbstractShardedPersistenceActor<
      */
     public static final String JOURNAL_TAG_ALWAYS_ALIVE = "always-alive";
 
+    private static final GroupCommitConfig GROUP_COMMIT_DISABLED = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+    private static final PassivationConfig PASSIVATION_DISABLED = DefaultPassivationConfig.of(ConfigFactory.empty());
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
@@ -94,6 +104,16 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    /**
+     * Number of events already applied to {@link #entity} but not yet confirmed by the journal (group commit).
+     */
+    private long pendingEvents = 0L;
+
+    /**
+     * Registration at the node's passivation coordinator, or null if memory-bounded passivation is disabled.
+     */
+    @Nullable private PassivationCoordinator.Registration passivationRegistration = null;
+
     /**
      * Instantiate the actor.
      *
@@ -170,6 +190,20 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * @return configuration for the group commit of events; disabled unless overridden.
+     */
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return GROUP_COMMIT_DISABLED;
+    }
+
+    /**
+     * @return configuration for the memory-bounded passivation; disabled unless overridden.
+     */
+    protected PassivationConfig getPassivationConfig() {
+        return PASSIVATION_DISABLED;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -212,6 +246,29 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract boolean isEntityAlwaysAlive();
 
+    /**
+     * Converts an entity into the object to save as its snapshot. Overridable in subclasses which keep additional
+     * state with the snapshots of their entities.
+     *
+     * @param snapshotEntity the entity.
+     * @return the object to save as snapshot.
+     */
+    protected Object toSnapshotStore(final S snapshotEntity) {
+        return snapshotAdapter.toSnapshotStore(snapshotEntity);
+    }
+
+    /**
+     * Converts an offered snapshot into the entity to recover. Overridable in subclasses which keep additional
+     * state with the snapshots of their entities.
+     *
+     * @param snapshotOffer the offered snapshot.
+     * @return the entity or {@code null} if the snapshot contains no entity.
+     */
+    @Nullable
+    protected S fromSnapshotStore(final SnapshotOffer snapshotOffer) {
+        return snapshotAdapter.fromSnapshotStore(snapshotOffer);
+    }
+
     /**
      * Callback at the end of recovery. Overridable in subclasses.
      *
@@ -238,12 +295,25 @@ public abstract class AbstractShardedPersistenceActor<
      * @return the current revision number for event handling.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        return lastSequenceNr() + pendingEvents;
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        final PassivationConfig passivationConfig = getPassivationConfig();
+        if (passivationConfig.isEnabled()) {
+            passivationRegistration = PassivationCoordinator.get(getContext().getSystem())
+                    .register(getSelf(), passivationConfig);
+        }
     }
 
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (null != passivationRegistration) {
+            passivationRegistration.unregister();
+        }
         super.postStop();
     }
 
@@ -286,6 +356,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(PersistEmptyEvent.class, this::handlePersistEmptyEvent)
                 .match(CheckForActivity.class, this::checkForActivity)
+                .matchEquals(PassivationCoordinator.Control.PASSIVATE, this::passivateToMeetMemoryBudget)
                 .match(PingCommand.class, this::processPingCommand)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
@@ -297,6 +368,11 @@ public abstract class AbstractShardedPersistenceActor<
 
         scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
         scheduleSnapshot();
+        if (null != passivationRegistration && !passivationRegistration.hasEstimatedBytes() && null != entity) {
+            // entity was recovered without snapshot or was just created
+            passivationRegistration.setEstimatedBytes(
+                    PassivationCoordinator.estimateBytes(toSnapshotStore(entity)));
+        }
     }
 
     /**
@@ -348,6 +424,52 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * Apply an event to the actor state right away, persist it without blocking subsequent commands, then invoke the
+     * handler. Subsequent commands are validated against the resulting entity while the event is being persisted, and
+     * their events are written together with the events of all other commands arriving during the same journal write.
+     * The handler is invoked with the entity resulting from this event as soon as the event is persisted.
+     *
+     * @param event the event to apply and persist.
+     * @param handler what happens after the event was persisted.
+     */
+    private void applyAndPersistEventAsync(final E event, final BiConsumer<E, S> handler) {
+
+        final E modifiedEvent = modifyEventBeforePersist(event);
+        if (modifiedEvent.getDittoHeaders().isDryRun()) {
+            handler.accept(modifiedEvent, entity);
+        } else {
+            pendingEvents++;
+            entity = getEventStrategy().handle(modifiedEvent, entity, getRevisionNumber());
+            final S resultingEntity = entity;
+
+            final DittoDiagnosticLoggingAdapter l = log.withCorrelationId(modifiedEvent);
+            l.debug("Persisting Event <{}> with group commit.", modifiedEvent.getType());
+            final StartedTrace persistTrace = DittoTracing.trace(modifiedEvent, "persist.event")
+                    .tag(TracingTags.SIGNAL_TYPE, modifiedEvent.getType())
+                    .start();
+            final E tracedEvent = DittoTracing.propagateContext(persistTrace.getContext(), modifiedEvent);
+
+            persistAsync(tracedEvent, persistedEvent -> {
+                pendingEvents--;
+                l.info("Successfully persisted Event <{}> w/ rev: <{}>.", persistedEvent.getType(),
+                        lastSequenceNr());
+                persistTrace.finish();
+
+                publishEvent(persistedEvent);
+                handler.accept(persistedEvent, resultingEntity);
+                onEntityModified();
+
+                // snapshot the entity as of this event: it must not contain the effects of events which are not
+                // persisted yet, and waiting for no pending events would starve snapshots under constant load
+                final long persistedRevision = lastSequenceNr();
+                if (persistedRevision - lastSnapshotRevision >= getSnapshotConfig().getThreshold()) {
+                    takeSnapshot(resultingEntity, persistedRevision, "snapshot threshold is reached");
+                }
+            });
+        }
+    }
+
     /**
      * Allows to modify the passed in {@code event} before {@link #persistEvent(Event, Consumer)} is invoked.
      * Overwrite this method and call the super method in order to additionally modify the event before persisting it.
@@ -381,7 +503,7 @@ public abstract class AbstractShardedPersistenceActor<
             // - entity is deleted,
             // - the latest snapshot is out of date or is still ongoing.
             takeSnapshot("the entity is deleted and has no up-to-date snapshot");
-        } else if (accessCounter > message.accessCounter) {
+        } else if (accessCounter > message.accessCounter || pendingEvents > 0) {
             log.debug("Entity <{}> was accessed since last activity check, preventing Actor shutdown.", entityId);
         } else if (isEntityActive() && isEntityAlwaysAlive()) {
             log.debug("Entity <{}> is active and marked as 'always-alive', preventing Actor shutdown.", entityId);
@@ -397,6 +519,27 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * Passivate upon request of the passivation coordinator unless this actor must not stop yet.
+     *
+     * @param passivate the passivation request.
+     */
+    private void passivateToMeetMemoryBudget(final PassivationCoordinator.Control passivate) {
+        if (null == passivationRegistration) {
+            return;
+        }
+        if (entityExistsAsDeleted() && lastSnapshotRevision < getRevisionNumber()) {
+            takeSnapshot("the entity is deleted and should be passivated");
+            passivationRegistration.recordAccess();
+        } else if (pendingEvents > 0 || isEntityActive() && isEntityAlwaysAlive()) {
+            log.debug("Entity <{}> has pending events or is 'always-alive', refusing passivation.", entityId);
+            passivationRegistration.recordAccess();
+        } else {
+            shutdown("Memory budget is exceeded and entity <{}> was not accessed recently. Shutting Actor down ...",
+                    entityId);
+        }
+    }
+
     private void handlePersistEmptyEvent(final PersistEmptyEvent persistEmptyEvent) {
         log.debug("Received PersistEmptyEvent: <{}>", persistEmptyEvent);
         persist(persistEmptyEvent.getEmptyEvent(), event -> log.debug("Persisted EmptyEvent: <{}>", event));
@@ -412,6 +555,7 @@ public abstract class AbstractShardedPersistenceActor<
     private Receive createDeletedBehavior() {
         return handleCleanups.orElse(handleByDeletedStrategyReceiveBuilder()
                 .match(CheckForActivity.class, this::checkForActivity)
+                .matchEquals(PassivationCoordinator.Control.PASSIVATE, this::passivateToMeetMemoryBudget)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
@@ -464,7 +608,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .start();
         final T tracedCommand = DittoTracing.propagateContext(trace.getContext(), command);
 
-        accessCounter++;
+        recordAccess();
         Result<E> result;
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), tracedCommand);
@@ -481,30 +625,58 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command<?> command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
-        persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
-            if (shouldSendResponse(command.getDittoHeaders())) {
-                notifySender(response);
-            }
-            if (becomeDeleted) {
-                becomeDeletedHandler();
-            }
-            if (becomeCreated) {
-                becomeCreatedHandler();
-            }
-        });
+        if (isGroupCommitApplicable(becomeCreated, becomeDeleted)) {
+            applyAndPersistEventAsync(event, (persistedEvent, resultingEntity) -> {
+                if (shouldSendResponse(command.getDittoHeaders())) {
+                    notifySender(response);
+                }
+            });
+        } else {
+            persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
+                if (shouldSendResponse(command.getDittoHeaders())) {
+                    notifySender(response);
+                }
+                if (becomeDeleted) {
+                    becomeDeletedHandler();
+                }
+                if (becomeCreated) {
+                    becomeCreatedHandler();
+                }
+            });
+        }
+    }
+
+    /**
+     * Events changing the behavior of this actor are persisted the regular way: commands must not be matched against
+     * the previous behavior while such an event is being persisted.
+     */
+    private boolean isGroupCommitApplicable(final boolean becomeCreated, final boolean becomeDeleted) {
+        final GroupCommitConfig groupCommitConfig = getGroupCommitConfig();
+        return groupCommitConfig.isEnabled() && !becomeCreated && !becomeDeleted &&
+                pendingEvents < groupCommitConfig.getMaxPendingEvents();
     }
 
     @Override
     public void onQuery(final Command<?> command, final WithDittoHeaders response) {
         if (command.getDittoHeaders().isResponseRequired()) {
-            notifySender(response);
+            notifySenderAfterPendingEvents(response);
         }
     }
 
     @Override
     public void onError(final DittoRuntimeException error, final Command<?> errorCausingCommand) {
         if (shouldSendResponse(errorCausingCommand.getDittoHeaders())) {
-            notifySender(error);
+            notifySenderAfterPendingEvents(error);
+        }
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (pendingEvents > 0) {
+            log.error("Stopping entity <{}> as its state contains <{}> events which are not persisted.", entityId,
+                    pendingEvents);
+            getContext().stop(getSelf());
         }
     }
 
@@ -515,10 +687,17 @@ public abstract class AbstractShardedPersistenceActor<
      * @param message the message.
      */
     protected void notifySender(final ActorRef sender, final WithDittoHeaders message) {
-        accessCounter++;
+        recordAccess();
         sender.tell(message, getSelf());
     }
 
+    private void recordAccess() {
+        accessCounter++;
+        if (null != passivationRegistration) {
+            passivationRegistration.recordAccess();
+        }
+    }
+
     private long getNextRevisionNumber() {
         return getRevisionNumber() + 1;
     }
@@ -552,19 +731,32 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void takeSnapshot(final String reason) {
-        final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (pendingEvents > 0) {
+            log.debug("Not taking snapshot for entity <{}> with <{}> events being persisted even if {}.", entityId,
+                    pendingEvents, reason);
+        } else {
+            takeSnapshot(entity, getRevisionNumber(), reason);
+        }
+    }
+
+    /**
+     * Take a snapshot of an entity whose events are persisted up to and including the given revision. The snapshot
+     * is stored with the sequence number of the last persisted event, which must be equal to the revision.
+     */
+    private void takeSnapshot(@Nullable final S snapshotEntity, final long revision, final String reason) {
+        if (snapshotEntity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Object snapshotSubject = toSnapshotStore(snapshotEntity);
             saveSnapshot(snapshotSubject);
+            updateEstimatedBytes(snapshotSubject);
 
             lastSnapshotRevision = revision;
         } else if (lastSnapshotRevision == revision) {
-            log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", entity, revision,
-                    reason);
+            log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", snapshotEntity,
+                    revision, reason);
         } else {
             log.debug("Not taking snapshot for nonexistent entity <{}> even if {}.", entityId, reason);
         }
@@ -583,6 +775,18 @@ public abstract class AbstractShardedPersistenceActor<
         notifySender(getSender(), message);
     }
 
+    /**
+     * Replies to queries and errors must not overtake the responses of previous commands whose events are still
+     * being persisted, nor reveal effects of events which are not persisted yet.
+     */
+    private void notifySenderAfterPendingEvents(final WithDittoHeaders message) {
+        if (pendingEvents > 0) {
+            deferAsync(message, this::notifySender);
+        } else {
+            notifySender(message);
+        }
+    }
+
     private void takeSnapshotByInterval(final Control takeSnapshot) {
         takeSnapshot("snapshot interval has passed");
     }
@@ -597,8 +801,15 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
-        entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
+        entity = fromSnapshotStore(snapshotOffer);
         lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        updateEstimatedBytes(snapshotOffer.snapshot());
+    }
+
+    private void updateEstimatedBytes(final Object snapshot) {
+        if (null != passivationRegistration) {
+            passivationRegistration.setEstimatedBytes(PassivationCoordinator.estimateBytes(snapshot));
+        }
     }
 
     @Override
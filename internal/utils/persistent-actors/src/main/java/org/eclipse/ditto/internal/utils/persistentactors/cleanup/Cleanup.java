@@ -16,12 +16,21 @@ import static org.eclipse.ditto.internal.utils.persistence.mongo.streaming.Mongo
 import static org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal.S_ID;
 import static org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal.S_SN;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.LongStream;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource.JournalCompactionStrategy;
+import org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource.MongoEventCompaction;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 
+import com.mongodb.client.result.DeleteResult;
+
 import akka.NotUsed;
 import akka.japi.Pair;
 import akka.stream.Materializer;
@@ -38,6 +47,8 @@ final class Cleanup {
     private final int readBatchSize;
     private final int deleteBatchSize;
     private final boolean deleteFinalDeletedSnapshot;
+    @Nullable private final MongoEventCompaction compaction;
+    private final Duration compactionRetention;
 
     Cleanup(final MongoReadJournal readJournal,
             final Materializer materializer,
@@ -46,21 +57,41 @@ final class Cleanup {
             final int deleteBatchSize,
             final boolean deleteFinalDeletedSnapshot) {
 
+        this(readJournal, materializer, responsibilitySupplier, readBatchSize, deleteBatchSize,
+                deleteFinalDeletedSnapshot, null, Duration.ZERO);
+    }
+
+    Cleanup(final MongoReadJournal readJournal,
+            final Materializer materializer,
+            final Supplier<Pair<Integer, Integer>> responsibilitySupplier,
+            final int readBatchSize,
+            final int deleteBatchSize,
+            final boolean deleteFinalDeletedSnapshot,
+            @Nullable final MongoEventCompaction compaction,
+            final Duration compactionRetention) {
+
         this.readJournal = readJournal;
         this.materializer = materializer;
         this.responsibilitySupplier = responsibilitySupplier;
         this.readBatchSize = readBatchSize;
         this.deleteBatchSize = deleteBatchSize;
         this.deleteFinalDeletedSnapshot = deleteFinalDeletedSnapshot;
+        this.compaction = compaction;
+        this.compactionRetention = compactionRetention;
     }
 
     static Cleanup of(final CleanupConfig config,
             final MongoReadJournal readJournal,
             final Materializer materializer,
-            final Supplier<Pair<Integer, Integer>> responsibilitySupplier) {
+            final Supplier<Pair<Integer, Integer>> responsibilitySupplier,
+            @Nullable final JournalCompactionStrategy compactionStrategy) {
 
+        final MongoEventCompaction compaction = config.shouldCompactEvents() && compactionStrategy != null
+                ? MongoEventCompaction.of(compactionStrategy)
+                : null;
         return new Cleanup(readJournal, materializer, responsibilitySupplier, config.getReadsPerQuery(),
-                config.getWritesPerCredit(), config.shouldDeleteFinalDeletedSnapshot());
+                config.getWritesPerCredit(), config.shouldDeleteFinalDeletedSnapshot(), compaction,
+                config.getCompactionRetention());
     }
 
     Source<Source<CleanupResult, NotUsed>, NotUsed> getCleanupStream(final String lowerBound) {
@@ -85,6 +116,9 @@ final class Cleanup {
     }
 
     private Source<Source<CleanupResult, NotUsed>, NotUsed> cleanUpEvents(final SnapshotRevision sr) {
+        if (compaction != null) {
+            return compactEvents(sr, compaction);
+        }
         // leave 1 event for each snapshot to store the "always alive" tag
         return readJournal.getSmallestEventSeqNo(sr.pid).flatMapConcat(minSnOpt -> {
             if (minSnOpt.isEmpty() || minSnOpt.orElseThrow() >= sr.sn) {
@@ -99,6 +133,33 @@ final class Cleanup {
         });
     }
 
+    private Source<Source<CleanupResult, NotUsed>, NotUsed> compactEvents(final SnapshotRevision sr,
+            final MongoEventCompaction compaction) {
+
+        // runs of events are merged in the order of sequence numbers, hence 1 work unit compacts all events of a PID
+        // starting from where the previous compaction stopped
+        return readJournal.getSmallestEventSeqNo(sr.pid)
+                .zip(readJournal.getEventCompactionWatermark(sr.pid))
+                .flatMapConcat(pair -> {
+                    final Optional<Long> minSnOpt =
+                            pair.first().map(minSn -> Math.max(minSn, pair.second().orElse(minSn)));
+                    if (minSnOpt.isEmpty() || minSnOpt.orElseThrow() >= sr.sn) {
+                        return Source.empty();
+                    } else {
+                        return Source.single(Source.lazySource(() -> {
+                            final Instant olderThan = Instant.now().minus(compactionRetention);
+                            // leave 1 event for each snapshot to store the "always alive" tag
+                            return readJournal.compactEvents(sr.pid, minSnOpt.orElseThrow(), sr.sn - 1, olderThan,
+                                            compaction, deleteBatchSize)
+                                    .flatMapConcat(batchResult -> readJournal.setEventCompactionWatermark(sr.pid,
+                                                    batchResult.getResumeSeqNr())
+                                            .map(updateResult -> new CleanupResult(CleanupResult.Type.EVENTS, sr,
+                                                    batchResult.getDeleteResult())));
+                        }).mapMaterializedValue(ignored -> NotUsed.getInstance()));
+                    }
+                });
+    }
+
     private Source<Source<CleanupResult, NotUsed>, NotUsed> cleanUpSnapshots(final SnapshotRevision sr) {
         return readJournal.getSmallestSnapshotSeqNo(sr.pid).flatMapConcat(minSnOpt -> {
             if (minSnOpt.isEmpty() || (minSnOpt.orElseThrow() >= sr.sn && !deleteFinalDeletedSnapshot)) {
@@ -79,6 +79,24 @@ public interface CleanupConfig {
      */
     int getCreditsPerBatch();
 
+    /**
+     * Returns the upper bound up to which the amount of credit per decision may grow while the database latency stays
+     * well below the timer threshold. If it is not greater than {@link #getCreditsPerBatch()}, the amount of credit
+     * per decision is constant.
+     *
+     * @return the maximum amount of credit per decision.
+     * @since 3.0.0
+     */
+    int getMaxCreditsPerBatch();
+
+    /**
+     * Returns how many cleanup actions may run concurrently.
+     *
+     * @return the parallelism of cleanup actions.
+     * @since 3.0.0
+     */
+    int getParallelism();
+
     /**
      * Returns the number of snapshots to scan per MongoDB query.
      *
@@ -101,6 +119,23 @@ public interface CleanupConfig {
      */
     boolean shouldDeleteFinalDeletedSnapshot();
 
+    /**
+     * Whether events behind the latest snapshot are compacted instead of deleted. Only effective for services
+     * providing a journal compaction strategy; other services keep deleting those events.
+     *
+     * @return whether to compact events instead of deleting them.
+     * @since 3.0.0
+     */
+    boolean shouldCompactEvents();
+
+    /**
+     * Returns how long events are kept as journaled before they are compacted.
+     *
+     * @return the compaction retention.
+     * @since 3.0.0
+     */
+    Duration getCompactionRetention();
+
     /**
      * Render this object as config.
      *
@@ -138,6 +173,16 @@ public interface CleanupConfig {
          */
         CREDITS_PER_BATCH("credits-per-batch", 3),
 
+        /**
+         * Maximum amount of credit to give out per decision when the database latency is low.
+         */
+        MAX_CREDITS_PER_BATCH("max-credits-per-batch", 3),
+
+        /**
+         * How many cleanup actions may run concurrently.
+         */
+        PARALLELISM("parallelism", 1),
+
         /**
          * How many snapshots to scan for each query.
          */
@@ -151,7 +196,17 @@ public interface CleanupConfig {
         /**
          * Whether to delete the final deleted snapshot.
          */
-        DELETE_FINAL_DELETED_SNAPSHOT("delete-final-deleted-snapshot", false);
+        DELETE_FINAL_DELETED_SNAPSHOT("delete-final-deleted-snapshot", false),
+
+        /**
+         * Whether to compact events behind the latest snapshot instead of deleting them.
+         */
+        COMPACT_EVENTS("compact-events", false),
+
+        /**
+         * How long events are kept as journaled before they are compacted.
+         */
+        COMPACTION_RETENTION("compaction-retention", Duration.ofDays(1L));
 
         private final String path;
         private final Object defaultValue;
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAccumulator;
 
 import org.eclipse.ditto.internal.utils.akka.controlflow.Transistor;
@@ -24,15 +25,28 @@ import akka.stream.SourceShape;
 import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Source;
 
+/**
+ * Source of credits for cleanup actions based on the maximum database latency observed since the last credit decision.
+ * <ul>
+ * <li>If the latency is below half of the timer threshold, the current amount of credit is given out and increased
+ * by {@code credits-per-batch} for the next decision, up to {@code max-credits-per-batch}.</li>
+ * <li>If the latency is between half of the timer threshold and the timer threshold, the current amount of credit is
+ * halved, but not below {@code credits-per-batch}, before it is given out.</li>
+ * <li>If the latency reaches the timer threshold, no credit is given out and the current amount of credit falls back
+ * to {@code credits-per-batch}.</li>
+ * </ul>
+ */
 final class Credits {
 
     private final CleanupConfig cleanupConfig;
     private final LongAccumulator dbTimerNanos;
+    private final AtomicInteger currentCredits;
 
     Credits(final CleanupConfig cleanupConfig,
             final LongAccumulator dbTimerNanos) {
         this.cleanupConfig = cleanupConfig;
         this.dbTimerNanos = dbTimerNanos;
+        currentCredits = new AtomicInteger(cleanupConfig.getCreditsPerBatch());
     }
 
     static Credits of(final CleanupConfig config) {
@@ -68,21 +82,36 @@ final class Credits {
     private Source<Integer, NotUsed> computeCredit(final LoggingAdapter logger) {
         try {
             final Duration maxDuration = Duration.ofNanos(dbTimerNanos.getThenReset());
-            final Duration threshold = cleanupConfig.getTimerThreshold();
-            if (maxDuration.minus(threshold).isNegative()) {
-                final var credits = cleanupConfig.getCreditsPerBatch();
-                logger.debug("Credits={} Timer={}/{}", credits, maxDuration, threshold);
-                return Source.single(credits);
-            } else {
-                logger.debug("Credits={} Timer={}/{}", 0, maxDuration, threshold);
-                return Source.empty();
-            }
+            final int credits = decideCredits(maxDuration);
+            logger.debug("Credits={} Timer={}/{}", credits, maxDuration, cleanupConfig.getTimerThreshold());
+            return credits > 0 ? Source.single(credits) : Source.empty();
         } catch (final Exception e) {
             logger.error(e, "Failed to calculate credit");
             return Source.empty();
         }
     }
 
+    /**
+     * Decide the amount of credit to give out for the observed maximum database latency and adjust the amount of
+     * credit for the next decision.
+     *
+     * @param maxDuration the maximum database latency since the last decision.
+     * @return the amount of credit to give out.
+     */
+    int decideCredits(final Duration maxDuration) {
+        final Duration threshold = cleanupConfig.getTimerThreshold();
+        final int minCredits = cleanupConfig.getCreditsPerBatch();
+        final int maxCredits = Math.max(minCredits, cleanupConfig.getMaxCreditsPerBatch());
+        if (maxDuration.minus(threshold.dividedBy(2L)).isNegative()) {
+            return currentCredits.getAndUpdate(current -> Math.min(maxCredits, current + Math.max(1, minCredits)));
+        } else if (maxDuration.minus(threshold).isNegative()) {
+            return currentCredits.updateAndGet(current -> Math.max(minCredits, current / 2));
+        } else {
+            currentCredits.set(minCredits);
+            return 0;
+        }
+    }
+
     private enum Tick {
         TICK
     }
@@ -33,26 +33,38 @@ final class DefaultCleanupConfig implements CleanupConfig {
     private final Duration interval;
     private final Duration timerThreshold;
     private final int creditsPerBatch;
+    private final int maxCreditsPerBatch;
+    private final int parallelism;
     private final int readsPerQuery;
     private final int writesPerCredit;
     private final boolean deleteFinalDeletedSnapshot;
+    private final boolean compactEvents;
+    private final Duration compactionRetention;
 
     DefaultCleanupConfig(final boolean enabled,
             final Duration quietPeriod,
             final Duration interval,
             final Duration timerThreshold,
             final int creditsPerBatch,
+            final int maxCreditsPerBatch,
+            final int parallelism,
             final int readsPerQuery,
             final int writesPerCredit,
-            final boolean deleteFinalDeletedSnapshot) {
+            final boolean deleteFinalDeletedSnapshot,
+            final boolean compactEvents,
+            final Duration compactionRetention) {
         this.enabled = enabled;
         this.quietPeriod = quietPeriod;
         this.interval = interval;
         this.timerThreshold = timerThreshold;
         this.creditsPerBatch = creditsPerBatch;
+        this.maxCreditsPerBatch = maxCreditsPerBatch;
+        this.parallelism = parallelism;
         this.readsPerQuery = readsPerQuery;
         this.writesPerCredit = writesPerCredit;
         this.deleteFinalDeletedSnapshot = deleteFinalDeletedSnapshot;
+        this.compactEvents = compactEvents;
+        this.compactionRetention = compactionRetention;
     }
 
     DefaultCleanupConfig(final ScopedConfig conf) {
@@ -61,22 +73,30 @@ final class DefaultCleanupConfig implements CleanupConfig {
         this.interval = conf.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.INTERVAL);
         this.timerThreshold = conf.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.TIMER_THRESHOLD);
         this.creditsPerBatch = conf.getNonNegativeIntOrThrow(ConfigValue.CREDITS_PER_BATCH);
+        this.maxCreditsPerBatch = conf.getNonNegativeIntOrThrow(ConfigValue.MAX_CREDITS_PER_BATCH);
+        this.parallelism = conf.getPositiveIntOrThrow(ConfigValue.PARALLELISM);
         this.readsPerQuery = conf.getPositiveIntOrThrow(ConfigValue.READS_PER_QUERY);
         this.writesPerCredit = conf.getPositiveIntOrThrow(ConfigValue.WRITES_PER_CREDIT);
         this.deleteFinalDeletedSnapshot = conf.getBoolean(ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath());
+        this.compactEvents = conf.getBoolean(ConfigValue.COMPACT_EVENTS.getConfigPath());
+        this.compactionRetention = conf.getNonNegativeDurationOrThrow(ConfigValue.COMPACTION_RETENTION);
     }
 
     @Override
     public Config render() {
-        final Map<String, Object> configMap = Map.of(
-                ConfigValue.ENABLED.getConfigPath(), enabled,
-                ConfigValue.QUIET_PERIOD.getConfigPath(), quietPeriod,
-                ConfigValue.INTERVAL.getConfigPath(), interval,
-                ConfigValue.TIMER_THRESHOLD.getConfigPath(), timerThreshold,
-                ConfigValue.CREDITS_PER_BATCH.getConfigPath(), creditsPerBatch,
-                ConfigValue.READS_PER_QUERY.getConfigPath(), readsPerQuery,
-                ConfigValue.WRITES_PER_CREDIT.getConfigPath(), writesPerCredit,
-                ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath(), deleteFinalDeletedSnapshot
+        final Map<String, Object> configMap = Map.ofEntries(
+                Map.entry(ConfigValue.ENABLED.getConfigPath(), enabled),
+                Map.entry(ConfigValue.QUIET_PERIOD.getConfigPath(), quietPeriod),
+                Map.entry(ConfigValue.INTERVAL.getConfigPath(), interval),
+                Map.entry(ConfigValue.TIMER_THRESHOLD.getConfigPath(), timerThreshold),
+                Map.entry(ConfigValue.CREDITS_PER_BATCH.getConfigPath(), creditsPerBatch),
+                Map.entry(ConfigValue.MAX_CREDITS_PER_BATCH.getConfigPath(), maxCreditsPerBatch),
+                Map.entry(ConfigValue.PARALLELISM.getConfigPath(), parallelism),
+                Map.entry(ConfigValue.READS_PER_QUERY.getConfigPath(), readsPerQuery),
+                Map.entry(ConfigValue.WRITES_PER_CREDIT.getConfigPath(), writesPerCredit),
+                Map.entry(ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath(), deleteFinalDeletedSnapshot),
+                Map.entry(ConfigValue.COMPACT_EVENTS.getConfigPath(), compactEvents),
+                Map.entry(ConfigValue.COMPACTION_RETENTION.getConfigPath(), compactionRetention)
         );
         return ConfigFactory.parseMap(configMap);
     }
@@ -111,6 +131,16 @@ final class DefaultCleanupConfig implements CleanupConfig {
         return creditsPerBatch;
     }
 
+    @Override
+    public int getMaxCreditsPerBatch() {
+        return maxCreditsPerBatch;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
     @Override
     public int getReadsPerQuery() {
         return readsPerQuery;
@@ -126,6 +156,16 @@ final class DefaultCleanupConfig implements CleanupConfig {
         return deleteFinalDeletedSnapshot;
     }
 
+    @Override
+    public boolean shouldCompactEvents() {
+        return compactEvents;
+    }
+
+    @Override
+    public Duration getCompactionRetention() {
+        return compactionRetention;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof DefaultCleanupConfig) {
@@ -135,9 +175,13 @@ final class DefaultCleanupConfig implements CleanupConfig {
                     Objects.equals(interval, that.interval) &&
                     Objects.equals(timerThreshold, that.timerThreshold) &&
                     creditsPerBatch == that.creditsPerBatch &&
+                    maxCreditsPerBatch == that.maxCreditsPerBatch &&
+                    parallelism == that.parallelism &&
                     readsPerQuery == that.readsPerQuery &&
                     writesPerCredit == that.writesPerCredit &&
-                    deleteFinalDeletedSnapshot == that.deleteFinalDeletedSnapshot;
+                    deleteFinalDeletedSnapshot == that.deleteFinalDeletedSnapshot &&
+                    compactEvents == that.compactEvents &&
+                    Objects.equals(compactionRetention, that.compactionRetention);
         } else {
             return false;
         }
@@ -145,8 +189,9 @@ final class DefaultCleanupConfig implements CleanupConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(enabled, quietPeriod, interval, timerThreshold, creditsPerBatch, readsPerQuery,
-                writesPerCredit, deleteFinalDeletedSnapshot);
+        return Objects.hash(enabled, quietPeriod, interval, timerThreshold, creditsPerBatch, maxCreditsPerBatch,
+                parallelism, readsPerQuery, writesPerCredit, deleteFinalDeletedSnapshot, compactEvents,
+                compactionRetention);
     }
 
     @Override
@@ -157,9 +202,13 @@ final class DefaultCleanupConfig implements CleanupConfig {
                 ",interval=" + interval +
                 ",timerThreshold=" + timerThreshold +
                 ",creditPerBatch=" + creditsPerBatch +
+                ",maxCreditsPerBatch=" + maxCreditsPerBatch +
+                ",parallelism=" + parallelism +
                 ",readsPerQuery=" + readsPerQuery +
                 ",writesPerCredit=" + writesPerCredit +
                 ",deleteFinalDeletedSnapshot=" + deleteFinalDeletedSnapshot +
+                ",compactEvents=" + compactEvents +
+                ",compactionRetention=" + compactionRetention +
                 "]";
     }
 
@@ -30,6 +30,7 @@ import org.eclipse.ditto.internal.utils.health.StatusDetailMessage;
 import org.eclipse.ditto.internal.utils.health.StatusInfo;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource.JournalCompactionStrategy;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -76,6 +77,7 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
     private final Counter deleteSnapsCounter = DittoMetrics.counter("cleanup_delete_snapshots");
     private final MongoReadJournal mongoReadJournal;
     private final Supplier<Pair<Integer, Integer>> responsibilitySupplier;
+    @Nullable private final JournalCompactionStrategy compactionStrategy;
 
     private CleanupConfig config;
     private Cleanup cleanup;
@@ -86,22 +88,33 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
             final Credits credits,
             final MongoReadJournal mongoReadJournal,
             final Supplier<Pair<Integer, Integer>> responsibilitySupplier) {
-        this.config = CleanupConfig.of(ConfigFactory.empty());
+        this(cleanup, credits, mongoReadJournal, responsibilitySupplier, CleanupConfig.of(ConfigFactory.empty()));
+    }
+
+    PersistenceCleanupActor(final Cleanup cleanup,
+            final Credits credits,
+            final MongoReadJournal mongoReadJournal,
+            final Supplier<Pair<Integer, Integer>> responsibilitySupplier,
+            final CleanupConfig config) {
+        this.config = config;
         this.cleanup = cleanup;
         this.credits = credits;
         this.mongoReadJournal = mongoReadJournal;
         this.responsibilitySupplier = responsibilitySupplier;
+        compactionStrategy = null;
     }
 
     @SuppressWarnings("unused") // called by reflection
     private PersistenceCleanupActor(final CleanupConfig config,
             final MongoReadJournal mongoReadJournal,
-            final String myRole) {
+            final String myRole,
+            @Nullable final JournalCompactionStrategy compactionStrategy) {
         final var cluster = Cluster.get(getContext().getSystem());
         this.mongoReadJournal = mongoReadJournal;
         responsibilitySupplier = ClusterResponsibilitySupplier.of(cluster, myRole);
+        this.compactionStrategy = compactionStrategy;
         this.config = config;
-        cleanup = Cleanup.of(config, mongoReadJournal, materializer, responsibilitySupplier);
+        cleanup = Cleanup.of(config, mongoReadJournal, materializer, responsibilitySupplier, compactionStrategy);
         credits = Credits.of(config);
     }
 
@@ -117,7 +130,26 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
             final MongoReadJournal mongoReadJournal,
             final String myRole) {
 
-        return Props.create(PersistenceCleanupActor.class, config, mongoReadJournal, myRole);
+        return Props.create(PersistenceCleanupActor.class, config, mongoReadJournal, myRole, null);
+    }
+
+    /**
+     * Create the Props object for this actor compacting instead of deleting events behind the latest snapshot if
+     * enabled by the config.
+     *
+     * @param config the background cleanup config.
+     * @param mongoReadJournal the Mongo read journal for database operations.
+     * @param myRole the cluster role of this node among which the background cleanup responsibility is divided.
+     * @param compactionStrategy the strategy deciding which events to compact.
+     * @return the Props object.
+     * @since 3.0.0
+     */
+    public static Props props(final CleanupConfig config,
+            final MongoReadJournal mongoReadJournal,
+            final String myRole,
+            final JournalCompactionStrategy compactionStrategy) {
+
+        return Props.create(PersistenceCleanupActor.class, config, mongoReadJournal, myRole, compactionStrategy);
     }
 
     @Override
@@ -170,9 +202,13 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
 
     private FSM.State<State, String> startStream(final StateTimeout$ stateTimeout, final String lastPid) {
         logger.info("Quiet period expired, starting stream from <{}>", lastPid);
+        // work units delete disjoint ranges of documents of PIDs this instance is responsible for;
+        // they may run concurrently up to the configured parallelism. Their results are emitted in the order of
+        // the PIDs so that lastPid never passes a PID whose work units are still running.
         final var materializedValues =
                 credits.regulate(cleanup.getCleanupStream(lastPid), logger)
-                        .flatMapConcat(workUnit -> workUnit)
+                        .mapAsync(config.getParallelism(), workUnit -> workUnit.runWith(Sink.seq(), materializer))
+                        .mapConcat(results -> results)
                         .viaMat(KillSwitches.single(), Keep.right())
                         .toMat(Sink.foreach(this::notifySelf), Keep.both())
                         .withAttributes(Attributes.inputBuffer(1, 1))
@@ -288,7 +324,8 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
     @Override
     public Config setConfig(final Config config) {
         this.config = this.config.setAll(config);
-        cleanup = Cleanup.of(this.config, mongoReadJournal, materializer, responsibilitySupplier);
+        cleanup = Cleanup.of(this.config, mongoReadJournal, materializer, responsibilitySupplier,
+                compactionStrategy);
         credits = Credits.of(this.config);
         getSelf().tell(Control.SHUTDOWN, ActorRef.noSender());
         return this.config.render();
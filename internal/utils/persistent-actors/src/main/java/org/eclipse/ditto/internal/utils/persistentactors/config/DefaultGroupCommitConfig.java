@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link GroupCommitConfig}.
+ */
+@Immutable
+public final class DefaultGroupCommitConfig implements GroupCommitConfig {
+
+    private static final String CONFIG_PATH = "group-commit";
+
+    private final boolean enabled;
+    private final int maxPendingEvents;
+
+    private DefaultGroupCommitConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(GroupCommitConfigValue.ENABLED.getConfigPath());
+        maxPendingEvents = config.getPositiveIntOrThrow(GroupCommitConfigValue.MAX_PENDING_EVENTS);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultGroupCommitConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the group commit config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultGroupCommitConfig of(final Config config) {
+        return new DefaultGroupCommitConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, GroupCommitConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxPendingEvents() {
+        return maxPendingEvents;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultGroupCommitConfig that = (DefaultGroupCommitConfig) o;
+        return enabled == that.enabled && maxPendingEvents == that.maxPendingEvents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxPendingEvents);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxPendingEvents=" + maxPendingEvents +
+                "]";
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link PassivationConfig}.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class DefaultPassivationConfig implements PassivationConfig {
+
+    private static final String CONFIG_PATH = "passivation";
+
+    private final long memoryBudget;
+    private final Duration checkInterval;
+
+    private DefaultPassivationConfig(final ScopedConfig config) {
+        memoryBudget = config.getNonNegativeBytesOrThrow(PassivationConfigValue.MEMORY_BUDGET);
+        checkInterval = config.getNonNegativeAndNonZeroDurationOrThrow(PassivationConfigValue.CHECK_INTERVAL);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultPassivationConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the passivation config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultPassivationConfig of(final Config config) {
+        return new DefaultPassivationConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, PassivationConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return memoryBudget > 0;
+    }
+
+    @Override
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    @Override
+    public Duration getCheckInterval() {
+        return checkInterval;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPassivationConfig that = (DefaultPassivationConfig) o;
+        return memoryBudget == that.memoryBudget && Objects.equals(checkInterval, that.checkInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(memoryBudget, checkInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "memoryBudget=" + memoryBudget +
+                ", checkInterval=" + checkInterval +
+                "]";
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link WarmUpConfig}.
+ */
+@Immutable
+public final class DefaultWarmUpConfig implements WarmUpConfig {
+
+    private static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Duration timeToLive;
+
+    private DefaultWarmUpConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(WarmUpConfigValue.ENABLED.getConfigPath());
+        batchSize = config.getPositiveIntOrThrow(WarmUpConfigValue.BATCH_SIZE);
+        maxDelay = config.getNonNegativeDurationOrThrow(WarmUpConfigValue.MAX_DELAY);
+        timeToLive = config.getNonNegativeAndNonZeroDurationOrThrow(WarmUpConfigValue.TIME_TO_LIVE);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultWarmUpConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the warm-up config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultWarmUpConfig of(final Config config) {
+        return new DefaultWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, WarmUpConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    @Override
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWarmUpConfig that = (DefaultWarmUpConfig) o;
+        return enabled == that.enabled &&
+                batchSize == that.batchSize &&
+                Objects.equals(maxDelay, that.maxDelay) &&
+                Objects.equals(timeToLive, that.timeToLive);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, batchSize, maxDelay, timeToLive);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", batchSize=" + batchSize +
+                ", maxDelay=" + maxDelay +
+                ", timeToLive=" + timeToLive +
+                "]";
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the group commit of events by persistence actors.
+ * With group commit, a persistence actor keeps processing commands while the events of previous commands are being
+ * persisted, so that the events of all commands arriving during one journal write are written in the next one.
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether group commit is enabled.
+     *
+     * @return {@code true} if events should be persisted without blocking subsequent commands.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events which may be applied to the entity while not yet being persisted.
+     * Events beyond this number are persisted the regular way which blocks subsequent commands until they are
+     * persisted.
+     *
+     * @return the maximum number of pending events.
+     */
+    int getMaxPendingEvents();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether group commit is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events which may be applied to the entity while not yet being persisted.
+         */
+        MAX_PENDING_EVENTS("max-pending-events", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the memory-bounded passivation of persistence actors.
+ * When the estimated memory footprint of all persistence actors of a node exceeds the memory budget, the least
+ * recently used ones are passivated regardless of their activity check interval.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public interface PassivationConfig {
+
+    /**
+     * Indicates whether memory-bounded passivation is enabled, i.e. whether a memory budget is configured.
+     *
+     * @return {@code true} if persistence actors are passivated when the memory budget is exceeded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the number of bytes the entities of all persistence actors of a node may occupy approximately.
+     * The footprint of an entity is estimated by the size of its serialized snapshot.
+     *
+     * @return the memory budget in bytes or 0 if memory-bounded passivation is disabled.
+     */
+    long getMemoryBudget();
+
+    /**
+     * Returns how often the estimated footprint is compared to the memory budget.
+     *
+     * @return the check interval.
+     */
+    Duration getCheckInterval();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code PassivationConfig}.
+     */
+    enum PassivationConfigValue implements KnownConfigValue {
+
+        /**
+         * The number of bytes the entities of all persistence actors of a node may occupy approximately.
+         */
+        MEMORY_BUDGET("memory-budget", 0L),
+
+        /**
+         * How often the estimated footprint is compared to the memory budget.
+         */
+        CHECK_INTERVAL("check-interval", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        PassivationConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for warming up the recovery of persistence actors.
+ * The newest snapshots and following events of persistence actors which recover at the same time on a cluster node,
+ * e.g. because their shards were allocated to it, are loaded in bulk queries instead of one by one.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public interface WarmUpConfig {
+
+    /**
+     * Indicates whether the recovery warm-up is enabled.
+     *
+     * @return {@code true} if recovery data should be loaded in bulk before starting persistence actors.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how many persistence IDs are loaded in one bulk query.
+     *
+     * @return the batch size.
+     */
+    int getBatchSize();
+
+    /**
+     * Returns how long a recovering actor waits at most for others to join its bulk query.
+     *
+     * @return the maximum delay of a recovery.
+     */
+    Duration getMaxDelay();
+
+    /**
+     * Returns how long warmed up recovery data is kept for an actor which does not finish its recovery.
+     *
+     * @return the time to live of warmed up recovery data.
+     */
+    Duration getTimeToLive();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code WarmUpConfig}.
+     */
+    enum WarmUpConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the recovery warm-up is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How many persistence IDs are loaded in one bulk query.
+         */
+        BATCH_SIZE("batch-size", 100),
+
+        /**
+         * How long a recovering actor waits at most for others to join its bulk query.
+         */
+        MAX_DELAY("max-delay", Duration.ofMillis(20L)),
+
+        /**
+         * How long warmed up recovery data is kept for an actor which does not finish its recovery.
+         */
+        TIME_TO_LIVE("time-to-live", Duration.ofSeconds(30L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        WarmUpConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+/**
+ * Interface for persistence config containing a passivation config section.
+ *
+ * @since 3.0.0
+ */
+public interface WithPassivationConfig {
+
+    /**
+     * Returns the configuration settings for the memory-bounded passivation of persistence actors.
+     *
+     * @return the passivation config.
+     */
+    PassivationConfig getPassivationConfig();
+}
@@ -77,7 +77,7 @@ public abstract class AbstractConditionHeaderCheckingCommandStrategy<
     public Result<E> apply(final Context<K> context, @Nullable final S entity, final long nextRevision,
             final C command) {
 
-        final EntityTag currentETagValue = previousEntityTag(command, entity).orElse(null);
+        final EntityTag currentETagValue = previousEntityTag(context, command, entity).orElse(null);
 
         context.getLog().withCorrelationId(command)
                 .debug("Validating conditional headers with currentETagValue <{}> on command <{}>.",
@@ -95,6 +95,22 @@ public abstract class AbstractConditionHeaderCheckingCommandStrategy<
         return super.apply(context, entity, nextRevision, command);
     }
 
+    /**
+     * Determines the entity tag the conditional headers of the given command are checked against.
+     * Defaults to {@link #previousEntityTag(Command, Entity)}; override to take the context into account.
+     *
+     * @param context the context.
+     * @param command the command.
+     * @param entity the entity before the command is applied, may be {@code null}.
+     * @return the entity tag of the (sub-)entity addressed by the command if it exists.
+     * @since 3.0.0
+     */
+    protected Optional<EntityTag> previousEntityTag(final Context<K> context, final C command,
+            @Nullable final S entity) {
+
+        return previousEntityTag(command, entity);
+    }
+
     @Override
     public boolean isDefined(final Context<K> context, @Nullable final S entity, final C command) {
         checkNotNull(context, "Context");
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.passivation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.persistentactors.config.PassivationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Node-level coordinator which keeps the estimated memory footprint of all local persistence actors within a budget.
+ * Persistence actors register themselves, report the estimated size of their entity and record each access.
+ * Periodically, the coordinator compares the sum of all estimates with the memory budget and asks the least recently
+ * used persistence actors to passivate until the budget would be met.
+ *
+ * @since 3.0.0
+ */
+@ThreadSafe
+public final class PassivationCoordinator implements Extension {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PassivationCoordinator.class);
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    private final ActorSystem actorSystem;
+    private final Map<ActorRef, Registration> registrations;
+    private final AtomicLong estimatedBytes;
+    private final AtomicBoolean started;
+    private final Gauge activeEntitiesGauge;
+    private final Gauge estimatedBytesGauge;
+    private final Counter passivationsCounter;
+    private volatile long memoryBudget;
+
+    private PassivationCoordinator(final ActorSystem actorSystem) {
+        this.actorSystem = actorSystem;
+        registrations = new ConcurrentHashMap<>();
+        estimatedBytes = new AtomicLong();
+        started = new AtomicBoolean();
+        activeEntitiesGauge = DittoMetrics.gauge("passivation_active_entities");
+        estimatedBytesGauge = DittoMetrics.gauge("passivation_estimated_bytes");
+        passivationsCounter = DittoMetrics.counter("passivation_memory_budget_passivations");
+        memoryBudget = 0L;
+    }
+
+    /**
+     * Returns the passivation coordinator of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the coordinator.
+     */
+    public static PassivationCoordinator get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Registers a persistence actor. The first registration starts the periodic check of the memory budget with
+     * the given config.
+     *
+     * @param persistenceActor the persistence actor to passivate by sending {@link Control#PASSIVATE}.
+     * @param passivationConfig the passivation config of the persistence actor.
+     * @return the registration through which the persistence actor reports its footprint and accesses.
+     */
+    public Registration register(final ActorRef persistenceActor, final PassivationConfig passivationConfig) {
+        if (started.compareAndSet(false, true)) {
+            memoryBudget = passivationConfig.getMemoryBudget();
+            actorSystem.scheduler()
+                    .scheduleWithFixedDelay(passivationConfig.getCheckInterval(), passivationConfig.getCheckInterval(),
+                            this::checkMemoryBudget, actorSystem.dispatcher());
+            LOGGER.info("Started memory-bounded passivation with a budget of <{}> bytes.", memoryBudget);
+        }
+        final Registration registration = new Registration(persistenceActor);
+        registrations.put(persistenceActor, registration);
+        return registration;
+    }
+
+    /**
+     * Estimates the number of bytes an entity occupies by the size of its serialized snapshot.
+     *
+     * @param snapshot the serialized snapshot of the entity.
+     * @return the estimated number of bytes or 0 if the snapshot format is unknown.
+     */
+    public static long estimateBytes(final Object snapshot) {
+        if (snapshot instanceof RawBsonDocument) {
+            return ((RawBsonDocument) snapshot).getByteBuffer().remaining();
+        } else if (snapshot instanceof BsonDocument) {
+            return new RawBsonDocument((BsonDocument) snapshot, BSON_DOCUMENT_CODEC).getByteBuffer().remaining();
+        } else {
+            return 0L;
+        }
+    }
+
+    private void checkMemoryBudget() {
+        // an exception escaping the periodic task would cancel all further checks
+        try {
+            passivateLeastRecentlyUsed();
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to check the memory budget of persistence actors.", e);
+        }
+    }
+
+    /**
+     * Asks the least recently used persistence actors to passivate until the memory budget would be met.
+     *
+     * @return the number of persistence actors asked to passivate.
+     */
+    int passivateLeastRecentlyUsed() {
+        final long currentBytes = estimatedBytes.get();
+        activeEntitiesGauge.set((long) registrations.size());
+        estimatedBytesGauge.set(currentBytes);
+        long bytesToFree = currentBytes - memoryBudget;
+        if (bytesToFree <= 0) {
+            return 0;
+        }
+        // sort by a copy of the last access times: they change concurrently, which breaks the comparator contract
+        final List<Candidate> candidates = registrations.values()
+                .stream()
+                .map(Candidate::new)
+                .sorted(Comparator.comparingLong(candidate -> candidate.lastAccess))
+                .collect(Collectors.toUnmodifiableList());
+        int passivated = 0;
+        for (final Candidate lruCandidate : candidates) {
+            if (bytesToFree <= 0) {
+                break;
+            }
+            final Registration candidate = lruCandidate.registration;
+            if (!candidate.passivationRequested) {
+                candidate.passivationRequested = true;
+                candidate.persistenceActor.tell(Control.PASSIVATE, ActorRef.noSender());
+                bytesToFree -= candidate.bytes;
+                passivated++;
+            }
+        }
+        if (passivated > 0) {
+            LOGGER.info("Estimated footprint of <{}> bytes exceeds memory budget of <{}> bytes: " +
+                    "passivating <{}> least recently used of <{}> entities.", currentBytes, memoryBudget, passivated,
+                    candidates.size());
+            passivationsCounter.increment(passivated);
+        }
+        return passivated;
+    }
+
+    @Immutable
+    private static final class Candidate {
+
+        private final Registration registration;
+        private final long lastAccess;
+
+        private Candidate(final Registration registration) {
+            this.registration = registration;
+            lastAccess = registration.lastAccess;
+        }
+
+    }
+
+    /**
+     * Registration of a persistence actor at the coordinator. Must only be used by the persistence actor itself.
+     */
+    @ThreadSafe
+    public final class Registration {
+
+        private final ActorRef persistenceActor;
+        private volatile long lastAccess;
+        private volatile long bytes;
+        private volatile boolean passivationRequested;
+
+        private Registration(final ActorRef persistenceActor) {
+            this.persistenceActor = persistenceActor;
+            lastAccess = System.nanoTime();
+            bytes = 0L;
+            passivationRequested = false;
+        }
+
+        /**
+         * Records that the entity was accessed. A persistence actor which refuses a passivation request records an
+         * access so that it becomes a candidate again only after more recently used entities.
+         */
+        public void recordAccess() {
+            lastAccess = System.nanoTime();
+            passivationRequested = false;
+        }
+
+        /**
+         * Sets the estimated number of bytes the entity occupies.
+         *
+         * @param estimatedBytes the estimated number of bytes.
+         */
+        public void setEstimatedBytes(final long estimatedBytes) {
+            final long previousBytes = bytes;
+            bytes = estimatedBytes;
+            PassivationCoordinator.this.estimatedBytes.addAndGet(estimatedBytes - previousBytes);
+        }
+
+        /**
+         * Indicates whether the number of bytes the entity occupies was estimated already.
+         *
+         * @return whether an estimate was set.
+         */
+        public boolean hasEstimatedBytes() {
+            return bytes > 0;
+        }
+
+        /**
+         * Removes the persistence actor and its footprint from the coordinator.
+         */
+        public void unregister() {
+            if (registrations.remove(persistenceActor, this)) {
+                estimatedBytes.addAndGet(-bytes);
+            }
+        }
+
+    }
+
+    /**
+     * Messages of the coordinator to persistence actors.
+     */
+    public enum Control {
+
+        /**
+         * Asks a persistence actor to passivate because the memory budget is exceeded.
+         */
+        PASSIVATE
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<PassivationCoordinator> {
+
+        @Override
+        public PassivationCoordinator createExtension(final ExtendedActorSystem system) {
+            return new PassivationCoordinator(system);
+        }
+
+    }
+
+}
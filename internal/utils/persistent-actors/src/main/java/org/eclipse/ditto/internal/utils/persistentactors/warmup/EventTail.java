@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.annotation.concurrent.Immutable;
+
+import akka.persistence.PersistentRepr;
+
+/**
+ * The events of a persistence ID which follow its newest snapshot, loaded in bulk for its recovery.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class EventTail {
+
+    private final long fromSequenceNr;
+    private final List<PersistentRepr> events;
+    private final long highestSequenceNr;
+
+    private EventTail(final long fromSequenceNr, final List<PersistentRepr> events, final long highestSequenceNr) {
+        this.fromSequenceNr = fromSequenceNr;
+        this.events = List.copyOf(events);
+        this.highestSequenceNr = highestSequenceNr;
+    }
+
+    /**
+     * Creates the event tail of a persistence ID.
+     *
+     * @param snapshotSequenceNr the sequence number of the newest snapshot, or 0 if there is none.
+     * @param events the events following the snapshot ordered by their sequence numbers.
+     * @return the event tail.
+     */
+    public static EventTail of(final long snapshotSequenceNr, final List<PersistentRepr> events) {
+        final long highestSequenceNr = events.isEmpty()
+                ? snapshotSequenceNr
+                : events.get(events.size() - 1).sequenceNr();
+        return new EventTail(snapshotSequenceNr + 1, events, highestSequenceNr);
+    }
+
+    /**
+     * @return the sequence number from which the recovery replays the events.
+     */
+    public long getFromSequenceNr() {
+        return fromSequenceNr;
+    }
+
+    /**
+     * @return the highest sequence number of the persistence ID.
+     */
+    public long getHighestSequenceNr() {
+        return highestSequenceNr;
+    }
+
+    /**
+     * @return whether no events follow the snapshot.
+     */
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    /**
+     * Replays the events within a range of sequence numbers.
+     *
+     * @param toSequenceNr the highest sequence number to replay (inclusive).
+     * @param max the maximum number of events to replay.
+     * @param replayCallback the receiver of the events.
+     */
+    public void replay(final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+        events.stream()
+                .filter(event -> event.sequenceNr() <= toSequenceNr)
+                .limit(max)
+                .forEach(replayCallback);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "fromSequenceNr=" + fromSequenceNr +
+                ", events=" + events.size() +
+                ", highestSequenceNr=" + highestSequenceNr +
+                "]";
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Holds the event tails of persistence actors whose newest snapshots were loaded in bulk by the snapshot store plugin
+ * {@link WarmUpMongoSnapshots} on this cluster node. The journal plugin {@link WarmUpMongoJournal} serves the highest
+ * sequence number and the replayed events of a recovering actor from here instead of querying the database.
+ * Each event tail is replayed at most once and expires after the time to live it was added with.
+ *
+ * @since 3.0.0
+ */
+@ThreadSafe
+public final class RecoveryWarmUpCache implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private final Cache<String, Expiring<EventTail>> eventTails;
+
+    private RecoveryWarmUpCache() {
+        eventTails = Caffeine.newBuilder().expireAfter(new ExpiringExpiry<EventTail>()).build();
+    }
+
+    /**
+     * Returns the recovery warm-up cache of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the cache.
+     */
+    public static RecoveryWarmUpCache get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Adds the event tail of a persistence ID, replacing any previous one.
+     *
+     * @param persistenceId the persistence ID.
+     * @param eventTail the events following the snapshot the persistence actor recovers from.
+     * @param timeToLive how long to keep the event tail if it is not replayed.
+     */
+    public void putEventTail(final String persistenceId, final EventTail eventTail, final Duration timeToLive) {
+        eventTails.put(persistenceId, new Expiring<>(eventTail, timeToLive));
+    }
+
+    /**
+     * Returns the event tail of a persistence ID if the recovery replays from its first sequence number.
+     *
+     * @param persistenceId the persistence ID.
+     * @param fromSequenceNr the sequence number from which the recovery replays the events.
+     * @return the event tail, or an empty optional if none was cached or the cached one starts elsewhere.
+     */
+    public Optional<EventTail> getEventTail(final String persistenceId, final long fromSequenceNr) {
+        return Optional.ofNullable(eventTails.getIfPresent(persistenceId))
+                .map(Expiring::getValue)
+                .filter(eventTail -> eventTail.getFromSequenceNr() == fromSequenceNr);
+    }
+
+    /**
+     * Removes and returns the event tail of a persistence ID if the recovery replays from its first sequence number.
+     *
+     * @param persistenceId the persistence ID.
+     * @param fromSequenceNr the sequence number from which the recovery replays the events.
+     * @return the event tail, or an empty optional if none was cached or the cached one starts elsewhere.
+     */
+    public Optional<EventTail> pollEventTail(final String persistenceId, final long fromSequenceNr) {
+        return Optional.ofNullable(eventTails.asMap().remove(persistenceId))
+                .map(Expiring::getValue)
+                .filter(eventTail -> eventTail.getFromSequenceNr() == fromSequenceNr);
+    }
+
+    /**
+     * Discards the event tail of a persistence ID, e.g. because new events were written.
+     *
+     * @param persistenceId the persistence ID.
+     */
+    public void invalidate(final String persistenceId) {
+        eventTails.invalidate(persistenceId);
+    }
+
+    private static final class Expiring<T> {
+
+        private final T value;
+        private final long timeToLiveNanos;
+
+        private Expiring(final T value, final Duration timeToLive) {
+            this.value = value;
+            timeToLiveNanos = timeToLive.toNanos();
+        }
+
+        private T getValue() {
+            return value;
+        }
+
+    }
+
+    private static final class ExpiringExpiry<T> implements Expiry<String, Expiring<T>> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Expiring<T> value, final long currentTime) {
+            return value.timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Expiring<T> value, final long currentTime,
+                final long currentDuration) {
+
+            return value.timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Expiring<T> value, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<RecoveryWarmUpCache> {
+
+        @Override
+        public RecoveryWarmUpCache createExtension(final ExtendedActorSystem system) {
+            return new RecoveryWarmUpCache();
+        }
+
+    }
+
+}
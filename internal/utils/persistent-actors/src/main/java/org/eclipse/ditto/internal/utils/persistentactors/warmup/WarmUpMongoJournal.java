@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.util.Optional;
+
+import com.typesafe.config.Config;
+
+import akka.contrib.persistence.mongodb.MongoJournal;
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import scala.Function1;
+import scala.collection.immutable.Seq;
+import scala.concurrent.Future;
+import scala.runtime.BoxedUnit;
+import scala.util.Try;
+
+/**
+ * MongoDB journal plugin which serves the highest sequence number and the events of a recovering persistence actor
+ * from the event tail which {@link WarmUpMongoSnapshots} loaded together with its snapshot, and falls back to querying
+ * the database otherwise. A recovering actor whose snapshot was warmed up thus sends no query to the journal at all.
+ *
+ * @since 3.0.0
+ */
+public final class WarmUpMongoJournal extends MongoJournal {
+
+    private final RecoveryWarmUpCache warmUpCache;
+
+    /**
+     * Constructs the journal plugin. Called by Akka persistence via reflection.
+     *
+     * @param config the config of the plugin.
+     */
+    public WarmUpMongoJournal(final Config config) {
+        super(config);
+        warmUpCache = RecoveryWarmUpCache.get(context().system());
+    }
+
+    @Override
+    public Future<Object> asyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        final Optional<EventTail> eventTail = warmUpCache.getEventTail(persistenceId, fromSequenceNr);
+        if (eventTail.isEmpty()) {
+            return super.asyncReadHighestSequenceNr(persistenceId, fromSequenceNr);
+        }
+        if (eventTail.get().isEmpty()) {
+            // no events are replayed
+            warmUpCache.invalidate(persistenceId);
+        }
+        return Future.<Object>successful(eventTail.get().getHighestSequenceNr());
+    }
+
+    @Override
+    public Future<BoxedUnit> asyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Function1<PersistentRepr, BoxedUnit> recoveryCallback) {
+
+        return warmUpCache.pollEventTail(persistenceId, fromSequenceNr)
+                .map(eventTail -> {
+                    eventTail.replay(toSequenceNr, max, recoveryCallback::apply);
+                    return Future.successful(BoxedUnit.UNIT);
+                })
+                .orElseGet(() -> super.asyncReplayMessages(persistenceId, fromSequenceNr, toSequenceNr, max,
+                        recoveryCallback));
+    }
+
+    @Override
+    public Future<Seq<Try<BoxedUnit>>> asyncWriteMessages(final Seq<AtomicWrite> messages) {
+        messages.foreach(atomicWrite -> {
+            warmUpCache.invalidate(atomicWrite.persistenceId());
+            return BoxedUnit.UNIT;
+        });
+        return super.asyncWriteMessages(messages);
+    }
+
+}
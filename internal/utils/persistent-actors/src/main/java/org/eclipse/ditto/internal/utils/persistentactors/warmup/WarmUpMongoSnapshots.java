@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultWarmUpConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.WarmUpConfig;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorRef;
+import akka.actor.Cancellable;
+import akka.contrib.persistence.mongodb.MongoSnapshots;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.persistence.PersistentRepr;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotMetadata;
+import akka.persistence.SnapshotSelectionCriteria;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import scala.Option;
+import scala.PartialFunction;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+import scala.runtime.BoxedUnit;
+
+/**
+ * MongoDB snapshot store plugin which warms up the recovery of persistence actors if enabled in its {@code warm-up}
+ * config. The newest snapshots of actors recovering at the same time, e.g. because their shards were allocated to
+ * this cluster node or their entities are remembered, are loaded together with the events following them in bulk
+ * queries. Each snapshot load waits at most the configured maximum delay for others to join its bulk query.
+ * The loaded events are handed to the journal plugin {@link WarmUpMongoJournal} via the {@link RecoveryWarmUpCache}.
+ * <p>
+ * As the data is loaded while its persistence actor recovers and cluster sharding guarantees a single writer, it
+ * cannot be outdated by other cluster nodes. Persistence IDs whose newest snapshot or events are not stored as BSON
+ * documents are loaded one by one as usual.
+ *
+ * @since 3.0.0
+ */
+public final class WarmUpMongoSnapshots extends MongoSnapshots {
+
+    private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+
+    private final WarmUpConfig warmUpConfig;
+    private final RecoveryWarmUpCache warmUpCache;
+    private final Materializer materializer;
+    private final Map<String, CompletableFuture<Option<SelectedSnapshot>>> pendingLoads;
+    @Nullable private MongoReadJournal readJournal;
+    @Nullable private Cancellable scheduledBulkLoad;
+
+    /**
+     * Constructs the snapshot store plugin. Called by Akka persistence via reflection.
+     *
+     * @param config the config of the plugin.
+     */
+    public WarmUpMongoSnapshots(final Config config) {
+        super(config);
+        warmUpConfig = DefaultWarmUpConfig.of(config);
+        warmUpCache = RecoveryWarmUpCache.get(context().system());
+        materializer = SystemMaterializer.get(context().system()).materializer();
+        pendingLoads = new HashMap<>();
+        readJournal = null;
+        scheduledBulkLoad = null;
+    }
+
+    @Override
+    public Future<Option<SelectedSnapshot>> loadAsync(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        // the actor recovers anew, so events loaded for a previous recovery must not be replayed
+        warmUpCache.invalidate(persistenceId);
+        if (!warmUpConfig.isEnabled() || !SnapshotSelectionCriteria.latest().equals(criteria)) {
+            return super.loadAsync(persistenceId, criteria);
+        }
+        final CompletableFuture<Option<SelectedSnapshot>> snapshot =
+                pendingLoads.computeIfAbsent(persistenceId, pid -> new CompletableFuture<>());
+        if (pendingLoads.size() >= warmUpConfig.getBatchSize()) {
+            loadPendingInBulk();
+        } else if (null == scheduledBulkLoad) {
+            scheduledBulkLoad = context().system()
+                    .scheduler()
+                    .scheduleOnce(warmUpConfig.getMaxDelay(), self(), Control.LOAD_PENDING_IN_BULK,
+                            context().dispatcher(), ActorRef.noSender());
+        }
+        return FutureConverters.toScala(snapshot);
+    }
+
+    @Override
+    public Future<BoxedUnit> saveAsync(final SnapshotMetadata metadata, final Object snapshot) {
+        warmUpCache.invalidate(metadata.persistenceId());
+        return super.saveAsync(metadata, snapshot);
+    }
+
+    @Override
+    public PartialFunction<Object, BoxedUnit> receivePluginInternal() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.LOAD_PENDING_IN_BULK, msg -> loadPendingInBulk())
+                .match(BulkLoaded.class, this::bulkLoaded)
+                .build()
+                .onMessage()
+                .orElse(super.receivePluginInternal());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != scheduledBulkLoad) {
+            scheduledBulkLoad.cancel();
+        }
+        super.postStop();
+    }
+
+    private void loadPendingInBulk() {
+        if (null != scheduledBulkLoad) {
+            scheduledBulkLoad.cancel();
+            scheduledBulkLoad = null;
+        }
+        if (!pendingLoads.isEmpty()) {
+            final Map<String, CompletableFuture<Option<SelectedSnapshot>>> loads = Map.copyOf(pendingLoads);
+            pendingLoads.clear();
+            final ActorRef self = self();
+            loadInBulk(loads.keySet()).whenComplete((snapshots, error) ->
+                    self.tell(new BulkLoaded(loads, snapshots, error), ActorRef.noSender()));
+        }
+    }
+
+    private CompletionStage<Map<String, Option<SelectedSnapshot>>> loadInBulk(final Collection<String> pids) {
+        final MongoReadJournal journal = getReadJournal();
+        return journal.getNewestSnapshotsOfPids(pids)
+                .runWith(Sink.seq(), materializer)
+                .thenCompose(newestSnapshots -> {
+                    final Map<String, Option<SelectedSnapshot>> snapshots = new HashMap<>();
+                    pids.forEach(pid -> snapshots.put(pid, Option.empty()));
+                    newestSnapshots.forEach(pair -> pair.second().ifPresentOrElse(
+                            snapshot -> snapshots.put(pair.first(), Option.apply(snapshot)),
+                            () -> snapshots.remove(pair.first())));
+                    final Map<String, Long> snapshotSeqNos = new HashMap<>();
+                    snapshots.forEach((pid, snapshot) -> snapshotSeqNos.put(pid,
+                            snapshot.isDefined() ? snapshot.get().metadata().sequenceNr() : 0L));
+                    return journal.getEventsOfPidsAfter(snapshotSeqNos)
+                            .runWith(Sink.seq(), materializer)
+                            .thenApply(events -> cacheEventTails(snapshots, snapshotSeqNos, events));
+                });
+    }
+
+    private Map<String, Option<SelectedSnapshot>> cacheEventTails(
+            final Map<String, Option<SelectedSnapshot>> snapshots,
+            final Map<String, Long> snapshotSeqNos,
+            final List<Pair<String, Optional<PersistentRepr>>> events) {
+
+        final Map<String, List<PersistentRepr>> eventsByPid = new HashMap<>();
+        final Set<String> pidsWithoutBsonEvents = new HashSet<>();
+        events.forEach(pair -> pair.second().ifPresentOrElse(
+                event -> eventsByPid.computeIfAbsent(pair.first(), pid -> new ArrayList<>()).add(event),
+                () -> pidsWithoutBsonEvents.add(pair.first())));
+        final Map<String, Option<SelectedSnapshot>> result = new HashMap<>(snapshots);
+        result.keySet().removeAll(pidsWithoutBsonEvents);
+        result.keySet().forEach(pid -> warmUpCache.putEventTail(pid,
+                EventTail.of(snapshotSeqNos.get(pid), eventsByPid.getOrDefault(pid, List.of())),
+                warmUpConfig.getTimeToLive()));
+        return result;
+    }
+
+    private void bulkLoaded(final BulkLoaded bulkLoaded) {
+        if (null != bulkLoaded.error) {
+            // warm-up is an optimization only: the actors recover from the database as usual
+            log.warning("Failed to warm up recovery of <{}> PersistenceActors: {}", bulkLoaded.loads.size(),
+                    bulkLoaded.error.getMessage());
+        }
+        bulkLoaded.loads.forEach((pid, snapshot) -> {
+            final Option<SelectedSnapshot> loadedSnapshot = bulkLoaded.snapshots.get(pid);
+            if (null != loadedSnapshot) {
+                snapshot.complete(loadedSnapshot);
+            } else {
+                warmUpCache.invalidate(pid);
+                FutureConverters.toJava(super.loadAsync(pid, SnapshotSelectionCriteria.latest()))
+                        .whenComplete((result, error) -> {
+                            if (null != error) {
+                                snapshot.completeExceptionally(error);
+                            } else {
+                                snapshot.complete(result);
+                            }
+                        });
+            }
+        });
+    }
+
+    private MongoReadJournal getReadJournal() {
+        // created on the first bulk load only, as the warm-up is disabled by default
+        if (null == readJournal) {
+            readJournal = MongoReadJournal.newInstance(context().system());
+        }
+        return readJournal;
+    }
+
+    private enum Control {
+        LOAD_PENDING_IN_BULK
+    }
+
+    private static final class BulkLoaded {
+
+        private final Map<String, CompletableFuture<Option<SelectedSnapshot>>> loads;
+        private final Map<String, Option<SelectedSnapshot>> snapshots;
+        @Nullable private final Throwable error;
+
+        private BulkLoaded(final Map<String, CompletableFuture<Option<SelectedSnapshot>>> loads,
+                @Nullable final Map<String, Option<SelectedSnapshot>> snapshots,
+                @Nullable final Throwable error) {
+
+            this.loads = loads;
+            this.snapshots = null != snapshots ? snapshots : Map.of();
+            this.error = error;
+        }
+
+    }
+
+}
@@ -19,19 +19,27 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource.JournalCompactionStrategy;
+import org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource.MongoEventCompaction;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 
 import akka.actor.ActorSystem;
 import akka.japi.Pair;
@@ -109,6 +117,101 @@ public final class CleanupTest {
                 "SNAPSHOTS");
     }
 
+    @Test
+    public void compactInsteadOfDeleteEvents() {
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
+                .thenReturn(Source.single(new Document().append("_id", "thing:p:id")
+                        .append("__lifecycle", "ACTIVE")
+                        .append("sn", 50L)));
+
+        when(mongoReadJournal.getSmallestEventSeqNo(any())).thenReturn(Source.single(Optional.of(30L)));
+        when(mongoReadJournal.getEventCompactionWatermark(any())).thenReturn(Source.single(Optional.empty()));
+        when(mongoReadJournal.getSmallestSnapshotSeqNo(any())).thenReturn(Source.single(Optional.of(50L)));
+        when(mongoReadJournal.setEventCompactionWatermark(any(), anyLong()))
+                .thenReturn(Source.single(UpdateResult.acknowledged(1L, 1L, null)));
+
+        final var compaction = MongoEventCompaction.of(mock(JournalCompactionStrategy.class));
+        final var olderThanCaptor = new AtomicReference<Instant>();
+        // code the argument sequence numbers in the DeleteResult
+        doAnswer(invocation -> {
+            olderThanCaptor.set(invocation.getArgument(3));
+            return Source.single(batchResult(invocation.<Long>getArgument(1) * 100L + invocation.<Long>getArgument(2),
+                    45L));
+        }).when(mongoReadJournal).compactEvents(any(), anyLong(), anyLong(), any(), eq(compaction), eq(10));
+
+        final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1), 1, 10, false,
+                compaction, Duration.ofHours(1L));
+
+        final var result = underTest.getCleanupStream("")
+                .flatMapConcat(x -> x)
+                .runWith(Sink.seq(), materializer).toCompletableFuture().join();
+        final var seqNrs = result.stream()
+                .map(cleanupResult -> cleanupResult.result.getDeletedCount())
+                .toList();
+
+        // all events of the PID are compacted by 1 work unit
+        assertThat(seqNrs).containsExactly(3049L);
+        assertThat(olderThanCaptor.get()).isBefore(Instant.now().minus(Duration.ofMinutes(59L)));
+        verify(mongoReadJournal).setEventCompactionWatermark("thing:p:id", 45L);
+        verify(mongoReadJournal, never()).deleteEvents(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void resumeCompactionFromWatermark() {
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
+                .thenReturn(Source.single(new Document().append("_id", "thing:p:id")
+                        .append("__lifecycle", "ACTIVE")
+                        .append("sn", 50L)));
+
+        when(mongoReadJournal.getSmallestEventSeqNo(any())).thenReturn(Source.single(Optional.of(1L)));
+        when(mongoReadJournal.getEventCompactionWatermark(any())).thenReturn(Source.single(Optional.of(42L)));
+        when(mongoReadJournal.getSmallestSnapshotSeqNo(any())).thenReturn(Source.single(Optional.of(50L)));
+        when(mongoReadJournal.setEventCompactionWatermark(any(), anyLong()))
+                .thenReturn(Source.single(UpdateResult.acknowledged(1L, 1L, null)));
+
+        final var compaction = MongoEventCompaction.of(mock(JournalCompactionStrategy.class));
+        doAnswer(invocation -> Source.from(List.of(
+                batchResult(invocation.<Long>getArgument(1) * 100L + invocation.<Long>getArgument(2), 46L),
+                batchResult(1L, 49L))
+        )).when(mongoReadJournal).compactEvents(any(), anyLong(), anyLong(), any(), eq(compaction), anyInt());
+
+        final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1), 1, 10, false,
+                compaction, Duration.ofHours(1L));
+
+        final var result = underTest.getCleanupStream("")
+                .flatMapConcat(x -> x)
+                .runWith(Sink.seq(), materializer).toCompletableFuture().join();
+        final var seqNrs = result.stream()
+                .map(cleanupResult -> cleanupResult.result.getDeletedCount())
+                .toList();
+
+        assertThat(seqNrs).containsExactly(4249L, 1L);
+        verify(mongoReadJournal).setEventCompactionWatermark("thing:p:id", 46L);
+        verify(mongoReadJournal).setEventCompactionWatermark("thing:p:id", 49L);
+    }
+
+    @Test
+    public void skipCompactionBeyondWatermark() {
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
+                .thenReturn(Source.single(new Document().append("_id", "thing:p:id")
+                        .append("__lifecycle", "ACTIVE")
+                        .append("sn", 50L)));
+
+        when(mongoReadJournal.getSmallestEventSeqNo(any())).thenReturn(Source.single(Optional.of(1L)));
+        when(mongoReadJournal.getEventCompactionWatermark(any())).thenReturn(Source.single(Optional.of(50L)));
+        when(mongoReadJournal.getSmallestSnapshotSeqNo(any())).thenReturn(Source.single(Optional.of(50L)));
+
+        final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1), 1, 10, false,
+                MongoEventCompaction.of(mock(JournalCompactionStrategy.class)), Duration.ofHours(1L));
+
+        final var result = underTest.getCleanupStream("")
+                .flatMapConcat(x -> x)
+                .runWith(Sink.seq(), materializer).toCompletableFuture().join();
+
+        assertThat(result).isEmpty();
+        verify(mongoReadJournal, never()).compactEvents(any(), anyLong(), anyLong(), any(), any(), anyInt());
+    }
+
     @Test
     public void excludeFinalDeletedSnapshot() {
         when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
@@ -186,4 +289,12 @@ public final class CleanupTest {
                 "SNAPSHOTS");
         assertThat(pids.size()).isEqualTo(1);
     }
+
+    private static MongoEventCompaction.BatchResult batchResult(final long deletedCount, final long resumeSeqNr) {
+        final var batchResult = mock(MongoEventCompaction.BatchResult.class);
+        when(batchResult.getDeleteResult()).thenReturn(DeleteResult.acknowledged(deletedCount));
+        when(batchResult.getResumeSeqNr()).thenReturn(resumeSeqNr);
+        return batchResult;
+    }
+
 }
@@ -155,6 +155,22 @@ public final class CreditsTest {
         assertThat(opsCounter.get()).isEqualTo(4); // 4 credit given out in total
     }
 
+    @Test
+    public void creditsGrowWhileLatencyIsLowAndShrinkWhenLatencyRises() {
+        final Credits underTest = new Credits(getFastCreditConfig(2, 6), mockTimer);
+
+        assertThat(underTest.decideCredits(Duration.ZERO)).isEqualTo(2);
+        assertThat(underTest.decideCredits(Duration.ZERO)).isEqualTo(4);
+        assertThat(underTest.decideCredits(Duration.ofNanos(499))).isEqualTo(6);
+        assertThat(underTest.decideCredits(Duration.ZERO)).isEqualTo(6);
+        assertThat(underTest.decideCredits(Duration.ofNanos(500))).isEqualTo(3);
+        assertThat(underTest.decideCredits(Duration.ofNanos(999))).isEqualTo(2);
+        assertThat(underTest.decideCredits(Duration.ZERO)).isEqualTo(2);
+        assertThat(underTest.decideCredits(Duration.ZERO)).isEqualTo(4);
+        assertThat(underTest.decideCredits(Duration.ofNanos(1000))).isZero();
+        assertThat(underTest.decideCredits(Duration.ZERO)).isEqualTo(2);
+    }
+
     private Pair<TestPublisher.Probe<Object>, TestSubscriber.Probe<Object>> materializeProbePair(
             final Credits credits) {
         return credits.regulate(TestSource.probe(actorSystem), Logging.getLogger(actorSystem, this))
@@ -164,7 +180,11 @@ public final class CreditsTest {
     }
 
     private static CleanupConfig getFastCreditConfig(final int creditPerBatch) {
+        return getFastCreditConfig(creditPerBatch, creditPerBatch);
+    }
+
+    private static CleanupConfig getFastCreditConfig(final int creditPerBatch, final int maxCreditPerBatch) {
         return new DefaultCleanupConfig(true, Duration.ZERO, Duration.ofMillis(100), Duration.ofNanos(1000),
-                creditPerBatch, 100, 100, false);
+                creditPerBatch, maxCreditPerBatch, 1, 100, 100, false, false, Duration.ZERO);
     }
 }
@@ -68,6 +68,14 @@ public final class DefaultCleanupConfigTest {
                 .describedAs(CleanupConfig.ConfigValue.CREDITS_PER_BATCH.getConfigPath())
                 .isEqualTo(4);
 
+        assertThat(underTest.getMaxCreditsPerBatch())
+                .describedAs(CleanupConfig.ConfigValue.MAX_CREDITS_PER_BATCH.getConfigPath())
+                .isEqualTo(8);
+
+        assertThat(underTest.getParallelism())
+                .describedAs(CleanupConfig.ConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(2);
+
         assertThat(underTest.getReadsPerQuery())
                 .describedAs(CleanupConfig.ConfigValue.READS_PER_QUERY.getConfigPath())
                 .isEqualTo(5);
@@ -79,5 +87,13 @@ public final class DefaultCleanupConfigTest {
         assertThat(underTest.shouldDeleteFinalDeletedSnapshot())
                 .describedAs(CleanupConfig.ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath())
                 .isEqualTo(true);
+
+        assertThat(underTest.shouldCompactEvents())
+                .describedAs(CleanupConfig.ConfigValue.COMPACT_EVENTS.getConfigPath())
+                .isTrue();
+
+        assertThat(underTest.getCompactionRetention())
+                .describedAs(CleanupConfig.ConfigValue.COMPACTION_RETENTION.getConfigPath())
+                .isEqualTo(Duration.ofHours(7));
     }
 }
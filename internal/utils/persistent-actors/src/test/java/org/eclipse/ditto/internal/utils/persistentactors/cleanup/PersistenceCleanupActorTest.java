@@ -23,6 +23,7 @@ import static org.mockito.Mockito.verify;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.ditto.base.api.common.ModifyConfig;
@@ -182,6 +183,39 @@ public final class PersistenceCleanupActorTest {
         }};
     }
 
+    @Test
+    public void lastPidDoesNotPassUnfinishedWorkUnits() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = childActorOf(Props.create(PersistenceCleanupActor.class,
+                    () -> new PersistenceCleanupActor(cleanup, credits, mock(MongoReadJournal.class),
+                            () -> Pair.create(0, 1),
+                            CleanupConfig.of(ConfigFactory.parseMap(Map.of("cleanup.parallelism", 2))))));
+
+            final var probeSourcePair =
+                    TestSource.<Source<CleanupResult, NotUsed>>probe(actorSystem).preMaterialize(actorSystem);
+            final var probe = probeSourcePair.first();
+            sourceBox.set(probeSourcePair.second());
+            underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
+
+            // GIVEN the work unit of the first PID is still running when the one of the next PID completes
+            final var firstWorkUnit = Source.<CleanupResult>maybe().preMaterialize(actorSystem);
+            probe.sendNext(firstWorkUnit.second());
+            probe.sendNext(Source.single(new CleanupResult(CleanupResult.Type.SNAPSHOTS,
+                    new SnapshotRevision("thing:p:b", 1, false), DeleteResult.acknowledged(1))));
+
+            // THEN the progress stays before the first PID
+            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", ""), probe::expectNoMsg);
+
+            // WHEN the first work unit completes
+            firstWorkUnit.first().complete(Optional.of(new CleanupResult(CleanupResult.Type.EVENTS,
+                    new SnapshotRevision("thing:p:a", 1, false), DeleteResult.acknowledged(1))));
+
+            // THEN the progress advances past both PIDs
+            waitForResponse(this, underTest, retrieveHealthResponse("RUNNING", "thing:p:b"), probe::expectNoMsg);
+            probe.sendComplete();
+        }};
+    }
+
     @Test
     public void retrieveConfig() {
         new TestKit(actorSystem) {{
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultPassivationConfig}.
+ */
+public final class DefaultPassivationConfigTest {
+
+    private static Config passivationTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        passivationTestConf = ConfigFactory.load("passivation-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultPassivationConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultPassivationConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultPassivationConfig underTest = DefaultPassivationConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled()).as("enabled").isFalse();
+
+        softly.assertThat(underTest.getMemoryBudget())
+                .as(PassivationConfig.PassivationConfigValue.MEMORY_BUDGET.getConfigPath())
+                .isEqualTo(PassivationConfig.PassivationConfigValue.MEMORY_BUDGET.getDefaultValue());
+
+        softly.assertThat(underTest.getCheckInterval())
+                .as(PassivationConfig.PassivationConfigValue.CHECK_INTERVAL.getConfigPath())
+                .isEqualTo(PassivationConfig.PassivationConfigValue.CHECK_INTERVAL.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultPassivationConfig underTest = DefaultPassivationConfig.of(passivationTestConf);
+
+        softly.assertThat(underTest.isEnabled()).as("enabled").isTrue();
+
+        softly.assertThat(underTest.getMemoryBudget())
+                .as(PassivationConfig.PassivationConfigValue.MEMORY_BUDGET.getConfigPath())
+                .isEqualTo(64L * 1024 * 1024);
+
+        softly.assertThat(underTest.getCheckInterval())
+                .as(PassivationConfig.PassivationConfigValue.CHECK_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultWarmUpConfig}.
+ */
+public final class DefaultWarmUpConfigTest {
+
+    private static Config warmUpTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        warmUpTestConf = ConfigFactory.load("warm-up-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultWarmUpConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultWarmUpConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultWarmUpConfig underTest = DefaultWarmUpConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WarmUpConfig.WarmUpConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getBatchSize())
+                .as(WarmUpConfig.WarmUpConfigValue.BATCH_SIZE.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.BATCH_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxDelay())
+                .as(WarmUpConfig.WarmUpConfigValue.MAX_DELAY.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.MAX_DELAY.getDefaultValue());
+
+        softly.assertThat(underTest.getTimeToLive())
+                .as(WarmUpConfig.WarmUpConfigValue.TIME_TO_LIVE.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.TIME_TO_LIVE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultWarmUpConfig underTest = DefaultWarmUpConfig.of(warmUpTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WarmUpConfig.WarmUpConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getBatchSize())
+                .as(WarmUpConfig.WarmUpConfigValue.BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+
+        softly.assertThat(underTest.getMaxDelay())
+                .as(WarmUpConfig.WarmUpConfigValue.MAX_DELAY.getConfigPath())
+                .isEqualTo(Duration.ofMillis(5L));
+
+        softly.assertThat(underTest.getTimeToLive())
+                .as(WarmUpConfig.WarmUpConfigValue.TIME_TO_LIVE.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(10L));
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.passivation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultPassivationConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.PassivationConfig;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PassivationCoordinator}.
+ */
+public final class PassivationCoordinatorTest {
+
+    private static final PassivationConfig PASSIVATION_CONFIG = DefaultPassivationConfig.of(
+            ConfigFactory.parseString("passivation { memory-budget = 1000, check-interval = 1h }"));
+
+    private final ActorSystem actorSystem = ActorSystem.create();
+
+    @After
+    public void shutdown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void passivatesLeastRecentlyUsedUntilBudgetIsMet() {
+        final PassivationCoordinator underTest = PassivationCoordinator.get(actorSystem);
+        final TestKit oldest = new TestKit(actorSystem);
+        final TestKit older = new TestKit(actorSystem);
+        final TestKit newest = new TestKit(actorSystem);
+        final PassivationCoordinator.Registration oldestRegistration =
+                underTest.register(oldest.getRef(), PASSIVATION_CONFIG);
+        final PassivationCoordinator.Registration olderRegistration =
+                underTest.register(older.getRef(), PASSIVATION_CONFIG);
+        final PassivationCoordinator.Registration newestRegistration =
+                underTest.register(newest.getRef(), PASSIVATION_CONFIG);
+        oldestRegistration.setEstimatedBytes(400L);
+        olderRegistration.setEstimatedBytes(400L);
+        newestRegistration.setEstimatedBytes(400L);
+        oldestRegistration.recordAccess();
+        olderRegistration.recordAccess();
+        newestRegistration.recordAccess();
+
+        assertThat(underTest.passivateLeastRecentlyUsed()).isEqualTo(1);
+
+        oldest.expectMsg(PassivationCoordinator.Control.PASSIVATE);
+        older.expectNoMessage(Duration.ofMillis(200L));
+        newest.expectNoMessage(Duration.ofMillis(200L));
+    }
+
+    @Test
+    public void doesNotPassivateWithinBudget() {
+        final PassivationCoordinator underTest = PassivationCoordinator.get(actorSystem);
+        final TestKit probe = new TestKit(actorSystem);
+        underTest.register(probe.getRef(), PASSIVATION_CONFIG).setEstimatedBytes(1000L);
+
+        assertThat(underTest.passivateLeastRecentlyUsed()).isZero();
+    }
+
+    @Test
+    public void unregisteredFootprintIsNotCounted() {
+        final PassivationCoordinator underTest = PassivationCoordinator.get(actorSystem);
+        final TestKit probe = new TestKit(actorSystem);
+        final PassivationCoordinator.Registration registration =
+                underTest.register(probe.getRef(), PASSIVATION_CONFIG);
+        registration.setEstimatedBytes(5000L);
+        registration.unregister();
+
+        assertThat(underTest.passivateLeastRecentlyUsed()).isZero();
+    }
+
+    @Test
+    public void passivationIsRequestedAgainOnlyAfterRefusal() {
+        final PassivationCoordinator underTest = PassivationCoordinator.get(actorSystem);
+        final TestKit probe = new TestKit(actorSystem);
+        final PassivationCoordinator.Registration registration =
+                underTest.register(probe.getRef(), PASSIVATION_CONFIG);
+        registration.setEstimatedBytes(5000L);
+
+        assertThat(underTest.passivateLeastRecentlyUsed()).isEqualTo(1);
+        assertThat(underTest.passivateLeastRecentlyUsed()).isZero();
+
+        registration.recordAccess();
+        assertThat(underTest.passivateLeastRecentlyUsed()).isEqualTo(1);
+    }
+
+    @Test
+    public void estimatesBytesBySerializedSize() {
+        final BsonDocument document = new BsonDocument("thingId", new BsonString("namespace:name"));
+        final RawBsonDocument rawDocument = RawBsonDocument.parse(document.toJson());
+
+        assertThat(PassivationCoordinator.estimateBytes(document))
+                .isEqualTo(rawDocument.getByteBuffer().remaining())
+                .isPositive();
+        assertThat(PassivationCoordinator.estimateBytes("not a snapshot")).isZero();
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.persistence.PersistentRepr;
+import akka.persistence.PersistentRepr$;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link RecoveryWarmUpCache}.
+ */
+public final class RecoveryWarmUpCacheTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1L);
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void eventTailIsReplayedOnlyOnce() {
+        final RecoveryWarmUpCache underTest = RecoveryWarmUpCache.get(actorSystem);
+        final EventTail eventTail = EventTail.of(5L, List.of(event("thing:ns:once", 6L), event("thing:ns:once", 7L)));
+        underTest.putEventTail("thing:ns:once", eventTail, TIME_TO_LIVE);
+
+        assertThat(underTest.getEventTail("thing:ns:once", 6L)).contains(eventTail);
+        assertThat(underTest.pollEventTail("thing:ns:once", 6L)).contains(eventTail);
+        assertThat(underTest.pollEventTail("thing:ns:once", 6L)).isEmpty();
+    }
+
+    @Test
+    public void eventTailStartingElsewhereIsNotServed() {
+        final RecoveryWarmUpCache underTest = RecoveryWarmUpCache.get(actorSystem);
+        underTest.putEventTail("thing:ns:from", EventTail.of(5L, List.of()), TIME_TO_LIVE);
+
+        assertThat(underTest.getEventTail("thing:ns:from", 1L)).isEmpty();
+        assertThat(underTest.pollEventTail("thing:ns:from", 1L)).isEmpty();
+    }
+
+    @Test
+    public void invalidatedEventTailIsNotServed() {
+        final RecoveryWarmUpCache underTest = RecoveryWarmUpCache.get(actorSystem);
+        underTest.putEventTail("thing:ns:invalidated", EventTail.of(5L, List.of()), TIME_TO_LIVE);
+
+        underTest.invalidate("thing:ns:invalidated");
+
+        assertThat(underTest.getEventTail("thing:ns:invalidated", 6L)).isEmpty();
+    }
+
+    @Test
+    public void expiredEventTailIsNotServed() throws InterruptedException {
+        final RecoveryWarmUpCache underTest = RecoveryWarmUpCache.get(actorSystem);
+        underTest.putEventTail("thing:ns:expired", EventTail.of(5L, List.of()), Duration.ofMillis(1L));
+
+        Thread.sleep(50L);
+
+        assertThat(underTest.getEventTail("thing:ns:expired", 6L)).isEmpty();
+    }
+
+    @Test
+    public void eventTailReplaysEventsWithinRange() {
+        final List<PersistentRepr> events =
+                List.of(event("thing:ns:range", 1L), event("thing:ns:range", 2L), event("thing:ns:range", 3L));
+        final EventTail underTest = EventTail.of(0L, events);
+        final List<PersistentRepr> replayed = new ArrayList<>();
+
+        underTest.replay(2L, Long.MAX_VALUE, replayed::add);
+
+        assertThat(underTest.getFromSequenceNr()).isEqualTo(1L);
+        assertThat(underTest.getHighestSequenceNr()).isEqualTo(3L);
+        assertThat(replayed).containsExactlyElementsOf(events.subList(0, 2));
+    }
+
+    @Test
+    public void highestSequenceNrOfEmptyEventTailIsTheSnapshotSequenceNr() {
+        final EventTail underTest = EventTail.of(5L, List.of());
+
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.getHighestSequenceNr()).isEqualTo(5L);
+    }
+
+    private static PersistentRepr event(final String persistenceId, final long sequenceNr) {
+        return PersistentRepr$.MODULE$.apply(new BsonDocument(), sequenceNr, persistenceId,
+                PersistentRepr$.MODULE$.Undefined(), false, ActorRef.noSender(), PersistentRepr$.MODULE$.Undefined());
+    }
+
+}
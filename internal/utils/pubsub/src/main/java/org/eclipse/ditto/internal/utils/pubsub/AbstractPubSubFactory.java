@@ -15,6 +15,7 @@ package org.eclipse.ditto.internal.utils.pubsub;
 import org.eclipse.ditto.internal.utils.ddata.DistributedData;
 import org.eclipse.ditto.internal.utils.ddata.DistributedDataConfig;
 import org.eclipse.ditto.internal.utils.pubsub.actors.PubSupervisor;
+import org.eclipse.ditto.internal.utils.pubsub.actors.PublisherRoutingTable;
 import org.eclipse.ditto.internal.utils.pubsub.actors.SubSupervisor;
 import org.eclipse.ditto.internal.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompressedDData;
@@ -37,6 +38,7 @@ import akka.actor.Props;
 public abstract class AbstractPubSubFactory<T extends SignalWithEntityId<?>> implements PubSubFactory<T> {
 
     protected final ActorRefFactory actorRefFactory;
+    protected final ActorSystem actorSystem;
     protected final Class<T> messageClass;
     protected final String factoryId;
     protected final PubSubTopicExtractor<T> topicExtractor;
@@ -66,6 +68,7 @@ public abstract class AbstractPubSubFactory<T extends SignalWithEntityId<?>> imp
             final DistributedAcks distributedAcks) {
 
         this.actorRefFactory = actorRefFactory;
+        this.actorSystem = actorSystem;
         this.messageClass = messageClass;
         factoryId = provider.clusterRole;
         this.topicExtractor = topicExtractor;
@@ -78,9 +81,10 @@ public abstract class AbstractPubSubFactory<T extends SignalWithEntityId<?>> imp
     @Override
     public DistributedPub<T> startDistributedPub() {
         final String pubSupervisorName = factoryId + "-pub-supervisor";
-        final Props pubSupervisorProps = PubSupervisor.props(ddata, distributedAcks);
+        final PublisherRoutingTable routingTable = PublisherRoutingTable.of(actorSystem, ddata.getReader());
+        final Props pubSupervisorProps = PubSupervisor.props(ddata, distributedAcks, routingTable);
         final ActorRef pubSupervisor = actorRefFactory.actorOf(pubSupervisorProps, pubSupervisorName);
-        return DistributedPub.of(pubSupervisor, topicExtractor);
+        return DistributedPub.of(pubSupervisor, routingTable, topicExtractor);
     }
 
     @Override
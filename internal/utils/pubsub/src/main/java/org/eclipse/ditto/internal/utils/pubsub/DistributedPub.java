@@ -15,6 +15,7 @@ package org.eclipse.ditto.internal.utils.pubsub;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
+import org.eclipse.ditto.internal.utils.pubsub.actors.PublisherRoutingTable;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.PubSubTopicExtractor;
 
@@ -92,7 +93,25 @@ public interface DistributedPub<T> {
      */
     static <T extends SignalWithEntityId<?>> DistributedPub<T> of(final ActorRef pubSupervisor,
             final PubSubTopicExtractor<T> topicExtractor) {
-        return new DistributedPubImpl<>(pubSupervisor, topicExtractor);
+        return new DistributedPubImpl<>(pubSupervisor, null, topicExtractor);
+    }
+
+    /**
+     * Create publication access from an already-started pub-supervisor, the routing table maintained by its
+     * publisher and a topic extractor. Messages are published on the calling thread via the routing table once it is
+     * ready.
+     *
+     * @param pubSupervisor the pub-supervisor.
+     * @param routingTable the routing table of the publisher under the pub-supervisor.
+     * @param topicExtractor the topic extractor.
+     * @param <T> the type of messages.
+     * @return the publication access.
+     * @since 3.0.0
+     */
+    static <T extends SignalWithEntityId<?>> DistributedPub<T> of(final ActorRef pubSupervisor,
+            final PublisherRoutingTable routingTable,
+            final PubSubTopicExtractor<T> topicExtractor) {
+        return new DistributedPubImpl<>(pubSupervisor, routingTable, topicExtractor);
     }
 
 }
@@ -14,9 +14,12 @@ package org.eclipse.ditto.internal.utils.pubsub;
 
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
 import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
 import org.eclipse.ditto.internal.utils.pubsub.actors.Publisher;
+import org.eclipse.ditto.internal.utils.pubsub.actors.PublisherRoutingTable;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.PubSubTopicExtractor;
 
@@ -24,17 +27,21 @@ import akka.actor.ActorRef;
 
 /**
  * Package-private implementation of {@link DistributedPub} for publication access from an already-started
- * pub-supervisor and topic extractor.
+ * pub-supervisor and topic extractor. If the routing table of the publisher is available and ready, messages are
+ * published on the calling thread instead of through the publisher actor.
  *
  * @param <T> type of messages.
  */
 final class DistributedPubImpl<T extends SignalWithEntityId<?>> implements DistributedPub<T> {
 
     private final ActorRef pubSupervisor;
+    @Nullable private final PublisherRoutingTable routingTable;
     private final PubSubTopicExtractor<T> topicExtractor;
 
-    DistributedPubImpl(final ActorRef pubSupervisor, final PubSubTopicExtractor<T> topicExtractor) {
+    DistributedPubImpl(final ActorRef pubSupervisor, @Nullable final PublisherRoutingTable routingTable,
+            final PubSubTopicExtractor<T> topicExtractor) {
         this.pubSupervisor = pubSupervisor;
+        this.routingTable = routingTable;
         this.topicExtractor = topicExtractor;
     }
 
@@ -59,4 +66,39 @@ final class DistributedPubImpl<T extends SignalWithEntityId<?>> implements Distr
         }
     }
 
+    @Override
+    public void publish(final T message, @Nullable final ActorRef sender) {
+        if (isRoutingTableReady()) {
+            routingTable.publish(topicExtractor.getTopics(message), message, sender);
+        } else {
+            DistributedPub.super.publish(message, sender);
+        }
+    }
+
+    @Override
+    public void publishWithAcks(final T message, final AckExtractor<T> ackExtractor,
+            @Nullable final ActorRef sender) {
+
+        final Set<AcknowledgementRequest> ackRequests = ackExtractor.getAckRequests(message);
+        if (!isRoutingTableReady()) {
+            DistributedPub.super.publishWithAcks(message, ackExtractor, sender);
+        } else if (ackRequests.isEmpty()) {
+            routingTable.publish(topicExtractor.getTopics(message), message, sender);
+        } else {
+            routingTable.publishWithAck(topicExtractor.getTopics(message), message, ackRequests,
+                    ackExtractor.getEntityId(message), ackExtractor.getDittoHeaders(message), sender);
+        }
+    }
+
+    @Override
+    public <S extends SignalWithEntityId<?>> DistributedPub<S> withTopicExtractor(
+            final PubSubTopicExtractor<S> topicExtractor) {
+        return new DistributedPubImpl<>(pubSupervisor, routingTable, topicExtractor);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private boolean isRoutingTableReady() {
+        return routingTable != null && routingTable.isReady();
+    }
+
 }
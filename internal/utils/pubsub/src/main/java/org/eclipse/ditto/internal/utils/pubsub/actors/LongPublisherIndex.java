@@ -0,0 +1,533 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+
+import akka.actor.ActorRef;
+import akka.japi.Pair;
+
+/**
+ * Index for publishing to a set of subscribers with groups by approximated topic hashes.
+ * <p>
+ * Hashes are kept in open-addressing tables of primitive {@code long}s. Each hash maps to the pairs of interned
+ * subscriber ID and interned group ID subscribed to it, each with the number of subscriptions contributing the pair.
+ * The index is updated incrementally by adding and removing single subscriptions.
+ * <p>
+ * The hashes are spread over a fixed number of segments, each with its own table. A {@link #snapshot()} copies only
+ * the segments and interned values changed since the previous snapshot and shares all others with it, so that the
+ * cost of publishing a snapshot after each change is proportional to the change rather than to the whole index.
+ * <p>
+ * Not thread-safe. Use {@link #snapshot()} to read the index from other threads.
+ */
+final class LongPublisherIndex {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int INITIAL_SEGMENT_CAPACITY = 8;
+    private static final int INITIAL_INTERNER_CAPACITY = 16;
+    private static final String NO_GROUP = "";
+
+    private final Interner<ActorRef> subscribers = new Interner<>();
+    private final Interner<String> groups = new Interner<>();
+    private final int noGroupId;
+    private final Segment[] segments;
+
+    private int size;
+
+    LongPublisherIndex() {
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+        size = 0;
+        // the empty group is never released
+        noGroupId = groups.acquire(NO_GROUP);
+    }
+
+    /**
+     * Add a subscription of a subscriber to a topic hash.
+     *
+     * @param hash the approximated topic.
+     * @param subscriber the subscriber.
+     * @param group the group of the subscriber, or the empty string if it has none.
+     */
+    void add(final long hash, final ActorRef subscriber, final String group) {
+        final long pair = toPair(subscribers.acquire(subscriber), groups.acquire(group));
+        if (segmentOf(hash).add(hash, pair)) {
+            ++size;
+        }
+    }
+
+    /**
+     * Remove a subscription of a subscriber from a topic hash previously added by {@link #add(long, ActorRef, String)}.
+     *
+     * @param hash the approximated topic.
+     * @param subscriber the subscriber.
+     * @param group the group of the subscriber, or the empty string if it has none.
+     */
+    void remove(final long hash, final ActorRef subscriber, final String group) {
+        final int subscriberId = subscribers.idOf(subscriber);
+        final int groupId = groups.idOf(group);
+        if (subscriberId < 0 || groupId < 0) {
+            return;
+        }
+        final Segment segment = segmentOf(hash);
+        final int slot = segment.findSlot(hash);
+        final Entries entries = segment.values[slot];
+        if (entries == null) {
+            return;
+        }
+        final Entries remaining = entries.remove(toPair(subscriberId, groupId));
+        if (remaining != entries) {
+            subscribers.release(subscriberId);
+            groups.release(groupId);
+            if (remaining == null) {
+                segment.deleteSlot(slot);
+                --size;
+            } else {
+                segment.replace(slot, remaining);
+            }
+        }
+    }
+
+    /**
+     * @return the number of distinct topic hashes in this index.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Compute the subscribers to send a signal published at the given topic hashes to. Equivalent to
+     * {@link PublisherIndex#assignGroupsToSubscribers(SignalWithEntityId, java.util.Collection, Map)}.
+     *
+     * @param signal the signal to publish.
+     * @param hashes the approximated topics of the signal.
+     * @param chosenGroups the groups chosen by the previous publisher, or null if this is the first publisher.
+     * @return the subscribers with the signals to send to them.
+     */
+    List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final SignalWithEntityId<?> signal,
+            final long[] hashes,
+            @Nullable final Map<String, Integer> chosenGroups) {
+
+        return assignGroupsToSubscribers(signal, hashes, chosenGroups, hash -> segmentOf(hash).get(hash),
+                subscribers::valueOf, groups::valueOf, noGroupId);
+    }
+
+    /**
+     * Take an immutable snapshot of this index which is safe to read from any thread. The snapshot shares the
+     * immutable entries of this index and all segments and interned values unchanged since the previous snapshot.
+     *
+     * @return the snapshot.
+     */
+    Snapshot snapshot() {
+        final Table[] tables = new Table[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            tables[i] = segments[i].publish();
+        }
+        return new Snapshot(tables, subscribers.publish(), groups.publish(), noGroupId);
+    }
+
+    private Segment segmentOf(final long hash) {
+        return segments[segmentIndexOf(hash)];
+    }
+
+    private static int segmentIndexOf(final long hash) {
+        // the segment is chosen by the high bits, the slot within the segment by the low bits of the mixed hash
+        return mix(hash) >>> (Integer.SIZE - SEGMENT_BITS);
+    }
+
+    private static int findSlot(final long[] keys, final Entries[] values, final long hash) {
+        final int mask = keys.length - 1;
+        int slot = mix(hash) & mask;
+        while (values[slot] != null && keys[slot] != hash) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final SignalWithEntityId<?> signal,
+            final long[] hashes,
+            @Nullable final Map<String, Integer> chosenGroups,
+            final LongFunction<Entries> entriesOf,
+            final IntFunction<ActorRef> subscriberOf,
+            final IntFunction<String> groupOf,
+            final int noGroupId) {
+
+        final Map<String, List<ActorRef>> groupToSubscribers = new HashMap<>();
+        final Map<ActorRef, Map<String, Integer>> subscriberToChosenGroups = new HashMap<>();
+        for (final long hash : hashes) {
+            final Entries entries = entriesOf.apply(hash);
+            if (entries != null) {
+                for (int i = 0; i < entries.pairs.length; i++) {
+                    final ActorRef subscriber = subscriberOf.apply(subscriberIdOf(entries.pairs[i]));
+                    final int groupId = groupIdOf(entries.pairs[i]);
+                    if (groupId == noGroupId) {
+                        subscriberToChosenGroups.putIfAbsent(subscriber, new HashMap<>());
+                    } else {
+                        final String group = groupOf.apply(groupId);
+                        if (chosenGroups == null || chosenGroups.containsKey(group)) {
+                            groupToSubscribers.computeIfAbsent(group, g -> new ArrayList<>()).add(subscriber);
+                        }
+                    }
+                }
+            }
+        }
+
+        return PublisherIndex.chooseSubscribersOfGroups(signal, groupToSubscribers, subscriberToChosenGroups,
+                chosenGroups);
+    }
+
+    /**
+     * @return whether {@code home} lies in the cyclic interval {@code (hole, slot]}.
+     */
+    private static boolean isCyclicallyBetween(final int hole, final int home, final int slot) {
+        return hole <= slot ? hole < home && home <= slot : hole < home || home <= slot;
+    }
+
+    private static int mix(final long hash) {
+        final long h = hash * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long toPair(final int subscriberId, final int groupId) {
+        return ((long) subscriberId << 32) | (groupId & 0xFFFFFFFFL);
+    }
+
+    private static int subscriberIdOf(final long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    private static int groupIdOf(final long pair) {
+        return (int) pair;
+    }
+
+    /**
+     * Immutable snapshot of a {@link LongPublisherIndex} for publishing from any thread.
+     */
+    static final class Snapshot {
+
+        private static final Snapshot EMPTY = new LongPublisherIndex().snapshot();
+
+        private final Table[] tables;
+        private final Object[] subscribers;
+        private final Object[] groups;
+        private final int noGroupId;
+
+        private Snapshot(final Table[] tables, final Object[] subscribers, final Object[] groups,
+                final int noGroupId) {
+            this.tables = tables;
+            this.subscribers = subscribers;
+            this.groups = groups;
+            this.noGroupId = noGroupId;
+        }
+
+        /**
+         * @return the snapshot of an empty index.
+         */
+        static Snapshot empty() {
+            return EMPTY;
+        }
+
+        /**
+         * @return the subscribers with any subscription at the time of the snapshot.
+         */
+        Set<ActorRef> getSubscribers() {
+            final Set<ActorRef> result = new HashSet<>();
+            for (final Object subscriber : subscribers) {
+                if (subscriber != null) {
+                    result.add((ActorRef) subscriber);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * @param other another snapshot of the same index.
+         * @return whether no subscriber was added or removed between both snapshots.
+         */
+        boolean hasSameSubscribers(final Snapshot other) {
+            return subscribers == other.subscribers;
+        }
+
+        /**
+         * Same as {@link LongPublisherIndex#assignGroupsToSubscribers(SignalWithEntityId, long[], Map)} at the
+         * time of the snapshot.
+         *
+         * @param signal the signal to publish.
+         * @param hashes the approximated topics of the signal.
+         * @param chosenGroups the groups chosen by the previous publisher, or null if this is the first publisher.
+         * @return the subscribers with the signals to send to them.
+         */
+        List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final SignalWithEntityId<?> signal,
+                final long[] hashes,
+                @Nullable final Map<String, Integer> chosenGroups) {
+
+            return LongPublisherIndex.assignGroupsToSubscribers(signal, hashes, chosenGroups,
+                    hash -> tables[segmentIndexOf(hash)].get(hash), id -> (ActorRef) subscribers[id],
+                    id -> (String) groups[id], noGroupId);
+        }
+    }
+
+    /**
+     * Immutable hash table of one segment as published in a snapshot.
+     */
+    private static final class Table {
+
+        private final long[] keys;
+        private final Entries[] values;
+
+        private Table(final long[] keys, final Entries[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Nullable
+        private Entries get(final long hash) {
+            return values[findSlot(keys, values, hash)];
+        }
+    }
+
+    /**
+     * Mutable hash table of the hashes of one segment which remembers its last published copy until it changes.
+     */
+    private static final class Segment {
+
+        private long[] keys = new long[INITIAL_SEGMENT_CAPACITY];
+        private Entries[] values = new Entries[INITIAL_SEGMENT_CAPACITY];
+        private int size = 0;
+        @Nullable private Table published = null;
+
+        @Nullable
+        private Entries get(final long hash) {
+            return values[findSlot(hash)];
+        }
+
+        /**
+         * @return whether the hash was new to this segment.
+         */
+        private boolean add(final long hash, final long pair) {
+            published = null;
+            final int slot = findSlot(hash);
+            if (values[slot] == null) {
+                keys[slot] = hash;
+                values[slot] = Entries.of(pair);
+                if (++size > keys.length / 2) {
+                    resize(keys.length * 2);
+                }
+                return true;
+            } else {
+                values[slot] = values[slot].add(pair);
+                return false;
+            }
+        }
+
+        private void replace(final int slot, final Entries entries) {
+            published = null;
+            values[slot] = entries;
+        }
+
+        private void deleteSlot(final int deletedSlot) {
+            published = null;
+            // backward-shift deletion keeps every probe sequence free of holes without tombstones
+            final int mask = keys.length - 1;
+            int hole = deletedSlot;
+            int slot = deletedSlot;
+            while (true) {
+                slot = (slot + 1) & mask;
+                if (values[slot] == null) {
+                    break;
+                }
+                final int home = mix(keys[slot]) & mask;
+                if (!isCyclicallyBetween(hole, home, slot)) {
+                    keys[hole] = keys[slot];
+                    values[hole] = values[slot];
+                    hole = slot;
+                }
+            }
+            keys[hole] = 0L;
+            values[hole] = null;
+            --size;
+        }
+
+        private Table publish() {
+            if (published == null) {
+                published = new Table(keys.clone(), values.clone());
+            }
+            return published;
+        }
+
+        private int findSlot(final long hash) {
+            return LongPublisherIndex.findSlot(keys, values, hash);
+        }
+
+        private void resize(final int capacity) {
+            final long[] oldKeys = keys;
+            final Entries[] oldValues = values;
+            keys = new long[capacity];
+            values = new Entries[capacity];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    final int slot = findSlot(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Immutable pairs of subscriber ID and group ID subscribed to one hash, each with its subscription count.
+     */
+    private static final class Entries {
+
+        private final long[] pairs;
+        private final int[] counts;
+
+        private Entries(final long[] pairs, final int[] counts) {
+            this.pairs = pairs;
+            this.counts = counts;
+        }
+
+        private static Entries of(final long pair) {
+            return new Entries(new long[]{pair}, new int[]{1});
+        }
+
+        private Entries add(final long pair) {
+            final int i = indexOf(pair);
+            if (i >= 0) {
+                final int[] newCounts = counts.clone();
+                newCounts[i]++;
+                return new Entries(pairs, newCounts);
+            } else {
+                final long[] newPairs = Arrays.copyOf(pairs, pairs.length + 1);
+                final int[] newCounts = Arrays.copyOf(counts, counts.length + 1);
+                newPairs[pairs.length] = pair;
+                newCounts[counts.length] = 1;
+                return new Entries(newPairs, newCounts);
+            }
+        }
+
+        /**
+         * @return this object if the pair is absent, null if nothing remains, or the remaining entries.
+         */
+        @Nullable
+        private Entries remove(final long pair) {
+            final int i = indexOf(pair);
+            if (i < 0) {
+                return this;
+            } else if (counts[i] > 1) {
+                final int[] newCounts = counts.clone();
+                newCounts[i]--;
+                return new Entries(pairs, newCounts);
+            } else if (pairs.length == 1) {
+                return null;
+            } else {
+                final long[] newPairs = new long[pairs.length - 1];
+                final int[] newCounts = new int[counts.length - 1];
+                System.arraycopy(pairs, 0, newPairs, 0, i);
+                System.arraycopy(pairs, i + 1, newPairs, i, pairs.length - i - 1);
+                System.arraycopy(counts, 0, newCounts, 0, i);
+                System.arraycopy(counts, i + 1, newCounts, i, counts.length - i - 1);
+                return new Entries(newPairs, newCounts);
+            }
+        }
+
+        private int indexOf(final long pair) {
+            for (int i = 0; i < pairs.length; i++) {
+                if (pairs[i] == pair) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Assigns reference-counted dense integer IDs to values and reuses IDs of released values. Remembers its last
+     * published values until a value is added or released.
+     *
+     * @param <T> the type of values.
+     */
+    private static final class Interner<T> {
+
+        private final Map<T, Integer> ids = new HashMap<>();
+        private final List<T> valuesById = new ArrayList<>();
+        private final List<Integer> freeIds = new ArrayList<>();
+        private int[] referenceCounts = new int[INITIAL_INTERNER_CAPACITY];
+        @Nullable private Object[] published = null;
+
+        private int acquire(final T value) {
+            final Integer existingId = ids.get(value);
+            final int id;
+            if (existingId != null) {
+                id = existingId;
+            } else if (!freeIds.isEmpty()) {
+                published = null;
+                id = freeIds.remove(freeIds.size() - 1);
+                valuesById.set(id, value);
+                ids.put(value, id);
+            } else {
+                published = null;
+                id = valuesById.size();
+                valuesById.add(value);
+                ids.put(value, id);
+                if (id >= referenceCounts.length) {
+                    referenceCounts = Arrays.copyOf(referenceCounts, referenceCounts.length * 2);
+                }
+            }
+            referenceCounts[id]++;
+            return id;
+        }
+
+        private void release(final int id) {
+            if (--referenceCounts[id] == 0) {
+                published = null;
+                ids.remove(valuesById.get(id));
+                valuesById.set(id, null);
+                freeIds.add(id);
+            }
+        }
+
+        private int idOf(final T value) {
+            final Integer id = ids.get(value);
+            return id == null ? -1 : id;
+        }
+
+        private T valueOf(final int id) {
+            return valuesById.get(id);
+        }
+
+        private Object[] publish() {
+            if (published == null) {
+                published = valuesById.toArray();
+            }
+            return published;
+        }
+    }
+
+}
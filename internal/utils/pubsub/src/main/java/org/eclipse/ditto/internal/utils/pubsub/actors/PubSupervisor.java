@@ -50,15 +50,18 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
 
     private final DData<ActorRef, ?, ?> ddata;
     private final DistributedAcks distributedAcks;
+    private final PublisherRoutingTable routingTable;
 
     @Nullable private ActorRef publisher;
     @Nullable private ActorRef updater;
 
     @SuppressWarnings("unused")
-    private PubSupervisor(final DData<ActorRef, ?, ?> ddata, final DistributedAcks distributedAcks) {
+    private PubSupervisor(final DData<ActorRef, ?, ?> ddata, final DistributedAcks distributedAcks,
+            final PublisherRoutingTable routingTable) {
         super();
         this.ddata = ddata;
         this.distributedAcks = distributedAcks;
+        this.routingTable = routingTable;
     }
 
     /**
@@ -66,10 +69,12 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
      *
      * @param ddata read-write access to the distributed data.
      * @param distributedAcks access to the declared ack labels ddata.
+     * @param routingTable the routing table for the publisher to maintain.
      * @return the Props object.
      */
-    public static Props props(final DData<ActorRef, ?, ?> ddata, final DistributedAcks distributedAcks) {
-        return Props.create(PubSupervisor.class, ddata, distributedAcks);
+    public static Props props(final DData<ActorRef, ?, ?> ddata, final DistributedAcks distributedAcks,
+            final PublisherRoutingTable routingTable) {
+        return Props.create(PubSupervisor.class, ddata, distributedAcks, routingTable);
     }
 
     @Override
@@ -89,7 +94,8 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
     @Override
     protected void startChildren() {
         updater = startChild(PubUpdater.props(ddata.getWriter()), PubUpdater.ACTOR_NAME_PREFIX);
-        publisher = startChild(Publisher.props(ddata.getReader(), distributedAcks), Publisher.ACTOR_NAME_PREFIX);
+        publisher = startChild(Publisher.props(ddata.getReader(), distributedAcks, routingTable),
+                Publisher.ACTOR_NAME_PREFIX);
     }
 
     private boolean isPublisherAvailable() {
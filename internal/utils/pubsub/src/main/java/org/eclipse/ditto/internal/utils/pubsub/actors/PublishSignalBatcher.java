@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignals;
+import org.eclipse.ditto.internal.utils.pubsub.config.PubSubConfig;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Scheduler;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import scala.concurrent.ExecutionContext;
+
+/**
+ * Sends {@link PublishSignal}s to subscribers. Signals to remote subscribers are collected per subscriber into
+ * {@link PublishSignals} batches, which are sent when they reach the configured number of signals or serialized
+ * bytes, or when the configured window since the first signal of the batch elapses. Signals to local subscribers
+ * are sent directly.
+ * The window is scheduled with the Akka scheduler and is therefore at least one scheduler tick long.
+ */
+@ThreadSafe
+final class PublishSignalBatcher {
+
+    private final Serialization serialization;
+    private final Predicate<ActorRef> isRemote;
+    private final int maxSize;
+    private final long maxBytes;
+    private final Duration window;
+    private final Scheduler scheduler;
+    private final ExecutionContext executionContext;
+    private final Map<ActorRef, Batch> batches = new ConcurrentHashMap<>();
+
+    private final Histogram batchSizeHistogram = DittoMetrics.histogram("pubsub-publish-batch-size");
+    private final Counter sentBatchesCounter = DittoMetrics.counter("pubsub-sent-batches");
+
+    PublishSignalBatcher(final Serialization serialization,
+            final Predicate<ActorRef> isRemote,
+            final int maxSize,
+            final long maxBytes,
+            final Duration window,
+            final Scheduler scheduler,
+            final ExecutionContext executionContext) {
+
+        this.serialization = serialization;
+        this.isRemote = isRemote;
+        this.maxSize = maxSize;
+        this.maxBytes = maxBytes;
+        this.window = window;
+        this.scheduler = scheduler;
+        this.executionContext = executionContext;
+    }
+
+    /**
+     * Create a batcher for the publisher of an actor system according to its pub-sub config.
+     *
+     * @param system the actor system.
+     * @return the batcher.
+     */
+    static PublishSignalBatcher of(final ActorSystem system) {
+        final PubSubConfig config = PubSubConfig.of(system);
+        return new PublishSignalBatcher(SerializationExtension.get(system),
+                subscriber -> !subscriber.path().address().hasLocalScope(), config.getPublishBatchSize(),
+                config.getPublishBatchBytes(), config.getPublishBatchWindow(), system.scheduler(),
+                system.dispatcher());
+    }
+
+    /**
+     * Send a publish signal to a subscriber, possibly batched with other signals to the same subscriber.
+     *
+     * @param subscriber the subscriber.
+     * @param publishSignal the publish signal.
+     * @param sender the sender of the publish signal.
+     */
+    void send(final ActorRef subscriber, final PublishSignal publishSignal, @Nullable final ActorRef sender) {
+        if (maxSize <= 1 || !isRemote.test(subscriber)) {
+            subscriber.tell(publishSignal, sender);
+        } else {
+            batches.computeIfAbsent(subscriber, Batch::new).add(publishSignal, sender);
+        }
+    }
+
+    /**
+     * Stop tracking batches of subscribers no longer subscribed to anything. Their pending signals are sent.
+     *
+     * @param subscribers the current subscribers.
+     */
+    void retainSubscribers(final Collection<ActorRef> subscribers) {
+        batches.entrySet().removeIf(entry -> {
+            if (!subscribers.contains(entry.getKey())) {
+                entry.getValue().flush();
+                return true;
+            } else {
+                return false;
+            }
+        });
+    }
+
+    private final class Batch {
+
+        private final ActorRef subscriber;
+
+        @GuardedBy("this") private List<PublishSignal> publishSignals = new ArrayList<>();
+        @GuardedBy("this") private List<PublishSignals.Entry> entries = new ArrayList<>();
+        @GuardedBy("this") private long bytes = 0L;
+        @GuardedBy("this") private long generation = 0L;
+
+        private Batch(final ActorRef subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private synchronized void add(final PublishSignal publishSignal, @Nullable final ActorRef sender) {
+            final PublishSignals.Entry entry = PublishSignals.Entry.of(serialization, publishSignal, sender);
+            if (!entries.isEmpty() && bytes + entry.getSize() > maxBytes) {
+                flush();
+            }
+            publishSignals.add(publishSignal);
+            entries.add(entry);
+            bytes += entry.getSize();
+            if (entries.size() >= maxSize || bytes >= maxBytes) {
+                flush();
+            } else if (entries.size() == 1) {
+                final long scheduledGeneration = generation;
+                scheduler.scheduleOnce(window, () -> flushGeneration(scheduledGeneration), executionContext);
+            }
+        }
+
+        private synchronized void flushGeneration(final long scheduledGeneration) {
+            if (generation == scheduledGeneration) {
+                flush();
+            }
+        }
+
+        private synchronized void flush() {
+            if (entries.size() == 1) {
+                // a single signal is sent as is, unwrapped
+                subscriber.tell(publishSignals.get(0), entries.get(0).getSender());
+            } else if (!entries.isEmpty()) {
+                subscriber.tell(PublishSignals.of(entries), ActorRef.noSender());
+            }
+            if (!entries.isEmpty()) {
+                batchSizeHistogram.record((long) entries.size());
+                sentBatchesCounter.increment();
+                publishSignals = new ArrayList<>();
+                entries = new ArrayList<>();
+                bytes = 0L;
+                ++generation;
+            }
+        }
+    }
+
+}
@@ -14,27 +14,22 @@ package org.eclipse.ditto.internal.utils.pubsub.actors;
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
 
-import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
 import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
-import org.eclipse.ditto.base.model.signals.acks.Acknowledgements;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
-import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
-import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedAcks;
-import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
 import org.eclipse.ditto.internal.utils.pubsub.api.RemoteAcksChanged;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
-import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
@@ -44,12 +39,12 @@ import akka.actor.Props;
 import akka.cluster.ddata.Key;
 import akka.cluster.ddata.ORMultiMap;
 import akka.cluster.ddata.Replicator;
-import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 import scala.jdk.javaapi.CollectionConverters;
 
 /**
  * Publishes messages according to topic distributed data.
+ * Maintains a {@link PublisherRoutingTable} with which messages can also be published without this actor.
  */
 public final class Publisher extends AbstractActor {
 
@@ -60,19 +55,16 @@ public final class Publisher extends AbstractActor {
 
     private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
 
-    private final DDataReader<ActorRef, String> ddataReader;
-
-    private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
-    private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
-    private final Counter sentMessagesCounter = DittoMetrics.counter("pubsub-sent-messages");
-    private final Map<Key<?>, PublisherIndex<Long>> publisherIndexes = new HashMap<>();
-
-    private PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
-    private RemoteAcksChanged remoteAcks = RemoteAcksChanged.of(Map.of());
+    private final PublisherRoutingTable routingTable;
+    private final Map<Key<?>, Map<ActorRef, scala.collection.immutable.Set<String>>> ddataEntries = new HashMap<>();
+    private final LongPublisherIndex publisherIndex = new LongPublisherIndex();
 
     @SuppressWarnings("unused")
-    private Publisher(final DDataReader<ActorRef, String> ddataReader, final DistributedAcks distributedAcks) {
-        this.ddataReader = ddataReader;
+    private Publisher(final DDataReader<ActorRef, String> ddataReader, final DistributedAcks distributedAcks,
+            final PublisherRoutingTable routingTable) {
+        this.routingTable = routingTable;
+        // the index of this actor starts empty; publish via this actor until the first subscriptions arrive
+        routingTable.reset();
         ddataReader.receiveChanges(getSelf());
         distributedAcks.receiveDistributedDeclaredAcks(getSelf());
     }
@@ -83,11 +75,13 @@ public final class Publisher extends AbstractActor {
      * @param <T> representation of topics in the distributed data.
      * @param ddataReader reader of remote subscriptions.
      * @param distributedAcks access to the declared ack labels ddata.
+     * @param routingTable the routing table to keep up to date for publishing without this actor.
      * @return a Props object.
      */
-    public static <T> Props props(final DDataReader<ActorRef, T> ddataReader, final DistributedAcks distributedAcks) {
+    public static <T> Props props(final DDataReader<ActorRef, T> ddataReader, final DistributedAcks distributedAcks,
+            final PublisherRoutingTable routingTable) {
 
-        return Props.create(Publisher.class, ddataReader, distributedAcks);
+        return Props.create(Publisher.class, ddataReader, distributedAcks, routingTable);
     }
 
     /**
@@ -133,77 +127,82 @@ public final class Publisher extends AbstractActor {
     }
 
     private void publish(final Publish publish) {
-        doPublish(publish.topics, publish.message);
+        routingTable.publish(publish.topics, publish.message, getSender());
     }
 
     private void publishWithAck(final PublishWithAck publishWithAck) {
-        final List<Pair<ActorRef, PublishSignal>> subscribers =
-                doPublish(publishWithAck.topics, publishWithAck.message);
-
-        final Set<String> subscriberDeclaredAcks = subscribers.stream()
-                .flatMap(pair -> {
-                    final ActorRef subscriber = pair.first();
-                    final Set<String> groups = pair.second().getGroups().keySet();
-                    return remoteAcks.streamDeclaredAcksForGroup(subscriber.path().address(), groups);
-                })
-                .collect(Collectors.toSet());
-
-        final Collection<AcknowledgementLabel> requestedCustomAcks =
-                AckExtractor.getRequestedAndDeclaredCustomAcks(publishWithAck.ackRequests, remoteAcks::contains);
-
-        final List<AcknowledgementLabel> labelsWithoutAuthorizedSubscribers = requestedCustomAcks.stream()
-                .filter(label -> !subscriberDeclaredAcks.contains(label.toString()))
-                .toList();
-
-        if (!labelsWithoutAuthorizedSubscribers.isEmpty()) {
-            getSender().tell(publishWithAck.toWeakAcks(labelsWithoutAuthorizedSubscribers), ActorRef.noSender());
-        }
-    }
-
-    private List<Pair<ActorRef, PublishSignal>> doPublish(final Collection<String> topics,
-            final SignalWithEntityId<?> signal) {
-        messageCounter.increment();
-        topicCounter.increment(topics.size());
-        final List<Long> hashes = topics.stream().map(ddataReader::approximate).toList();
-        final ActorRef sender = getSender();
-
-        final List<Pair<ActorRef, PublishSignal>> subscribers =
-                publisherIndex.assignGroupsToSubscribers(signal, hashes);
-        final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(signal);
-        if (l.isDebugEnabled()) {
-            l.debug("Calculated hashes for signal <{}>: <{}>", signal, hashes);
-            l.debug("Publishing PublishSignal to subscribers: <{}>",
-                    subscribers.stream().map(Pair::first).toList());
-        }
-        sentMessagesCounter.increment(subscribers.size());
-        subscribers.forEach(pair -> pair.first().tell(pair.second(), sender));
-        return subscribers;
+        routingTable.publishWithAck(publishWithAck.topics, publishWithAck.message, publishWithAck.ackRequests,
+                publishWithAck.entityId, publishWithAck.dittoHeaders, getSender());
     }
 
     private void declaredAcksChanged(final RemoteAcksChanged event) {
-        remoteAcks = event;
+        routingTable.updateRemoteAcks(event);
     }
 
     private void topicSubscribersChanged(final Replicator.Changed<?> event) {
-        final Map<ActorRef, scala.collection.immutable.Set<String>> mmap =
+        final Map<ActorRef, scala.collection.immutable.Set<String>> newEntries =
                 CollectionConverters.asJava(((ORMultiMap<ActorRef, String>) event.dataValue()).entries());
-        final Map<ActorRef, List<Grouped<Long>>> deserializedMMap = mmap.entrySet()
-                .stream()
-                .map(entry -> Pair.create(entry.getKey(), deserializeGroupedHashes(entry.getValue())))
-                .collect(Collectors.toMap(Pair::first, Pair::second));
-        final PublisherIndex<Long> thePublisherIndex = PublisherIndex.fromDeserializedMMap(deserializedMMap);
-        publisherIndexes.put(event.key(), thePublisherIndex);
-        publisherIndex = PublisherIndex.fromMultipleIndexes(publisherIndexes.values());
+        final Map<ActorRef, scala.collection.immutable.Set<String>> oldEntries =
+                ddataEntries.getOrDefault(event.key(), Map.of());
+        // apply only the subscriptions which changed since the last update of this key
+        oldEntries.forEach((subscriber, oldSet) -> {
+            final scala.collection.immutable.Set<String> newSet = newEntries.get(subscriber);
+            if (newSet != oldSet) {
+                updateIndex(subscriber, oldSet, newSet);
+            }
+        });
+        newEntries.forEach((subscriber, newSet) -> {
+            if (!oldEntries.containsKey(subscriber)) {
+                updateIndex(subscriber, null, newSet);
+            }
+        });
+        ddataEntries.put(event.key(), newEntries);
+        routingTable.update(publisherIndex.snapshot());
+    }
+
+    private void updateIndex(final ActorRef subscriber,
+            @Nullable final scala.collection.immutable.Set<String> oldSet,
+            @Nullable final scala.collection.immutable.Set<String> newSet) {
+
+        // a changed subscription of a local subscriber replaces its whole grouped topics;
+        // net the removed and the added grouped topics so that only the changed hashes touch the index
+        final Map<String, Map<Long, Integer>> netChanges = new HashMap<>();
+        if (oldSet != null) {
+            forEachMissing(oldSet, newSet, grouped -> addNetChanges(netChanges, grouped, -1));
+        }
+        if (newSet != null) {
+            forEachMissing(newSet, oldSet, grouped -> addNetChanges(netChanges, grouped, 1));
+        }
+        netChanges.forEach((group, hashToChange) -> hashToChange.forEach((hash, change) -> {
+            for (int i = 0; i < change; i++) {
+                publisherIndex.add(hash, subscriber, group);
+            }
+            for (int i = 0; i > change; i--) {
+                publisherIndex.remove(hash, subscriber, group);
+            }
+        }));
+    }
+
+    private static void addNetChanges(final Map<String, Map<Long, Integer>> netChanges, final Grouped<Long> grouped,
+            final int change) {
+        final Map<Long, Integer> hashToChange =
+                netChanges.computeIfAbsent(grouped.getGroup().orElse(""), group -> new HashMap<>());
+        for (final Long hash : grouped.getValues()) {
+            hashToChange.merge(hash, change, Integer::sum);
+        }
     }
 
     private void logUnhandled(final Object message) {
         log.warning("Unhandled: <{}>", message);
     }
 
-    private static List<Grouped<Long>> deserializeGroupedHashes(final scala.collection.immutable.Set<String> strings) {
-        return CollectionConverters.asJava(strings).stream()
+    private static void forEachMissing(final scala.collection.immutable.Set<String> strings,
+            @Nullable final scala.collection.immutable.Set<String> otherStrings,
+            final Consumer<Grouped<Long>> consumer) {
+        CollectionConverters.asJava(strings).stream()
+                .filter(string -> otherStrings == null || !otherStrings.contains(string))
                 .map(string -> Grouped.fromJson(JsonObject.of(string), JsonValue::asLong))
-                .toList();
+                .forEach(consumer);
     }
 
     /**
@@ -231,9 +230,6 @@ public final class Publisher extends AbstractActor {
      */
     private static final class PublishWithAck implements Request {
 
-        private static final AckExtractor<PublishWithAck> ACK_EXTRACTOR =
-                AckExtractor.of(p -> p.entityId, p -> p.dittoHeaders);
-
         private final Collection<String> topics;
         private final SignalWithEntityId<?> message;
         private final Set<AcknowledgementRequest> ackRequests;
@@ -251,9 +247,5 @@ public final class Publisher extends AbstractActor {
             this.entityId = entityId;
             this.dittoHeaders = dittoHeaders;
         }
-
-        private Acknowledgements toWeakAcks(final Collection<AcknowledgementLabel> ackLabels) {
-            return ACK_EXTRACTOR.toWeakAcknowledgements(this, ackLabels);
-        }
     }
 }
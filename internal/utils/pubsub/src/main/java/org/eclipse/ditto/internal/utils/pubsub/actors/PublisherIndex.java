@@ -29,7 +29,6 @@ import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
 import org.eclipse.ditto.internal.utils.pubsub.PubSubFactory;
 import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.SubscriptionsReader;
-import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
 
 import akka.actor.ActorRef;
 import akka.japi.Pair;
@@ -56,33 +55,6 @@ final class PublisherIndex<T> {
         return new PublisherIndex<>(Map.of(), Map.of());
     }
 
-    static <T> PublisherIndex<T> fromMultipleIndexes(final Collection<PublisherIndex<T>> indexes) {
-        final Map<T, Map<ActorRef, Set<String>>> combinedIndex = new HashMap<>();
-        indexes.stream()
-                .map(p -> p.index)
-                .forEach(index -> index.forEach((t, map) ->
-                                combinedIndex.compute(t, (theT, existingMap) -> {
-                                    final Map<ActorRef, Set<String>> nonNullMap = existingMap == null ? new HashMap<>() :
-                                            existingMap;
-                                    nonNullMap.putAll(map);
-                                    return nonNullMap;
-                                })
-                        )
-                );
-
-        return new PublisherIndex<>(combinedIndex, Map.of());
-    }
-
-    static PublisherIndex<Long> fromDeserializedMMap(final Map<ActorRef, List<Grouped<Long>>> mmap) {
-        final Map<Long, Map<ActorRef, Set<String>>> index = new HashMap<>();
-        mmap.forEach((subscriber, groupedList) ->
-                groupedList.forEach(grouped -> grouped.getValues()
-                        .forEach(computeIndex(index, subscriber, grouped.getGroup().orElse("")))
-                ));
-
-        return new PublisherIndex<>(index, Map.of());
-    }
-
     static PublisherIndex<String> fromSubscriptionsReader(final SubscriptionsReader reader) {
         final Map<String, Map<ActorRef, Set<String>>> index = new HashMap<>();
         final Map<ActorRef, Predicate<Collection<String>>> filterMap = new HashMap<>();
@@ -123,7 +95,24 @@ final class PublisherIndex<T> {
                 }
             });
         }
-        // choose a subscriber for each group consistently according to the entity ID of the signal
+
+        return chooseSubscribersOfGroups(signal, groupToSubscribers, subscriberToChosenGroups, chosenGroups);
+    }
+
+    /**
+     * Choose a subscriber for each group consistently according to the entity ID of the signal.
+     *
+     * @param signal the signal to publish.
+     * @param groupToSubscribers the subscribers of each group; the lists are sorted in place.
+     * @param subscriberToChosenGroups the subscribers allotted so far with their chosen groups; modified in place.
+     * @param chosenGroups the groups chosen by the previous publisher, or null if this is the first publisher.
+     * @return the subscribers with the signals to send to them.
+     */
+    static List<Pair<ActorRef, PublishSignal>> chooseSubscribersOfGroups(final SignalWithEntityId<?> signal,
+            final Map<String, List<ActorRef>> groupToSubscribers,
+            final Map<ActorRef, Map<String, Integer>> subscriberToChosenGroups,
+            @Nullable final Map<String, Integer> chosenGroups) {
+
         final int entityIdHash = PubSubFactory.hashForPubSub(signal.getEntityId());
         groupToSubscribers.forEach((group, subscribers) -> {
             subscribers.sort(ActorRef::compareTo);
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.internal.utils.pubsub.api.RemoteAcksChanged;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataReader;
+import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+
+/**
+ * Routing table of a {@link Publisher} which can be read concurrently from any thread.
+ * <p>
+ * The publisher actor maintains the subscriptions and the declared acknowledgement labels from the distributed data
+ * and replaces the immutable snapshot of its index here after each change. Callers publish by reading the current
+ * snapshot and sending {@link PublishSignal}s to the subscribers directly, without passing through the mailbox of
+ * the publisher actor. Signals to remote subscribers are batched per subscriber by a {@link PublishSignalBatcher}.
+ *
+ * @since 3.0.0
+ */
+public final class PublisherRoutingTable {
+
+    private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(Publisher.class);
+
+    private static final AckExtractor<Pair<EntityId, DittoHeaders>> ACK_EXTRACTOR =
+            AckExtractor.of(Pair::first, Pair::second);
+
+    private final DDataReader<ActorRef, ?> ddataReader;
+    private final PublishSignalBatcher batcher;
+
+    private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
+    private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
+    private final Counter sentMessagesCounter = DittoMetrics.counter("pubsub-sent-messages");
+
+    private volatile LongPublisherIndex.Snapshot snapshot = LongPublisherIndex.Snapshot.empty();
+    private volatile RemoteAcksChanged remoteAcks = RemoteAcksChanged.of(Map.of());
+    private volatile boolean ready = false;
+
+    private PublisherRoutingTable(final DDataReader<ActorRef, ?> ddataReader, final PublishSignalBatcher batcher) {
+        this.ddataReader = ddataReader;
+        this.batcher = batcher;
+    }
+
+    /**
+     * Create an empty routing table. It becomes ready after its publisher actor received the first subscriptions.
+     *
+     * @param system the actor system to publish in.
+     * @param ddataReader reader of remote subscriptions to approximate topics with.
+     * @return the routing table.
+     */
+    public static PublisherRoutingTable of(final ActorSystem system, final DDataReader<ActorRef, ?> ddataReader) {
+        return new PublisherRoutingTable(ddataReader, PublishSignalBatcher.of(system));
+    }
+
+    /**
+     * Check whether the publisher actor has populated this routing table. Until then, messages should be sent to
+     * the publisher actor.
+     *
+     * @return whether the routing table is ready.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Publish a message to all subscribers of its topics on the calling thread.
+     *
+     * @param topics the topics to publish at.
+     * @param message the message to publish.
+     * @param sender reply address for all subscribers who receive this message.
+     * @return the subscribers the message was sent to.
+     */
+    public List<Pair<ActorRef, PublishSignal>> publish(final Collection<String> topics,
+            final SignalWithEntityId<?> message,
+            @Nullable final ActorRef sender) {
+
+        final List<Pair<ActorRef, PublishSignal>> subscribers = route(topics, message);
+        sentMessagesCounter.increment(subscribers.size());
+        subscribers.forEach(pair -> batcher.send(pair.first(), pair.second(), sender));
+        return subscribers;
+    }
+
+    /**
+     * Publish a message with requested acknowledgements on the calling thread. Weak acknowledgements are sent to
+     * the sender for requested labels without any authorized subscriber.
+     *
+     * @param topics the topics to publish at.
+     * @param message the message to publish.
+     * @param ackRequests acknowledgement requests of the message.
+     * @param entityId entity ID of the message.
+     * @param dittoHeaders the Ditto headers of any weak acknowledgements to send back.
+     * @param sender the sender of the message and the receiver of acknowledgements.
+     */
+    public void publishWithAck(final Collection<String> topics,
+            final SignalWithEntityId<?> message,
+            final Set<AcknowledgementRequest> ackRequests,
+            final EntityId entityId,
+            final DittoHeaders dittoHeaders,
+            @Nullable final ActorRef sender) {
+
+        final List<Pair<ActorRef, PublishSignal>> subscribers = publish(topics, message, sender);
+        final RemoteAcksChanged currentRemoteAcks = remoteAcks;
+
+        final Set<String> subscriberDeclaredAcks = subscribers.stream()
+                .flatMap(pair -> {
+                    final ActorRef subscriber = pair.first();
+                    final Set<String> groups = pair.second().getGroups().keySet();
+                    return currentRemoteAcks.streamDeclaredAcksForGroup(subscriber.path().address(), groups);
+                })
+                .collect(Collectors.toSet());
+
+        final Collection<AcknowledgementLabel> requestedCustomAcks =
+                AckExtractor.getRequestedAndDeclaredCustomAcks(ackRequests, currentRemoteAcks::contains);
+
+        final List<AcknowledgementLabel> labelsWithoutAuthorizedSubscribers = requestedCustomAcks.stream()
+                .filter(label -> !subscriberDeclaredAcks.contains(label.toString()))
+                .toList();
+
+        if (!labelsWithoutAuthorizedSubscribers.isEmpty() && sender != null) {
+            sender.tell(ACK_EXTRACTOR.toWeakAcknowledgements(Pair.create(entityId, dittoHeaders),
+                    labelsWithoutAuthorizedSubscribers), ActorRef.noSender());
+        }
+    }
+
+    /**
+     * Compute the subscribers of a message without sending it.
+     *
+     * @param topics the topics to publish at.
+     * @param message the message to publish.
+     * @return the subscribers with the signals to send to them.
+     */
+    List<Pair<ActorRef, PublishSignal>> route(final Collection<String> topics, final SignalWithEntityId<?> message) {
+        messageCounter.increment();
+        topicCounter.increment(topics.size());
+        final long[] hashes = topics.stream().mapToLong(ddataReader::approximate).toArray();
+        final List<Pair<ActorRef, PublishSignal>> subscribers =
+                snapshot.assignGroupsToSubscribers(message, hashes, null);
+        final ThreadSafeDittoLogger l = LOGGER.withCorrelationId(message);
+        if (l.isDebugEnabled()) {
+            l.debug("Calculated hashes for signal <{}>: <{}>", message, Arrays.toString(hashes));
+            l.debug("Publishing PublishSignal to subscribers: <{}>",
+                    subscribers.stream().map(Pair::first).toList());
+        }
+        return subscribers;
+    }
+
+    /**
+     * Replace the subscriptions of this routing table and mark it as ready.
+     *
+     * @param newSnapshot the snapshot of the publisher index.
+     */
+    void update(final LongPublisherIndex.Snapshot newSnapshot) {
+        final LongPublisherIndex.Snapshot oldSnapshot = snapshot;
+        snapshot = newSnapshot;
+        ready = true;
+        if (!newSnapshot.hasSameSubscribers(oldSnapshot)) {
+            batcher.retainSubscribers(newSnapshot.getSubscribers());
+        }
+    }
+
+    /**
+     * Replace the declared acknowledgement labels of remote subscribers.
+     *
+     * @param newRemoteAcks the declared acknowledgement labels.
+     */
+    void updateRemoteAcks(final RemoteAcksChanged newRemoteAcks) {
+        remoteAcks = newRemoteAcks;
+    }
+
+    /**
+     * Forget all subscriptions, e.g. when the publisher actor restarts with an empty index.
+     */
+    void reset() {
+        ready = false;
+        snapshot = LongPublisherIndex.Snapshot.empty();
+    }
+
+}
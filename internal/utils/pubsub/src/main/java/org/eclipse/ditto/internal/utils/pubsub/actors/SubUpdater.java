@@ -98,8 +98,13 @@ public final class SubUpdater extends akka.actor.AbstractActorWithTimers
      * Whether local subscriptions changed.
      */
     private boolean localSubscriptionsChanged = false;
+
+    /**
+     * Whether the next update must replace all subscriptions of this cluster member in the distributed data, because
+     * the distributed data may not contain the previously exported changes.
+     */
+    private boolean resetRequired = false;
     private int seqNr = 0;
-    private LiteralUpdate previousUpdate = LiteralUpdate.empty();
     private int errorCounter = 0;
 
     @SuppressWarnings("unused")
@@ -231,26 +236,28 @@ public final class SubUpdater extends akka.actor.AbstractActorWithTimers
             final Replicator.WriteConsistency writeConsistency) {
         final SubscriptionsReader snapshot = subscriptions.snapshot();
         final CompletionStage<Void> ddataOp;
-        if (resetProbability > 0 && Math.random() < resetProbability) {
+        final boolean reset = resetRequired;
+        resetRequired = false;
+        if (reset && !subscriptions.isEmpty() || resetProbability > 0 && Math.random() < resetProbability) {
             log().debug("Resetting ddata topics: <{}>", getSelf());
             ddataOp = ddata.getWriter().reset(subscriber, subscriptions.export(), writeConsistency);
+            // the reset contains all changes
+            subscriptions.exportChanges();
         } else if (!localSubscriptionsChanged) {
             ddataOp = CompletableFuture.completedStage(null);
         } else if (subscriptions.isEmpty()) {
             ddataOp = ddata.getWriter().removeSubscriber(subscriber, writeConsistency);
-            previousUpdate = LiteralUpdate.empty();
+            // the removal contains all changes
+            subscriptions.exportChanges();
             topicSizeMetric.set(0L);
         } else {
-            // export before taking snapshot so that implementations may output incremental update.
-            final LiteralUpdate nextUpdate = subscriptions.export();
-            // take snapshot to give to the subscriber; clear accumulated incremental changes.
-            final var diff = nextUpdate.diff(previousUpdate);
-            if (!diff.isEmpty()) {
-                ddataOp = ddata.getWriter().put(subscriber, nextUpdate.diff(previousUpdate), writeConsistency);
+            // export only the subscribers changed since the previous update.
+            final LiteralUpdate changes = subscriptions.exportChanges();
+            if (!changes.isEmpty()) {
+                ddataOp = ddata.getWriter().put(subscriber, changes, writeConsistency);
             } else {
                 ddataOp = CompletableFuture.completedStage(null);
             }
-            previousUpdate = nextUpdate;
             topicSizeMetric.set(subscriptions.estimateSize());
         }
         return ddataOp.thenApply(unused -> snapshot);
@@ -268,7 +275,8 @@ public final class SubUpdater extends akka.actor.AbstractActorWithTimers
         } else {
             log.warning("Failure updating Ditto pub/sub subscription - trying again next clock tick");
         }
-        // try again next clock tick
+        // try again next clock tick with all subscriptions, since the failed changes were already exported
+        resetRequired = true;
         localSubscriptionsChanged = true;
     }
 
@@ -420,7 +428,7 @@ public final class SubUpdater extends akka.actor.AbstractActorWithTimers
     @Override
     public void verifyNoDDataForCurrentMember() {
         if (!subscriptions.isEmpty()) {
-            previousUpdate = LiteralUpdate.empty();
+            resetRequired = true;
             localSubscriptionsChanged = true;
         }
         // Do nothing for empty subscriptions: No data is expected for the current member.
@@ -29,6 +29,7 @@ import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.internal.utils.pubsub.api.LocalAcksChanged;
 import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignals;
 import org.eclipse.ditto.internal.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.SubscriptionsReader;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.GroupedSnapshot;
@@ -42,6 +43,8 @@ import akka.actor.Terminated;
 import akka.cluster.Cluster;
 import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
 
 /**
  * Actor that distributes messages to local subscribers
@@ -63,6 +66,8 @@ public final class Subscriber<T extends SignalWithEntityId<?>> extends AbstractA
     private final Counter truePositiveCounter = DittoMetrics.counter("pubsub-true-positive");
     private final Counter falsePositiveCounter = DittoMetrics.counter("pubsub-false-positive");
     private final Counter receivedMessagesCounter = DittoMetrics.counter("pubsub-received-messages");
+    private final Counter receivedBatchesCounter = DittoMetrics.counter("pubsub-received-batches");
+    private final Serialization serialization = SerializationExtension.get(getContext().getSystem());
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private PublisherIndex<String> publisherIndex = PublisherIndex.empty();
@@ -100,7 +105,8 @@ public final class Subscriber<T extends SignalWithEntityId<?>> extends AbstractA
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
-                .match(PublishSignal.class, this::broadcastToLocalSubscribers)
+                .match(PublishSignal.class, command -> broadcastToLocalSubscribers(command, getSender()))
+                .match(PublishSignals.class, this::broadcastBatchToLocalSubscribers)
                 .match(SubscriptionsReader.class, this::updateLocalSubscriptions)
                 .match(LocalAcksChanged.class, this::updateLocalAcks)
                 .match(Terminated.class, this::terminated)
@@ -132,7 +138,13 @@ public final class Subscriber<T extends SignalWithEntityId<?>> extends AbstractA
         }
     }
 
-    private void broadcastToLocalSubscribers(final PublishSignal command) {
+    private void broadcastBatchToLocalSubscribers(final PublishSignals batch) {
+        receivedBatchesCounter.increment();
+        batch.forEach(serialization, (command, sender) ->
+                broadcastToLocalSubscribers(command, sender != null ? sender : getContext().getSystem().deadLetters()));
+    }
+
+    private void broadcastToLocalSubscribers(final PublishSignal command, final ActorRef sender) {
         receivedMessagesCounter.increment();
         final T message = messageClass.cast(command.getSignal());
         final Collection<String> topics = topicExtractor.getTopics(message);
@@ -146,10 +158,10 @@ public final class Subscriber<T extends SignalWithEntityId<?>> extends AbstractA
         } else {
             truePositiveCounter.increment();
             for (final ActorRef localSubscriber : localSubscribers) {
-                localSubscriber.tell(message, getSender());
+                localSubscriber.tell(message, sender);
             }
         }
-        replyWeakAck(message, command, localSubscribers, getSender());
+        replyWeakAck(message, command, localSubscribers, sender);
     }
 
     private void replyWeakAck(final T message, final PublishSignal command, final Set<ActorRef> localSubscribers,
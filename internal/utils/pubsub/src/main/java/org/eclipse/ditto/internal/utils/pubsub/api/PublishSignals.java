@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cluster.AkkaJacksonCborSerializable;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import akka.actor.ActorRef;
+import akka.serialization.Serialization;
+import akka.serialization.Serializer;
+import akka.serialization.Serializers;
+
+/**
+ * Batch of {@link PublishSignal}s from a publisher to the same remote subscriber, sent as one remote message.
+ * Each signal is kept serialized by the serializer bound to it, together with the sender it was published with.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class PublishSignals implements AkkaJacksonCborSerializable {
+
+    private final List<Entry> entries;
+
+    @JsonCreator
+    private PublishSignals(@JsonProperty("entries") final List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Create a batch of serialized publish signals.
+     *
+     * @param entries the serialized publish signals in the order they were published.
+     * @return the batch.
+     */
+    public static PublishSignals of(final List<Entry> entries) {
+        return new PublishSignals(entries);
+    }
+
+    /**
+     * @return the serialized publish signals in the order they were published.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Deserialize the publish signals of this batch in the order they were published.
+     *
+     * @param serialization the serialization extension of the receiving actor system.
+     * @param consumer receiver of each publish signal and its sender, or null if it was published without sender.
+     * @throws RuntimeException if a signal cannot be deserialized.
+     */
+    public void forEach(final Serialization serialization,
+            final BiConsumer<PublishSignal, ActorRef> consumer) {
+
+        for (final Entry entry : entries) {
+            final Object signal = serialization.deserialize(entry.bytes, entry.serializerId, entry.manifest).get();
+            consumer.accept((PublishSignal) signal, entry.sender);
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final var that = (PublishSignals) o;
+        return entries.equals(that.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entries);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "entries=" + entries +
+                "]";
+    }
+
+    /**
+     * A serialized publish signal with its sender.
+     */
+    @Immutable
+    public static final class Entry {
+
+        private final int serializerId;
+        private final String manifest;
+        private final byte[] bytes;
+        @Nullable private final ActorRef sender;
+
+        @JsonCreator
+        private Entry(@JsonProperty("serializerId") final int serializerId,
+                @JsonProperty("manifest") final String manifest,
+                @JsonProperty("bytes") final byte[] bytes,
+                @JsonProperty("sender") @Nullable final ActorRef sender) {
+            this.serializerId = serializerId;
+            this.manifest = manifest;
+            this.bytes = bytes;
+            this.sender = sender;
+        }
+
+        /**
+         * Serialize a publish signal.
+         *
+         * @param serialization the serialization extension of the sending actor system.
+         * @param publishSignal the publish signal.
+         * @param sender the sender to publish the signal with.
+         * @return the serialized publish signal.
+         */
+        public static Entry of(final Serialization serialization, final PublishSignal publishSignal,
+                @Nullable final ActorRef sender) {
+
+            final Serializer serializer = serialization.findSerializerFor(publishSignal);
+            return new Entry(serializer.identifier(), Serializers.manifestFor(serializer, publishSignal),
+                    serializer.toBinary(publishSignal), sender);
+        }
+
+        /**
+         * @return the sender to publish the signal with, or null if it has none.
+         */
+        @Nullable
+        public ActorRef getSender() {
+            return sender;
+        }
+
+        /**
+         * @return the number of serialized bytes of the publish signal.
+         */
+        @JsonIgnore
+        public int getSize() {
+            return bytes.length;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final var that = (Entry) o;
+            return serializerId == that.serializerId && manifest.equals(that.manifest) &&
+                    Arrays.equals(bytes, that.bytes) && Objects.equals(sender, that.sender);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serializerId, manifest, Arrays.hashCode(bytes), sender);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "serializerId=" + serializerId +
+                    ", manifest=" + manifest +
+                    ", size=" + bytes.length +
+                    ", sender=" + sender +
+                    "]";
+        }
+    }
+
+}
@@ -41,6 +41,9 @@ final class DefaultPubSubConfig implements PubSubConfig {
     private final Duration updateInterval;
     private final Duration syncInterval;
     private final double resetProbability;
+    private final int publishBatchSize;
+    private final long publishBatchBytes;
+    private final Duration publishBatchWindow;
 
     private DefaultPubSubConfig(final ConfigWithFallback config) {
         seed = config.getString(ConfigValue.SEED.getConfigPath());
@@ -48,6 +51,9 @@ final class DefaultPubSubConfig implements PubSubConfig {
         updateInterval = config.getDuration(ConfigValue.UPDATE_INTERVAL.getConfigPath());
         syncInterval = config.getDuration(ConfigValue.SYNC_INTERVAL.getConfigPath());
         resetProbability = config.getDouble(ConfigValue.RESET_PROBABILITY.getConfigPath());
+        publishBatchSize = config.getInt(ConfigValue.PUBLISH_BATCH_SIZE.getConfigPath());
+        publishBatchBytes = config.getBytes(ConfigValue.PUBLISH_BATCH_BYTES.getConfigPath());
+        publishBatchWindow = config.getDuration(ConfigValue.PUBLISH_BATCH_WINDOW.getConfigPath());
     }
 
     static PubSubConfig of(final Config config) {
@@ -79,12 +85,29 @@ final class DefaultPubSubConfig implements PubSubConfig {
         return resetProbability;
     }
 
+    @Override
+    public int getPublishBatchSize() {
+        return publishBatchSize;
+    }
+
+    @Override
+    public long getPublishBatchBytes() {
+        return publishBatchBytes;
+    }
+
+    @Override
+    public Duration getPublishBatchWindow() {
+        return publishBatchWindow;
+    }
+
     private String[] getFieldNames() {
-        return new String[]{"seed", "restartDelay", "updateInterval", "syncInterval", "resetProbability"};
+        return new String[]{"seed", "restartDelay", "updateInterval", "syncInterval", "resetProbability", "publishBatchSize",
+                "publishBatchBytes", "publishBatchWindow"};
     }
 
     private Object[] getFieldValues() {
-        return new Object[]{seed, restartDelay, updateInterval, syncInterval, resetProbability};
+        return new Object[]{seed, restartDelay, updateInterval, syncInterval, resetProbability, publishBatchSize,
+                publishBatchBytes, publishBatchWindow};
     }
 
     @Override
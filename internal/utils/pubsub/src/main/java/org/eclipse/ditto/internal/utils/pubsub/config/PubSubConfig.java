@@ -51,6 +51,24 @@ public interface PubSubConfig {
      */
     double getResetProbability();
 
+    /**
+     * @return Maximum number of signals sent to a remote subscriber in one message.
+     * @since 3.0.0
+     */
+    int getPublishBatchSize();
+
+    /**
+     * @return Maximum number of serialized bytes of signals sent to a remote subscriber in one message.
+     * @since 3.0.0
+     */
+    long getPublishBatchBytes();
+
+    /**
+     * @return How long to wait for more signals to the same remote subscriber before sending an incomplete batch.
+     * @since 3.0.0
+     */
+    Duration getPublishBatchWindow();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -106,7 +124,22 @@ public interface PubSubConfig {
         /**
          * Probability to reset the distributed data of a subscriber.
          */
-        RESET_PROBABILITY("reset-probability", 0.01);
+        RESET_PROBABILITY("reset-probability", 0.01),
+
+        /**
+         * Maximum number of signals sent to a remote subscriber in one message. 1 disables batching.
+         */
+        PUBLISH_BATCH_SIZE("publish-batch-size", 1),
+
+        /**
+         * Maximum number of serialized bytes of signals sent to a remote subscriber in one message.
+         */
+        PUBLISH_BATCH_BYTES("publish-batch-bytes", 65_536L),
+
+        /**
+         * How long to wait for more signals to the same remote subscriber before sending an incomplete batch.
+         */
+        PUBLISH_BATCH_WINDOW("publish-batch-window", "10ms");
 
         private final String path;
         private final Object defaultValue;
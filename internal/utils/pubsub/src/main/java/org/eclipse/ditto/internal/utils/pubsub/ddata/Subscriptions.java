@@ -110,6 +110,16 @@ public interface Subscriptions<T> {
      */
     T export();
 
+    /**
+     * Export the changes of the approximated subscription data since the previous export of changes. Only the
+     * subscribers which changed since then are approximated again, so that the cost of each export and the size of
+     * each distributed data update are bounded by the changes rather than by all subscriptions.
+     *
+     * @return Approximation of the inserted and deleted subscription data since the previous export of changes.
+     * @since 3.0.0
+     */
+    T exportChanges();
+
     /**
      * @return whether there are no subscribers.
      */
@@ -15,11 +15,14 @@ package org.eclipse.ditto.internal.utils.pubsub.ddata.compressed;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.internal.utils.pubsub.ddata.literal.LiteralUpdate;
@@ -43,6 +46,21 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
      */
     private final Collection<Integer> seeds;
 
+    /**
+     * Serialized grouped topics of each subscriber as of the previous export of changes.
+     */
+    private final Map<ActorRef, String> exportedGroupedTopics = new HashMap<>();
+
+    /**
+     * Number of subscribers of each serialized grouped topics as of the previous export of changes.
+     */
+    private final Map<String, Integer> exportedSubscriberCounts = new HashMap<>();
+
+    /**
+     * Subscribers whose subscriptions may have changed since the previous export of changes.
+     */
+    private final Set<ActorRef> changedSubscribers = new HashSet<>();
+
     private CompressedSubscriptions(
             final Collection<Integer> seeds,
             final Map<ActorRef, SubscriberData> subscriberDataMap,
@@ -80,20 +98,82 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
                 .sum();
     }
 
+    @Override
+    public void clear() {
+        changedSubscribers.addAll(subscriberDataMap.keySet());
+        super.clear();
+    }
+
+    @Override
+    public boolean subscribe(final ActorRef subscriber,
+            final Set<String> topics,
+            @Nullable final Predicate<Collection<String>> filter,
+            @Nullable final String group) {
+
+        changedSubscribers.add(subscriber);
+        return super.subscribe(subscriber, topics, filter, group);
+    }
+
+    @Override
+    public boolean unsubscribe(final ActorRef subscriber, final Set<String> topics) {
+        changedSubscribers.add(subscriber);
+        return super.unsubscribe(subscriber, topics);
+    }
+
+    @Override
+    public boolean removeSubscriber(final ActorRef subscriber) {
+        changedSubscribers.add(subscriber);
+        return super.removeSubscriber(subscriber);
+    }
+
     @Override
     public LiteralUpdate export() {
         final Set<String> serializedGroupedTopics = new HashSet<>();
-        subscriberDataMap.forEach((subscriber, data) -> {
-            final Set<Long> topicHashes = data.getTopics()
-                    .stream()
-                    .map(this::hashAsLong)
-                    .collect(Collectors.toSet());
-            final Grouped<Long> groupedHashes = Grouped.of(data.getGroup().orElse(null), topicHashes);
-            serializedGroupedTopics.add(groupedHashes.toJsonString());
-        });
+        subscriberDataMap.forEach((subscriber, data) -> serializedGroupedTopics.add(serialize(data)));
         return LiteralUpdate.withInserts(serializedGroupedTopics);
     }
 
+    @Override
+    public LiteralUpdate exportChanges() {
+        final Set<String> inserts = new HashSet<>();
+        final Set<String> deletes = new HashSet<>();
+        for (final ActorRef subscriber : changedSubscribers) {
+            final String previous = exportedGroupedTopics.get(subscriber);
+            final SubscriberData data = subscriberDataMap.get(subscriber);
+            final String next = data == null ? null : serialize(data);
+            if (!Objects.equals(previous, next)) {
+                if (previous != null) {
+                    exportedGroupedTopics.remove(subscriber);
+                    if (exportedSubscriberCounts.merge(previous, -1, Integer::sum) == 0) {
+                        exportedSubscriberCounts.remove(previous);
+                        // a string inserted and deleted since the previous export was never distributed
+                        if (!inserts.remove(previous)) {
+                            deletes.add(previous);
+                        }
+                    }
+                }
+                if (next != null) {
+                    exportedGroupedTopics.put(subscriber, next);
+                    if (exportedSubscriberCounts.merge(next, 1, Integer::sum) == 1 && !deletes.remove(next)) {
+                        inserts.add(next);
+                    }
+                }
+            }
+        }
+        changedSubscribers.clear();
+        return LiteralUpdate.of(inserts, deletes);
+    }
+
+    private String serialize(final SubscriberData data) {
+        // sort the hashes so that unchanged subscriptions serialize identically
+        final Set<Long> topicHashes = data.getTopics()
+                .stream()
+                .map(this::hashAsLong)
+                .sorted()
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Grouped.of(data.getGroup().orElse(null), topicHashes).toJsonString();
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (other instanceof CompressedSubscriptions) {
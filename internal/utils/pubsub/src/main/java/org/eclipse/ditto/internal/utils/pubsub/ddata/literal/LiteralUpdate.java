@@ -55,6 +55,18 @@ public final class LiteralUpdate implements DDataUpdate<String> {
         return new LiteralUpdate(copyOfInserts, Set.of());
     }
 
+    /**
+     * Create a new LiteralUpdate with the passed {@code inserts} and {@code deletes}.
+     *
+     * @param inserts topics to insert.
+     * @param deletes topics to delete.
+     * @return an immutable update object.
+     * @since 3.0.0
+     */
+    public static LiteralUpdate of(final Set<String> inserts, final Set<String> deletes) {
+        return new LiteralUpdate(Set.copyOf(inserts), Set.copyOf(deletes));
+    }
+
     @Override
     public Set<String> getInserts() {
         return inserts;
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link LongPublisherIndex}.
+ */
+public final class LongPublisherIndexTest {
+
+    private static final List<String> GROUPS = List.of("", "group1", "group2");
+
+    private ActorSystem system;
+    private List<ActorRef> subscribers;
+
+    @Before
+    public void createSubscribers() {
+        system = ActorSystem.create();
+        subscribers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            subscribers.add(TestProbe.apply(system).ref());
+        }
+    }
+
+    @After
+    public void shutdownSystem() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void behavesLikePublisherIndexUnderRandomUpdates() {
+        final Random random = new Random(42L);
+        final LongPublisherIndex underTest = new LongPublisherIndex();
+        final List<Subscription> subscriptions = new ArrayList<>();
+
+        for (int round = 0; round < 2000; round++) {
+            if (subscriptions.isEmpty() || random.nextInt(3) > 0) {
+                final Subscription subscription = new Subscription(random.nextInt(200),
+                        subscribers.get(random.nextInt(subscribers.size())),
+                        GROUPS.get(random.nextInt(GROUPS.size())));
+                subscriptions.add(subscription);
+                underTest.add(subscription.hash, subscription.subscriber, subscription.group);
+            } else {
+                final Subscription subscription = subscriptions.remove(random.nextInt(subscriptions.size()));
+                underTest.remove(subscription.hash, subscription.subscriber, subscription.group);
+            }
+            if (round % 50 == 0) {
+                assertSamePublications(underTest, toPublisherIndex(subscriptions), random);
+            }
+        }
+        assertThat(underTest.size()).isEqualTo(subscriptions.stream().map(s -> s.hash).distinct().count());
+
+        subscriptions.forEach(s -> underTest.remove(s.hash, s.subscriber, s.group));
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.assignGroupsToSubscribers(signal("ns:thing"), LongStream.range(0, 200).toArray(), null))
+                .isEmpty();
+    }
+
+    @Test
+    public void subscriptionsWithSameHashAreCounted() {
+        final LongPublisherIndex underTest = new LongPublisherIndex();
+        final ActorRef subscriber = subscribers.get(0);
+        underTest.add(1L, subscriber, "");
+        underTest.add(1L, subscriber, "");
+
+        underTest.remove(1L, subscriber, "");
+        assertThat(underTest.assignGroupsToSubscribers(signal("ns:thing"), new long[]{1L}, null))
+                .extracting(Pair::first)
+                .containsExactly(subscriber);
+
+        underTest.remove(1L, subscriber, "");
+        assertThat(underTest.assignGroupsToSubscribers(signal("ns:thing"), new long[]{1L}, null)).isEmpty();
+    }
+
+    @Test
+    public void removingUnknownSubscriptionHasNoEffect() {
+        final LongPublisherIndex underTest = new LongPublisherIndex();
+        underTest.add(1L, subscribers.get(0), "group1");
+
+        underTest.remove(1L, subscribers.get(1), "group1");
+        underTest.remove(1L, subscribers.get(0), "group2");
+        underTest.remove(2L, subscribers.get(0), "group1");
+
+        assertThat(underTest.size()).isOne();
+        assertThat(underTest.assignGroupsToSubscribers(signal("ns:thing"), new long[]{1L}, null))
+                .extracting(Pair::first)
+                .containsExactly(subscribers.get(0));
+    }
+
+    @Test
+    public void snapshotIsUnaffectedByLaterUpdates() {
+        final LongPublisherIndex underTest = new LongPublisherIndex();
+        underTest.add(1L, subscribers.get(0), "");
+        final LongPublisherIndex.Snapshot snapshot = underTest.snapshot();
+
+        // the interned ID of the removed subscriber is reused for the added one
+        underTest.remove(1L, subscribers.get(0), "");
+        underTest.add(1L, subscribers.get(1), "");
+        underTest.add(2L, subscribers.get(1), "");
+
+        assertThat(snapshot.assignGroupsToSubscribers(signal("ns:thing"), new long[]{1L, 2L}, null))
+                .extracting(Pair::first)
+                .containsExactly(subscribers.get(0));
+        assertThat(underTest.snapshot().assignGroupsToSubscribers(signal("ns:thing"), new long[]{1L, 2L}, null))
+                .extracting(Pair::first)
+                .containsExactly(subscribers.get(1));
+    }
+
+    @Test
+    public void snapshotsShareSubscribersUntilTheyChange() {
+        final LongPublisherIndex underTest = new LongPublisherIndex();
+        underTest.add(1L, subscribers.get(0), "");
+        final LongPublisherIndex.Snapshot first = underTest.snapshot();
+
+        underTest.add(2L, subscribers.get(0), "");
+        final LongPublisherIndex.Snapshot second = underTest.snapshot();
+        underTest.add(3L, subscribers.get(1), "");
+        final LongPublisherIndex.Snapshot third = underTest.snapshot();
+
+        assertThat(second.hasSameSubscribers(first)).isTrue();
+        assertThat(third.hasSameSubscribers(second)).isFalse();
+        assertThat(second.assignGroupsToSubscribers(signal("ns:thing"), new long[]{1L, 2L, 3L}, null))
+                .extracting(Pair::first)
+                .containsExactly(subscribers.get(0));
+        assertThat(third.assignGroupsToSubscribers(signal("ns:thing"), new long[]{3L}, null))
+                .extracting(Pair::first)
+                .containsExactly(subscribers.get(1));
+    }
+
+    private void assertSamePublications(final LongPublisherIndex underTest, final PublisherIndex<Long> expected,
+            final Random random) {
+
+        for (int i = 0; i < 20; i++) {
+            final List<Long> hashes = List.of((long) random.nextInt(200), (long) random.nextInt(200));
+            final RetrieveThing signal = signal("ns:thing-" + random.nextInt());
+            final Map<String, Integer> chosenGroups = random.nextBoolean() ? null : Map.of("group1", 3);
+            assertThat(toMap(underTest.assignGroupsToSubscribers(signal,
+                    hashes.stream().mapToLong(Long::longValue).toArray(), chosenGroups)))
+                    .isEqualTo(toMap(expected.assignGroupsToSubscribers(signal, hashes, chosenGroups)));
+        }
+    }
+
+    private static Map<ActorRef, Map<String, Integer>> toMap(final List<Pair<ActorRef, PublishSignal>> result) {
+        return result.stream().collect(Collectors.toMap(Pair::first, pair -> pair.second().getGroups()));
+    }
+
+    private static PublisherIndex<Long> toPublisherIndex(final List<Subscription> subscriptions) {
+        final Map<Long, Map<ActorRef, Set<String>>> index = new HashMap<>();
+        subscriptions.forEach(s -> index.computeIfAbsent(s.hash, h -> new HashMap<>())
+                .computeIfAbsent(s.subscriber, subscriber -> new HashSet<>())
+                .add(s.group));
+        return new PublisherIndex<>(index, Map.of());
+    }
+
+    private static RetrieveThing signal(final String thingId) {
+        return RetrieveThing.of(ThingId.of(thingId), DittoHeaders.empty());
+    }
+
+    private static final class Subscription {
+
+        private final long hash;
+        private final ActorRef subscriber;
+        private final String group;
+
+        private Subscription(final long hash, final ActorRef subscriber, final String group) {
+            this.hash = hash;
+            this.subscriber = subscriber;
+            this.group = group;
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignals;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PublishSignalBatcher}.
+ */
+public final class PublishSignalBatcherTest {
+
+    private ActorSystem system;
+    private Serialization serialization;
+    private TestProbe subscriber;
+    private TestProbe sender;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create("actorSystem", ConfigFactory.load("pubsub-factory-test.conf"));
+        serialization = SerializationExtension.get(system);
+        subscriber = TestProbe.apply(system);
+        sender = TestProbe.apply(system);
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void sendFullBatchImmediately() {
+        final PublishSignalBatcher underTest = batcher(3, 65_536L, Duration.ofMinutes(1L));
+
+        underTest.send(subscriber.ref(), publishSignal(0), sender.ref());
+        underTest.send(subscriber.ref(), publishSignal(1), null);
+        subscriber.expectNoMessage(scala.concurrent.duration.Duration.create(100L, "ms"));
+        underTest.send(subscriber.ref(), publishSignal(2), sender.ref());
+
+        final PublishSignals batch = subscriber.expectMsgClass(PublishSignals.class);
+        assertThat(unpack(batch)).containsExactly(
+                Pair.create(publishSignal(0), sender.ref()),
+                Pair.create(publishSignal(1), null),
+                Pair.create(publishSignal(2), sender.ref()));
+    }
+
+    @Test
+    public void sendIncompleteBatchAfterWindow() {
+        final PublishSignalBatcher underTest = batcher(10, 65_536L, Duration.ofMillis(50L));
+
+        underTest.send(subscriber.ref(), publishSignal(0), sender.ref());
+        underTest.send(subscriber.ref(), publishSignal(1), sender.ref());
+
+        final PublishSignals batch = subscriber.expectMsgClass(PublishSignals.class);
+        assertThat(unpack(batch)).extracting(Pair::first).containsExactly(publishSignal(0), publishSignal(1));
+    }
+
+    @Test
+    public void sendSingleSignalUnwrapped() {
+        final PublishSignalBatcher underTest = batcher(10, 65_536L, Duration.ofMillis(50L));
+
+        underTest.send(subscriber.ref(), publishSignal(0), sender.ref());
+
+        subscriber.expectMsg(publishSignal(0));
+        assertThat(subscriber.sender()).isEqualTo(sender.ref());
+    }
+
+    @Test
+    public void limitBatchesByBytes() {
+        final PublishSignalBatcher underTest = batcher(10, 1L, Duration.ofMinutes(1L));
+
+        underTest.send(subscriber.ref(), publishSignal(0), sender.ref());
+        underTest.send(subscriber.ref(), publishSignal(1), sender.ref());
+
+        subscriber.expectMsg(publishSignal(0));
+        subscriber.expectMsg(publishSignal(1));
+    }
+
+    @Test
+    public void sendToLocalSubscribersDirectly() {
+        final PublishSignalBatcher underTest = new PublishSignalBatcher(serialization, ref -> false, 10, 65_536L,
+                Duration.ofMinutes(1L), system.scheduler(), system.dispatcher());
+
+        underTest.send(subscriber.ref(), publishSignal(0), sender.ref());
+
+        subscriber.expectMsg(publishSignal(0));
+    }
+
+    @Test
+    public void serializeBatch() {
+        final PublishSignals batch = PublishSignals.of(List.of(
+                PublishSignals.Entry.of(serialization, publishSignal(0), sender.ref()),
+                PublishSignals.Entry.of(serialization, publishSignal(1), null)));
+
+        final byte[] bytes = serialization.serialize(batch).get();
+        final Object deserialized = serialization.deserialize(bytes, PublishSignals.class).get();
+
+        assertThat(deserialized).isEqualTo(batch);
+        assertThat(unpack((PublishSignals) deserialized)).containsExactly(
+                Pair.create(publishSignal(0), sender.ref()),
+                Pair.create(publishSignal(1), null));
+    }
+
+    private PublishSignalBatcher batcher(final int maxSize, final long maxBytes, final Duration window) {
+        return new PublishSignalBatcher(serialization, ref -> true, maxSize, maxBytes, window, system.scheduler(),
+                system.dispatcher());
+    }
+
+    private List<Pair<PublishSignal, ActorRef>> unpack(final PublishSignals batch) {
+        final List<Pair<PublishSignal, ActorRef>> result = new ArrayList<>();
+        batch.forEach(serialization, (publishSignal, sender) -> result.add(Pair.create(publishSignal, sender)));
+        return result;
+    }
+
+    private static PublishSignal publishSignal(final int i) {
+        return PublishSignal.of(Acknowledgement.of(AcknowledgementLabel.of("label-" + i),
+                ThingId.of("ns:thing-" + i), HttpStatus.OK, DittoHeaders.empty()), Map.of("group", i));
+    }
+
+}
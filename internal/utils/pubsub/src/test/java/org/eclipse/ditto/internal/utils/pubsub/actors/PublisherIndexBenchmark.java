@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Compares publish lookups of {@link LongPublisherIndex} and the boxed {@link PublisherIndex} and measures
+ * incremental updates of {@link LongPublisherIndex} when 1 subscriber changes its topics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class PublisherIndexBenchmark {
+
+    private static final int SUBSCRIBERS = 100;
+    private static final int TOPICS_PER_PUBLISH = 3;
+    private static final int TOPICS_PER_UPDATE = 100;
+
+    @Param({"10000", "1000000"})
+    public int subscribedTopics;
+
+    private ActorSystem system;
+    private List<ActorRef> subscribers;
+    private PublisherIndex<Long> boxedIndex;
+    private LongPublisherIndex longIndex;
+    private List<Long> boxedHashes;
+    private long[] longHashes;
+    private long[] updatedHashes;
+    private RetrieveThing signal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        system = ActorSystem.create();
+        subscribers = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            subscribers.add(TestProbe.apply(system).ref());
+        }
+        final Random random = new Random(0L);
+        final Map<Long, Map<ActorRef, Set<String>>> index = new HashMap<>();
+        longIndex = new LongPublisherIndex();
+        for (int i = 0; i < subscribedTopics; i++) {
+            final long hash = random.nextLong();
+            final ActorRef subscriber = subscribers.get(random.nextInt(SUBSCRIBERS));
+            final String group = random.nextBoolean() ? "" : "group";
+            index.computeIfAbsent(hash, h -> new HashMap<>()).computeIfAbsent(subscriber, s -> new HashSet<>())
+                    .add(group);
+            longIndex.add(hash, subscriber, group);
+        }
+        boxedIndex = new PublisherIndex<>(index, Map.of());
+        final List<Long> subscribedHashes = new ArrayList<>(index.keySet());
+        boxedHashes = new ArrayList<>();
+        for (int i = 0; i < TOPICS_PER_PUBLISH; i++) {
+            boxedHashes.add(subscribedHashes.get(random.nextInt(subscribedHashes.size())));
+        }
+        longHashes = boxedHashes.stream().mapToLong(Long::longValue).toArray();
+        updatedHashes = random.longs(TOPICS_PER_UPDATE).toArray();
+        signal = RetrieveThing.of(ThingId.of("benchmark:thing"), DittoHeaders.empty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Benchmark
+    public void publishLookupBoxed(final Blackhole blackhole) {
+        blackhole.consume(boxedIndex.assignGroupsToSubscribers(signal, boxedHashes));
+    }
+
+    @Benchmark
+    public void publishLookupLong(final Blackhole blackhole) {
+        blackhole.consume(longIndex.assignGroupsToSubscribers(signal, longHashes, null));
+    }
+
+    @Benchmark
+    public void updateOneSubscriberIncrementally() {
+        final ActorRef subscriber = subscribers.get(0);
+        for (final long hash : updatedHashes) {
+            longIndex.add(hash, subscriber, "");
+        }
+        for (final long hash : updatedHashes) {
+            longIndex.remove(hash, subscriber, "");
+        }
+    }
+
+}
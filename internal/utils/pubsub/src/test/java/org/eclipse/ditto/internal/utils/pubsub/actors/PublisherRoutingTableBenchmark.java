@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataReader;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.ORMultiMap;
+import akka.cluster.ddata.Replicator;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Measures the publish throughput of concurrent callers routing via a {@link PublisherRoutingTable} compared to
+ * callers serialized on a single index, as all publications were when they passed through the publisher actor.
+ * <p>
+ * Run with increasing thread counts, e.g. {@code -t 1}, {@code -t 2}, {@code -t 4}, to see how the throughput scales
+ * with the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(Threads.MAX)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class PublisherRoutingTableBenchmark {
+
+    private static final int SUBSCRIBERS = 100;
+    private static final int SUBSCRIBED_TOPICS = 100_000;
+
+    private ActorSystem system;
+    private PublisherRoutingTable routingTable;
+    private LongPublisherIndex index;
+    private DDataReader<ActorRef, String> ddataReader;
+    private List<String> topics;
+    private RetrieveThing signal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        system = ActorSystem.create();
+        ddataReader = new TopicHashReader();
+        final List<ActorRef> subscribers = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            subscribers.add(TestProbe.apply(system).ref());
+        }
+        final Random random = new Random(0L);
+        index = new LongPublisherIndex();
+        for (int i = 0; i < SUBSCRIBED_TOPICS; i++) {
+            index.add(ddataReader.approximate("topic" + i), subscribers.get(random.nextInt(SUBSCRIBERS)),
+                    random.nextBoolean() ? "" : "group");
+        }
+        routingTable = PublisherRoutingTable.of(system, ddataReader);
+        routingTable.update(index.snapshot());
+        topics = List.of("topic" + random.nextInt(SUBSCRIBED_TOPICS), "topic" + random.nextInt(SUBSCRIBED_TOPICS));
+        signal = RetrieveThing.of(ThingId.of("benchmark:thing"), DittoHeaders.empty());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Benchmark
+    public void routeConcurrently(final Blackhole blackhole) {
+        blackhole.consume(routingTable.route(topics, signal));
+    }
+
+    @Benchmark
+    public void routeSerialized(final Blackhole blackhole) {
+        final long[] hashes = topics.stream().mapToLong(ddataReader::approximate).toArray();
+        synchronized (index) {
+            blackhole.consume(index.assignGroupsToSubscribers(signal, hashes, null));
+        }
+    }
+
+    /**
+     * Approximates topics by their hash codes without starting a replicator.
+     */
+    private static final class TopicHashReader implements DDataReader<ActorRef, String> {
+
+        @Override
+        public long approximate(final String topic) {
+            return topic.hashCode();
+        }
+
+        @Override
+        public void receiveChanges(final ActorRef recipient) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getNumberOfShards() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Key<ORMultiMap<ActorRef, String>> getKey(final int shardNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Optional<ORMultiMap<ActorRef, String>>> get(
+                final Key<ORMultiMap<ActorRef, String>> key, final Replicator.ReadConsistency consistency) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<List<ORMultiMap<ActorRef, String>>> getAllShards(
+                final Replicator.ReadConsistency consistency) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
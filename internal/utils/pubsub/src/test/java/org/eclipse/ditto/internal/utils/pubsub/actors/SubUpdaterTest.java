@@ -17,11 +17,14 @@ import static org.eclipse.ditto.internal.utils.pubsub.actors.ClusterMemberRemove
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.ditto.internal.utils.pubsub.api.SubAck;
 import org.eclipse.ditto.internal.utils.pubsub.api.Subscribe;
@@ -29,6 +32,8 @@ import org.eclipse.ditto.internal.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataWriter;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompressedDData;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompressedSubscriptions;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.literal.LiteralUpdate;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -170,6 +175,48 @@ public final class SubUpdaterTest {
         }};
     }
 
+    @Test
+    public void failedUpdateIsReplacedByResetWithAllSubscriptions() {
+        new TestKit(system) {{
+            // GIVEN: distributed data applies the updates of the writer to the subscriptions of this member
+            final var subscriberRef = TestProbe.apply(system).ref();
+            final var config = PubSubConfig.of(system);
+            final CompressedDData ddata = mockDistributedData(Map.of());
+            final var writer = ddata.getWriter();
+            final Set<String> distributed = new HashSet<>();
+            final AtomicBoolean failNextPut = new AtomicBoolean(false);
+            Mockito.when(writer.put(any(), any(), any())).thenAnswer(invocation -> {
+                if (failNextPut.getAndSet(false)) {
+                    return CompletableFuture.failedStage(new IllegalStateException("expected"));
+                }
+                final LiteralUpdate update = invocation.getArgument(1);
+                distributed.removeAll(update.getDeletes());
+                distributed.addAll(update.getInserts());
+                return CompletableFuture.completedStage(null);
+            });
+            Mockito.when(writer.reset(any(), any(), any())).thenAnswer(invocation -> {
+                final LiteralUpdate update = invocation.getArgument(1);
+                distributed.clear();
+                distributed.addAll(update.getInserts());
+                return CompletableFuture.completedStage(null);
+            });
+            final ActorRef underTest = system.actorOf(SubUpdater.props(config, subscriberRef, ddata));
+            underTest.tell(Subscribe.of(List.of("topic-a"), subscriberRef, writeLocal(), true, null), getRef());
+            expectMsgClass(SubAck.class);
+
+            // WHEN: the update which deletes the previous subscriptions of the subscriber fails
+            failNextPut.set(true);
+            underTest.tell(Subscribe.of(List.of("topic-b"), subscriberRef, writeLocal(), true, null), getRef());
+
+            // THEN: the next update replaces all subscriptions and the previous ones are deleted
+            expectMsgClass(SubAck.class);
+            Mockito.verify(writer, Mockito.times(1)).reset(any(), any(), any());
+            final CompressedSubscriptions expected = CompressedSubscriptions.of(ddata.getSeeds());
+            expected.subscribe(subscriberRef, Set.of("topic-a", "topic-b"), null);
+            assertThat(distributed).isEqualTo(expected.export().getInserts());
+        }};
+    }
+
     private Config getTestConf() {
         return ConfigFactory.load("pubsub-factory-test.conf");
     }
@@ -77,6 +77,18 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getResetProbability())
                 .as(PubSubConfig.ConfigValue.RESET_PROBABILITY.getConfigPath())
                 .isCloseTo(0.01, Percentage.withPercentage(0.1));
+
+        softly.assertThat(underTest.getPublishBatchSize())
+                .as(PubSubConfig.ConfigValue.PUBLISH_BATCH_SIZE.getConfigPath())
+                .isEqualTo(1);
+
+        softly.assertThat(underTest.getPublishBatchBytes())
+                .as(PubSubConfig.ConfigValue.PUBLISH_BATCH_BYTES.getConfigPath())
+                .isEqualTo(65_536L);
+
+        softly.assertThat(underTest.getPublishBatchWindow())
+                .as(PubSubConfig.ConfigValue.PUBLISH_BATCH_WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMillis(10L));
     }
 
     @Test
@@ -102,6 +114,18 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getResetProbability())
                 .as(PubSubConfig.ConfigValue.RESET_PROBABILITY.getConfigPath())
                 .isCloseTo(0.6, Percentage.withPercentage(0.1));
+
+        softly.assertThat(underTest.getPublishBatchSize())
+                .as(PubSubConfig.ConfigValue.PUBLISH_BATCH_SIZE.getConfigPath())
+                .isEqualTo(10);
+
+        softly.assertThat(underTest.getPublishBatchBytes())
+                .as(PubSubConfig.ConfigValue.PUBLISH_BATCH_BYTES.getConfigPath())
+                .isEqualTo(1024L);
+
+        softly.assertThat(underTest.getPublishBatchWindow())
+                .as(PubSubConfig.ConfigValue.PUBLISH_BATCH_WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMillis(2L));
     }
 
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.ddata.compressed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.ditto.internal.utils.pubsub.ddata.literal.LiteralUpdate;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link CompressedSubscriptions}.
+ */
+public final class CompressedSubscriptionsTest {
+
+    private static final List<Integer> SEEDS = List.of(1, 2, 3);
+
+    private ActorSystem system;
+    private List<ActorRef> subscribers;
+
+    @Before
+    public void createSubscribers() {
+        system = ActorSystem.create();
+        subscribers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            subscribers.add(TestProbe.apply(system).ref());
+        }
+    }
+
+    @After
+    public void shutdownSystem() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void exportedChangesAddUpToFullExport() {
+        final Random random = new Random(7L);
+        final CompressedSubscriptions underTest = CompressedSubscriptions.of(SEEDS);
+        final Set<String> distributed = new HashSet<>();
+
+        for (int round = 0; round < 500; round++) {
+            final ActorRef subscriber = subscribers.get(random.nextInt(subscribers.size()));
+            final Set<String> topics =
+                    new HashSet<>(List.of("topic" + random.nextInt(10), "topic" + random.nextInt(10)));
+            switch (random.nextInt(4)) {
+                case 0 -> underTest.unsubscribe(subscriber, topics);
+                case 1 -> underTest.removeSubscriber(subscriber);
+                default -> underTest.subscribe(subscriber, topics, random.nextBoolean() ? null : "group");
+            }
+            if (random.nextInt(5) == 0) {
+                apply(distributed, underTest.exportChanges());
+                assertThat(distributed).isEqualTo(underTest.export().getInserts());
+            }
+        }
+        apply(distributed, underTest.exportChanges());
+        assertThat(distributed).isEqualTo(underTest.export().getInserts());
+
+        underTest.clear();
+        apply(distributed, underTest.exportChanges());
+        assertThat(distributed).isEmpty();
+    }
+
+    @Test
+    public void exportChangesOfChangedSubscribersOnly() {
+        final CompressedSubscriptions underTest = CompressedSubscriptions.of(SEEDS);
+        for (int i = 0; i < subscribers.size(); i++) {
+            underTest.subscribe(subscribers.get(i), Set.of("topic" + i), null);
+        }
+        assertThat(underTest.exportChanges().getInserts()).hasSize(subscribers.size());
+
+        underTest.subscribe(subscribers.get(0), Set.of("another-topic"), null);
+        final LiteralUpdate changes = underTest.exportChanges();
+        assertThat(changes.getInserts()).hasSize(1);
+        assertThat(changes.getDeletes()).hasSize(1);
+
+        assertThat(underTest.exportChanges().isEmpty()).isTrue();
+    }
+
+    private static void apply(final Set<String> distributed, final LiteralUpdate changes) {
+        assertThat(distributed).containsAll(changes.getDeletes());
+        assertThat(Collections.disjoint(distributed, changes.getInserts())).isTrue();
+        distributed.removeAll(changes.getDeletes());
+        distributed.addAll(changes.getInserts());
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.messages.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -82,12 +83,18 @@ public final class ImmutableMessageHeadersTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(ImmutableMessageHeaders.class, areImmutable());
+        assertInstancesOf(ImmutableMessageHeaders.class,
+                areImmutable(),
+                assumingFields("parsedSchemaVersion", "parsedAuthorizationContext", "parsedReadGrantedSubjects",
+                "parsedExpectedResponseTypes", "parsedAcknowledgementRequests")
+                        .areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableMessageHeaders.class)
+                .withIgnoredFields("parsedSchemaVersion", "parsedAuthorizationContext", "parsedReadGrantedSubjects",
+                "parsedExpectedResponseTypes", "parsedAcknowledgementRequests")
                 .withNonnullFields("headers")
                 .verify();
     }
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.policies.model.enforcers;
 
+import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
@@ -313,4 +314,23 @@ public interface Enforcer {
     JsonObject buildJsonView(ResourceKey resourceKey, Iterable<JsonField> jsonFields,
             AuthorizationContext authorizationContext, Permissions permissions);
 
+    /**
+     * Returns a compiled {@link JsonViewFilter} which builds the same views as
+     * {@link #buildJsonView(ResourceKey, Iterable, AuthorizationContext, Permissions)} for the given resource,
+     * authorization context and permissions without evaluating the policy for each JSON value.
+     * Enforcers which cannot compile their decisions return an empty Optional.
+     *
+     * @param resourceKey the ResourceKey (containing Resource type and path) to start from.
+     * @param authorizationContext the AuthorizationContext containing the AuthorizationSubjects.
+     * @param permissions the permissions.
+     * @return the filter, or an empty Optional if this enforcer does not support compiled filters.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 3.0.0
+     */
+    default Optional<JsonViewFilter> getJsonViewFilter(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return Optional.empty();
+    }
+
 }
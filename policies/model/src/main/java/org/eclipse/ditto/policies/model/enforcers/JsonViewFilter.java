@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A compiled view on a JSON resource for one authorization context and a set of permissions.
+ * Each node of the filter tells whether the authorization context has the permissions on the JSON value at its
+ * location; JSON values without a node of their own inherit the decision of their closest ancestor.
+ * Applying the filter to a {@link JsonObject} yields the same result as
+ * {@link Enforcer#buildJsonView(org.eclipse.ditto.policies.model.ResourceKey, Iterable,
+ * org.eclipse.ditto.base.model.auth.AuthorizationContext, org.eclipse.ditto.policies.model.Permissions)}
+ * for the authorization context and the permissions the filter was created for, without evaluating the policy again.
+ * <p>
+ * The filter is serializable as a JSON array of pointers prefixed by {@code +} (readable) or {@code -} (unreadable),
+ * e.g. {@code ["-/", "+/attributes", "-/attributes/secret"]}.
+ * </p>
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class JsonViewFilter {
+
+    private static final char PERMITTED = '+';
+    private static final char NOT_PERMITTED = '-';
+    private static final String WILDCARD = "*";
+
+    private static final JsonViewFilter PERMITTED_LEAF = new JsonViewFilter(true, Collections.emptyMap());
+    private static final JsonViewFilter NOT_PERMITTED_LEAF = new JsonViewFilter(false, Collections.emptyMap());
+
+    private final boolean permitted;
+    private final Map<JsonKey, JsonViewFilter> children;
+
+    private JsonViewFilter(final boolean permitted, final Map<JsonKey, JsonViewFilter> children) {
+        this.permitted = permitted;
+        this.children = children;
+    }
+
+    /**
+     * Returns a filter which either keeps or removes all fields.
+     *
+     * @param permitted whether all fields are readable.
+     * @return the filter.
+     */
+    public static JsonViewFilter of(final boolean permitted) {
+        return permitted ? PERMITTED_LEAF : NOT_PERMITTED_LEAF;
+    }
+
+    /**
+     * Returns a filter node with the given decision for its own location and filters for some of its child fields.
+     * Child filters which do not differ from the decision of this node are dropped.
+     *
+     * @param permitted whether the value at the location of this node is readable.
+     * @param children the filters of child fields.
+     * @return the filter.
+     * @throws NullPointerException if {@code children} is {@code null}.
+     */
+    public static JsonViewFilter of(final boolean permitted, final Map<JsonKey, JsonViewFilter> children) {
+        checkNotNull(children, "children");
+        final Map<JsonKey, JsonViewFilter> relevantChildren = new LinkedHashMap<>();
+        children.forEach((key, child) -> {
+            if (!child.children.isEmpty() || child.permitted != permitted) {
+                relevantChildren.put(key, child);
+            }
+        });
+        return relevantChildren.isEmpty()
+                ? of(permitted)
+                : new JsonViewFilter(permitted, Collections.unmodifiableMap(relevantChildren));
+    }
+
+    /**
+     * Parses a filter from its JSON representation.
+     *
+     * @param jsonArray the JSON array of prefixed pointers as created by {@link #toJson()}.
+     * @return the filter.
+     * @throws NullPointerException if {@code jsonArray} is {@code null}.
+     * @throws JsonParseException if {@code jsonArray} contains other values than prefixed pointers.
+     */
+    public static JsonViewFilter fromJson(final JsonArray jsonArray) {
+        checkNotNull(jsonArray, "jsonArray");
+        final List<Map.Entry<JsonPointer, Boolean>> entries = new ArrayList<>(jsonArray.getSize());
+        for (final JsonValue value : jsonArray) {
+            final String entry = value.isString() ? value.asString() : "";
+            if (entry.isEmpty() || (entry.charAt(0) != PERMITTED && entry.charAt(0) != NOT_PERMITTED)) {
+                throw JsonParseException.newBuilder()
+                        .message("Invalid JSON view filter entry <" + value + ">.")
+                        .build();
+            }
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(JsonPointer.of(entry.substring(1)),
+                    entry.charAt(0) == PERMITTED));
+        }
+        // ancestors first, so that nodes created in between inherit the decision of their closest ancestor
+        entries.sort(Comparator.comparingInt(entry -> entry.getKey().getLevelCount()));
+        JsonViewFilter result = NOT_PERMITTED_LEAF;
+        for (final Map.Entry<JsonPointer, Boolean> entry : entries) {
+            result = result.with(entry.getKey(), entry.getValue(), false);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the JSON representation of this filter: the pointers of all nodes prefixed by {@code +} if the value at
+     * the pointer is readable and by {@code -} otherwise.
+     *
+     * @return the JSON array.
+     */
+    public JsonArray toJson() {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        appendTo(builder, JsonPointer.empty());
+        return builder.build();
+    }
+
+    private void appendTo(final JsonArrayBuilder builder, final JsonPointer pointer) {
+        builder.add((permitted ? PERMITTED : NOT_PERMITTED) + pointer.toString());
+        children.forEach((key, child) -> child.appendTo(builder, pointer.addLeaf(key)));
+    }
+
+    /**
+     * Returns whether the value at the location of this filter is readable.
+     *
+     * @return whether the value is readable.
+     */
+    public boolean isPermitted() {
+        return permitted;
+    }
+
+    /**
+     * Returns a copy of this filter where the values at the given pointers are readable including all their
+     * descendants.
+     *
+     * @param allowlist pointers to values that are always readable.
+     * @return the extended filter.
+     * @throws NullPointerException if {@code allowlist} is {@code null}.
+     */
+    public JsonViewFilter allow(final Iterable<JsonPointer> allowlist) {
+        checkNotNull(allowlist, "allowlist");
+        JsonViewFilter result = this;
+        for (final JsonPointer pointer : allowlist) {
+            result = result.with(pointer, true, true);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of this filter without nodes that cannot match any JSON value which is selected by the given
+     * pointers. Pointers with the wildcard {@code *} match all fields of their level.
+     * The result is only suitable for JSON objects already restricted to the selected pointers.
+     *
+     * @param selectedPointers the pointers of all values the filter is going to be applied to.
+     * @return the restricted filter.
+     * @throws NullPointerException if {@code selectedPointers} is {@code null}.
+     */
+    public JsonViewFilter restrictTo(final Iterable<JsonPointer> selectedPointers) {
+        checkNotNull(selectedPointers, "selectedPointers");
+        final List<JsonPointer> pointers = new ArrayList<>();
+        selectedPointers.forEach(pointers::add);
+        return restrict(pointers);
+    }
+
+    private JsonViewFilter restrict(final Collection<JsonPointer> selectedPointers) {
+        if (children.isEmpty()) {
+            return this;
+        }
+        final Map<JsonKey, List<JsonPointer>> selectedChildPointers = new HashMap<>();
+        for (final JsonPointer pointer : selectedPointers) {
+            final Optional<JsonKey> root = pointer.getRoot();
+            if (!root.isPresent() || WILDCARD.equals(root.get().toString())) {
+                // the whole subtree or all fields of this level are selected
+                return this;
+            }
+            selectedChildPointers.computeIfAbsent(root.get(), key -> new ArrayList<>()).add(pointer.nextLevel());
+        }
+        final Map<JsonKey, JsonViewFilter> restrictedChildren = new LinkedHashMap<>();
+        children.forEach((key, child) -> {
+            final List<JsonPointer> childPointers = selectedChildPointers.get(key);
+            if (null != childPointers) {
+                restrictedChildren.put(key, child.restrict(childPointers));
+            }
+        });
+        return of(permitted, restrictedChildren);
+    }
+
+    /**
+     * Builds the view of the given JSON fields: only those values remain which are readable according to this filter.
+     *
+     * @param jsonFields the JSON fields, e.g. a JSON object.
+     * @return the view.
+     * @throws NullPointerException if {@code jsonFields} is {@code null}.
+     */
+    public JsonObject apply(final Iterable<JsonField> jsonFields) {
+        checkNotNull(jsonFields, "jsonFields");
+        if (jsonFields instanceof JsonObject &&
+                (((JsonObject) jsonFields).isNull() || permitted && children.isEmpty())) {
+            return (JsonObject) jsonFields;
+        }
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final JsonValue view = getChild(field.getKey()).getViewOrNull(field.getValue());
+            if (null != view) {
+                outputObjectBuilder.set(field.getKey(), view);
+            }
+        }
+        return outputObjectBuilder.build();
+    }
+
+    private JsonViewFilter getChild(final JsonKey key) {
+        final JsonViewFilter child = children.get(key);
+        return null != child ? child : of(permitted);
+    }
+
+    @Nullable
+    private JsonValue getViewOrNull(final JsonValue jsonValue) {
+        final JsonValue result;
+        if (children.isEmpty()) {
+            // no descendant differs from this node
+            result = permitted ? jsonValue : null;
+        } else if (jsonValue.isObject()) {
+            final JsonObject view = apply(jsonValue.asObject());
+            result = permitted || !view.isEmpty() ? view : null;
+        } else if (jsonValue.isArray()) {
+            final JsonArray view = jsonValue.asArray()
+                    .stream()
+                    .map(this::getViewOrNull)
+                    .filter(Objects::nonNull)
+                    .collect(JsonCollectors.valuesToArray());
+            result = permitted || !view.isEmpty() ? view : null;
+        } else {
+            result = permitted ? jsonValue : null;
+        }
+        return result;
+    }
+
+    private JsonViewFilter with(final JsonPointer pointer, final boolean permitted, final boolean clearChildren) {
+        final Optional<JsonKey> root = pointer.getRoot();
+        if (!root.isPresent()) {
+            return clearChildren ? of(permitted) : of(permitted, children);
+        }
+        final Map<JsonKey, JsonViewFilter> newChildren = new LinkedHashMap<>(children);
+        newChildren.put(root.get(), getChild(root.get()).with(pointer.nextLevel(), permitted, clearChildren));
+        return of(this.permitted, newChildren);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final JsonViewFilter that = (JsonViewFilter) o;
+        return permitted == that.permitted && children.equals(that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(permitted, children);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "permitted=" + permitted +
+                ", children=" + children +
+                "]";
+    }
+
+}
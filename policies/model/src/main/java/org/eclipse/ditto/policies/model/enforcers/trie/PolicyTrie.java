@@ -43,6 +43,7 @@ import org.eclipse.ditto.policies.model.ResourceKey;
 import org.eclipse.ditto.policies.model.Subject;
 import org.eclipse.ditto.policies.model.SubjectId;
 import org.eclipse.ditto.policies.model.Subjects;
+import org.eclipse.ditto.policies.model.enforcers.JsonViewFilter;
 
 /**
  * Trie data structure for a policy optimized for policy enforcement.
@@ -248,6 +249,19 @@ final class PolicyTrie {
         return outputObjectBuilder.build();
     }
 
+    /**
+     * Compiles the decisions of this trie node and all its descendants for the given subjects and permissions.
+     *
+     * @param subjectIds the subject IDs.
+     * @param permissions the permissions.
+     * @return the compiled filter.
+     */
+    JsonViewFilter toJsonViewFilter(final Collection<String> subjectIds, final Permissions permissions) {
+        final Map<JsonKey, JsonViewFilter> childFilters = new HashMap<>(children.size());
+        children.forEach((key, child) -> childFilters.put(key, child.toJsonViewFilter(subjectIds, permissions)));
+        return JsonViewFilter.of(grantRevokeIndex.hasPermissions(subjectIds, permissions), childFilters);
+    }
+
     @Nullable
     private JsonValue getViewForJsonFieldOrNull(final JsonField jsonField,
             final PolicyTrie defaultPolicyTrie,
@@ -14,6 +14,7 @@ package org.eclipse.ditto.policies.model.enforcers.trie;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
@@ -24,6 +25,7 @@ import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
 import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
 import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.JsonViewFilter;
 import org.eclipse.ditto.policies.model.Permissions;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyEntry;
@@ -205,6 +207,26 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         }
     }
 
+    @Override
+    public Optional<JsonViewFilter> getJsonViewFilter(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(authorizationContext, "authorization context");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (inheritedTrie.hasChild(typeKey)) {
+            final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return Optional.of(
+                    start.toJsonViewFilter(authorizationContext.getAuthorizationSubjectIds(), permissions));
+        } else {
+            return Optional.of(JsonViewFilter.of(false));
+        }
+    }
+
     /**
      * Returns a node in the trie {@code firstTry} whose path from root matches the given resource key exactly if it
      * exists, otherwise seek to the node in the trie {@code fallback} whose path from root matches the resource key the
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.ScenarioSetup;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario1;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario10;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario11;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario12;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario13;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario2;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario3;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario4;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario5;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario6;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario7;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario8;
+import org.eclipse.ditto.policies.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario9;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonViewFilter}.
+ */
+public final class JsonViewFilterTest {
+
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final AuthorizationSubject RESTRICTED_SUBJECT =
+            AuthorizationSubject.newInstance("test:restricted");
+    private static final AuthorizationContext RESTRICTED_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, RESTRICTED_SUBJECT);
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", JsonPointer.empty());
+
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", "namespace:thing")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("location", "kitchen")
+                    .set("secret", JsonObject.newBuilder().set("pin", 1234).build())
+                    .set("list", JsonArray.newBuilder().add(JsonObject.newBuilder().set("a", 1).build(), JsonValue.of(2)).build())
+                    .set("empty", JsonObject.empty())
+                    .build())
+            .set("features", JsonObject.newBuilder()
+                    .set("lamp", JsonObject.newBuilder()
+                            .set("properties", JsonObject.newBuilder()
+                                    .set("on", true)
+                                    .set("hidden", JsonObject.newBuilder().set("x", 1).build())
+                                    .build())
+                            .build())
+                    .set("door", JsonObject.newBuilder()
+                            .set("properties", JsonObject.newBuilder().set("open", false).build())
+                            .build())
+                    .build())
+            .build();
+
+    @Test
+    public void filterBuildsSameViewAsEnforcerForAllJsonViewScenarios() {
+        final List<JsonViewScenario> scenarios = List.of(new JsonViewScenario1(), new JsonViewScenario2(),
+                new JsonViewScenario3(), new JsonViewScenario4(), new JsonViewScenario5(), new JsonViewScenario6(),
+                new JsonViewScenario7(), new JsonViewScenario8(), new JsonViewScenario9(), new JsonViewScenario10(),
+                new JsonViewScenario11(), new JsonViewScenario12(), JsonViewScenario13.getInstance());
+
+        for (final JsonViewScenario scenario : scenarios) {
+            final ScenarioSetup setup = scenario.getSetup();
+            final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(setup.getPolicy());
+            final ResourceKey resourceKey = ResourceKey.newInstance("thing", setup.getResource());
+            final JsonObject input = setup.getFullJsonObject()
+                    .flatMap(json -> json.getValue(setup.getResource()))
+                    .map(JsonValue::asObject)
+                    .orElseGet(JsonFactory::newObject);
+
+            final JsonObject expected = enforcer.buildJsonView(resourceKey, input, setup.getAuthorizationContext(),
+                    setup.getRequiredPermissions());
+            final JsonViewFilter filter = enforcer.getJsonViewFilter(resourceKey, setup.getAuthorizationContext(),
+                    setup.getRequiredPermissions()).orElseThrow();
+
+            assertThat(filter.apply(input)).as(scenario.getName()).isEqualTo(expected);
+            assertThat(JsonViewFilter.fromJson(filter.toJson()).apply(input)).as(scenario.getName())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void filterBuildsSameViewAsEnforcerForRevokedSubResources() {
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(restrictedPolicy());
+
+        final JsonObject expected = enforcer.buildJsonView(THING_ROOT, THING, RESTRICTED_CONTEXT, READ);
+        final JsonViewFilter filter =
+                enforcer.getJsonViewFilter(THING_ROOT, RESTRICTED_CONTEXT, READ).orElseThrow();
+
+        assertThat(expected).isEqualTo(JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder()
+                        .set("location", "kitchen")
+                        .set("list", JsonArray.newBuilder().add(JsonObject.newBuilder().set("a", 1).build(), JsonValue.of(2)).build())
+                        .set("empty", JsonObject.empty())
+                        .build())
+                .set("features", JsonObject.newBuilder()
+                        .set("lamp", JsonObject.newBuilder()
+                                .set("properties", JsonObject.newBuilder().set("on", true).build())
+                                .build())
+                        .build())
+                .build());
+        assertThat(filter.apply(THING)).isEqualTo(expected);
+        assertThat(JsonViewFilter.fromJson(filter.toJson())).isEqualTo(filter);
+    }
+
+    @Test
+    public void filterOfUnknownSubjectRemovesEverything() {
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(restrictedPolicy());
+        final AuthorizationContext unknownContext = AuthorizationContext.newInstance(
+                DittoAuthorizationContextType.UNSPECIFIED, AuthorizationSubject.newInstance("test:unknown"));
+
+        final JsonViewFilter filter = enforcer.getJsonViewFilter(THING_ROOT, unknownContext, READ).orElseThrow();
+
+        assertThat(filter).isEqualTo(JsonViewFilter.of(false));
+        assertThat(filter.apply(THING)).isEmpty();
+    }
+
+    @Test
+    public void redundantNodesAreDropped() {
+        final JsonViewFilter underTest = JsonViewFilter.of(true, Map.of(
+                JsonKey.of("a"), JsonViewFilter.of(true),
+                JsonKey.of("b"), JsonViewFilter.of(true, Map.of(JsonKey.of("c"), JsonViewFilter.of(true)))));
+
+        assertThat(underTest).isEqualTo(JsonViewFilter.of(true));
+        assertThat(underTest.toJson()).isEqualTo(JsonArray.of("[\"+/\"]"));
+    }
+
+    @Test
+    public void allowlistedPointersAreReadable() {
+        final JsonViewFilter underTest = JsonViewFilter.fromJson(JsonArray.of("[\"-/\", \"+/features/door\"]"))
+                .allow(JsonFieldSelector.newInstance("thingId", "attributes/secret"));
+
+        assertThat(underTest.apply(THING)).isEqualTo(JsonObject.newBuilder()
+                .set("thingId", "namespace:thing")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("secret", JsonObject.newBuilder().set("pin", 1234).build())
+                        .build())
+                .set("features", JsonObject.newBuilder()
+                        .set("door", JsonObject.newBuilder()
+                                .set("properties", JsonObject.newBuilder().set("open", false).build())
+                                .build())
+                        .build())
+                .build());
+    }
+
+    @Test
+    public void restrictionToSelectedPointersKeepsView() {
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(restrictedPolicy());
+        final JsonViewFilter filter = enforcer.getJsonViewFilter(THING_ROOT, RESTRICTED_CONTEXT, READ).orElseThrow();
+        final JsonFieldSelector selector = JsonFieldSelector.newInstance("thingId", "features/lamp");
+        final JsonObject selected = THING.get(selector);
+
+        final JsonViewFilter underTest = filter.restrictTo(selector);
+
+        assertThat(underTest.toJson().getSize()).isLessThan(filter.toJson().getSize());
+        assertThat(underTest.apply(selected)).isEqualTo(filter.apply(selected));
+        assertThat(filter.restrictTo(JsonFieldSelector.newInstance("features/*/properties"))
+                .apply(THING.get(JsonFieldSelector.newInstance("features"))))
+                .isEqualTo(filter.apply(THING.get(JsonFieldSelector.newInstance("features"))));
+    }
+
+    @Test
+    public void parsingInvalidEntryFails() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonViewFilter.fromJson(JsonArray.of("[\"/attributes\"]")));
+    }
+
+    private static Policy restrictedPolicy() {
+        return Policy.newBuilder(PolicyId.of("namespace", "policy"))
+                .forLabel("restricted")
+                .setSubject(RESTRICTED_SUBJECT.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), READ)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), READ)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/lamp"), READ)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/features/lamp/properties/hidden"), READ)
+                .forLabel("other")
+                .setSubject("test:other", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ)
+                .build();
+    }
+
+}
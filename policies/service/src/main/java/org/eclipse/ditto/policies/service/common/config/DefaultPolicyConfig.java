@@ -26,6 +26,8 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultActivity
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.CleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultPassivationConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.PassivationConfig;
 
 import com.typesafe.config.Config;
 
@@ -45,6 +47,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     private final String subjectIdResolver;
     private final PolicyAnnouncementConfig policyAnnouncementConfig;
     private final CleanupConfig cleanupConfig;
+    private final PassivationConfig passivationConfig;
 
     private DefaultPolicyConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
@@ -58,6 +61,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         subjectIdResolver = scopedConfig.getString(PolicyConfigValue.SUBJECT_ID_RESOLVER.getConfigPath());
         policyAnnouncementConfig = PolicyAnnouncementConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
+        passivationConfig = DefaultPassivationConfig.of(scopedConfig);
     }
 
     /**
@@ -114,6 +118,11 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         return cleanupConfig;
     }
 
+    @Override
+    public PassivationConfig getPassivationConfig() {
+        return passivationConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -131,14 +140,15 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                         that.policySubjectDeletionAnnouncementGranularity) &&
                 Objects.equals(subjectIdResolver, that.subjectIdResolver) &&
                 Objects.equals(policyAnnouncementConfig, that.policyAnnouncementConfig) &&
-                Objects.equals(cleanupConfig, that.cleanupConfig);
+                Objects.equals(cleanupConfig, that.cleanupConfig) &&
+                Objects.equals(passivationConfig, that.passivationConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, policySubjectExpiryGranularity,
                 policySubjectDeletionAnnouncementGranularity, subjectIdResolver, policyAnnouncementConfig,
-                cleanupConfig);
+                cleanupConfig, passivationConfig);
     }
 
     @Override
@@ -152,6 +162,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 ", subjectIdResolver=" + subjectIdResolver +
                 ", policyAnnouncementConfig=" + policyAnnouncementConfig +
                 ", cleanUpConfig=" + cleanupConfig +
+                ", passivationConfig=" + passivationConfig +
                 "]";
     }
 }
@@ -21,13 +21,14 @@ import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.WithCleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.WithPassivationConfig;
 
 /**
  * Provides configuration settings for policy entities.
  */
 @Immutable
 public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
-        WithCleanupConfig {
+        WithCleanupConfig, WithPassivationConfig {
 
     /**
      * Returns the configuration to which duration the {@code expiry} of a {@code Policy Subject} should be rounded up
@@ -31,6 +31,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.DefaultContext;
+import org.eclipse.ditto.internal.utils.persistentactors.config.PassivationConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.Policy;
@@ -180,6 +181,11 @@ public final class PolicyPersistenceActor
         return policyConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected PassivationConfig getPassivationConfig() {
+        return policyConfig.getPassivationConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(PolicyLifecycle.DELETED);
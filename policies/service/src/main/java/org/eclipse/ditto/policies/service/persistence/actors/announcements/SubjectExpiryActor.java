@@ -21,7 +21,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -462,7 +461,7 @@ public final class SubjectExpiryActor extends AbstractFSM<SubjectExpiryState, No
             return null;
         } else {
             return ackregatorStarter.doStart(policyId, announcement, null, this::receiveAcknowledgements,
-                    Function.identity());
+                    (signalToForward, ackregator) -> ackregator);
         }
     }
 
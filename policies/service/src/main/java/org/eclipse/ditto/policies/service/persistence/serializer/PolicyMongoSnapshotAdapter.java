@@ -17,6 +17,7 @@ import java.util.Optional;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -39,6 +40,16 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
         super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class));
     }
 
+    /**
+     * Constructs a new {@code PolicyMongoSnapshotAdapter} which writes snapshots in the configured format.
+     *
+     * @param snapshotConfig the snapshot config determining the format in which snapshots are written.
+     * @since 3.0.0
+     */
+    public PolicyMongoSnapshotAdapter(final SnapshotConfig snapshotConfig) {
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), snapshotConfig);
+    }
+
     @Override
     protected boolean isDeleted(final Policy snapshotEntity) {
         return snapshotEntity.hasLifecycle(PolicyLifecycle.DELETED);
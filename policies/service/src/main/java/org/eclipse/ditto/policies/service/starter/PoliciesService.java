@@ -57,7 +57,8 @@ public final class PoliciesService extends DittoService<PoliciesConfig> {
     @Override
     protected Props getMainRootActorProps(final PoliciesConfig policiesConfig, final ActorRef pubSubMediator) {
 
-        return PoliciesRootActor.props(policiesConfig, new PolicyMongoSnapshotAdapter(), pubSubMediator);
+        return PoliciesRootActor.props(policiesConfig, new PolicyMongoSnapshotAdapter(policiesConfig.getPolicyConfig().getSnapshotConfig()),
+                pubSubMediator);
     }
 
 }
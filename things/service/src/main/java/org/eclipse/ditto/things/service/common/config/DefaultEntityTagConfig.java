@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link EntityTagConfig}.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class DefaultEntityTagConfig implements EntityTagConfig {
+
+    private static final String CONFIG_PATH = "entity-tag";
+
+    private final EntityTagMode mode;
+
+    private DefaultEntityTagConfig(final ScopedConfig config) {
+        final String modeName = config.getString(EntityTagConfigValue.MODE.getConfigPath());
+        mode = EntityTagMode.forName(modeName)
+                .orElseThrow(() -> new DittoConfigError("Unknown entity tag mode <" + modeName + ">. Supported " +
+                        "modes are: " + Arrays.toString(EntityTagMode.values())));
+    }
+
+    /**
+     * Returns an instance of the default entity tag config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the entity tag config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEntityTagConfig of(final Config config) {
+        return new DefaultEntityTagConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, EntityTagConfigValue.values()));
+    }
+
+    @Override
+    public EntityTagMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEntityTagConfig that = (DefaultEntityTagConfig) o;
+        return mode == that.mode;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "mode=" + mode +
+                "]";
+    }
+
+}
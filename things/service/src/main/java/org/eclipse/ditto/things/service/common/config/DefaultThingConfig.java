@@ -25,6 +25,10 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultActivity
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.CleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultPassivationConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.PassivationConfig;
 
 import com.typesafe.config.Config;
 
@@ -40,12 +44,18 @@ public final class DefaultThingConfig implements ThingConfig {
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
     private final CleanupConfig cleanupConfig;
+    private final GroupCommitConfig groupCommitConfig;
+    private final PassivationConfig passivationConfig;
+    private final EntityTagConfig entityTagConfig;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
+        groupCommitConfig = DefaultGroupCommitConfig.of(scopedConfig);
+        passivationConfig = DefaultPassivationConfig.of(scopedConfig);
+        entityTagConfig = DefaultEntityTagConfig.of(scopedConfig);
     }
 
     /**
@@ -86,12 +96,16 @@ public final class DefaultThingConfig implements ThingConfig {
         return Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
-                Objects.equals(cleanupConfig, that.cleanupConfig);
+                Objects.equals(cleanupConfig, that.cleanupConfig) &&
+                Objects.equals(groupCommitConfig, that.groupCommitConfig) &&
+                Objects.equals(passivationConfig, that.passivationConfig) &&
+                Objects.equals(entityTagConfig, that.entityTagConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, cleanupConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, cleanupConfig,
+                groupCommitConfig, passivationConfig, entityTagConfig);
     }
 
     @Override
@@ -101,6 +115,9 @@ public final class DefaultThingConfig implements ThingConfig {
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
                 ", cleanupConfig=" + cleanupConfig +
+                ", groupCommitConfig=" + groupCommitConfig +
+                ", passivationConfig=" + passivationConfig +
+                ", entityTagConfig=" + entityTagConfig +
                 "]";
     }
 
@@ -108,4 +125,19 @@ public final class DefaultThingConfig implements ThingConfig {
     public CleanupConfig getCleanupConfig() {
         return cleanupConfig;
     }
+
+    @Override
+    public GroupCommitConfig getGroupCommitConfig() {
+        return groupCommitConfig;
+    }
+
+    @Override
+    public PassivationConfig getPassivationConfig() {
+        return passivationConfig;
+    }
+
+    @Override
+    public EntityTagConfig getEntityTagConfig() {
+        return entityTagConfig;
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the entity tags (ETags) of Things and their sub-resources.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public interface EntityTagConfig {
+
+    /**
+     * Returns how the entity tags of sub-resources of a Thing are derived.
+     *
+     * @return the entity tag mode.
+     */
+    EntityTagMode getMode();
+
+    /**
+     * The ways in which the entity tags of sub-resources of a Thing can be derived.
+     */
+    enum EntityTagMode {
+
+        /**
+         * The entity tag of a sub-resource is the hash of its content.
+         */
+        HASH,
+
+        /**
+         * The entity tag of a sub-resource is the revision of the Thing in which the sub-resource was modified last.
+         * It is computed without touching the content of the sub-resource.
+         */
+        REVISION;
+
+        /**
+         * Returns the entity tag mode with the given name, ignoring case.
+         *
+         * @param name the name of the mode.
+         * @return the mode or an empty Optional.
+         */
+        public static Optional<EntityTagMode> forName(final CharSequence name) {
+            return Arrays.stream(values())
+                    .filter(mode -> mode.name().equalsIgnoreCase(name.toString()))
+                    .findAny();
+        }
+
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EntityTagConfig}.
+     */
+    enum EntityTagConfigValue implements KnownConfigValue {
+
+        /**
+         * How the entity tags of sub-resources are derived.
+         */
+        MODE("mode", "hash");
+
+        private final String path;
+        private final Object defaultValue;
+
+        EntityTagConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
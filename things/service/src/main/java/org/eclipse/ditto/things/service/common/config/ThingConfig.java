@@ -18,11 +18,22 @@ import org.eclipse.ditto.base.service.config.supervision.WithSupervisorConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.WithCleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.WithGroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.WithPassivationConfig;
 
 /**
  * Provides configuration settings for thing entities.
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
-        WithCleanupConfig {
+        WithCleanupConfig, WithGroupCommitConfig, WithPassivationConfig {
+
+    /**
+     * Returns the config of the entity tags of Things and their sub-resources.
+     *
+     * @return the entity tag config.
+     * @since 3.0.0
+     */
+    EntityTagConfig getEntityTagConfig();
+
 }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -21,15 +23,19 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJsonCodec;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.DefaultContext;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.PassivationConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingBuilder;
@@ -43,15 +49,22 @@ import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommandResponse;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.things.service.common.config.DittoThingsConfig;
+import org.eclipse.ditto.things.service.common.config.EntityTagConfig;
 import org.eclipse.ditto.things.service.common.config.ThingConfig;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.commands.RevisionEntityTagContext;
 import org.eclipse.ditto.things.service.persistence.actors.strategies.commands.ThingCommandStrategies;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.events.PathRevisionIndex;
 import org.eclipse.ditto.things.service.persistence.actors.strategies.events.ThingEventStrategies;
 import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoSnapshotAdapter;
 
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.japi.pf.ReceiveBuilder;
 import akka.persistence.RecoveryCompleted;
+import akka.persistence.SnapshotOffer;
 
 /**
  * PersistentActor which "knows" the state of a single {@link Thing}.
@@ -74,11 +87,18 @@ public final class ThingPersistenceActor
      */
     static final String SNAPSHOT_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-snapshots";
 
+    /**
+     * The top-level field of the snapshots which stores the {@link PathRevisionIndex} of the Thing.
+     */
+    static final String REVISION_INDEX_SNAPSHOT_FIELD = "__pathRevisions";
+
     private static final AckExtractor<ThingEvent<?>> ACK_EXTRACTOR =
             AckExtractor.of(ThingEvent::getEntityId, ThingEvent::getDittoHeaders);
 
     private final ThingConfig thingConfig;
     private final DistributedPub<ThingEvent<?>> distributedPub;
+    @Nullable private final PathRevisionIndex revisionIndex;
+    private final EventStrategy<ThingEvent<?>, Thing> eventStrategy;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId, final DistributedPub<ThingEvent<?>> distributedPub,
@@ -90,6 +110,13 @@ public final class ThingPersistenceActor
         );
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
+        if (thingConfig.getEntityTagConfig().getMode() == EntityTagConfig.EntityTagMode.REVISION) {
+            revisionIndex = PathRevisionIndex.newInstance();
+            eventStrategy = ThingEventStrategies.withRevisionIndex(revisionIndex);
+        } else {
+            revisionIndex = null;
+            eventStrategy = ThingEventStrategies.getInstance();
+        }
     }
 
     /**
@@ -157,6 +184,9 @@ public final class ThingPersistenceActor
 
     @Override
     protected CommandStrategy.Context<ThingId> getStrategyContext() {
+        if (null != revisionIndex) {
+            return RevisionEntityTagContext.of(entityId, log, revisionIndex);
+        }
         return DefaultContext.getInstance(entityId, log);
     }
 
@@ -172,7 +202,7 @@ public final class ThingPersistenceActor
 
     @Override
     protected EventStrategy<ThingEvent<?>, Thing> getEventStrategy() {
-        return ThingEventStrategies.getInstance();
+        return eventStrategy;
     }
 
     @Override
@@ -185,6 +215,16 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected PassivationConfig getPassivationConfig() {
+        return thingConfig.getPassivationConfig();
+    }
+
+    @Override
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return thingConfig.getGroupCommitConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -210,9 +250,56 @@ public final class ThingPersistenceActor
             entity = enhanceThingWithLifecycle(entity);
             log.info("Thing <{}> was recovered.", entityId);
         }
+        if (null != revisionIndex && revisionIndex.getLastRecordedRevision() > getRevisionNumber()) {
+            // the snapshot was taken while events were being persisted which never made it into the journal
+            log.info("Discarding revision index of Thing <{}> recorded up to revision <{}> after recovering " +
+                    "revision <{}>.", entityId, revisionIndex.getLastRecordedRevision(), getRevisionNumber());
+            revisionIndex.clear();
+        }
         super.recoveryCompleted(event);
     }
 
+    @Override
+    protected Object toSnapshotStore(final Thing snapshotEntity) {
+        final Object snapshot = super.toSnapshotStore(snapshotEntity);
+        final Object result;
+        if (null != revisionIndex && snapshot instanceof BsonDocument) {
+            final BsonDocument snapshotWithRevisionIndex = new BsonDocument();
+            snapshotWithRevisionIndex.putAll((BsonDocument) snapshot);
+            snapshotWithRevisionIndex.put(REVISION_INDEX_SNAPSHOT_FIELD,
+                    DittoBsonJsonCodec.getInstance().toRawBsonDocument(revisionIndex.toJson()));
+            result = snapshotWithRevisionIndex;
+        } else {
+            result = snapshot;
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    protected Thing fromSnapshotStore(final SnapshotOffer snapshotOffer) {
+        if (null != revisionIndex) {
+            restoreRevisionIndex(revisionIndex, snapshotOffer.snapshot());
+        }
+        return super.fromSnapshotStore(snapshotOffer);
+    }
+
+    private void restoreRevisionIndex(final PathRevisionIndex index, final Object snapshot) {
+        index.clear();
+        if (snapshot instanceof BsonDocument) {
+            final BsonValue indexValue = ((BsonDocument) snapshot).get(REVISION_INDEX_SNAPSHOT_FIELD);
+            if (null != indexValue && indexValue.isDocument()) {
+                try {
+                    index.restore(DittoBsonJsonCodec.getInstance().toJsonObject(indexValue.asDocument()));
+                } catch (final JsonRuntimeException e) {
+                    log.warning("Ignoring invalid revision index in snapshot of Thing <{}>: {}", entityId,
+                            e.getMessage());
+                    index.clear();
+                }
+            }
+        }
+    }
+
     @Override
     protected void publishEvent(final ThingEvent<?> event) {
         distributedPub.publishWithAcks(event, ACK_EXTRACTOR, getSender());
@@ -19,6 +19,8 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.base.model.entity.metadata.Metadata;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeadersSettable;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.base.model.signals.WithOptionalEntity;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.headers.conditional.ConditionalHeadersValidator;
@@ -26,11 +28,16 @@ import org.eclipse.ditto.internal.utils.persistentactors.MetadataFromSignal;
 import org.eclipse.ditto.internal.utils.persistentactors.etags.AbstractConditionHeaderCheckingCommandStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingRevision;
 import org.eclipse.ditto.things.model.signals.commands.ThingCommand;
+import org.eclipse.ditto.things.model.signals.commands.ThingResource;
+import org.eclipse.ditto.things.model.signals.commands.ThingResourceMapper;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.events.PathRevisionIndex;
 
 /**
  * Abstract base class for {@link org.eclipse.ditto.things.model.signals.commands.ThingCommand} strategies.
@@ -95,6 +102,98 @@ abstract class AbstractThingCommandStrategy<C extends Command<C>>
         return result;
     }
 
+    /**
+     * Determines the entity tag of the addressed (sub-)resource before the command is applied. If the context provides
+     * a revision index, the entity tags of sub-resources are derived from it without touching their content.
+     */
+    @Override
+    protected Optional<EntityTag> previousEntityTag(final Context<ThingId> context, final C command,
+            @Nullable final Thing entity) {
+
+        final PathRevisionIndex revisionIndex = getRevisionIndex(context, command);
+        if (null != revisionIndex) {
+            return getLastModifiedEntityTag(command, entity, revisionIndex);
+        }
+        return super.previousEntityTag(context, command, entity);
+    }
+
+    /**
+     * Appends the entity tag of the (sub-)resource a query command addresses to the response.
+     *
+     * @param context the context of the persistent actor.
+     * @param command the query command.
+     * @param response the response to append the entity tag to.
+     * @param entity the thing.
+     * @return the response with the entity tag appended.
+     */
+    protected DittoHeadersSettable<?> appendETagHeaderIfProvided(final Context<ThingId> context, final C command,
+            final DittoHeadersSettable<?> response, @Nullable final Thing entity) {
+
+        final PathRevisionIndex revisionIndex = getRevisionIndex(context, command);
+        if (null != revisionIndex) {
+            return appendETagHeader(response, getLastModifiedEntityTag(command, entity, revisionIndex));
+        }
+        return appendETagHeaderIfProvided(command, response, entity);
+    }
+
+    /**
+     * Appends the entity tag of the (sub-)resource a command creates or modifies to the response.
+     *
+     * @param context the context of the persistent actor.
+     * @param nextRevision the revision of the event which creates or modifies the (sub-)resource.
+     * @param command the modifying command.
+     * @param response the response to append the entity tag to.
+     * @param entity the thing.
+     * @return the response with the entity tag appended.
+     */
+    protected DittoHeadersSettable<?> appendETagHeaderIfProvided(final Context<ThingId> context,
+            final long nextRevision, final C command, final DittoHeadersSettable<?> response,
+            @Nullable final Thing entity) {
+
+        if (null != getRevisionIndex(context, command)) {
+            return appendETagHeader(response, Optional.of(EntityTagCalculator.revisionEntityTag(nextRevision)));
+        }
+        return appendETagHeaderIfProvided(command, response, entity);
+    }
+
+    /**
+     * Returns the revision index of the context if entity tags of the resource addressed by the command are to be
+     * derived from it.
+     *
+     * @param context the context of the persistent actor.
+     * @param command the command.
+     * @return the revision index or {@code null} if the entity tags are calculated from the content.
+     */
+    @Nullable
+    static PathRevisionIndex getRevisionIndex(final Context<ThingId> context, final Command<?> command) {
+        final JsonPointer resourcePath = command.getResourcePath();
+        if (context instanceof RevisionEntityTagContext && !resourcePath.isEmpty() &&
+                ThingResource.from(resourcePath).isPresent()) {
+            return ((RevisionEntityTagContext) context).getRevisionIndex();
+        }
+        return null;
+    }
+
+    private static Optional<EntityTag> getLastModifiedEntityTag(final Command<?> command,
+            @Nullable final Thing entity, final PathRevisionIndex revisionIndex) {
+
+        final long currentRevision = Optional.ofNullable(entity)
+                .flatMap(Thing::getRevision)
+                .map(ThingRevision::toLong)
+                .orElse(0L);
+        return ThingResourceMapper.from(EntityTagCalculator.forRevisions(
+                        path -> revisionIndex.getLastModifiedRevision(path, currentRevision)))
+                .map(command.getResourcePath(), entity);
+    }
+
+    static DittoHeadersSettable<?> appendETagHeader(final DittoHeadersSettable<?> response,
+            final Optional<EntityTag> entityTag) {
+
+        return entityTag.<DittoHeadersSettable<?>>map(tag -> response.setDittoHeaders(
+                        response.getDittoHeaders().toBuilder().eTag(tag).build()))
+                .orElse(response);
+    }
+
     @Override
     protected Optional<Metadata> calculateRelativeMetadata(@Nullable final Thing entity, final C command) {
 
@@ -14,6 +14,8 @@
 package org.eclipse.ditto.things.service.persistence.actors.strategies.commands;
 
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 
 import javax.annotation.Nullable;
 
@@ -30,15 +32,43 @@ import org.eclipse.ditto.things.model.signals.commands.ThingResourceVisitor;
  */
 class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<EntityTag>> {
 
-    private static final EntityTagCalculator INSTANCE = new EntityTagCalculator();
+    private static final String REVISION_PREFIX = "rev:";
 
-    private EntityTagCalculator() {
+    private static final EntityTagCalculator INSTANCE =
+            new EntityTagCalculator((path, subResource) -> EntityTag.fromEntity(subResource));
+
+    private final BiFunction<JsonPointer, Object, Optional<EntityTag>> subResourceEntityTag;
+
+    private EntityTagCalculator(final BiFunction<JsonPointer, Object, Optional<EntityTag>> subResourceEntityTag) {
+        this.subResourceEntityTag = subResourceEntityTag;
     }
 
     static EntityTagCalculator getInstance() {
         return INSTANCE;
     }
 
+    /**
+     * Returns a calculator which derives the entity tags of existing sub-resources from the revision in which they
+     * were modified last instead of from their content.
+     *
+     * @param lastModifiedRevision provides the last modified revision of the sub-resource at a path.
+     * @return the calculator.
+     */
+    static EntityTagCalculator forRevisions(final ToLongFunction<JsonPointer> lastModifiedRevision) {
+        return new EntityTagCalculator((path, subResource) ->
+                Optional.of(revisionEntityTag(lastModifiedRevision.applyAsLong(path))));
+    }
+
+    /**
+     * Returns the strong entity tag of a sub-resource which was modified last in the given revision.
+     *
+     * @param revision the revision.
+     * @return the entity tag.
+     */
+    static EntityTag revisionEntityTag(final long revision) {
+        return EntityTag.strong("\"" + REVISION_PREFIX + revision + "\"");
+    }
+
     @Override
     public Optional<EntityTag> visitThing(final JsonPointer path, @Nullable final Thing thing) {
         return EntityTag.fromEntity(thing);
@@ -58,7 +88,7 @@ class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<Entity
     public Optional<EntityTag> visitAttributes(final JsonPointer path, @Nullable final Thing thing) {
         return Optional.ofNullable(thing)
                 .flatMap(Thing::getAttributes)
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
@@ -67,7 +97,7 @@ class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<Entity
         return Optional.ofNullable(thing)
                 .flatMap(Thing::getAttributes)
                 .flatMap(attributes -> attributes.getValue(attributePath))
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
@@ -76,14 +106,14 @@ class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<Entity
         return Optional.ofNullable(thing)
                 .flatMap(Thing::getFeatures)
                 .flatMap(features -> features.getFeature(featureId))
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
     public Optional<EntityTag> visitFeatures(final JsonPointer path, @Nullable final Thing thing) {
         return Optional.ofNullable(thing)
                 .flatMap(Thing::getFeatures)
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
@@ -93,7 +123,7 @@ class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<Entity
                 .flatMap(Thing::getFeatures)
                 .flatMap(features -> features.getFeature(featureId))
                 .flatMap(Feature::getDefinition)
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
@@ -103,7 +133,7 @@ class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<Entity
                 .flatMap(Thing::getFeatures)
                 .flatMap(features -> features.getFeature(featureId))
                 .flatMap(Feature::getProperties)
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
@@ -115,7 +145,7 @@ class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<Entity
                 .flatMap(features -> features.getFeature(featureId))
                 .flatMap(Feature::getProperties)
                 .flatMap(properties -> properties.getValue(propertyPath))
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
@@ -125,7 +155,7 @@ class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<Entity
                 .flatMap(Thing::getFeatures)
                 .flatMap(features -> features.getFeature(featureId))
                 .flatMap(Feature::getDesiredProperties)
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
@@ -137,7 +167,7 @@ class EntityTagCalculator implements ThingResourceVisitor<Thing, Optional<Entity
                 .flatMap(features -> features.getFeature(featureId))
                 .flatMap(Feature::getDesiredProperties)
                 .flatMap(properties -> properties.getValue(propertyPath))
-                .flatMap(EntityTag::fromEntity);
+                .flatMap(subResource -> subResourceEntityTag.apply(path, subResource));
     }
 
     @Override
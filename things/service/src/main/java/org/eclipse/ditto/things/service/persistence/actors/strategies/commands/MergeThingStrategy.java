@@ -21,6 +21,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.base.model.entity.metadata.Metadata;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.DittoHeadersSettable;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.base.model.json.FieldType;
@@ -102,7 +103,8 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
         final MergeThingResponse mergeThingResponse =
                 MergeThingResponse.of(command.getEntityId(), path, dittoHeaders);
 
-        final WithDittoHeaders response = appendETagHeaderIfProvided(command, mergeThingResponse, mergedThing);
+        final WithDittoHeaders response =
+                appendETagHeaderIfProvided(context, nextRevision, command, mergeThingResponse, mergedThing);
         return ResultFactory.newMutationResult(command, event, response);
     }
 
@@ -125,6 +127,22 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
         return mergedThing;
     }
 
+    /**
+     * The merged resource may have been removed by the merge, so its existence is determined from the merged thing.
+     */
+    @Override
+    protected DittoHeadersSettable<?> appendETagHeaderIfProvided(final Context<ThingId> context,
+            final long nextRevision, final MergeThing command, final DittoHeadersSettable<?> response,
+            @Nullable final Thing mergedThing) {
+
+        if (null != getRevisionIndex(context, command)) {
+            return appendETagHeader(response,
+                    ThingResourceMapper.from(EntityTagCalculator.forRevisions(path -> nextRevision))
+                            .map(command.getPath(), mergedThing));
+        }
+        return appendETagHeaderIfProvided(command, response, mergedThing);
+    }
+
     @Override
     public Optional<EntityTag> previousEntityTag(final MergeThing command, @Nullable final Thing previousEntity) {
         return ENTITY_TAG_MAPPER.map(command.getPath(), previousEntity);
@@ -107,7 +107,7 @@ final class ModifyFeaturePropertyStrategy extends AbstractThingCommandStrategy<M
 
         final ThingEvent<?> event = FeaturePropertyModified.of(command.getEntityId(), featureId, propertyPointer,
                 command.getPropertyValue(), nextRevision, getEventTimestamp(), dittoHeaders, metadata);
-        final WithDittoHeaders response = appendETagHeaderIfProvided(command,
+        final WithDittoHeaders response = appendETagHeaderIfProvided(context, nextRevision, command,
                 ModifyFeaturePropertyResponse.modified(context.getState(), featureId, propertyPointer,
                         dittoHeaders),
                 thing);
@@ -126,7 +126,7 @@ final class ModifyFeaturePropertyStrategy extends AbstractThingCommandStrategy<M
         final ThingEvent<?> event =
                 FeaturePropertyCreated.of(command.getEntityId(), featureId, propertyPointer, propertyValue,
                         nextRevision, getEventTimestamp(), dittoHeaders, metadata);
-        final WithDittoHeaders response = appendETagHeaderIfProvided(command,
+        final WithDittoHeaders response = appendETagHeaderIfProvided(context, nextRevision, command,
                 ModifyFeaturePropertyResponse.created(context.getState(), featureId, propertyPointer,
                         propertyValue, dittoHeaders),
                 thing);
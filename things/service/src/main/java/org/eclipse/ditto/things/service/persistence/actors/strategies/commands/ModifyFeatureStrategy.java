@@ -92,7 +92,7 @@ final class ModifyFeatureStrategy extends AbstractThingCommandStrategy<ModifyFea
         final ThingEvent<?> event =
                 FeatureModified.of(command.getEntityId(), command.getFeature(), nextRevision, getEventTimestamp(),
                         dittoHeaders, metadata);
-        final WithDittoHeaders response = appendETagHeaderIfProvided(command,
+        final WithDittoHeaders response = appendETagHeaderIfProvided(context, nextRevision, command,
                 ModifyFeatureResponse.modified(context.getState(), command.getFeatureId(), dittoHeaders),
                 thing);
 
@@ -108,7 +108,7 @@ final class ModifyFeatureStrategy extends AbstractThingCommandStrategy<ModifyFea
         final ThingEvent<?> event =
                 FeatureCreated.of(command.getEntityId(), feature, nextRevision, getEventTimestamp(), dittoHeaders,
                         metadata);
-        final WithDittoHeaders response = appendETagHeaderIfProvided(command,
+        final WithDittoHeaders response = appendETagHeaderIfProvided(context, nextRevision, command,
                 ModifyFeatureResponse.created(context.getState(), feature, dittoHeaders), thing);
 
         return ResultFactory.newMutationResult(command, event, response);
@@ -52,7 +52,7 @@ final class RetrieveAttributeStrategy extends AbstractThingCommandStrategy<Retri
             @Nullable final Metadata metadata) {
 
         return extractAttributes(thing)
-                .map(attributes -> getAttributeValueResult(attributes, context.getState(), command, thing))
+                .map(attributes -> getAttributeValueResult(attributes, context, command, thing))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.attributesNotFound(context.getState(), command.getDittoHeaders()), command));
     }
@@ -61,16 +61,18 @@ final class RetrieveAttributeStrategy extends AbstractThingCommandStrategy<Retri
         return getEntityOrThrow(thing).getAttributes();
     }
 
-    private Result<ThingEvent<?>> getAttributeValueResult(final JsonObject attributes, final ThingId thingId,
+    private Result<ThingEvent<?>> getAttributeValueResult(final JsonObject attributes, final Context<ThingId> context,
             final RetrieveAttribute command, @Nullable final Thing thing) {
 
+        final ThingId thingId = context.getState();
         final JsonPointer attributePointer = command.getAttributePointer();
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
         return attributes.getValue(attributePointer)
                 .map(value -> RetrieveAttributeResponse.of(thingId, attributePointer, value, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.attributeNotFound(thingId, attributePointer, dittoHeaders), command));
     }
@@ -57,7 +57,8 @@ final class RetrieveAttributesStrategy extends AbstractThingCommandStrategy<Retr
                 .map(attributes -> getAttributesJson(attributes, command))
                 .map(attributesJson -> RetrieveAttributesResponse.of(thingId, attributesJson, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing))
                 )
                 .orElseGet(() ->
                         ResultFactory.newErrorResult(ExceptionFactory.attributesNotFound(thingId, dittoHeaders),
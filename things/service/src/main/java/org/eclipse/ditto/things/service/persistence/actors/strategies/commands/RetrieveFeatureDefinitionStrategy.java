@@ -53,7 +53,7 @@ final class RetrieveFeatureDefinitionStrategy extends AbstractThingCommandStrate
         final String featureId = command.getFeatureId();
 
         return extractFeature(command, thing)
-                .map(feature -> getFeatureDefinition(feature, thingId, command, thing))
+                .map(feature -> getFeatureDefinition(feature, context, command, thing))
                 .orElseGet(() -> ResultFactory.newErrorResult(ExceptionFactory.featureNotFound(thingId,
                         featureId, command.getDittoHeaders()), command));
     }
@@ -63,9 +63,10 @@ final class RetrieveFeatureDefinitionStrategy extends AbstractThingCommandStrate
                 .flatMap(features -> features.getFeature(command.getFeatureId()));
     }
 
-    private Result<ThingEvent<?>> getFeatureDefinition(final Feature feature, final ThingId thingId,
+    private Result<ThingEvent<?>> getFeatureDefinition(final Feature feature, final Context<ThingId> context,
             final RetrieveFeatureDefinition command, @Nullable final Thing thing) {
 
+        final ThingId thingId = context.getState();
         final String featureId = feature.getId();
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
@@ -73,7 +74,8 @@ final class RetrieveFeatureDefinitionStrategy extends AbstractThingCommandStrate
                 .map(featureDefinition -> RetrieveFeatureDefinitionResponse.of(thingId, featureId,
                         featureDefinition, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.featureDefinitionNotFound(thingId, featureId, dittoHeaders), command));
     }
@@ -56,7 +56,7 @@ final class RetrieveFeatureDesiredPropertiesStrategy
         final String featureId = command.getFeatureId();
 
         return extractFeature(command, thing)
-                .map(feature -> getFeatureDesiredProperties(feature, thingId, command, thing))
+                .map(feature -> getFeatureDesiredProperties(feature, context, command, thing))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.featureNotFound(thingId, featureId, command.getDittoHeaders()), command));
     }
@@ -69,10 +69,11 @@ final class RetrieveFeatureDesiredPropertiesStrategy
     }
 
     private Result<ThingEvent<?>> getFeatureDesiredProperties(final Feature feature,
-            final ThingId thingId,
+            final Context<ThingId> context,
             final RetrieveFeatureDesiredProperties command,
             @Nullable final Thing thing) {
 
+        final ThingId thingId = context.getState();
         final String featureId = feature.getId();
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
@@ -81,7 +82,8 @@ final class RetrieveFeatureDesiredPropertiesStrategy
                 .map(desiredPropertiesJson -> RetrieveFeatureDesiredPropertiesResponse.of(thingId, featureId,
                         desiredPropertiesJson, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.featureDesiredPropertiesNotFound(thingId, featureId, dittoHeaders), command));
     }
@@ -94,7 +94,8 @@ final class RetrieveFeatureDesiredPropertyStrategy
                 .map(featureDesiredProperty -> RetrieveFeatureDesiredPropertyResponse.of(context.getState(), featureId,
                         propertyPointer, featureDesiredProperty, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.featureDesiredPropertyNotFound(context.getState(), featureId, propertyPointer,
                                 dittoHeaders), command));
@@ -55,7 +55,7 @@ final class RetrieveFeaturePropertiesStrategy extends AbstractThingCommandStrate
         final String featureId = command.getFeatureId();
 
         return extractFeature(command, thing)
-                .map(feature -> getFeatureProperties(feature, thingId, command, thing))
+                .map(feature -> getFeatureProperties(feature, context, command, thing))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.featureNotFound(thingId, featureId, command.getDittoHeaders()), command));
     }
@@ -65,9 +65,10 @@ final class RetrieveFeaturePropertiesStrategy extends AbstractThingCommandStrate
                 .flatMap(features -> features.getFeature(command.getFeatureId()));
     }
 
-    private Result<ThingEvent<?>> getFeatureProperties(final Feature feature, final ThingId thingId,
+    private Result<ThingEvent<?>> getFeatureProperties(final Feature feature, final Context<ThingId> context,
             final RetrieveFeatureProperties command, @Nullable final Thing thing) {
 
+        final ThingId thingId = context.getState();
         final String featureId = feature.getId();
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
@@ -76,7 +77,8 @@ final class RetrieveFeaturePropertiesStrategy extends AbstractThingCommandStrate
                 .map(featurePropertiesJson -> RetrieveFeaturePropertiesResponse.of(thingId, featureId,
                         featurePropertiesJson, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.featurePropertiesNotFound(thingId, featureId, dittoHeaders), command));
     }
@@ -88,7 +88,8 @@ final class RetrieveFeaturePropertyStrategy extends AbstractThingCommandStrategy
                 .map(featureProperty -> RetrieveFeaturePropertyResponse.of(context.getState(), featureId,
                         propertyPointer, featureProperty, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.featurePropertyNotFound(context.getState(), featureId, propertyPointer,
                                 dittoHeaders), command));
@@ -83,7 +83,7 @@ final class RetrieveFeatureStrategy extends AbstractThingCommandStrategy<Retriev
             }
         } else {
             return extractFeatures(thing)
-                    .map(features -> getFeatureResult(features, thingId, command, thing))
+                    .map(features -> getFeatureResult(features, context, command, thing))
                     .orElseGet(() -> ResultFactory.newErrorResult(ExceptionFactory.featureNotFound(thingId,
                             command.getFeatureId(), command.getDittoHeaders()), command));
         }
@@ -117,9 +117,10 @@ final class RetrieveFeatureStrategy extends AbstractThingCommandStrategy<Retriev
         return getEntityOrThrow(thing).getFeatures();
     }
 
-    private Result<ThingEvent<?>> getFeatureResult(final Features features, final ThingId thingId,
+    private Result<ThingEvent<?>> getFeatureResult(final Features features, final Context<ThingId> context,
             final RetrieveFeature command, @Nullable final Thing thing) {
 
+        final ThingId thingId = context.getState();
         final String featureId = command.getFeatureId();
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
@@ -127,7 +128,8 @@ final class RetrieveFeatureStrategy extends AbstractThingCommandStrategy<Retriev
                 .map(feature -> getFeatureJson(feature, command))
                 .map(featureJson -> RetrieveFeatureResponse.of(thingId, featureId, featureJson, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ExceptionFactory.featureNotFound(thingId, featureId, dittoHeaders), command));
     }
@@ -63,7 +63,8 @@ final class RetrieveFeaturesStrategy extends AbstractThingCommandStrategy<Retrie
                 .map(features -> getFeaturesJson(features, command))
                 .map(featuresJson -> RetrieveFeaturesResponse.of(thingId, featuresJson, dittoHeaders))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory
                         .newErrorResult(ExceptionFactory.featuresNotFound(thingId, dittoHeaders), command));
     }
@@ -53,7 +53,8 @@ final class RetrievePolicyIdStrategy extends AbstractThingCommandStrategy<Retrie
                 .map(policyId -> RetrievePolicyIdResponse.of(context.getState(), policyId,
                         command.getDittoHeaders()))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         PolicyIdNotAccessibleException.newBuilder(context.getState())
                                 .dittoHeaders(command.getDittoHeaders())
@@ -54,7 +54,8 @@ final class RetrieveThingDefinitionStrategy extends AbstractThingCommandStrategy
                 .map(definition -> RetrieveThingDefinitionResponse.of(context.getState(), definition,
                         command.getDittoHeaders()))
                 .<Result<ThingEvent<?>>>map(response ->
-                        ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, response, thing)))
+                        ResultFactory.newQueryResult(command,
+                                appendETagHeaderIfProvided(context, command, response, thing)))
                 .orElseGet(() -> ResultFactory.newErrorResult(
                         ThingDefinitionNotAccessibleException.newBuilder(context.getState())
                                 .dittoHeaders(command.getDittoHeaders())
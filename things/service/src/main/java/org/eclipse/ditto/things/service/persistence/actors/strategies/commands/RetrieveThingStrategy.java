@@ -20,14 +20,19 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.base.model.entity.metadata.Metadata;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.DittoHeadersSettable;
 import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.base.model.signals.FeatureToggle;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.policies.model.enforcers.JsonViewFilter;
 import org.eclipse.ditto.things.model.Features;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
@@ -97,20 +102,52 @@ final class RetrieveThingStrategy extends AbstractThingCommandStrategy<RetrieveT
             }
         } else {
             return ResultFactory.newQueryResult(command,
-                    appendETagHeaderIfProvided(command, getRetrieveThingResponse(thing, command), thing));
+                    appendETagHeaderIfProvided(command, getRetrieveThingResponse(context, thing, command), thing));
         }
     }
 
-    private static DittoHeadersSettable<?> getRetrieveThingResponse(@Nullable final Thing thing,
+    private static DittoHeadersSettable<?> getRetrieveThingResponse(final Context<ThingId> context,
+            @Nullable final Thing thing,
             final ThingQueryCommand<RetrieveThing> command) {
         if (thing != null) {
-            return RetrieveThingResponse.of(command.getEntityId(), getThingJson(thing, command),
-                    command.getDittoHeaders());
+            final DittoHeaders dittoHeaders = command.getDittoHeaders();
+            final JsonObject thingJson = getThingJson(thing, command);
+            final Optional<JsonViewFilter> readViewFilter = getReadViewFilter(context, command);
+            if (readViewFilter.isPresent()) {
+                return RetrieveThingResponse.of(command.getEntityId(), readViewFilter.get().apply(thingJson),
+                        dittoHeaders.toBuilder().removeHeader(DittoHeaderDefinition.READ_VIEW_FILTER.getKey()).build());
+            } else {
+                return RetrieveThingResponse.of(command.getEntityId(), thingJson, dittoHeaders);
+            }
         } else {
             return notAccessible(command);
         }
     }
 
+    /**
+     * Reads the read permissions of the requester attached by the enforcement. An unparsable filter is logged and
+     * ignored because the enforcement filters the response again.
+     *
+     * @param context the context of the command.
+     * @param command the command.
+     * @return the read view filter or an empty Optional.
+     */
+    private static Optional<JsonViewFilter> getReadViewFilter(final Context<ThingId> context,
+            final ThingQueryCommand<RetrieveThing> command) {
+
+        return Optional.ofNullable(command.getDittoHeaders().get(DittoHeaderDefinition.READ_VIEW_FILTER.getKey()))
+                .flatMap(value -> {
+                    try {
+                        return Optional.of(JsonViewFilter.fromJson(JsonArray.of(value)));
+                    } catch (final JsonRuntimeException e) {
+                        context.getLog().withCorrelationId(command)
+                                .warning("Ignoring unparsable header <{}>: {}",
+                                        DittoHeaderDefinition.READ_VIEW_FILTER.getKey(), e.getMessage());
+                        return Optional.empty();
+                    }
+                });
+    }
+
     private static JsonObject getThingJson(final Thing thing, final ThingQueryCommand<RetrieveThing> command) {
         return command.getSelectedFields()
                 .map(selectedFields -> {
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors.strategies.commands;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.events.PathRevisionIndex;
+
+/**
+ * Context of the thing command strategies which makes them derive the entity tags of sub-resources from the
+ * revisions in the given {@link PathRevisionIndex} instead of from the content of the sub-resources.
+ *
+ * @since 3.0.0
+ */
+public final class RevisionEntityTagContext implements CommandStrategy.Context<ThingId> {
+
+    private final ThingId state;
+    private final DittoDiagnosticLoggingAdapter log;
+    private final PathRevisionIndex revisionIndex;
+
+    private RevisionEntityTagContext(final ThingId state, final DittoDiagnosticLoggingAdapter log,
+            final PathRevisionIndex revisionIndex) {
+
+        this.state = checkNotNull(state, "state");
+        this.log = checkNotNull(log, "log");
+        this.revisionIndex = checkNotNull(revisionIndex, "revisionIndex");
+    }
+
+    /**
+     * Returns an instance of {@code RevisionEntityTagContext}.
+     *
+     * @param state the ID of the thing.
+     * @param log the logging adapter to be used.
+     * @param revisionIndex the index of the last modified revisions of the paths of the thing.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static RevisionEntityTagContext of(final ThingId state, final DittoDiagnosticLoggingAdapter log,
+            final PathRevisionIndex revisionIndex) {
+
+        return new RevisionEntityTagContext(state, log, revisionIndex);
+    }
+
+    @Override
+    public ThingId getState() {
+        return state;
+    }
+
+    @Override
+    public DittoDiagnosticLoggingAdapter getLog() {
+        return log;
+    }
+
+    /**
+     * @return the index of the last modified revisions of the paths of the thing.
+     */
+    PathRevisionIndex getRevisionIndex() {
+        return revisionIndex;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RevisionEntityTagContext that = (RevisionEntityTagContext) o;
+        return Objects.equals(state, that.state) && Objects.equals(log, that.log) &&
+                Objects.equals(revisionIndex, that.revisionIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, log, revisionIndex);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "state=" + state +
+                ", log=" + log +
+                ", revisionIndex=" + revisionIndex +
+                "]";
+    }
+
+}
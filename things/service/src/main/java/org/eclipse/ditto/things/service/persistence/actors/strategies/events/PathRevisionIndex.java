@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors.strategies.events;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Index of the revision in which the resource at each path of a Thing was last modified.
+ * <p>
+ * The index is built from the resource paths of the events applied to the Thing. Paths which were not modified by any
+ * of these events are reported with the revision the Thing had before the first of them (e.g. the revision of the
+ * snapshot the Thing was recovered from). Looking up a path is proportional to its depth only and never touches the
+ * content of the Thing.
+ * </p>
+ * <p>
+ * The index is stored together with the snapshots of the Thing via {@link #toJson()} and {@link #restore(JsonObject)},
+ * so that the revisions reported for unmodified paths do not change when the Thing is recovered.
+ * </p>
+ *
+ * @since 3.0.0
+ */
+@NotThreadSafe
+public final class PathRevisionIndex {
+
+    private static final JsonFieldDefinition<Long> BASE_REVISION = JsonFactory.newLongFieldDefinition("base");
+    private static final JsonFieldDefinition<JsonArray> ROOT = JsonFactory.newJsonArrayFieldDefinition("root");
+
+    private Node root;
+    private long baseRevision;
+
+    private PathRevisionIndex() {
+        root = new Node();
+        baseRevision = -1L;
+    }
+
+    /**
+     * Returns a new empty index.
+     *
+     * @return the index.
+     */
+    public static PathRevisionIndex newInstance() {
+        return new PathRevisionIndex();
+    }
+
+    /**
+     * Records that the resource at the given path was modified, created or deleted in the given revision.
+     * Revisions have to be recorded in ascending order.
+     *
+     * @param path the path of the modified resource.
+     * @param revision the revision of the modification.
+     */
+    public void recordModification(final JsonPointer path, final long revision) {
+        if (baseRevision < 0) {
+            baseRevision = revision - 1;
+        }
+        Node node = root;
+        node.subtreeRevision = revision;
+        for (final JsonKey key : path) {
+            node = node.getOrCreateChild(key.toString());
+            node.subtreeRevision = revision;
+        }
+        node.replacedRevision = revision;
+        node.children = null;
+    }
+
+    /**
+     * Returns the revision in which the resource at the given path or any resource above or below it was modified
+     * last.
+     *
+     * @param path the path of the resource.
+     * @param currentRevision the current revision of the Thing, reported for all paths as long as no modification was
+     * recorded.
+     * @return the last revision which modified the resource at the path.
+     */
+    public long getLastModifiedRevision(final JsonPointer path, final long currentRevision) {
+        if (baseRevision < 0) {
+            return currentRevision;
+        }
+        long result = Math.max(baseRevision, root.replacedRevision);
+        Node node = root;
+        for (final JsonKey key : path) {
+            node = node.getChild(key.toString());
+            if (null == node) {
+                return result;
+            }
+            result = Math.max(result, node.replacedRevision);
+        }
+        return Math.max(result, node.subtreeRevision);
+    }
+
+    /**
+     * Returns the revision of the last recorded modification.
+     *
+     * @return the revision or a negative number if nothing was recorded.
+     */
+    public long getLastRecordedRevision() {
+        return root.subtreeRevision;
+    }
+
+    /**
+     * Forgets all recorded modifications, so that all paths are reported with the current revision again until the
+     * next modification is recorded.
+     */
+    public void clear() {
+        root = new Node();
+        baseRevision = -1L;
+    }
+
+    /**
+     * Returns the JSON representation of this index.
+     *
+     * @return the JSON object.
+     */
+    public JsonObject toJson() {
+        return JsonObject.newBuilder()
+                .set(BASE_REVISION, baseRevision)
+                .set(ROOT, root.toJson())
+                .build();
+    }
+
+    /**
+     * Replaces the recorded modifications by those of the JSON representation of an index.
+     *
+     * @param jsonObject the JSON representation created by {@link #toJson()}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if a field is missing.
+     * @throws org.eclipse.ditto.json.JsonParseException if the JSON object is no index.
+     */
+    public void restore(final JsonObject jsonObject) {
+        final long restoredBaseRevision = jsonObject.getValueOrThrow(BASE_REVISION);
+        root = Node.fromJson(jsonObject.getValueOrThrow(ROOT));
+        baseRevision = restoredBaseRevision;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "baseRevision=" + baseRevision +
+                "]";
+    }
+
+    private static final class Node {
+
+        private long replacedRevision = -1L;
+        private long subtreeRevision = -1L;
+        @Nullable private Map<String, Node> children;
+
+        @Nullable
+        private Node getChild(final String key) {
+            return null != children ? children.get(key) : null;
+        }
+
+        private Node getOrCreateChild(final String key) {
+            if (null == children) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(key, k -> new Node());
+        }
+
+        // [replacedRevision, subtreeRevision, key1, child1, key2, child2, ...]
+        private JsonArray toJson() {
+            final JsonArrayBuilder builder = JsonArray.newBuilder().add(replacedRevision, subtreeRevision);
+            if (null != children) {
+                children.forEach((key, child) -> builder.add(JsonValue.of(key), child.toJson()));
+            }
+            return builder.build();
+        }
+
+        private static Node fromJson(final JsonArray jsonArray) {
+            final Node node = new Node();
+            node.replacedRevision = getElement(jsonArray, 0, JsonValue::isLong).asLong();
+            node.subtreeRevision = getElement(jsonArray, 1, JsonValue::isLong).asLong();
+            for (int i = 2; i < jsonArray.getSize(); i += 2) {
+                final String key = getElement(jsonArray, i, JsonValue::isString).asString();
+                final JsonArray child = getElement(jsonArray, i + 1, JsonValue::isArray).asArray();
+                if (null == node.children) {
+                    node.children = new HashMap<>();
+                }
+                node.children.put(key, fromJson(child));
+            }
+            return node;
+        }
+
+        private static JsonValue getElement(final JsonArray jsonArray, final int index,
+                final Predicate<JsonValue> isExpectedType) {
+
+            return jsonArray.get(index)
+                    .filter(isExpectedType)
+                    .orElseThrow(() -> new JsonParseException(
+                            "Invalid element at index <" + index + "> of revision index node: " + jsonArray));
+        }
+
+    }
+
+}
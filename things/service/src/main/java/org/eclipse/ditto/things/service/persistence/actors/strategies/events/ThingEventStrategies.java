@@ -16,6 +16,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.internal.utils.persistentactors.events.AbstractEventStrategies;
+import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.things.model.signals.events.AttributeCreated;
 import org.eclipse.ditto.things.model.signals.events.AttributeDeleted;
 import org.eclipse.ditto.things.model.signals.events.AttributeModified;
@@ -70,6 +71,21 @@ public final class ThingEventStrategies extends AbstractEventStrategies<ThingEve
         return INSTANCE;
     }
 
+    /**
+     * Returns an event strategy which applies events like the <em>singleton</em> instance and additionally records the
+     * resource path of each applied event in the given revision index.
+     *
+     * @param revisionIndex the index to maintain.
+     * @return the event strategy.
+     * @since 3.0.0
+     */
+    public static EventStrategy<ThingEvent<?>, Thing> withRevisionIndex(final PathRevisionIndex revisionIndex) {
+        return (event, thing, revision) -> {
+            revisionIndex.recordModification(event.getResourcePath(), revision);
+            return INSTANCE.handle(event, thing, revision);
+        };
+    }
+
     /**
      * Constructs a new {@code ThingEventHandleStrategy}.
      */
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.serializer;
+
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.signals.events.Event;
+import org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource.JournalCompactionStrategy;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+
+/**
+ * Compacts runs of journaled {@link FeaturePropertyModified} events of the same feature property and runs of
+ * {@link ThingMerged} events of the same path. Events carrying metadata are never compacted.
+ * <ul>
+ * <li>Of consecutive {@code FeaturePropertyModified} events, the last one wins.</li>
+ * <li>The merge patches of consecutive {@code ThingMerged} events are composed into the last one as long as the
+ * composition can be expressed by 1 merge patch.</li>
+ * </ul>
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class ThingJournalCompactionStrategy implements JournalCompactionStrategy {
+
+    private static final JsonFieldDefinition<String> PROPERTY = JsonFactory.newStringFieldDefinition("property");
+    private static final JsonFieldDefinition<String> PATH = JsonFactory.newStringFieldDefinition("path");
+    private static final JsonFieldDefinition<JsonValue> VALUE = JsonFactory.newJsonValueFieldDefinition("value");
+
+    private static final ThingJournalCompactionStrategy INSTANCE = new ThingJournalCompactionStrategy();
+
+    private ThingJournalCompactionStrategy() {}
+
+    /**
+     * Returns the instance of this strategy.
+     *
+     * @return the instance.
+     */
+    public static ThingJournalCompactionStrategy getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Optional<String> getCompactionKey(final JsonObject event) {
+        if (event.getValue(Event.JsonFields.METADATA.getPointer()).filter(metadata -> !metadata.isNull()).isPresent()) {
+            return Optional.empty();
+        }
+        return event.getValue(Event.JsonFields.TYPE).flatMap(type -> {
+            if (FeaturePropertyModified.TYPE.equals(type)) {
+                return event.getValue(ThingEvent.JsonFields.FEATURE_ID).flatMap(featureId ->
+                        event.getValue(PROPERTY).map(property -> type + ":" + featureId + ":" + property));
+            } else if (ThingMerged.TYPE.equals(type)) {
+                return event.getValue(PATH).map(path -> type + ":" + path);
+            } else {
+                return Optional.empty();
+            }
+        });
+    }
+
+    @Override
+    public Optional<JsonObject> merge(final JsonObject earlier, final JsonObject later) {
+        if (later.getValue(Event.JsonFields.TYPE).filter(ThingMerged.TYPE::equals).isPresent()) {
+            return earlier.getValue(VALUE)
+                    .flatMap(earlierPatch -> later.getValue(VALUE)
+                            .flatMap(laterPatch -> composeMergePatches(earlierPatch, laterPatch)))
+                    .map(composedPatch -> later.setValue(VALUE.getPointer(), composedPatch));
+        } else {
+            return Optional.of(later);
+        }
+    }
+
+    /**
+     * Compose 2 JSON merge patches into 1 patch having the same effect as applying them one after another.
+     *
+     * @param first the patch applied first.
+     * @param second the patch applied second.
+     * @return the composed patch, or an empty optional if no single merge patch has the same effect.
+     */
+    static Optional<JsonValue> composeMergePatches(final JsonValue first, final JsonValue second) {
+        if (!second.isObject() || second.isNull()) {
+            return Optional.of(second);
+        } else if (!first.isObject() || first.isNull()) {
+            // the second patch would merge into the value set by the first one, which a merge patch cannot express
+            return Optional.empty();
+        }
+        final JsonObject firstObject = first.asObject();
+        final JsonObjectBuilder builder = firstObject.toBuilder();
+        for (final JsonField field : second.asObject()) {
+            final JsonPointer key = JsonPointer.empty().addLeaf(field.getKey());
+            final Optional<JsonValue> existing = firstObject.getValue(key);
+            if (existing.isPresent()) {
+                final Optional<JsonValue> composed = composeMergePatches(existing.get(), field.getValue());
+                if (composed.isEmpty()) {
+                    return Optional.empty();
+                }
+                builder.set(field.getKey(), composed.get());
+            } else {
+                builder.set(field.getKey(), field.getValue());
+            }
+        }
+        return Optional.of(builder.build());
+    }
+
+}
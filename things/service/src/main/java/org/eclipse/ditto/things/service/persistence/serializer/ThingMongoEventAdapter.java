@@ -24,7 +24,7 @@ import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoEventAdapter;
-import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJsonCodec;
 import org.eclipse.ditto.base.model.signals.events.Event;
 import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
 import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
@@ -64,8 +64,7 @@ public final class ThingMongoEventAdapter extends AbstractMongoEventAdapter<Thin
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()))
                             // remove the policy entries from thing event payload
                             .remove(POLICY_IN_THING_EVENT_PAYLOAD);
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return DittoBsonJsonCodec.getInstance().toRawBsonDocument(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
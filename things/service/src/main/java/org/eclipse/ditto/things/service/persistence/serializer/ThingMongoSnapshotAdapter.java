@@ -22,6 +22,7 @@ import org.eclipse.ditto.base.api.persistence.SnapshotTaken;
 import org.eclipse.ditto.base.model.entity.Revision;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -56,6 +57,18 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
         this.pubSubMediator = pubSubMediator;
     }
 
+    /**
+     * Constructs a new {@code ThingMongoSnapshotAdapter} which writes snapshots in the configured format.
+     *
+     * @param pubSubMediator Akka pubsub mediator with which to publish snapshot events.
+     * @param snapshotConfig the snapshot config determining the format in which snapshots are written.
+     * @since 3.0.0
+     */
+    public ThingMongoSnapshotAdapter(final ActorRef pubSubMediator, final SnapshotConfig snapshotConfig) {
+        super(LOGGER, snapshotConfig);
+        this.pubSubMediator = pubSubMediator;
+    }
+
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
         return ThingsModelFactory.newThing(jsonObject);
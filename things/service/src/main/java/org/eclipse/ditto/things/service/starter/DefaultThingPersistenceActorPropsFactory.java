@@ -13,12 +13,15 @@
 package org.eclipse.ditto.things.service.starter;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotEmpty;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActor;
 import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActorPropsFactory;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 
@@ -32,25 +35,32 @@ import akka.actor.Props;
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
     private final ActorRef pubSubMediator;
+    private final SnapshotConfig snapshotConfig;
 
-    private DefaultThingPersistenceActorPropsFactory(final ActorRef pubSubMediator) {
+    private DefaultThingPersistenceActorPropsFactory(final ActorRef pubSubMediator,
+            final SnapshotConfig snapshotConfig) {
         this.pubSubMediator = pubSubMediator;
+        this.snapshotConfig = snapshotConfig;
     }
 
     /**
      * Returns an instance of {@code ThingPersistenceActorPropsFactory}.
      *
      * @param pubSubMediator the Akka pub-sub mediator with which to
+     * @param snapshotConfig the snapshot config determining the format in which snapshots are written.
      * @return the instance.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    static DefaultThingPersistenceActorPropsFactory of(final ActorRef pubSubMediator) {
-        return new DefaultThingPersistenceActorPropsFactory(pubSubMediator);
+    static DefaultThingPersistenceActorPropsFactory of(final ActorRef pubSubMediator,
+            final SnapshotConfig snapshotConfig) {
+        return new DefaultThingPersistenceActorPropsFactory(pubSubMediator,
+                checkNotNull(snapshotConfig, "snapshot config"));
     }
 
     @Override
     public Props props(final ThingId thingId, final DistributedPub<ThingEvent<?>> distributedPub) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, distributedPub, pubSubMediator);
+        return ThingPersistenceActor.props(thingId, distributedPub,
+                new ThingMongoSnapshotAdapter(pubSubMediator, snapshotConfig));
     }
 }
@@ -37,6 +37,7 @@ import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActor
 import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceOperationsActor;
 import org.eclipse.ditto.things.service.persistence.actors.ThingSupervisorActor;
 import org.eclipse.ditto.things.service.persistence.actors.ThingsPersistenceStreamingActorCreator;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingJournalCompactionStrategy;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
@@ -107,7 +108,8 @@ public final class ThingsRootActor extends DittoRootActor {
 
         final var cleanupConfig = thingsConfig.getThingConfig().getCleanupConfig();
         final var mongoReadJournal = newMongoReadJournal(thingsConfig.getMongoDbConfig(), actorSystem);
-        final Props cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE);
+        final Props cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE,
+                ThingJournalCompactionStrategy.getInstance());
         startChildActor(PersistenceCleanupActor.NAME, cleanupActorProps);
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
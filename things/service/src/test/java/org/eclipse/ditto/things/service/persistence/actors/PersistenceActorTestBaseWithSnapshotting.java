@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import org.bson.BsonDocument;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
@@ -213,6 +214,10 @@ public abstract class PersistenceActorTestBaseWithSnapshotting extends Persisten
         });
     }
 
+    void assertSnapshots(final ThingId thingId, final Consumer<List<Thing>> snapshotsAssertion) {
+        retryOnAssertionError(() -> snapshotsAssertion.accept(snapshotTestHelper.getAllSnapshotsAscending(thingId)));
+    }
+
     private static void retryOnAssertionError(final Runnable r) {
         Assertions.retryOnAssertionError(r, PERSISTENCE_ASSERT_WAIT_AT_MOST_MS, PERSISTENCE_ASSERT_RETRY_DELAY_MS);
     }
@@ -12,15 +12,19 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 
 import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
 import org.eclipse.ditto.internal.utils.test.Retry;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
@@ -31,6 +35,8 @@ import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
 import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThingResponse;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
@@ -223,6 +229,40 @@ public final class ThingPersistenceActorSnapshottingTest extends PersistenceActo
         };
     }
 
+    /**
+     * Checks that snapshots are taken at the threshold while events are being group-committed, i.e. without waiting
+     * for a moment when no events are being persisted.
+     */
+    @Test
+    public void snapshotsAreTakenDuringGroupCommit() {
+        setup(testConfig.withValue("ditto.things.thing.group-commit.enabled", ConfigValueFactory.fromAnyRef(true)));
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final JsonPointer attributeKey = JsonFactory.newPointer("counter");
+                final int modifications = 20;
+
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(Duration.ofSeconds(10L), CreateThingResponse.class);
+
+                for (int i = 0; i < modifications; i++) {
+                    final DittoHeaders headers = dittoHeadersV2.toBuilder().correlationId("modify-" + i).build();
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), headers), getRef());
+                }
+                for (int i = 0; i < modifications; i++) {
+                    expectMsgClass(ModifyAttributeResponse.class);
+                }
+
+                // each snapshot has the revision of its sequence number, and the threshold is reached repeatedly
+                assertSnapshots(thingId, snapshots -> assertThat(snapshots)
+                        .hasSize((1 + modifications) / DEFAULT_TEST_SNAPSHOT_THRESHOLD));
+            }
+        };
+    }
+
     @Test
     public void actorCannotBeStartedWithNegativeSnapshotThreshold() {
         final Config customConfig = createNewDefaultTestConfig().withValue(SNAPSHOT_THRESHOLD,
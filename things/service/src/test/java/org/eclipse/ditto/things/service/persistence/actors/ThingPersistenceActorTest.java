@@ -32,6 +32,8 @@ import org.eclipse.ditto.base.model.entity.metadata.Metadata;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.events.Event;
@@ -69,6 +71,7 @@ import org.eclipse.ditto.things.model.signals.commands.modify.DeleteAttributeRes
 import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThingResponse;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributes;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatures;
@@ -77,6 +80,7 @@ import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThingRespons
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttribute;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttributeResponse;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttributes;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttributesResponse;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveFeature;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveFeatureDefinition;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveFeatureDefinitionResponse;
@@ -702,6 +706,126 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void modifyAttributesWithGroupCommit() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit.enabled = true"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer attributeKey = JsonFactory.newPointer("counter");
+        final int modifications = 20;
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(java.time.Duration.ofSeconds(10), CreateThingResponse.class);
+
+                // send all modifications at once so that they arrive while previous events are being persisted
+                for (int i = 0; i < modifications; i++) {
+                    final DittoHeaders headers = dittoHeadersV2.toBuilder().correlationId("modify-" + i).build();
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), headers), getRef());
+                }
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+                for (int i = 0; i < modifications; i++) {
+                    final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                    assertThat(response.getDittoHeaders().getCorrelationId()).contains("modify-" + i);
+                }
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing retrievedThing = ThingsModelFactory.newThing(retrieveThingResponse.getEntity().asObject());
+                assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(attributeKey)))
+                        .contains(JsonValue.of(modifications - 1));
+                assertThat(retrieveThingResponse.getDittoHeaders().getETag())
+                        .contains(EntityTag.fromString("\"rev:" + (1 + modifications) + "\""));
+            }
+        };
+    }
+
+    @Test
+    public void retrieveAttributesWithRevisionBasedEntityTags() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.entity-tag.mode = revision"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer firstKey = JsonFactory.newPointer("first");
+        final JsonPointer secondKey = JsonFactory.newPointer("second");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(java.time.Duration.ofSeconds(10), CreateThingResponse.class);
+
+                underTest.tell(ModifyAttribute.of(thingId, firstKey, JsonValue.of(1), dittoHeadersV2), getRef());
+                assertThat(expectMsgClass(ModifyAttributeResponse.class).getDittoHeaders().getETag())
+                        .contains(EntityTag.fromString("\"rev:2\""));
+                underTest.tell(ModifyAttribute.of(thingId, secondKey, JsonValue.of(2), dittoHeadersV2), getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+
+                underTest.tell(RetrieveAttribute.of(thingId, firstKey, dittoHeadersV2), getRef());
+                assertThat(expectMsgClass(RetrieveAttributeResponse.class).getDittoHeaders().getETag())
+                        .contains(EntityTag.fromString("\"rev:2\""));
+                underTest.tell(RetrieveAttribute.of(thingId, secondKey, dittoHeadersV2), getRef());
+                assertThat(expectMsgClass(RetrieveAttributeResponse.class).getDittoHeaders().getETag())
+                        .contains(EntityTag.fromString("\"rev:3\""));
+                underTest.tell(RetrieveAttributes.of(thingId, dittoHeadersV2), getRef());
+                assertThat(expectMsgClass(RetrieveAttributesResponse.class).getDittoHeaders().getETag())
+                        .contains(EntityTag.fromString("\"rev:3\""));
+            }
+        };
+    }
+
+    @Test
+    public void conditionallyModifyAttributeWithRevisionBasedEntityTagAfterRecovery() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.entity-tag.mode = revision"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer firstKey = JsonFactory.newPointer("first");
+        final JsonPointer secondKey = JsonFactory.newPointer("second");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(java.time.Duration.ofSeconds(10), CreateThingResponse.class);
+
+                // revisions 2 to 4; the snapshot threshold of the test config takes a snapshot of revision 4
+                underTest.tell(ModifyAttribute.of(thingId, firstKey, JsonValue.of(1), dittoHeadersV2), getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+                underTest.tell(ModifyAttribute.of(thingId, secondKey, JsonValue.of(2), dittoHeadersV2), getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+                underTest.tell(ModifyAttribute.of(thingId, secondKey, JsonValue.of(3), dittoHeadersV2), getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+
+                // restart actor to recover thing state from the snapshot
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                underTestAfterRestart.tell(RetrieveAttribute.of(thingId, firstKey, dittoHeadersV2), getRef());
+                assertThat(expectMsgClass(RetrieveAttributeResponse.class).getDittoHeaders().getETag())
+                        .contains(EntityTag.fromString("\"rev:2\""));
+
+                final DittoHeaders ifMatchHeaders = dittoHeadersV2.toBuilder()
+                        .ifMatch(EntityTagMatchers.fromCommaSeparatedString("\"rev:2\""))
+                        .build();
+                underTestAfterRestart.tell(ModifyAttribute.of(thingId, firstKey, JsonValue.of(4), ifMatchHeaders),
+                        getRef());
+                assertThat(expectMsgClass(ModifyAttributeResponse.class).getDittoHeaders().getETag())
+                        .contains(EntityTag.fromString("\"rev:5\""));
+            }
+        };
+    }
+
     @Test
     public void retrieveAttribute() {
         final JsonPointer attributeKey = JsonFactory.newPointer("isValid");
@@ -116,4 +116,23 @@ class EntityTagCalculatorTest {
         assertThat(underTest.visitFeatureDefinition(pointer, TestConstants.Thing.THING_V2))
                 .isEqualTo(EntityTag.fromEntity(TestConstants.Feature.FLUX_CAPACITOR_DEFINITION));
     }
+
+    @Test
+    void revisionBasedCalculatorUsesRevisionOfSubResourcePath() {
+        final JsonPointer pointer = JsonPointer.of("features/" + FLUX_CAPACITOR_ID + "/properties");
+        final EntityTagCalculator revisionCalculator =
+                EntityTagCalculator.forRevisions(path -> path.equals(pointer) ? 42L : 1L);
+
+        assertThat(revisionCalculator.visitFeatureProperties(pointer, TestConstants.Thing.THING_V2))
+                .contains(EntityTagCalculator.revisionEntityTag(42L));
+    }
+
+    @Test
+    void revisionBasedCalculatorReturnsEmptyForNonExistingSubResource() {
+        final EntityTagCalculator revisionCalculator = EntityTagCalculator.forRevisions(path -> 42L);
+
+        assertThat(revisionCalculator.visitFeature(JsonPointer.of("features/doesNotExist"),
+                TestConstants.Thing.THING_V2)).isEmpty();
+    }
+
 }
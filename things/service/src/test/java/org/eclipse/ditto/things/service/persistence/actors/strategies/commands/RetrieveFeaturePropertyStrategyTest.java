@@ -12,24 +12,33 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors.strategies.commands;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.things.model.TestConstants.Feature.FLUX_CAPACITOR;
 import static org.eclipse.ditto.things.model.TestConstants.Feature.FLUX_CAPACITOR_ID;
 import static org.eclipse.ditto.things.model.TestConstants.Thing.THING_V2;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.internal.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveFeatureProperty;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveFeaturePropertyResponse;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.things.service.persistence.actors.ETagTestUtils;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.events.PathRevisionIndex;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 /**
  * Unit test for {@link RetrieveFeaturePropertyStrategy}.
@@ -104,4 +113,26 @@ public final class RetrieveFeaturePropertyStrategyTest extends AbstractCommandSt
                 expectedException);
     }
 
+    @Test
+    public void getPropertyWithRevisionBasedEntityTag() {
+        final PathRevisionIndex revisionIndex = PathRevisionIndex.newInstance();
+        revisionIndex.recordModification(JsonPointer.of("features/" + FLUX_CAPACITOR_ID + "/properties/target_year_1"),
+                5L);
+        revisionIndex.recordModification(JsonPointer.of("features/" + FLUX_CAPACITOR_ID + "/properties/target_year_2"),
+                6L);
+        final CommandStrategy.Context<ThingId> context =
+                RevisionEntityTagContext.of(THING_V2.getEntityId().orElseThrow(), logger, revisionIndex);
+        final RetrieveFeatureProperty command =
+                RetrieveFeatureProperty.of(context.getState(), FLUX_CAPACITOR_ID,
+                        JsonFactory.newPointer("target_year_1"), DittoHeaders.empty());
+
+        final ResultVisitor<ThingEvent<?>> mock = mock(Dummy.class);
+        underTest.apply(context, THING_V2, NEXT_REVISION, command).accept(mock);
+        final ArgumentCaptor<WithDittoHeaders> captor = ArgumentCaptor.forClass(WithDittoHeaders.class);
+        verify(mock).onQuery(any(), captor.capture());
+
+        assertThat(captor.getValue().getDittoHeaders().getETag())
+                .contains(EntityTagCalculator.revisionEntityTag(5L));
+    }
+
 }
@@ -18,6 +18,7 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
@@ -174,4 +175,23 @@ public final class RetrieveThingStrategyTest extends AbstractCommandStrategyTest
         });
     }
 
+    @Test
+    public void retrieveThingWithReadViewFilter() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .putHeader(DittoHeaderDefinition.READ_VIEW_FILTER.getKey(), "[\"+/\",\"-/attributes\"]")
+                .build();
+        final RetrieveThing command = RetrieveThing.of(context.getState(), dittoHeaders);
+
+        assertQueryResult(underTest, THING_V2, command, response -> {
+            assertThat(response).isInstanceOf(RetrieveThingResponse.class);
+            final RetrieveThingResponse retrieveThingResponse = (RetrieveThingResponse) response;
+            assertThat(retrieveThingResponse.getEntity())
+                    .isEqualTo(THING_V2.toJson().remove(Thing.JsonFields.ATTRIBUTES.getPointer()));
+            assertThat(retrieveThingResponse.getDittoHeaders())
+                    .doesNotContainKey(DittoHeaderDefinition.READ_VIEW_FILTER.getKey());
+        });
+    }
+
 }
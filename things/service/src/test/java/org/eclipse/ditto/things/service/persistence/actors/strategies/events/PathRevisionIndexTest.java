@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors.strategies.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PathRevisionIndex}.
+ */
+public final class PathRevisionIndexTest {
+
+    private static final JsonPointer FEATURES = JsonPointer.of("features");
+    private static final JsonPointer FEATURE = JsonPointer.of("features/f1");
+    private static final JsonPointer PROPERTY = JsonPointer.of("features/f1/properties/p1");
+    private static final JsonPointer OTHER_PROPERTY = JsonPointer.of("features/f1/properties/p2");
+    private static final JsonPointer OTHER_FEATURE = JsonPointer.of("features/f2");
+
+    private PathRevisionIndex underTest;
+
+    @Before
+    public void setUp() {
+        underTest = PathRevisionIndex.newInstance();
+    }
+
+    @Test
+    public void reportsCurrentRevisionAsLongAsNothingWasRecorded() {
+        assertThat(underTest.getLastModifiedRevision(PROPERTY, 7L)).isEqualTo(7L);
+    }
+
+    @Test
+    public void reportsBaseRevisionForUnmodifiedPaths() {
+        underTest.recordModification(PROPERTY, 11L);
+
+        assertThat(underTest.getLastModifiedRevision(OTHER_FEATURE, 11L)).isEqualTo(10L);
+        assertThat(underTest.getLastModifiedRevision(OTHER_PROPERTY, 11L)).isEqualTo(10L);
+    }
+
+    @Test
+    public void modificationBelowAPathIsReportedForThePath() {
+        underTest.recordModification(OTHER_FEATURE, 3L);
+        underTest.recordModification(PROPERTY, 5L);
+
+        assertThat(underTest.getLastModifiedRevision(PROPERTY, 5L)).isEqualTo(5L);
+        assertThat(underTest.getLastModifiedRevision(FEATURE, 5L)).isEqualTo(5L);
+        assertThat(underTest.getLastModifiedRevision(FEATURES, 5L)).isEqualTo(5L);
+        assertThat(underTest.getLastModifiedRevision(JsonPointer.empty(), 5L)).isEqualTo(5L);
+        assertThat(underTest.getLastModifiedRevision(OTHER_FEATURE, 5L)).isEqualTo(3L);
+    }
+
+    @Test
+    public void modificationAboveAPathIsReportedForThePath() {
+        underTest.recordModification(PROPERTY, 5L);
+        underTest.recordModification(FEATURE, 6L);
+        underTest.recordModification(OTHER_FEATURE, 7L);
+
+        assertThat(underTest.getLastModifiedRevision(PROPERTY, 7L)).isEqualTo(6L);
+        assertThat(underTest.getLastModifiedRevision(OTHER_PROPERTY, 7L)).isEqualTo(6L);
+    }
+
+    @Test
+    public void replacingAPathForgetsModificationsBelowIt() {
+        underTest.recordModification(PROPERTY, 5L);
+        underTest.recordModification(FEATURE, 6L);
+        underTest.recordModification(OTHER_PROPERTY, 8L);
+
+        assertThat(underTest.getLastModifiedRevision(PROPERTY, 8L)).isEqualTo(6L);
+        assertThat(underTest.getLastModifiedRevision(OTHER_PROPERTY, 8L)).isEqualTo(8L);
+        assertThat(underTest.getLastModifiedRevision(FEATURE, 8L)).isEqualTo(8L);
+    }
+
+    @Test
+    public void restoredIndexReportsTheSameRevisions() {
+        underTest.recordModification(OTHER_FEATURE, 3L);
+        underTest.recordModification(PROPERTY, 5L);
+        underTest.recordModification(FEATURE, 6L);
+        underTest.recordModification(OTHER_PROPERTY, 8L);
+
+        final PathRevisionIndex restored = PathRevisionIndex.newInstance();
+        restored.restore(JsonObject.of(underTest.toJson().toString()));
+
+        for (final JsonPointer path : new JsonPointer[]{JsonPointer.empty(), FEATURES, FEATURE, PROPERTY,
+                OTHER_PROPERTY, OTHER_FEATURE, JsonPointer.of("attributes")}) {
+            assertThat(restored.getLastModifiedRevision(path, 9L))
+                    .describedAs(path.toString())
+                    .isEqualTo(underTest.getLastModifiedRevision(path, 9L));
+        }
+        assertThat(restored.getLastRecordedRevision()).isEqualTo(8L);
+    }
+
+    @Test
+    public void clearedIndexReportsCurrentRevision() {
+        underTest.recordModification(PROPERTY, 5L);
+        underTest.clear();
+
+        assertThat(underTest.getLastModifiedRevision(OTHER_FEATURE, 7L)).isEqualTo(7L);
+        assertThat(underTest.getLastRecordedRevision()).isNegative();
+    }
+
+    @Test
+    public void restoreInvalidIndexFails() {
+        final JsonObject invalidIndex = JsonObject.of("{\"base\":2,\"root\":[3,3,\"features\",4]}");
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> underTest.restore(invalidIndex));
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.eclipse.ditto.base.model.entity.metadata.Metadata;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.events.Event;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.junit.Test;
+
+/**
+ * Tests {@link ThingJournalCompactionStrategy}.
+ */
+public final class ThingJournalCompactionStrategyTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+
+    private final ThingJournalCompactionStrategy underTest = ThingJournalCompactionStrategy.getInstance();
+
+    @Test
+    public void featurePropertyModificationsOfSamePropertyShareKey() {
+        final JsonObject first = propertyModified("f", "/temperature", JsonValue.of(20));
+        final JsonObject second = propertyModified("f", "/temperature", JsonValue.of(21));
+        final JsonObject otherProperty = propertyModified("f", "/humidity", JsonValue.of(21));
+        final JsonObject otherFeature = propertyModified("g", "/temperature", JsonValue.of(21));
+
+        assertThat(underTest.getCompactionKey(first)).isPresent().isEqualTo(underTest.getCompactionKey(second));
+        assertThat(underTest.getCompactionKey(first)).isNotEqualTo(underTest.getCompactionKey(otherProperty));
+        assertThat(underTest.getCompactionKey(first)).isNotEqualTo(underTest.getCompactionKey(otherFeature));
+        assertThat(underTest.merge(first, second)).contains(second);
+    }
+
+    @Test
+    public void eventsWithMetadataOrOfOtherTypesAreNotCompacted() {
+        final JsonObject withMetadata = toJournalJson(FeaturePropertyModified.of(THING_ID, "f",
+                JsonPointer.of("/temperature"), JsonValue.of(20), 1L, Instant.now(), DittoHeaders.empty(),
+                Metadata.newBuilder().set("unit", "celsius").build()));
+        final JsonObject deleted =
+                toJournalJson(ThingDeleted.of(THING_ID, 1L, Instant.now(), DittoHeaders.empty(), null));
+
+        assertThat(underTest.getCompactionKey(withMetadata)).isEmpty();
+        assertThat(underTest.getCompactionKey(deleted)).isEmpty();
+    }
+
+    @Test
+    public void mergePatchesOfSamePathAreComposed() {
+        final JsonObject first = merged("/attributes", JsonObject.of("{\"a\":1,\"b\":{\"c\":2,\"d\":3}}"));
+        final JsonObject second = merged("/attributes", JsonObject.of("{\"b\":{\"c\":null,\"e\":4},\"f\":5}"));
+
+        assertThat(underTest.getCompactionKey(first)).isPresent().isEqualTo(underTest.getCompactionKey(second));
+        assertThat(underTest.merge(first, second)).contains(second.setValue("value",
+                JsonObject.of("{\"a\":1,\"b\":{\"c\":null,\"d\":3,\"e\":4},\"f\":5}")));
+    }
+
+    @Test
+    public void mergePatchMergingIntoNonObjectIsNotComposed() {
+        final JsonObject first = merged("/attributes", JsonObject.of("{\"a\":1}"));
+        final JsonObject second = merged("/attributes", JsonObject.of("{\"a\":{\"b\":2}}"));
+
+        assertThat(underTest.merge(first, second)).isEmpty();
+        assertThat(ThingJournalCompactionStrategy.composeMergePatches(JsonValue.nullLiteral(),
+                JsonObject.of("{\"b\":2}"))).isEmpty();
+        assertThat(ThingJournalCompactionStrategy.composeMergePatches(JsonObject.of("{\"b\":2}"),
+                JsonValue.nullLiteral())).contains(JsonValue.nullLiteral());
+    }
+
+    private static JsonObject propertyModified(final String featureId, final String property, final JsonValue value) {
+        return toJournalJson(FeaturePropertyModified.of(THING_ID, featureId, JsonPointer.of(property), value, 1L,
+                Instant.now(), DittoHeaders.empty(), null));
+    }
+
+    private static JsonObject merged(final String path, final JsonValue value) {
+        return toJournalJson(
+                ThingMerged.of(THING_ID, JsonPointer.of(path), value, 1L, Instant.now(), DittoHeaders.empty(), null));
+    }
+
+    private static JsonObject toJournalJson(final Event<?> event) {
+        return event.toJson(event.getImplementedSchemaVersion(), field -> true);
+    }
+
+}
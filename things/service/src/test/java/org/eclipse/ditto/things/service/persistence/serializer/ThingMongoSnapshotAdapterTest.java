@@ -26,11 +26,14 @@ import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.base.api.persistence.PersistenceLifecycle;
 import org.eclipse.ditto.things.api.ThingSnapshotTaken;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotConfig;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorSystem;
 import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.persistence.SnapshotMetadata;
@@ -74,6 +77,29 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished(thingV2);
     }
 
+    @Test
+    public void compressedSnapshotRoundTripKeepsTopLevelScalarsQueryable() {
+        underTest = new ThingMongoSnapshotAdapter(pubSubProbe.ref(), DefaultSnapshotConfig.of(
+                ConfigFactory.parseString("snapshot { format = compressed, compression-threshold = 0 }")));
+        final var thingV2 = TestConstants.Thing.THING_V2;
+
+        toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(thingV2);
+        expectSnapshotPublished(thingV2);
+
+        final BsonDocument snapshot = (BsonDocument) underTest.toSnapshotStore(thingV2);
+        softly.assertThat(snapshot.containsKey(Thing.JsonFields.ID.getPointer().getRoot().orElseThrow().toString()))
+                .as("thing ID kept as plain BSON")
+                .isTrue();
+        softly.assertThat(snapshot.containsKey(Thing.JsonFields.REVISION.getPointer().getRoot().orElseThrow()
+                        .toString()))
+                .as("revision kept as plain BSON")
+                .isTrue();
+        softly.assertThat(snapshot.containsKey(Thing.JsonFields.ATTRIBUTES.getPointer().getRoot().orElseThrow()
+                        .toString()))
+                .as("attributes compressed")
+                .isFalse();
+    }
+
     private void toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(final Thing thing) {
         final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
 
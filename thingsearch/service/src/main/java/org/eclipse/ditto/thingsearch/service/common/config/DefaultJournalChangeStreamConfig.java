@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link JournalChangeStreamConfig}.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public final class DefaultJournalChangeStreamConfig implements JournalChangeStreamConfig {
+
+    private static final String CONFIG_PATH = "journal-change-stream";
+
+    private final boolean enabled;
+    private final String journalDatabase;
+    private final String journalCollection;
+    private final Duration resumeTokenInterval;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    private DefaultJournalChangeStreamConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(JournalChangeStreamConfigValue.ENABLED.getConfigPath());
+        journalDatabase = config.getString(JournalChangeStreamConfigValue.JOURNAL_DATABASE.getConfigPath());
+        journalCollection = config.getString(JournalChangeStreamConfigValue.JOURNAL_COLLECTION.getConfigPath());
+        resumeTokenInterval =
+                config.getNonNegativeAndNonZeroDurationOrThrow(JournalChangeStreamConfigValue.RESUME_TOKEN_INTERVAL);
+        minBackoff = config.getNonNegativeDurationOrThrow(JournalChangeStreamConfigValue.MIN_BACKOFF);
+        maxBackoff = config.getNonNegativeDurationOrThrow(JournalChangeStreamConfigValue.MAX_BACKOFF);
+    }
+
+    /**
+     * Returns an instance of DefaultJournalChangeStreamConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the journal change stream config at
+     * {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultJournalChangeStreamConfig of(final Config config) {
+        return new DefaultJournalChangeStreamConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, JournalChangeStreamConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getJournalDatabase() {
+        return journalDatabase;
+    }
+
+    @Override
+    public String getJournalCollection() {
+        return journalCollection;
+    }
+
+    @Override
+    public Duration getResumeTokenInterval() {
+        return resumeTokenInterval;
+    }
+
+    @Override
+    public Duration getMinBackoff() {
+        return minBackoff;
+    }
+
+    @Override
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultJournalChangeStreamConfig that = (DefaultJournalChangeStreamConfig) o;
+        return enabled == that.enabled &&
+                Objects.equals(journalDatabase, that.journalDatabase) &&
+                Objects.equals(journalCollection, that.journalCollection) &&
+                Objects.equals(resumeTokenInterval, that.resumeTokenInterval) &&
+                Objects.equals(minBackoff, that.minBackoff) &&
+                Objects.equals(maxBackoff, that.maxBackoff);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, journalDatabase, journalCollection, resumeTokenInterval, minBackoff,
+                maxBackoff);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", journalDatabase=" + journalDatabase +
+                ", journalCollection=" + journalCollection +
+                ", resumeTokenInterval=" + resumeTokenInterval +
+                ", minBackoff=" + minBackoff +
+                ", maxBackoff=" + maxBackoff +
+                "]";
+    }
+
+}
@@ -40,6 +40,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final Duration forceUpdateAfterStartTimeout;
     private final double forceUpdateAfterStartRandomFactor;
     private final BackgroundSyncConfig backgroundSyncConfig;
+    private final JournalChangeStreamConfig journalChangeStreamConfig;
     private final StreamConfig streamConfig;
     private final UpdaterPersistenceConfig updaterPersistenceConfig;
 
@@ -58,6 +59,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         forceUpdateAfterStartRandomFactor = updaterScopedConfig.getDouble(
                 UpdaterConfigValue.FORCE_UPDATE_AFTER_START_RANDOM_FACTOR.getConfigPath());
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
+        journalChangeStreamConfig = DefaultJournalChangeStreamConfig.of(updaterScopedConfig);
         streamConfig = DefaultStreamConfig.of(updaterScopedConfig);
         updaterPersistenceConfig = DefaultUpdaterPersistenceConfig.of(updaterScopedConfig);
     }
@@ -114,6 +116,11 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return backgroundSyncConfig;
     }
 
+    @Override
+    public JournalChangeStreamConfig getJournalChangeStreamConfig() {
+        return journalChangeStreamConfig;
+    }
+
     @Override
     public StreamConfig getStreamConfig() {
         return streamConfig;
@@ -141,6 +148,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 Objects.equals(forceUpdateAfterStartTimeout, that.forceUpdateAfterStartTimeout) &&
                 Double.compare(forceUpdateAfterStartRandomFactor, that.forceUpdateAfterStartRandomFactor) == 0 &&
                 Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig) &&
+                Objects.equals(journalChangeStreamConfig, that.journalChangeStreamConfig) &&
                 Objects.equals(streamConfig, that.streamConfig) &&
                 Objects.equals(updaterPersistenceConfig, that.updaterPersistenceConfig);
     }
@@ -149,7 +157,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     public int hashCode() {
         return Objects.hash(maxIdleTime, shardingStatePollInterval, eventProcessingActive, forceUpdateProbability,
                 forceUpdateAfterStartEnabled, forceUpdateAfterStartTimeout, forceUpdateAfterStartRandomFactor,
-                backgroundSyncConfig, streamConfig, updaterPersistenceConfig);
+                backgroundSyncConfig, journalChangeStreamConfig, streamConfig, updaterPersistenceConfig);
     }
 
     @Override
@@ -163,6 +171,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", forceUpdateAfterStartTimeout=" + forceUpdateAfterStartTimeout +
                 ", forceUpdateAfterStartRandomFactor=" + forceUpdateAfterStartRandomFactor +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
+                ", journalChangeStreamConfig=" + journalChangeStreamConfig +
                 ", streamConfig=" + streamConfig +
                 ", updaterPersistenceConfig=" + updaterPersistenceConfig +
                 "]";
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for tailing the things event journal via a MongoDB change stream in order to
+ * update the search index.
+ *
+ * @since 3.0.0
+ */
+@Immutable
+public interface JournalChangeStreamConfig {
+
+    /**
+     * Indicates whether the search index is updated from the change stream of the things event journal.
+     *
+     * @return {@code true} if the change stream is tailed, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the name of the database containing the things event journal.
+     * The database has to be reachable with the MongoDB connection of the search service.
+     *
+     * @return the name of the journal database.
+     */
+    String getJournalDatabase();
+
+    /**
+     * Returns the name of the collection of the things event journal.
+     *
+     * @return the name of the journal collection.
+     */
+    String getJournalCollection();
+
+    /**
+     * Returns how often the resume token of the change stream is persisted.
+     * After a restart, the events of at most this period are processed again.
+     *
+     * @return the interval between two persisted resume tokens.
+     */
+    Duration getResumeTokenInterval();
+
+    /**
+     * Returns the minimum backoff before reopening a failed change stream.
+     *
+     * @return the minimum backoff.
+     */
+    Duration getMinBackoff();
+
+    /**
+     * Returns the maximum backoff before reopening a failed change stream.
+     *
+     * @return the maximum backoff.
+     */
+    Duration getMaxBackoff();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * JournalChangeStreamConfig.
+     */
+    enum JournalChangeStreamConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the change stream of the things event journal is tailed.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The database of the things event journal.
+         */
+        JOURNAL_DATABASE("journal-database", "things"),
+
+        /**
+         * The collection of the things event journal.
+         */
+        JOURNAL_COLLECTION("journal-collection", "things_journal"),
+
+        /**
+         * How often the resume token is persisted.
+         */
+        RESUME_TOKEN_INTERVAL("resume-token-interval", Duration.ofSeconds(10L)),
+
+        /**
+         * Minimum backoff in case of stream failure.
+         */
+        MIN_BACKOFF("min-backoff", Duration.ofSeconds(1L)),
+
+        /**
+         * Maximum backoff in case of stream failure.
+         */
+        MAX_BACKOFF("max-backoff", Duration.ofMinutes(2L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        JournalChangeStreamConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
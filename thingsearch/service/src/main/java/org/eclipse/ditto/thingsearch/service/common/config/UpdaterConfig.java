@@ -88,6 +88,14 @@ public interface UpdaterConfig {
      */
     BackgroundSyncConfig getBackgroundSyncConfig();
 
+    /**
+     * Returns configuration for tailing the change stream of the things event journal.
+     *
+     * @return the config.
+     * @since 3.0.0
+     */
+    JournalChangeStreamConfig getJournalChangeStreamConfig();
+
     /**
      * Returns the configuration settings
      *
@@ -40,6 +40,13 @@ public final class PersistenceConstants {
      */
     public static final String BACKGROUND_SYNC_COLLECTION_NAME = "searchSync";
 
+    /**
+     * The collection name storing the resume token of the change stream of the things event journal.
+     *
+     * @since 3.0.0
+     */
+    public static final String JOURNAL_CHANGE_STREAM_COLLECTION_NAME = "searchJournalChangeStream";
+
     /**
      * Field name for revision.
      */
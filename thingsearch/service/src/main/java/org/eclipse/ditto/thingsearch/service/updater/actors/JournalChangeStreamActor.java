@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+
+import org.eclipse.ditto.internal.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.thingsearch.service.common.config.JournalChangeStreamConfig;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.stream.KillSwitch;
+import akka.stream.KillSwitches;
+import akka.stream.RestartSettings;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.RestartSource;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Cluster singleton tailing the things event journal via a MongoDB change stream and forwarding the journaled thing
+ * events to the things-updater, so that the search index is updated even if the events are not received via
+ * pub/sub.
+ *
+ * @since 3.0.0
+ */
+final class JournalChangeStreamActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    static final String ACTOR_NAME = "journalChangeStream";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final JournalChangeStreamConfig config;
+    private final ThingsJournalChangeSource changeSource;
+    private final ActorRef thingsUpdater;
+
+    @Nullable private KillSwitch killSwitch;
+
+    @SuppressWarnings("unused")
+    private JournalChangeStreamActor(final JournalChangeStreamConfig config,
+            final ThingsJournalChangeSource changeSource,
+            final ActorRef thingsUpdater) {
+
+        this.config = config;
+        this.changeSource = changeSource;
+        this.thingsUpdater = thingsUpdater;
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param config the config of the journal change stream.
+     * @param changeSource the source of the changes of the things event journal.
+     * @param thingsUpdater the dispatcher of thing events to thing-updaters.
+     * @return the Props object.
+     */
+    static Props props(final JournalChangeStreamConfig config,
+            final ThingsJournalChangeSource changeSource,
+            final ActorRef thingsUpdater) {
+
+        return Props.create(JournalChangeStreamActor.class, config, changeSource, thingsUpdater);
+    }
+
+    @Override
+    public void preStart() {
+        log.info("Tailing <{}.{}>.", config.getJournalDatabase(), config.getJournalCollection());
+        final RestartSettings restartSettings =
+                RestartSettings.create(config.getMinBackoff(), config.getMaxBackoff(), 1.0);
+        killSwitch = RestartSource.withBackoff(restartSettings, () -> changeSource.createSource()
+                        .map(change -> {
+                            forwardThingEvents(change.getFullDocument());
+                            return change;
+                        })
+                        // persist only the most recent resume token per interval
+                        .conflate((previousChange, change) -> change)
+                        .throttle(1, config.getResumeTokenInterval())
+                        .flatMapConcat(changeSource::persistResumeToken))
+                .viaMat(KillSwitches.single(), Keep.right())
+                .to(Sink.ignore())
+                .run(getContext().getSystem());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != killSwitch) {
+            killSwitch.shutdown();
+            killSwitch = null;
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void forwardThingEvents(@Nullable final BsonDocument journalEntry) {
+        // called from the stream, hence no logging via the actor's logging adapter
+        if (null != journalEntry) {
+            for (final ThingEvent<?> thingEvent : ThingsJournalChangeSource.toThingEvents(journalEntry)) {
+                thingsUpdater.tell(thingEvent, ActorRef.noSender());
+            }
+        }
+    }
+
+}
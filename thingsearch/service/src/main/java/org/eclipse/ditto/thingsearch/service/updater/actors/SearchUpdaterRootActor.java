@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.thingsearch.service.updater.actors;
 
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.JOURNAL_CHANGE_STREAM_COLLECTION_NAME;
+
+import org.bson.BsonDocument;
 import org.eclipse.ditto.base.api.devops.signals.commands.RetrieveStatisticsDetails;
 import org.eclipse.ditto.base.service.actors.StartChildActor;
 import org.eclipse.ditto.internal.utils.akka.streaming.TimestampPersistence;
@@ -20,8 +23,10 @@ import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.health.RetrieveHealth;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoTimestampPersistence;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.internal.utils.pubsub.ThingEventPubSubFactory;
+import org.eclipse.ditto.thingsearch.service.common.config.JournalChangeStreamConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.util.RootSupervisorStrategyFactory;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
@@ -41,6 +46,7 @@ import akka.actor.SupervisorStrategy;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
+import akka.stream.SystemMaterializer;
 
 /**
  * Our "Parent" Actor which takes care of supervision of all other Actors in our system.
@@ -138,6 +144,13 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         startClusterSingletonActor(BackgroundSyncActor.ACTOR_NAME, backgroundSyncActorProps)
                 );
 
+        final var journalChangeStreamConfig = updaterConfig.getJournalChangeStreamConfig();
+        if (journalChangeStreamConfig.isEnabled()) {
+            startClusterSingletonActor(JournalChangeStreamActor.ACTOR_NAME,
+                    JournalChangeStreamActor.props(journalChangeStreamConfig,
+                            getThingsJournalChangeSource(journalChangeStreamConfig), thingsUpdaterActor));
+        }
+
         startChildActor(ThingsSearchPersistenceOperationsActor.ACTOR_NAME,
                 ThingsSearchPersistenceOperationsActor.props(pubSubMediator, searchUpdaterPersistence,
                         searchConfig.getPersistenceOperationsConfig()));
@@ -161,6 +174,15 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 backgroundSyncPersistence);
     }
 
+    private ThingsJournalChangeSource getThingsJournalChangeSource(final JournalChangeStreamConfig config) {
+        final var journal = dittoMongoClient.getDatabase(config.getJournalDatabase())
+                .getCollection(config.getJournalCollection(), BsonDocument.class);
+        final var resumeTokenPersistence =
+                MongoTimestampPersistence.initializedInstance(JOURNAL_CHANGE_STREAM_COLLECTION_NAME, dittoMongoClient,
+                        SystemMaterializer.get(getContext().getSystem()).materializer());
+        return ThingsJournalChangeSource.of(journal, resumeTokenPersistence);
+    }
+
     /**
      * Select the ThingsUpdater in the actor system.
      *
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.events.Event;
+import org.eclipse.ditto.base.model.signals.events.EventRegistry;
+import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
+import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.internal.utils.akka.streaming.TimestampPersistence;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJsonCodec;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.contrib.persistence.mongodb.JournallingFieldNames$;
+import akka.japi.Pair;
+import akka.japi.pf.PFBuilder;
+import akka.stream.javadsl.Source;
+
+/**
+ * Source of the thing events inserted into the things event journal, read from a MongoDB change stream which is
+ * resumed from the last persisted resume token.
+ */
+final class ThingsJournalChangeSource {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(ThingsJournalChangeSource.class);
+
+    private static final String J_EVENTS = JournallingFieldNames$.MODULE$.EVENTS();
+    private static final String J_EVENT_SN = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String J_EVENT_PAYLOAD = JournallingFieldNames$.MODULE$.PayloadKey();
+
+    private static final List<Bson> INSERTS_ONLY =
+            List.of(Aggregates.match(Filters.eq("operationType", "insert")));
+
+    /**
+     * MongoDB error code if the oplog no longer contains the position of a resume token.
+     */
+    private static final int CHANGE_STREAM_HISTORY_LOST_ERROR_CODE = 286;
+
+    private final MongoCollection<BsonDocument> journal;
+    private final TimestampPersistence resumeTokenPersistence;
+
+    private ThingsJournalChangeSource(final MongoCollection<BsonDocument> journal,
+            final TimestampPersistence resumeTokenPersistence) {
+
+        this.journal = journal;
+        this.resumeTokenPersistence = resumeTokenPersistence;
+    }
+
+    static ThingsJournalChangeSource of(final MongoCollection<BsonDocument> journal,
+            final TimestampPersistence resumeTokenPersistence) {
+
+        return new ThingsJournalChangeSource(journal, resumeTokenPersistence);
+    }
+
+    /**
+     * Start a change stream of the journal after the last persisted resume token, or at the current time if no
+     * resume token was persisted or the oplog does not reach back to it anymore.
+     *
+     * @return source of the changes of the journal.
+     */
+    Source<ChangeStreamDocument<BsonDocument>, NotUsed> createSource() {
+        return resumeTokenPersistence.getTaggedTimestamp()
+                .flatMapConcat(lastResumeToken -> watch(lastResumeToken.map(Pair::second)));
+    }
+
+    /**
+     * Persist the resume token of a change so that a later change stream continues after it.
+     *
+     * @param change the change.
+     * @return source of the completed persistence.
+     */
+    Source<Done, NotUsed> persistResumeToken(final ChangeStreamDocument<BsonDocument> change) {
+        final BsonTimestamp clusterTime = change.getClusterTime();
+        final Instant timestamp =
+                null != clusterTime ? Instant.ofEpochSecond(clusterTime.getTime()) : Instant.now();
+        return resumeTokenPersistence.setTaggedTimestamp(timestamp, change.getResumeToken().toJson());
+    }
+
+    /**
+     * Parse the thing events of a journal entry.
+     * Events which cannot be parsed are logged and skipped; they are taken care of by the background sync.
+     *
+     * @param journalEntry the inserted journal entry.
+     * @return the thing events of the entry with their revisions.
+     */
+    static List<ThingEvent<?>> toThingEvents(final BsonDocument journalEntry) {
+        final EventRegistry<Event<?>> eventRegistry = GlobalEventRegistry.getInstance();
+        final List<ThingEvent<?>> result = new ArrayList<>();
+        for (final BsonValue journaledEvent : journalEntry.getArray(J_EVENTS, new BsonArray())) {
+            if (journaledEvent.isDocument()) {
+                final BsonDocument eventDocument = journaledEvent.asDocument();
+                final BsonValue payload = eventDocument.get(J_EVENT_PAYLOAD);
+                final BsonValue sequenceNumber = eventDocument.get(J_EVENT_SN);
+                if (null != payload && payload.isDocument() && null != sequenceNumber && sequenceNumber.isNumber()) {
+                    parseThingEvent(eventRegistry, payload.asDocument(),
+                            sequenceNumber.asNumber().longValue()).ifPresent(result::add);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Source<ChangeStreamDocument<BsonDocument>, NotUsed> watch(final Optional<String> resumeToken) {
+        final ChangeStreamPublisher<BsonDocument> changeStream = journal.watch(INSERTS_ONLY, BsonDocument.class);
+        return resumeToken.map(token -> Source.fromPublisher(changeStream.resumeAfter(BsonDocument.parse(token)))
+                        .recoverWithRetries(1, new PFBuilder<Throwable, Source<ChangeStreamDocument<BsonDocument>,
+                                NotUsed>>()
+                                .match(MongoCommandException.class,
+                                        ThingsJournalChangeSource::isChangeStreamHistoryLostError,
+                                        error -> {
+                                            LOGGER.warn("Resume token <{}> is no longer in the oplog, tailing " +
+                                                    "the journal from now on. Changes in between are only " +
+                                                    "indexed by background sync.", token);
+                                            return Source.fromPublisher(
+                                                    journal.watch(INSERTS_ONLY, BsonDocument.class));
+                                        })
+                                .build()))
+                .orElseGet(() -> Source.fromPublisher(changeStream));
+    }
+
+    private static Optional<ThingEvent<?>> parseThingEvent(final EventRegistry<Event<?>> eventRegistry,
+            final BsonDocument payload, final long revision) {
+
+        final JsonObject jsonObject = DittoBsonJsonCodec.getInstance()
+                .toJsonObject(payload)
+                .setValue(EventsourcedEvent.JsonFields.REVISION.getPointer(), revision);
+        try {
+            final Event<?> event = eventRegistry.parse(jsonObject, DittoHeaders.empty());
+            if (event instanceof ThingEvent<?> thingEvent) {
+                return Optional.of(thingEvent);
+            }
+            LOGGER.warn("Ignoring journaled event which is no thing event: <{}>", jsonObject);
+        } catch (final JsonParseException | DittoRuntimeException e) {
+            LOGGER.warn("Could not parse journaled event <{}>: {}", jsonObject, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isChangeStreamHistoryLostError(final MongoCommandException error) {
+        return error.getErrorCode() == CHANGE_STREAM_HISTORY_LOST_ERROR_CODE;
+    }
+
+}
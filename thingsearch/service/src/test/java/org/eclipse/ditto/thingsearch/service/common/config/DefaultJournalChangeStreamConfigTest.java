@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.thingsearch.service.common.config.JournalChangeStreamConfig.JournalChangeStreamConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultJournalChangeStreamConfig}.
+ */
+public final class DefaultJournalChangeStreamConfigTest {
+
+    private static Config journalChangeStreamTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        journalChangeStreamTestConfig = ConfigFactory.load("journal-change-stream-config-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultJournalChangeStreamConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultJournalChangeStreamConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final JournalChangeStreamConfig underTest = DefaultJournalChangeStreamConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(JournalChangeStreamConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(JournalChangeStreamConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getJournalDatabase())
+                .as(JournalChangeStreamConfigValue.JOURNAL_DATABASE.getConfigPath())
+                .isEqualTo(JournalChangeStreamConfigValue.JOURNAL_DATABASE.getDefaultValue());
+        softly.assertThat(underTest.getJournalCollection())
+                .as(JournalChangeStreamConfigValue.JOURNAL_COLLECTION.getConfigPath())
+                .isEqualTo(JournalChangeStreamConfigValue.JOURNAL_COLLECTION.getDefaultValue());
+        softly.assertThat(underTest.getResumeTokenInterval())
+                .as(JournalChangeStreamConfigValue.RESUME_TOKEN_INTERVAL.getConfigPath())
+                .isEqualTo(JournalChangeStreamConfigValue.RESUME_TOKEN_INTERVAL.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final JournalChangeStreamConfig underTest =
+                DefaultJournalChangeStreamConfig.of(journalChangeStreamTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(JournalChangeStreamConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getJournalDatabase())
+                .as(JournalChangeStreamConfigValue.JOURNAL_DATABASE.getConfigPath())
+                .isEqualTo("test-things");
+        softly.assertThat(underTest.getJournalCollection())
+                .as(JournalChangeStreamConfigValue.JOURNAL_COLLECTION.getConfigPath())
+                .isEqualTo("test_things_journal");
+        softly.assertThat(underTest.getResumeTokenInterval())
+                .as(JournalChangeStreamConfigValue.RESUME_TOKEN_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofHours(1L));
+        softly.assertThat(underTest.getMinBackoff())
+                .as(JournalChangeStreamConfigValue.MIN_BACKOFF.getConfigPath())
+                .isEqualTo(Duration.ofHours(2L));
+        softly.assertThat(underTest.getMaxBackoff())
+                .as(JournalChangeStreamConfigValue.MAX_BACKOFF.getConfigPath())
+                .isEqualTo(Duration.ofHours(3L));
+    }
+
+}
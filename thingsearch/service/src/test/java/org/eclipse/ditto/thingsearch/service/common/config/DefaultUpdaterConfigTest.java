@@ -46,8 +46,8 @@ public final class DefaultUpdaterConfigTest {
     @Test
     public void assertImmutability() {
         assertInstancesOf(DefaultUpdaterConfig.class, areImmutable(),
-                provided(BackgroundSyncConfig.class, DefaultStreamConfig.class, DefaultUpdaterPersistenceConfig.class)
-                        .isAlsoImmutable());
+                provided(BackgroundSyncConfig.class, JournalChangeStreamConfig.class, DefaultStreamConfig.class,
+                        DefaultUpdaterPersistenceConfig.class).isAlsoImmutable());
     }
 
     @Test
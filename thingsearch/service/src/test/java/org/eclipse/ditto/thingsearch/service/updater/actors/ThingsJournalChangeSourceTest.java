@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJsonCodec;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingsJournalChangeSource}.
+ */
+public final class ThingsJournalChangeSourceTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:journaled-thing");
+
+    @Test
+    public void parsesThingEventsOfJournalEntryWithTheirRevisions() {
+        final AttributeModified first = attributeModified("first", 4L);
+        final AttributeModified second = attributeModified("second", 5L);
+        final BsonDocument journalEntry = journalEntry(journaledEvent(first), journaledEvent(second));
+
+        final List<ThingEvent<?>> thingEvents = ThingsJournalChangeSource.toThingEvents(journalEntry);
+
+        assertThat(thingEvents).hasSize(2);
+        assertThat(thingEvents.get(0)).isInstanceOf(AttributeModified.class);
+        assertThat((Object) thingEvents.get(0).getEntityId()).isEqualTo(THING_ID);
+        assertThat(thingEvents.get(0).getRevision()).isEqualTo(4L);
+        assertThat(((AttributeModified) thingEvents.get(0)).getAttributeValue()).isEqualTo(JsonValue.of("first"));
+        assertThat(thingEvents.get(1).getRevision()).isEqualTo(5L);
+        assertThat(((AttributeModified) thingEvents.get(1)).getAttributeValue()).isEqualTo(JsonValue.of("second"));
+    }
+
+    @Test
+    public void skipsUnparsableEvents() {
+        final BsonDocument unparsable = new BsonDocument()
+                .append("sn", new BsonInt64(3L))
+                .append("p", new BsonDocument().append("type", new BsonString("unknown.type")));
+        final BsonDocument journalEntry =
+                journalEntry(unparsable, journaledEvent(attributeModified("value", 4L)));
+
+        final List<ThingEvent<?>> thingEvents = ThingsJournalChangeSource.toThingEvents(journalEntry);
+
+        assertThat(thingEvents).hasSize(1);
+        assertThat(thingEvents.get(0).getRevision()).isEqualTo(4L);
+    }
+
+    @Test
+    public void journalEntryWithoutEventsYieldsNoThingEvents() {
+        assertThat(ThingsJournalChangeSource.toThingEvents(new BsonDocument())).isEmpty();
+    }
+
+    private static AttributeModified attributeModified(final String value, final long revision) {
+        return AttributeModified.of(THING_ID, JsonPointer.of("attribute"), JsonValue.of(value), revision, null,
+                DittoHeaders.empty(), null);
+    }
+
+    private static BsonDocument journaledEvent(final ThingEvent<?> thingEvent) {
+        // events are journaled without their revision, which is the sequence number of the journal entry
+        final JsonObject payload = thingEvent.toJson()
+                .remove(EventsourcedEvent.JsonFields.REVISION.getPointer());
+        return new BsonDocument()
+                .append("sn", new BsonInt64(thingEvent.getRevision()))
+                .append("p", DittoBsonJsonCodec.getInstance().toRawBsonDocument(payload));
+    }
+
+    private static BsonDocument journalEntry(final BsonDocument... journaledEvents) {
+        return new BsonDocument()
+                .append("pid", new BsonString("thing:" + THING_ID))
+                .append("events", new BsonArray(List.of(journaledEvents)));
+    }
+
+}